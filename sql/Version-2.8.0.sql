@@ -102,3 +102,163 @@ ALTER TABLE `carbon`.`partner`
 ADD COLUMN `is_assistance` BOOLEAN NULL AFTER `additional_term`;
 
 -- CRM-706 END
+
+-- REPORT-CACHE START
+ALTER TABLE `carbon`.`proposal` 
+ADD COLUMN `update_date` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP AFTER `create_date`;
+
+UPDATE `carbon`.`proposal` SET `update_date` = `create_date`;
+-- REPORT-CACHE END
+
+-- KEYSET-PAGINATION START
+-- Paginação por keyset da auditoria ordenada por data: (log_date, log_id) percorre o índice sem OFFSET
+ALTER TABLE `carbon`.`audit` 
+ADD INDEX `idxLogDate` (`log_date` ASC);
+
+-- A consulta da auditoria fica restrita ao checkpoint AUDIT.VIEW
+INSERT INTO `carbon`.`checkpoint` (`name`, `description`)
+VALUES ('AUDIT.VIEW', 'PERMITE CONSULTAR OS REGISTROS DE AUDITORIA');
+
+-- Senha e chave de recuperação deixam de ser serializadas; remove as que já foram gravadas nos detalhes
+UPDATE `carbon`.`audit` SET `details` = REGEXP_REPLACE(`details`, '"password":"[^"]*"', '"password":null') WHERE `details` LIKE '%"password":"%';
+UPDATE `carbon`.`audit` SET `details` = REGEXP_REPLACE(`details`, '"forgotKey":"[^"]*"', '"forgotKey":null') WHERE `details` LIKE '%"forgotKey":"%';
+-- KEYSET-PAGINATION END
+
+-- DOCUMENT-UPLOAD START
+-- O tipo do upload passa a ser validado pelo conteúdo; docx entra nas extensões permitidas junto com o seu tipo de conteúdo
+UPDATE `carbon`.`parameter` SET `value` = CONCAT(`value`, ',docx') WHERE `name` = 'DOCUMENT_ALLOWED_EXTENSIONS' AND FIND_IN_SET('docx', `value`) = 0;
+UPDATE `carbon`.`parameter` SET `value` = 'application/pdf,application/vnd.ms-excel,application/vnd.openxmlformats-officedocument.spreadsheetml.sheet,application/msword,application/vnd.openxmlformats-officedocument.wordprocessingml.document,text/plain,image/png,image/jpeg' WHERE `name` = 'DOCUMENT_ALLOWED_MIME_TYPES';
+-- DOCUMENT-UPLOAD END
+
+-- DOCUMENT-STORE START
+-- Armazenamento dos documentos por conteúdo: um arquivo por SHA-256 com a contagem de documentos que o referenciam
+CREATE TABLE IF NOT EXISTS `carbon`.`document_blob` (
+  `sha256` CHAR(64) NOT NULL,
+  `size` BIGINT NOT NULL,
+  `ref_count` INT NOT NULL DEFAULT 0,
+  `create_date` DATETIME NOT NULL,
+  PRIMARY KEY (`sha256`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = latin1;
+
+ALTER TABLE `carbon`.`document` 
+ADD COLUMN `sha256` CHAR(64) NULL DEFAULT NULL AFTER `file_path`,
+ADD INDEX `idx_document_sha256` (`sha256` ASC) VISIBLE;
+-- DOCUMENT-STORE END
+
+-- INTEGRATION-OUTBOX START
+-- Fila de integrações com sistemas externos gravada na transação de negócio e enviada pelo dispatcher (ex.: tarefa do JIRA do Pedido de Venda)
+CREATE TABLE IF NOT EXISTS `carbon`.`integration_outbox` (
+  `iob_id` INT NOT NULL AUTO_INCREMENT,
+  `type` VARCHAR(45) NOT NULL,
+  `idempotency_key` VARCHAR(100) NOT NULL,
+  `aggregate_id` INT NOT NULL,
+  `payload` MEDIUMTEXT NOT NULL,
+  `status` VARCHAR(20) NOT NULL,
+  `attempts` INT NOT NULL DEFAULT 0,
+  `next_attempt_date` DATETIME NOT NULL,
+  `locked_until` DATETIME NULL DEFAULT NULL,
+  `last_error` VARCHAR(1000) NULL DEFAULT NULL,
+  `result` VARCHAR(255) NULL DEFAULT NULL,
+  `create_date` DATETIME NOT NULL,
+  `processed_date` DATETIME NULL DEFAULT NULL,
+  PRIMARY KEY (`iob_id`),
+  UNIQUE INDEX `uq_integration_outbox_key` (`idempotency_key` ASC) VISIBLE,
+  INDEX `idx_integration_outbox_status` (`status` ASC, `next_attempt_date` ASC) VISIBLE)
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = latin1;
+-- INTEGRATION-OUTBOX END
+
+-- UNIQUE-KEYS START
+-- Índices únicos das chaves usadas na validação de duplicidade dos serviços (BaseDAO.existsDuplicate).
+-- Antes dos índices os dados existentes são tratados:
+--   * cadastros com nome repetido: o registro de menor ID mantém o nome e os demais recebem o sufixo " (<id>)", sem
+--     excluir nada, pois são referenciados por outras tabelas;
+--   * chassi em branco passa a ser NULL, que não conflita no índice único;
+--   * demais chaves (price_product, sales_order, vehicle, proposal_detail_vehicle e proposal_commission): duplicidade
+--     nessas tabelas é dado de negócio e precisa ser corrigida manualmente. O spCheckDuplicates interrompe a migração
+--     informando a tabela antes de criar qualquer índice único; para listar os registros, ex.:
+--     SELECT ppd_id, vhe_id, COUNT(*) FROM carbon.proposal_detail_vehicle GROUP BY ppd_id, vhe_id HAVING COUNT(*) > 1;
+DROP PROCEDURE IF EXISTS `carbon`.`spRenameDuplicateNames`;
+DELIMITER $$
+CREATE PROCEDURE `carbon`.`spRenameDuplicateNames`(p_table VARCHAR(64), p_id VARCHAR(64), p_length INT)
+BEGIN
+
+SET @query = CONCAT( 'UPDATE `carbon`.`', p_table, '` t ',
+					 'INNER JOIN ( SELECT name, MIN(', p_id, ') AS keep_id FROM `carbon`.`', p_table, '` GROUP BY name HAVING COUNT(*) > 1 ) d ',
+					 'ON d.name = t.name AND t.', p_id, ' <> d.keep_id ',
+					 'SET t.name = CONCAT( LEFT( t.name, ', p_length, ' - CHAR_LENGTH( CONCAT( '' ('', t.', p_id, ', '')'' ) ) ), '' ('', t.', p_id, ', '')'' )' );
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+END$$
+DELIMITER ;
+
+DROP PROCEDURE IF EXISTS `carbon`.`spCheckDuplicates`;
+DELIMITER $$
+CREATE PROCEDURE `carbon`.`spCheckDuplicates`(p_table VARCHAR(64), p_columns VARCHAR(255))
+BEGIN
+
+DECLARE v_message VARCHAR(128);
+
+-- Linhas com alguma coluna nula não conflitam no índice único
+SET @query = CONCAT( 'SELECT COUNT(*) INTO @duplicates FROM ( SELECT 1 FROM `carbon`.`', p_table, '` ',
+					 'WHERE ', REPLACE( p_columns, ',', ' IS NOT NULL AND ' ), ' IS NOT NULL ',
+					 'GROUP BY ', p_columns, ' HAVING COUNT(*) > 1 ) d' );
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+IF @duplicates > 0 THEN
+	SET v_message = LEFT( CONCAT( p_table, ': ', @duplicates, ' chave(s) duplicada(s) em (', p_columns, ')' ), 128 );
+	SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = v_message;
+END IF;
+
+END$$
+DELIMITER ;
+
+CALL `carbon`.`spRenameDuplicateNames`('channel', 'chn_id', 45);
+CALL `carbon`.`spRenameDuplicateNames`('item', 'itm_id', 255);
+CALL `carbon`.`spRenameDuplicateNames`('item_type', 'itt_id', 45);
+CALL `carbon`.`spRenameDuplicateNames`('product', 'prd_id', 45);
+CALL `carbon`.`spRenameDuplicateNames`('source', 'src_id', 45);
+CALL `carbon`.`spRenameDuplicateNames`('partner_group', 'ptg_id', 45);
+CALL `carbon`.`spRenameDuplicateNames`('payment_method', 'pym_id', 45);
+CALL `carbon`.`spRenameDuplicateNames`('sales_team', 'slt_id', 45);
+CALL `carbon`.`spRenameDuplicateNames`('price_list', 'prl_id', 45);
+
+UPDATE `carbon`.`vehicle` SET `chassi` = NULL WHERE TRIM(`chassi`) = '';
+
+CALL `carbon`.`spCheckDuplicates`('price_product', 'prl_id,prm_id');
+CALL `carbon`.`spCheckDuplicates`('sales_order', 'pps_id');
+CALL `carbon`.`spCheckDuplicates`('vehicle', 'chassi');
+CALL `carbon`.`spCheckDuplicates`('proposal_detail_vehicle', 'ppd_id,vhe_id');
+CALL `carbon`.`spCheckDuplicates`('proposal_commission', 'ppd_id,per_id,type_cla_id');
+
+DROP PROCEDURE `carbon`.`spRenameDuplicateNames`;
+DROP PROCEDURE `carbon`.`spCheckDuplicates`;
+
+ALTER TABLE `carbon`.`channel` ADD UNIQUE INDEX `ukName` (`name` ASC) VISIBLE;
+ALTER TABLE `carbon`.`item` ADD UNIQUE INDEX `ukName` (`name` ASC) VISIBLE;
+ALTER TABLE `carbon`.`item_type` ADD UNIQUE INDEX `ukName` (`name` ASC) VISIBLE;
+ALTER TABLE `carbon`.`product` ADD UNIQUE INDEX `ukName` (`name` ASC) VISIBLE;
+ALTER TABLE `carbon`.`source` ADD UNIQUE INDEX `ukName` (`name` ASC) VISIBLE;
+ALTER TABLE `carbon`.`partner_group` ADD UNIQUE INDEX `ukName` (`name` ASC) VISIBLE;
+ALTER TABLE `carbon`.`payment_method` ADD UNIQUE INDEX `ukName` (`name` ASC) VISIBLE;
+ALTER TABLE `carbon`.`sales_team` ADD UNIQUE INDEX `ukName` (`name` ASC) VISIBLE;
+ALTER TABLE `carbon`.`price_list` ADD UNIQUE INDEX `ukName` (`name` ASC) VISIBLE;
+ALTER TABLE `carbon`.`price_product` ADD UNIQUE INDEX `ukPriceProduct` (`prl_id` ASC, `prm_id` ASC) VISIBLE;
+ALTER TABLE `carbon`.`sales_order` ADD UNIQUE INDEX `ukProposal` (`pps_id` ASC) VISIBLE;
+ALTER TABLE `carbon`.`vehicle` ADD UNIQUE INDEX `ukChassi` (`chassi` ASC) VISIBLE;
+ALTER TABLE `carbon`.`proposal_detail_vehicle` ADD UNIQUE INDEX `ukDetailVehicle` (`ppd_id` ASC, `vhe_id` ASC) VISIBLE;
+ALTER TABLE `carbon`.`proposal_commission` ADD UNIQUE INDEX `ukCommission` (`ppd_id` ASC, `per_id` ASC, `type_cla_id` ASC) VISIBLE;
+
+-- Documentos de pessoa podem se repetir fora dos parceiros (ex.: contatos e leads), então ficam apenas indexados
+ALTER TABLE `carbon`.`person` 
+ADD INDEX `idx_person_cpf` (`cpf` ASC) VISIBLE,
+ADD INDEX `idx_person_cnpj` (`cnpj` ASC) VISIBLE,
+ADD INDEX `idx_person_rne` (`rne` ASC) VISIBLE;
+-- UNIQUE-KEYS END
@@ -7,12 +7,14 @@ import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class PortalApplication implements ApplicationRunner {
 	private static final Logger logger = LoggerFactory.getLogger(PortalApplication.class);
 
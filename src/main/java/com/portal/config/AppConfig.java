@@ -1,10 +1,15 @@
 package com.portal.config;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 import javax.validation.Validator;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 import org.springframework.web.client.RestTemplate;
 
@@ -12,6 +17,7 @@ import org.springframework.web.client.RestTemplate;
 public class AppConfig {
 	
 	@Bean
+	@Primary
 	public RestTemplate restTemplate() {
 		SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
 	    factory.setConnectTimeout(10000);
@@ -21,6 +27,54 @@ public class AppConfig {
 	    return restTemplate;
 	}
 	
+	/**
+	 * Cliente único para o JasperServer. O corpo da resposta é lido em streaming (sem buffer) e as conexões
+	 * keep-alive são reaproveitadas pelo pool do HttpURLConnection (http.maxConnections por host).
+	 */
+	@Bean
+	public RestTemplate jasperRestTemplate(@Value("${jasperserver.connect-timeout:10000}") int connectTimeout,
+											@Value("${jasperserver.read-timeout:120000}") int readTimeout) {
+		SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+		factory.setConnectTimeout(connectTimeout);
+		factory.setReadTimeout(readTimeout);
+		factory.setBufferRequestBody(false);
+
+		return new RestTemplate(factory);
+	}
+	
+	/**
+	 * Executor limitado usado na carga paralela das coleções da proposta. Quando as threads e a fila estão
+	 * ocupadas a tarefa roda na própria thread da requisição, sem rejeitar a carga.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor proposalLoaderExecutor(@Value("${portal.proposal.loader.pool-size:8}") int poolSize,
+															@Value("${portal.proposal.loader.queue-capacity:200}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("proposal-loader-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+	
+	/**
+	 * Executor dos envios da integration_outbox. Não tem fila: o dispatcher só reserva registros para as threads
+	 * livres, o que limita as chamadas simultâneas aos sistemas externos.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor integrationOutboxExecutor(@Value("${portal.integration.outbox.pool-size:4}") int poolSize) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(0);
+		executor.setThreadNamePrefix("integration-outbox-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+	
 	@Bean
 	public Validator localValidatorFactoryBean() {
 	   return new LocalValidatorFactoryBean();
@@ -1,8 +1,20 @@
 package com.portal.config;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.sql.DataSource;
@@ -13,11 +25,32 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
+import com.portal.exceptions.AppException;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Repository
 @Configuration
 public class BaseDAO extends NamedParameterJdbcDaoSupport{
@@ -25,6 +58,22 @@ public class BaseDAO extends NamedParameterJdbcDaoSupport{
 	@Value("${spring.datasource-portal.defaultSchema}")
 	public String schemaName;
 	
+	/**
+	 * Quantidade máxima de linhas enviadas em cada lote de INSERT/UPDATE.
+	 */
+	public static final int BATCH_SIZE = 1000;
+	
+	/**
+	 * Fetch size das consultas em streaming; no MySQL Integer.MIN_VALUE envia as linhas uma a uma.
+	 */
+	public static final int STREAM_FETCH_SIZE = Integer.MIN_VALUE;
+	
+	/**
+	 * Limite máximo de registros por página das consultas por keyset.
+	 */
+	@Value("${portal.pagination.max-page-size:10000}")
+	private int maxPageSize;
+	
 	@Autowired
 	@Qualifier("namedTemplatePortal")
 	private NamedParameterJdbcTemplate jdbcTemplatePortal;
@@ -70,4 +119,235 @@ public class BaseDAO extends NamedParameterJdbcDaoSupport{
 		return null;
 	}
 	
+	/**
+	 * Executa o comando em lotes de {@link #BATCH_SIZE} linhas e adiciona ao keyHolder as chaves geradas
+	 * de cada linha, na mesma ordem de batchArgs. Com rewriteBatchedStatements=true o driver do MySQL
+	 * transforma cada lote em um único INSERT com vários VALUES.
+	 * 
+	 * @return quantidade de linhas afetadas por cada item de batchArgs
+	 */
+	public int[] batchUpdate(String sql, SqlParameterSource[] batchArgs, KeyHolder keyHolder) {
+		int[] result = new int[batchArgs.length];
+		if(batchArgs.length == 0) {
+			return result;
+		}
+		
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, batchArgs[0]);
+		
+		for(int start = 0; start < batchArgs.length; start += BATCH_SIZE) {
+			int from = start;
+			int to = Math.min(start + BATCH_SIZE, batchArgs.length);
+			
+			int[] chunk = this.getJdbcTemplatePortal().getJdbcOperations().execute(con -> con.prepareStatement(sqlToUse, Statement.RETURN_GENERATED_KEYS), (PreparedStatement ps) -> {
+				for(int i = from; i < to; i++) {
+					Object[] values = NamedParameterUtils.buildValueArray(parsedSql, batchArgs[i], null);
+					for(int j = 0; j < values.length; j++) {
+						StatementCreatorUtils.setParameterValue(ps, j + 1, SqlTypeValue.TYPE_UNKNOWN, values[j]);
+					}
+					ps.addBatch();
+				}
+				
+				int[] rows = ps.executeBatch();
+				
+				try(ResultSet keys = ps.getGeneratedKeys()) {
+					ColumnMapRowMapper mapper = new ColumnMapRowMapper();
+					int rowNum = 0;
+					while(keys.next()) {
+						keyHolder.getKeyList().add(mapper.mapRow(keys, rowNum++));
+					}
+				}
+				
+				return rows;
+			});
+			
+			System.arraycopy(chunk, 0, result, from, chunk.length);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Executa a consulta entregando cada linha ao handler conforme chega do banco. O fetch size
+	 * Integer.MIN_VALUE faz o driver do MySQL ler o resultado em streaming, sem carregar todas as linhas.
+	 * Enquanto o handler executa a conexão fica ocupada com a leitura e não aceita outras consultas.
+	 */
+	public void queryStream(String sql, SqlParameterSource params, RowCallbackHandler handler) {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(this.getJdbcTemplatePortal().getJdbcTemplate().getDataSource());
+		jdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+		
+		new NamedParameterJdbcTemplate(jdbcTemplate).query(sql, params, handler);
+	}
+	
+	/**
+	 * Executa a consulta com o parâmetro :ids (WHERE x IN (:ids)) em blocos de {@link #BATCH_SIZE} IDs distintos
+	 * e agrupa as linhas pela chave informada. Usado nas cargas de relacionamentos de uma lista inteira,
+	 * no lugar de uma consulta por registro.
+	 * 
+	 * @param sql		consulta com o parâmetro :ids
+	 * @param ids		IDs da consulta; nulos e repetidos são ignorados
+	 * @param extractor	mapper da consulta
+	 * @param key		chave de agrupamento de cada linha, normalmente o ID do registro pai
+	 */
+	public <T> Map<Integer, List<T>> queryGroupedByIds(String sql, Collection<Integer> ids, ResultSetExtractor<List<T>> extractor, Function<T, Integer> key) {
+		Map<Integer, List<T>> grouped = new HashMap<>();
+		if(ids == null || ids.isEmpty()) {
+			return grouped;
+		}
+		
+		List<Integer> list = new ArrayList<>(ids.stream().filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new)));
+		for(int start = 0; start < list.size(); start += BATCH_SIZE) {
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue("ids", list.subList(start, Math.min(start + BATCH_SIZE, list.size())));
+			
+			List<T> rows = this.getJdbcTemplatePortal().query(sql, params, extractor);
+			if(rows != null) {
+				for(T row : rows) {
+					grouped.computeIfAbsent(key.apply(row), k -> new ArrayList<>()).add(row);
+				}
+			}
+		}
+		
+		return grouped;
+	}
+	
+	/**
+	 * Verifica, com um único SELECT EXISTS, se já existe outro registro com os mesmos valores da chave única.
+	 * Na alteração (ID preenchido) o próprio registro é ignorado.
+	 *
+	 * @param key	especificação da chave única da entidade
+	 * @param model	modelo que será salvo
+	 */
+	public <T> boolean existsDuplicate(UniqueKey<T> key, T model) throws AppException {
+		try {
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			StringBuilder query = new StringBuilder();
+			query.append("SELECT EXISTS ( SELECT 1 FROM " + key.getTable() + " WHERE 1 = 1 ");
+
+			for(Map.Entry<String, Function<T, Object>> column : key.getColumns().entrySet()) {
+				Object value = column.getValue().apply(model);
+				if(value == null) {
+					query.append("AND " + column.getKey() + " IS NULL ");
+				} else {
+					query.append("AND " + column.getKey() + " = :" + column.getKey() + " ");
+					params.addValue(column.getKey(), value);
+				}
+			}
+
+			Integer id = key.getId(model);
+			if(id != null && id > 0) {
+				query.append("AND " + key.getIdColumn() + " <> :unique_key_id ");
+				params.addValue("unique_key_id", id);
+			}
+			query.append(") AS duplicated");
+
+			log.trace("[QUERY] {}.existsDuplicate: {} [PARAMS]: {}", key.getTable(), query, params.getValues());
+
+			Boolean duplicated = this.getJdbcTemplatePortal().queryForObject(query.toString(), params, Boolean.class);
+			return Boolean.TRUE.equals(duplicated);
+
+		} catch (Exception e) {
+			log.error("Erro ao verificar duplicidade em " + key.getTable() + ".", e);
+			throw new AppException("Erro ao verificar duplicidade do registro.", e);
+		}
+	}
+
+	/**
+	 * Retorna a chave gerada na posição index de um keyHolder preenchido por {@link #batchUpdate(String, SqlParameterSource[], KeyHolder)}.
+	 */
+	public Integer getKey(KeyHolder keyHolder, int index) {
+		Iterator<Object> keys = keyHolder.getKeyList().get(index).values().iterator();
+		return keys.hasNext() ? ((Number) keys.next()).intValue() : null;
+	}
+	
+	/**
+	 * Executa uma consulta paginada por keyset (seek): em vez de OFFSET, a página seguinte começa
+	 * depois da chave (coluna de ordenação + ID) do último registro da página anterior.
+	 * 
+	 * @param select		colunas do SELECT, sem a palavra SELECT
+	 * @param from			FROM e JOINs da consulta
+	 * @param where			condição do WHERE, sem a palavra WHERE; pode ser nula
+	 * @param params		parâmetros usados em from e where
+	 * @param request		cursor, tamanho e ordenação solicitados
+	 * @param sortColumns	propriedades que podem ser ordenadas e suas colunas; as colunas devem ser NOT NULL
+	 * @param idColumn		coluna do ID, usada para desempate e ordenação padrão
+	 * @param mapper		mapper dos registros
+	 */
+	public <T> KeysetPageDTO<T> queryKeyset(String select, String from, String where, MapSqlParameterSource params, KeysetRequestDTO request,
+											Map<String, String> sortColumns, String idColumn, RowMapper<T> mapper) throws AppException {
+		
+		String sortBy = request.getSortBy() == null || request.getSortBy().equals("id") ? null : request.getSortBy();
+		String sortColumn = sortBy == null ? idColumn : sortColumns.get(sortBy);
+		if(sortColumn == null) {
+			throw new AppException("Campo de ordenação inválido: " + sortBy);
+		}
+		
+		boolean asc = Sort.Direction.ASC.equals(request.getSortDir());
+		String direction = asc ? "ASC" : "DESC";
+		int size = Math.max(1, Math.min(request.getSize() <= 0 ? maxPageSize : request.getSize(), maxPageSize));
+		
+		StringBuilder query = new StringBuilder();
+		query.append("SELECT " + sortColumn + " AS keyset_sort, " + idColumn + " AS keyset_id, " + select + " ");
+		query.append(from + " ");
+		query.append("WHERE " + (where == null || where.isEmpty() ? "1 = 1" : "(" + where + ")") + " ");
+		
+		if(request.getCursor() != null && !request.getCursor().isEmpty()) {
+			String[] cursor = this.decodeCursor(request.getCursor(), sortBy);
+			String operator = asc ? ">" : "<";
+			
+			if(sortColumn.equals(idColumn)) {
+				query.append("AND " + idColumn + " " + operator + " :keyset_id ");
+			} else {
+				query.append("AND (" + sortColumn + ", " + idColumn + ") " + operator + " (:keyset_sort, :keyset_id) ");
+				params.addValue("keyset_sort", cursor[1]);
+			}
+			params.addValue("keyset_id", Integer.valueOf(cursor[0]));
+		}
+		
+		query.append("ORDER BY " + sortColumn + " " + direction + ", " + idColumn + " " + direction + " ");
+		query.append("LIMIT :keyset_limit");
+		
+		// Busca um registro a mais apenas para saber se existe uma próxima página
+		params.addValue("keyset_limit", size + 1);
+		
+		log.trace("[QUERY] keyset: {} [PARAMS]: {}", query, params.getValues());
+		
+		List<String[]> keys = new ArrayList<>();
+		List<T> content = this.getJdbcTemplatePortal().query(query.toString(), params, (rs, rowNum) -> {
+			keys.add(new String[] { rs.getString("keyset_id"), rs.getString("keyset_sort") });
+			return mapper.mapRow(rs, rowNum);
+		});
+		
+		String nextCursor = null;
+		if(content.size() > size) {
+			content = new ArrayList<>(content.subList(0, size));
+			String[] last = keys.get(size - 1);
+			nextCursor = this.encodeCursor(sortBy, last[0], last[1]);
+		}
+		
+		return new KeysetPageDTO<>(content, nextCursor);
+	}
+	
+	private String encodeCursor(String sortBy, String id, String sortValue) {
+		String raw = (sortBy == null ? "" : sortBy) + ":" + id + ":" + (sortValue == null ? "" : sortValue);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Retorna [id, valor da ordenação] do cursor, validando se ele foi gerado para a mesma ordenação.
+	 */
+	private String[] decodeCursor(String cursor, String sortBy) throws AppException {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = raw.split(":", 3);
+			if(parts.length == 3 && parts[0].equals(sortBy == null ? "" : sortBy)) {
+				Integer.parseInt(parts[1]);
+				return new String[] { parts[1], parts[2] };
+			}
+		} catch (IllegalArgumentException e) {
+		}
+		
+		throw new AppException("Cursor de paginação inválido.");
+	}
+	
 }
@@ -0,0 +1,67 @@
+package com.portal.config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Especificação imutável de uma chave única de entidade: tabela, coluna do ID e as colunas que não podem se repetir,
+ * com a função que extrai o valor de cada uma do modelo. Usada por {@link BaseDAO#existsDuplicate(UniqueKey, Object)}
+ * para validar a duplicidade com um único SELECT EXISTS, sem carregar os registros.
+ *
+ * <pre>
+ * UniqueKey.of( "model", "mdl_id", Model::getId )
+ * 			.column( "name", Model::getName )
+ * 			.column( "brd_id", m -> m.getBrand() != null ? m.getBrand().getId() : null );
+ * </pre>
+ */
+public final class UniqueKey<T> {
+
+	private final String table;
+	private final String idColumn;
+	private final Function<T, Integer> id;
+	private final Map<String, Function<T, Object>> columns;
+
+	private UniqueKey(String table, String idColumn, Function<T, Integer> id, Map<String, Function<T, Object>> columns) {
+		this.table = table;
+		this.idColumn = idColumn;
+		this.id = id;
+		this.columns = Collections.unmodifiableMap(columns);
+	}
+
+	/**
+	 * @param table		tabela da entidade
+	 * @param idColumn	coluna do ID, usada para ignorar o próprio registro na alteração
+	 * @param id		ID do modelo; nulo ou zero indica inclusão
+	 */
+	public static <T> UniqueKey<T> of(String table, String idColumn, Function<T, Integer> id) {
+		return new UniqueKey<>(table, idColumn, id, new LinkedHashMap<>());
+	}
+
+	/**
+	 * Nova chave com a coluna incluída. Valor nulo é comparado com IS NULL.
+	 */
+	public UniqueKey<T> column(String column, Function<T, Object> value) {
+		Map<String, Function<T, Object>> columns = new LinkedHashMap<>(this.columns);
+		columns.put(column, value);
+		return new UniqueKey<>(this.table, this.idColumn, this.id, columns);
+	}
+
+	public String getTable() {
+		return this.table;
+	}
+
+	public String getIdColumn() {
+		return this.idColumn;
+	}
+
+	public Integer getId(T model) {
+		return this.id.apply(model);
+	}
+
+	public Map<String, Function<T, Object>> getColumns() {
+		return this.columns;
+	}
+
+}
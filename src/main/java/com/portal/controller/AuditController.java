@@ -0,0 +1,52 @@
+package com.portal.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
+import com.portal.model.AuditModel;
+import com.portal.service.IAuditService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+@RestController
+@RequestMapping("/protected/audit")
+@CrossOrigin(origins = "*")
+public class AuditController extends BaseController {
+
+    @Autowired
+    private IAuditService service;
+
+    @Operation( summary = "Get a page of audit records using keyset pagination" )
+    @ApiResponse( responseCode = "200", description = "Successfully return a page of audit records and the cursor of the next page", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = KeysetPageDTO.class) ) )
+    @ApiResponse( responseCode = "403", description = "Authorization fail", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE  ) )
+    @ApiResponse( responseCode = "400", description = "Wrong business logic will retorna CODE=600, otherwise it's wrong url address", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE ) )
+    @GetMapping(value = "/seek")
+    public @ResponseBody ResponseEntity<KeysetPageDTO<AuditModel>> listAllByKeyset(
+                                                            @RequestParam(name = "cursor", required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+                                                            @RequestParam(name = "size", required = false, defaultValue = "100") @Parameter(description = "Size of requested page") int size,
+                                                            @RequestParam(name = "sortDir", required = false, defaultValue = "DESC") @Schema(allowableValues = {"ASC", "DESC"}) String sortDir,
+                                                            @RequestParam(name = "sortBy", required = false, defaultValue = "id") @Schema(allowableValues = {"id", "date"}) String sortBy) throws Exception {
+        if(!this.service.canView(this.getUserProfile())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        KeysetRequestDTO request = KeysetRequestDTO.builder().cursor(cursor).size(size).sortBy(sortBy).sortDir(Sort.Direction.fromString(sortDir)).build();
+        return ResponseEntity.ok(this.service.listAllByKeyset(request));
+    }
+
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Controller;
@@ -15,14 +16,17 @@ import com.portal.dto.UserProfileDTO;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BadRequestException;
 import com.portal.exceptions.BusException;
-import com.portal.model.UserModel;
-import com.portal.service.IUserService;
+import com.portal.service.IUserProfileCacheService;
 import com.portal.utils.PortalJwtTokenUtil;
 
+import io.jsonwebtoken.Claims;
+
 @Controller
 @CrossOrigin(origins = "*")
 public abstract class BaseController {
 
+	private static final String USER_PROFILE_ATTRIBUTE = BaseController.class.getName() + ".USER_PROFILE";
+
 	@Autowired
 	public PortalJwtTokenUtil tokenUtils;
 	
@@ -33,7 +37,18 @@ public abstract class BaseController {
 	private HttpServletRequest request;
 	
 	@Autowired
-	private IUserService userService;
+	private IUserProfileCacheService userProfileCacheService;
+	
+	@Value("${portal.pagination.max-page-size:10000}")
+	private int maxPageSize;
+	
+	/**
+	 * Limita o tamanho de página pedido pelo cliente ao máximo configurado. 
+	 * As consultas internas dos serviços não passam por aqui e continuam sem limite.
+	 */
+	public int limitPageSize( int size ) {
+		return Math.min( size, maxPageSize );
+	}
 	
 	public UserProfileDTO getUserProfile() {
 		return getUserProfileGen( true );
@@ -54,12 +69,25 @@ public abstract class BaseController {
 					throw new BadRequestException( "Invalid authorization tokenf." );
 				}
 				
-				String token = authorizationHeader.substring(7); // The part after "Bearer"
-				UserProfileDTO profileDTO = new UserProfileDTO();
-				Optional<UserModel> userModel = userService.findByUsername(new UserModel(tokenUtils.getUsernameFromToken(token)));
+				// O perfil já resolvido nesta requisição é reaproveitado
+				UserProfileDTO requestProfile = (UserProfileDTO) request.getAttribute( USER_PROFILE_ATTRIBUTE );
+				if( requestProfile != null ) {
+					return requestProfile;
+				}
+				
+				// Claims já verificadas pelo JwtAuthenticationTokenFilter
+				Claims claims = (Claims) request.getAttribute( PortalJwtTokenUtil.CLAIMS_ATTRIBUTE );
+				if( claims == null ) {
+					String token = authorizationHeader.substring(7); // The part after "Bearer"
+					claims = tokenUtils.getClaims( token );
+				}
+				
+				String username = claims != null ? claims.getSubject() : null;
+				Optional<UserProfileDTO> profile = this.userProfileCacheService.getProfile( username, tokenUtils.getCreatedDate(claims) );
 			
-				if(userModel.isPresent()) {
-					profileDTO.setUser( this.userService.getById(userModel.get().getId()).get());
+				if(profile.isPresent()) {
+					UserProfileDTO profileDTO = profile.get();
+					request.setAttribute( USER_PROFILE_ATTRIBUTE, profileDTO );
 					
 					if( language != null && country != null) {
 						LocaleContextHolder.setLocale(new Locale(language, country));
@@ -1,15 +1,11 @@
 package com.portal.controller;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
 import java.util.List;
 
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -54,72 +50,28 @@ public class HistoryController extends BaseController {
 		return ResponseEntity.ok(this.service.getTotalRecords(model));
 	}
 	
+	/**
+	 * Gera a planilha de vendas gravando direto na resposta, sem montar o arquivo em memória.
+	 */
 	@PostMapping(value = "/exportExcel")
-	public ResponseEntity<byte[]> exportExcel(HttpServletResponse response, @RequestBody SaleModel model) throws Exception {
-		byte[] data = this.service.generateExportExcel(model);
-		
-		ByteArrayOutputStream out = new ByteArrayOutputStream();
-		if(data != null) {
-			out = new ByteArrayOutputStream(data.length);
-		    out.write(data, 0, data.length);
-	    }
-
+	public void exportExcel(HttpServletResponse response, @RequestBody SaleModel model) throws Exception {
 	    response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-	    response.addHeader("Content-Disposition", "attachment;");
-
-	    OutputStream os;
-	    try {
-	        os = response.getOutputStream();
-	        out.writeTo(os);
-	        os.flush();
-	        os.close();
-	    } catch (IOException e) {
-	        e.printStackTrace();
-	    }
+	    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment;");
+	    response.setHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate, post-check=0, pre-check=0");
 
-	    HttpHeaders respHeaders = new HttpHeaders();
-	    if(data != null) {
-	    	respHeaders.setContentLength(data.length);
-	    }
-	    respHeaders.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
-	    respHeaders.setCacheControl("must-revalidate, post-check=0, pre-check=0");
-	    respHeaders.set(HttpHeaders.CONTENT_DISPOSITION, "attachment;");
-		
-		return ResponseEntity.ok(data);
+	    this.service.generateExportExcel(model, response.getOutputStream());
 	}
 	
+	/**
+	 * Gera o PDF de vendas gravando direto na resposta, sem montar o arquivo em memória.
+	 */
 	@PostMapping(value = "/exportPdf")
-	public ResponseEntity<byte[]> exportPdf(HttpServletResponse response, @RequestBody SaleModel model) throws Exception {
-		byte[] data = this.service.generateExportPdf(model);
-		
-		ByteArrayOutputStream out = new ByteArrayOutputStream();
-		if(data != null) {
-			out = new ByteArrayOutputStream(data.length);
-		    out.write(data, 0, data.length);
-	    }
-
+	public void exportPdf(HttpServletResponse response, @RequestBody SaleModel model) throws Exception {
 	    response.setContentType("application/pdf");
-	    response.addHeader("Content-Disposition", "attachment;");
-
-	    OutputStream os;
-	    try {
-	        os = response.getOutputStream();
-	        out.writeTo(os);
-	        os.flush();
-	        os.close();
-	    } catch (IOException e) {
-	        e.printStackTrace();
-	    }
+	    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment;");
+	    response.setHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate, post-check=0, pre-check=0");
 
-	    HttpHeaders respHeaders = new HttpHeaders();
-	    if(data != null) {
-	    	respHeaders.setContentLength(data.length);
-	    }
-	    respHeaders.setContentType(MediaType.parseMediaType("application/pdf"));
-	    respHeaders.setCacheControl("must-revalidate, post-check=0, pre-check=0");
-	    respHeaders.set(HttpHeaders.CONTENT_DISPOSITION, "attachment;");
-		
-		return ResponseEntity.ok(data);
+	    this.service.generateExportPdf(model, response.getOutputStream());
 	}
 
 }
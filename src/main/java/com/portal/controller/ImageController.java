@@ -1,26 +1,38 @@
 package com.portal.controller;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
-import javax.servlet.http.HttpServletResponse;
-
-import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.portal.dto.ImageContentDTO;
+import com.portal.enums.ImageSize;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.UserModel;
+import com.portal.service.IItemImageService;
 import com.portal.service.imp.UserService;
 import com.portal.utils.FileUtils;
 import com.portal.utils.PortalJwtTokenUtil;
 
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 @RestController
@@ -34,20 +46,46 @@ public class ImageController  {
 	@Autowired
 	private UserService userService;
 	
+	@Autowired
+	private IItemImageService imageService;
+	
 	@Value("${store.location.item}")
 	private String locationItem;
 		
+	/**
+	 * Envia a imagem do item sem carregar o arquivo em memória, com ETag e Last-Modified para que o navegador
+	 * possa reutilizar a imagem (304). O token vai na URL, por isso o cache é somente privado. Os tamanhos reduzidos
+	 * (CARD, THUMBNAIL) vêm do cache de imagens dos itens.
+	 */
 	@GetMapping(value = "/getItemIcon/{file}/{token}")
-	public void getImageAsByteArray(HttpServletResponse response, 
-									@PathVariable(name = "file", required = true) @Parameter( description = "Item ID to be searched" ) String file,
-									@PathVariable(name = "token", required = true) @Parameter( description = "Hash to get image" ) String token) throws IOException {
-		try {
-			if(isValidUser(token)) {
-				response.setContentType(FileUtils.getMediaType(file));
-				IOUtils.copy(FileUtils.getFileInputStream(this.locationItem + "/" + file), response.getOutputStream());
+	public ResponseEntity<Resource> getImageAsByteArray(@PathVariable(name = "file", required = true) @Parameter( description = "Item ID to be searched" ) String file,
+														@PathVariable(name = "token", required = true) @Parameter( description = "Hash to get image" ) String token,
+														@RequestParam(name = "size", required = false, defaultValue = "ORIGINAL") @Schema( allowableValues= {"ORIGINAL", "CARD", "THUMBNAIL"} ) String size) throws IOException, AppException, BusException {
+		if(!isValidUser(token)) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+		
+		ImageSize imageSize = ImageSize.getByName(size);
+		if(imageSize != ImageSize.ORIGINAL) {
+			ImageContentDTO image = this.imageService.get(file, imageSize);
+			if(image == null) {
+				return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
 			}
-		} catch (Exception e) {
+			
+			return ResponseEntity.ok()
+								.contentType(MediaType.parseMediaType(image.getContentType()))
+								.eTag(image.getEtag())
+								.cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePrivate())
+								.body(new ByteArrayResource(image.getContent()));
+		}
+		
+		Path root = Paths.get(this.locationItem).toAbsolutePath().normalize();
+		Path path = root.resolve(file).normalize();
+		if(!path.startsWith(root) || !Files.isRegularFile(path)) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
 		}
+		
+		return FileUtils.getFileResponse(path, FileUtils.getMediaType(file), null, CacheControl.maxAge(1, TimeUnit.DAYS).cachePrivate());
 	}
 	
 	private boolean isValidUser(String token) {
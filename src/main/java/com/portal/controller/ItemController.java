@@ -1,20 +1,15 @@
 package com.portal.controller;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
-import javax.servlet.http.HttpServletResponse;
-
-import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -28,13 +23,17 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.portal.dto.ImageContentDTO;
 import com.portal.dto.ImageDTO;
 import com.portal.dto.ItemDTO;
+import com.portal.enums.ImageSize;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Item;
+import com.portal.service.IItemImageService;
 import com.portal.service.imp.ItemService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -50,11 +49,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "Item Controller", description = "CRUD for item Entity")
 public class ItemController extends BaseController {
 	public static final String FORBIDDEN = "A imagem deve ser menor que 5MB";
+	private static final String IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().getHeaderValue() + ", immutable";
+	
 	@Autowired
 	private ItemService service;
 	
-	@Value("${store.location.item}")
-	private String locationItem;
+	@Autowired
+	private IItemImageService imageService;
 	
 	@Operation( summary = "Get a list of itens" )
 	@ApiResponse( responseCode = "200", description = "Successfully return list of itens", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema( schema = @Schema(implementation = ItemDTO.class) ) ) )
@@ -211,34 +212,59 @@ public class ItemController extends BaseController {
 	@ApiResponse(responseCode = "400", description = "Wrong business logic will retorna CODE=600, otherwise it's wrong url address", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
 	@GetMapping(value = "/item/image/{name}")
 	public @ResponseBody
-	ResponseEntity<ImageDTO> getImage(@PathVariable(name = "name", required = true) @Parameter(description = "Item ID to be searched") String name) throws IOException, AppException {
-		ImageDTO image = new ImageDTO(this.service.getItemImage(name));
+	ResponseEntity<ImageDTO> getImage(@PathVariable(name = "name", required = true) @Parameter(description = "Item ID to be searched") String name) throws AppException, BusException {
+		String image = this.service.getItemImage(name);
 		if (image != null) {
-			return ResponseEntity.ok(image);
+			return ResponseEntity.ok(new ImageDTO(image));
 		} 
 		
 		return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
 	}
 	
+	@Operation(summary = "Get Image file from item as raw bytes, optionally resized (ORIGINAL, CARD, THUMBNAIL)")
+	@ApiResponse(responseCode = "200", description = "Successfully get image", content = @Content(mediaType = MediaType.IMAGE_PNG_VALUE))
+	@ApiResponse(responseCode = "304", description = "Image not modified since the informed ETag")
+	@ApiResponse(responseCode = "404", description = "Image not found")
+	@GetMapping(value = "/item/image/v2/{name}")
+	public ResponseEntity<byte[]> getImageContent(WebRequest request,
+													@PathVariable(name = "name", required = true) @Parameter(description = "Image file name") String name,
+													@RequestParam(name = "size", required = false, defaultValue = "ORIGINAL") @Schema( allowableValues= {"ORIGINAL", "CARD", "THUMBNAIL"} ) String size) throws AppException, BusException {
+		return this.imageResponse(request, name, ImageSize.getByName(size));
+	}
+	
 	@GetMapping(path = "/item/getItemIcon/{id}")
-	public @ResponseBody byte[] getImage(@PathVariable( name = "id", required = true ) @Parameter( description = "Item ID to be searched" ) int id ) throws IOException, AppException, BusException {
+	public @ResponseBody byte[] getImage(@PathVariable( name = "id", required = true ) @Parameter( description = "Item ID to be searched" ) int id ) throws AppException, BusException {
 	    return this.service.getImageIcon(id);
 	}
 	
 	@GetMapping(value = "/item/getItemIcon/v2/{file}")
-	public void getImageAsByteArray(HttpServletResponse response,@PathVariable(name = "file", required = true) @Parameter( description = "Item ID to be searched" ) String file) throws IOException {
-		File initialFile = new File(this.locationItem + "/" + file);
-		if(initialFile.isFile()) {
-			InputStream targetStream = new FileInputStream(initialFile);
-			if(file.contains(".jpg") || file.contains(".jpeg")) {
-				response.setContentType(MediaType.IMAGE_JPEG_VALUE);
-			} else if(file.contains(".png")) {
-				response.setContentType(MediaType.IMAGE_PNG_VALUE);
-			} else if(file.contains(".gif")) {
-				response.setContentType(MediaType.IMAGE_GIF_VALUE);
-			}
-			
-			IOUtils.copy(targetStream, response.getOutputStream());
+	public ResponseEntity<byte[]> getImageAsByteArray(WebRequest request, @PathVariable(name = "file", required = true) @Parameter( description = "Item ID to be searched" ) String file) throws AppException, BusException {
+		return this.imageResponse(request, file, ImageSize.ORIGINAL);
+	}
+	
+	/**
+	 * Resposta com os bytes da imagem. Nomes com hash do conteúdo são imutáveis e podem ficar no cache do navegador
+	 * por um ano; os demais são revalidados pelo ETag.
+	 */
+	private ResponseEntity<byte[]> imageResponse(WebRequest request, String name, ImageSize size) throws AppException, BusException {
+		String etag = this.imageService.getEtag(name, size);
+		if (etag != null && request.checkNotModified(etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).header(HttpHeaders.CACHE_CONTROL, IMMUTABLE).build();
+		}
+		
+		ImageContentDTO image = this.imageService.get(name, size);
+		if (image == null) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
 		}
+		
+		if (!image.isImmutable() && request.checkNotModified(image.getEtag())) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(image.getEtag()).cacheControl(CacheControl.noCache()).build();
+		}
+		
+		return ResponseEntity.ok()
+							.contentType(MediaType.parseMediaType(image.getContentType()))
+							.eTag(image.getEtag())
+							.header(HttpHeaders.CACHE_CONTROL, image.isImmutable() ? IMMUTABLE : CacheControl.noCache().getHeaderValue())
+							.body(image.getContent());
 	}
 }
@@ -20,6 +20,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.dto.LeadDTO;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
@@ -67,12 +69,28 @@ public class LeadController extends BaseController {
         if (page < 0) {
             page = 0;
         }
-        PageRequest pageReq = PageRequest.of(page, size, Sort.by(Sort.Direction.fromString(sortDir), sortBy));
+        PageRequest pageReq = PageRequest.of(page, this.limitPageSize(size), Sort.by(Sort.Direction.fromString(sortDir), sortBy));
 
         List<Lead> leads = this.service.listAll(pageReq);
         return ResponseEntity.ok(LeadDTO.toDTO(leads));
     }
 
+    @Operation(summary = "Get a page of leads using keyset pagination")
+    @ApiResponse(responseCode = "200", description = "Successfully return a page of leads and the cursor of the next page", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = KeysetPageDTO.class)))
+    @ApiResponse(responseCode = "403", description = "Authorization fail", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
+    @ApiResponse(responseCode = "400", description = "Wrong business logic will retorna CODE=600, otherwise it's wrong url address", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
+    @GetMapping(path = "/lead/seek")
+    public @ResponseBody
+    ResponseEntity<KeysetPageDTO<LeadDTO>> listAllByKeyset(@RequestParam(name = "cursor", required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+                                                          @RequestParam(name = "size", required = false, defaultValue = "100") @Parameter(description = "Size of requested page") int size,
+                                                          @RequestParam(name = "sortDir", required = false, defaultValue = "DESC") @Schema(allowableValues = {"ASC", "DESC"}) String sortDir,
+                                                          @RequestParam(name = "sortBy", required = false, defaultValue = "id") @Schema(allowableValues = {"id", "createDate"}) String sortBy) throws AppException, BusException {
+        KeysetRequestDTO request = KeysetRequestDTO.builder().cursor(cursor).size(size).sortBy(sortBy).sortDir(Sort.Direction.fromString(sortDir)).build();
+
+        KeysetPageDTO<Lead> leads = this.service.listAllByKeyset(request);
+        return ResponseEntity.ok(leads.map(LeadDTO::toDTO));
+    }
+
     @Operation(summary = "Find a lead")
     @ApiResponse(responseCode = "200", description = "Successfully return list a Lead", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = LeadDTO.class))))
     @ApiResponse(responseCode = "403", description = "Authorization fail", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
@@ -102,7 +120,7 @@ public class LeadController extends BaseController {
             page = 0;
         }
 
-        PageRequest pageReq = PageRequest.of(page, size, Sort.by(Sort.Direction.fromString(sortDir), sortBy));
+        PageRequest pageReq = PageRequest.of(page, this.limitPageSize(size), Sort.by(Sort.Direction.fromString(sortDir), sortBy));
         Lead searchModel = Lead.toEntity(leadDTO);
         List<Lead> leads = null;
         if (like) {
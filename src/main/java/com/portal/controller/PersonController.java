@@ -21,6 +21,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.dto.PersonDTO;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
@@ -82,12 +84,29 @@ public class PersonController extends BaseController {
 			page = 0;
 		}
 
-		PageRequest pageReq = PageRequest.of(page, size, Sort.by( Sort.Direction.fromString( sortDir ), sortBy ) );
+		PageRequest pageReq = PageRequest.of(page, this.limitPageSize(size), Sort.by( Sort.Direction.fromString( sortDir ), sortBy ) );
 
 		List<Person> persons = this.service.listAll( pageReq );
 		return ResponseEntity.ok( PersonDTO.toDTO( persons ) ) ;
 	}
 
+	@Operation( summary = "Get a page of persons using keyset pagination" )
+	@ApiResponse( responseCode = "200", description = "Successfully return a page of persons and the cursor of the next page", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = KeysetPageDTO.class) ) )
+	@ApiResponse( responseCode = "403", description = "Authorization fail", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE  ) )
+	@ApiResponse( responseCode = "400", description = "Wrong business logic will retorna CODE=600, otherwise it's wrong url address", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE ) )
+	@GetMapping(path = "/person/seek")
+	public @ResponseBody ResponseEntity<KeysetPageDTO<PersonDTO>> listAllByKeyset(
+			@RequestParam(name = "cursor", required = false) @Parameter( description = "Cursor returned by the previous page" ) String cursor,
+			@RequestParam(name = "size", required = false, defaultValue = "100") @Parameter( description = "Size of requested page" ) int size,
+			@RequestParam(name = "sortDir", required = false, defaultValue = "ASC") @Schema( allowableValues= {"ASC", "DESC"} ) String sortDir,
+			@RequestParam(name = "sortBy", required = false, defaultValue = "name") @Schema( allowableValues= {"id", "name"} ) String sortBy ) throws Exception {
+
+		KeysetRequestDTO request = KeysetRequestDTO.builder().cursor( cursor ).size( size ).sortBy( sortBy ).sortDir( Sort.Direction.fromString( sortDir ) ).build();
+
+		KeysetPageDTO<Person> persons = this.service.listAllByKeyset( request );
+		return ResponseEntity.ok( persons.map( PersonDTO::toDTO ) );
+	}
+
 	@Operation( summary = "Get person by ID" )
 	@ApiResponse( responseCode = "200", description = "Successfully found and returned the person by id", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Person.class) ) )
 	@ApiResponse( responseCode = "403", description = "Authorization fail", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE  ) )
@@ -134,7 +153,7 @@ public class PersonController extends BaseController {
 			page = 0;
 		}
 
-		PageRequest pageReq = PageRequest.of(page, size, Sort.by( Sort.Direction.fromString( sortDir ), sortBy ) );
+		PageRequest pageReq = PageRequest.of(page, this.limitPageSize(size), Sort.by( Sort.Direction.fromString( sortDir ), sortBy ) );
 
 		Person searchModel = Person.toEntity( dto );
 		List<Person> person = this.service.searchForm(searchModel.getName(), pageReq);
@@ -9,12 +9,15 @@ import com.portal.model.Proposal;
 import com.portal.service.IDocumentService;
 import com.portal.service.IProposalDocumentService;
 import com.portal.service.imp.ProposalService;
+import com.portal.utils.FileUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -22,10 +25,9 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/protected/proposaldocument")
@@ -46,7 +48,7 @@ public class ProposalDocumentController extends BaseController {
     @ApiResponse(responseCode = "403", description = "Authorization fail", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
     @ApiResponse(responseCode = "400", description = "Wrong business logic will retorna CODE=600, otherwise it's wrong url address", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
     @PostMapping(path = "/upload/{id}")
-    public ResponseEntity<Document> saveList(@RequestBody MultipartFile file, @PathVariable(name = "id", required = true) @Parameter(description = "ID of Type Document") Integer id) {
+    public ResponseEntity<Document> saveList(@RequestBody MultipartFile file, @PathVariable(name = "id", required = true) @Parameter(description = "ID of Type Document") Integer id) throws AppException, BusException {
         if (file == null) {
             return null;
         }
@@ -72,11 +74,9 @@ public class ProposalDocumentController extends BaseController {
                 final ProposalDTO foundProposal = proposalService.getProposal(proposalId);
                 final Proposal proposal = foundProposal.getProposal();
 
-                final int[] idIndex = {0};
-                proposal.getDocuments()
-                        .addAll(Arrays.stream(file)
-                                .map(_file -> storeFile(fId[idIndex[0]++], _file))
-                                .collect(Collectors.toList()));
+                for (int i = 0; i < file.length; i++) {
+                    proposal.getDocuments().add(storeFile(fId[i], file[i]));
+                }
                 Optional<Proposal> updated = proposalService.update(proposal, this.getUserProfile());
                 if (updated.isPresent()) {
                     return ResponseEntity.status(HttpStatus.CREATED).body(updated.get().getDocuments());
@@ -89,7 +89,7 @@ public class ProposalDocumentController extends BaseController {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
     }
 
-    private Document storeFile(final Integer id, final MultipartFile file) {
+    private Document storeFile(final Integer id, final MultipartFile file) throws AppException, BusException {
         return this.service.store(file, id, this.getUserProfile());
     }
 
@@ -109,6 +109,27 @@ public class ProposalDocumentController extends BaseController {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
     }
 
+    @Operation(summary = "Download document file")
+    @ApiResponse(responseCode = "200", description = "Successfully streamed the document", content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE))
+    @ApiResponse(responseCode = "206", description = "Successfully streamed the requested range of the document", content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE))
+    @ApiResponse(responseCode = "304", description = "Document not modified since the informed ETag")
+    @ApiResponse(responseCode = "403", description = "Authorization fail", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
+    @ApiResponse(responseCode = "404", description = "Document not found")
+    @GetMapping(value = "/document/{id}/file")
+    public ResponseEntity<Resource> getDocumentFile(@PathVariable(name = "id", required = true) @Parameter(description = "Document ID to be downloaded") Integer id) throws IOException, AppException, BusException {
+        Optional<Document> document = this.documentService.getById(id);
+        if (!document.isPresent()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        Path file = this.documentService.getStoredFile(document.get());
+        if (file == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        return FileUtils.getFileResponse(file, document.get().getContentType(), document.get().getFileName(), CacheControl.noCache().cachePrivate());
+    }
+
     @Operation(summary = "Delete document by ID")
     @ApiResponse(responseCode = "204", description = "Successfully deleted the document")
     @ApiResponse(responseCode = "403", description = "Authorization fail", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
@@ -22,6 +22,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.dto.VehicleDTO;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
@@ -53,11 +55,26 @@ public class VehicleController extends BaseController {
                                                             @RequestParam(name = "size", required = false, defaultValue = "1000") @Parameter(description = "Size of requested page") int size,
                                                             @RequestParam(name = "sortDir", required = false, defaultValue = "ASC") @Schema(allowableValues = {"ASC", "DESC"}) String sortDir,
                                                             @RequestParam(name = "sortBy", required = false, defaultValue = "id") @Parameter(description = "Field of database to sort by") String sortBy) throws Exception {
-        PageRequest pageReq = PageRequest.of(page, size, Sort.by(Sort.Direction.fromString(sortDir), sortBy));
+        PageRequest pageReq = PageRequest.of(page, this.limitPageSize(size), Sort.by(Sort.Direction.fromString(sortDir), sortBy));
         List<VehicleModel> vehicle = this.service.listAll(pageReq);
         return ResponseEntity.ok(VehicleDTO.toDTO(vehicle));
     }
 
+    @Operation( summary = "Get a page of vehicles using keyset pagination" )
+    @ApiResponse( responseCode = "200", description = "Successfully return a page of vehicles and the cursor of the next page", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = KeysetPageDTO.class) ) )
+    @ApiResponse( responseCode = "403", description = "Authorization fail", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE  ) )
+    @ApiResponse( responseCode = "400", description = "Wrong business logic will retorna CODE=600, otherwise it's wrong url address", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE ) )
+    @GetMapping(value = "/seek")
+    public @ResponseBody ResponseEntity<KeysetPageDTO<VehicleDTO>> listAllByKeyset(
+                                                            @RequestParam(name = "cursor", required = false) @Parameter(description = "Cursor returned by the previous page") String cursor,
+                                                            @RequestParam(name = "size", required = false, defaultValue = "100") @Parameter(description = "Size of requested page") int size,
+                                                            @RequestParam(name = "sortDir", required = false, defaultValue = "DESC") @Schema(allowableValues = {"ASC", "DESC"}) String sortDir,
+                                                            @RequestParam(name = "sortBy", required = false, defaultValue = "id") @Schema(allowableValues = {"id", "plate", "modelYear"}) String sortBy) throws Exception {
+        KeysetRequestDTO request = KeysetRequestDTO.builder().cursor(cursor).size(size).sortBy(sortBy).sortDir(Sort.Direction.fromString(sortDir)).build();
+        KeysetPageDTO<VehicleModel> vehicles = this.service.listAllByKeyset(request);
+        return ResponseEntity.ok(vehicles.map(VehicleDTO::toDTO));
+    }
+
     @Operation( summary = "Find a vehicle" )
     @ApiResponse( responseCode = "200", description = "Successfully return list of vehicles", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema( schema = @Schema(implementation = VehicleDTO.class) ) ) )
     @ApiResponse( responseCode = "403", description = "Authorization fail", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE  ) )
@@ -94,7 +111,7 @@ public class VehicleController extends BaseController {
         if(searchText.equals("%"))
         	searchText = "";
         
-        PageRequest pageReq = PageRequest.of(page, size, Sort.by( Sort.Direction.fromString( sortDir ), sortBy ) );
+        PageRequest pageReq = PageRequest.of(page, this.limitPageSize(size), Sort.by( Sort.Direction.fromString( sortDir ), sortBy ) );
 
 
         List<VehicleModel> models = null;
@@ -136,7 +153,7 @@ public class VehicleController extends BaseController {
             page = 0;
         }
 
-        PageRequest pageReq = PageRequest.of(page, size, Sort.by( Sort.Direction.fromString( sortDir ), sortBy ) );
+        PageRequest pageReq = PageRequest.of(page, this.limitPageSize(size), Sort.by( Sort.Direction.fromString( sortDir ), sortBy ) );
 
         List<VehicleModel> vehicleModel = this.service.getByBrand(brand, pageReq);
 
@@ -1,10 +1,13 @@
 package com.portal.controller.form;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -22,6 +25,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.portal.controller.BaseController;
 import com.portal.dto.BrandDTO;
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.dto.PartnerDTO;
 import com.portal.dto.ProductWithPriceListIdDTO;
 import com.portal.dto.ProposalSearchDTO;
@@ -89,6 +94,22 @@ public class ProposalFormController extends BaseController {
 		return ResponseEntity.ok( list ) ;
 	}
 	
+	@Operation( summary = "Get a page of proposals using keyset pagination" )
+	@ApiResponse( responseCode = "200", description = "Successfully return a page of proposals and the cursor of the next page", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = KeysetPageDTO.class) ) )
+	@ApiResponse( responseCode = "403", description = "Authorization fail", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE  ) )
+	@ApiResponse( responseCode = "400", description = "Wrong business logic will retorna CODE=600, otherwise it's wrong url address", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE ) )
+	@GetMapping(path = "/seek")
+	public @ResponseBody ResponseEntity<KeysetPageDTO<ProposalDTO>> listAllByKeyset(
+														@RequestParam(name = "cursor", required = false) @Parameter( description = "Cursor returned by the previous page" ) String cursor,
+														@RequestParam(name = "size", required = false, defaultValue = "100") @Parameter( description = "Size of requested page" ) int size,
+														@RequestParam(name = "sortDir", required = false, defaultValue = "DESC") @Schema( allowableValues= {"ASC", "DESC"} ) String sortDir,
+														@RequestParam(name = "sortBy", required = false, defaultValue = "id") @Schema( allowableValues= {"id", "createDate", "num"} ) String sortBy ) throws Exception {
+		
+		KeysetRequestDTO request = KeysetRequestDTO.builder().cursor( cursor ).size( size ).sortBy( sortBy ).sortDir( Sort.Direction.fromString( sortDir ) ).build();
+		KeysetPageDTO<Proposal> proposals = this.proposalService.listAllByKeyset( request );
+		return ResponseEntity.ok( proposals.map( ProposalDTO::toDTO ) );
+	}
+	
 	@Operation( summary = "Find a proposal" )
 	@ApiResponse( responseCode = "200", description = "Successfully return list of proposals", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema( schema = @Schema(implementation = ProposalSearchDTO.class) ) ) )
 	@ApiResponse( responseCode = "403", description = "Authorization fail", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE  ) )
@@ -389,13 +410,13 @@ public class ProposalFormController extends BaseController {
 	}
 
 	@RequestMapping(path = "/getProposalReport/{proposalNumber}", method = RequestMethod.POST)
-    public ResponseEntity<ByteArrayResource> getProposalReport( @PathVariable( name = "proposalNumber", required = true ) @Parameter( description = "Proposal Number" )  String proposalNumber) throws Exception {
+    public ResponseEntity<Resource> getProposalReport( @PathVariable( name = "proposalNumber", required = true ) @Parameter( description = "Proposal Number" )  String proposalNumber) throws Exception {
     	try {
-    		final byte[] data = this.proposalFormService.generateProposalReport(proposalNumber);
-            final ByteArrayResource resource = new ByteArrayResource(data);
+    		final Path report = this.proposalFormService.generateProposalReport(proposalNumber);
+            final FileSystemResource resource = new FileSystemResource(report);
 
 	        return ResponseEntity.ok()
-                    .contentLength(data.length)
+                    .contentLength(resource.contentLength())
 	                .contentType(MediaType.APPLICATION_PDF)
 	                .header(HttpHeaders.CONTENT_DISPOSITION,"attachment; filename=\"" + proposalNumber+ ".pdf" + "\"")
 	                .body(resource);
@@ -1,6 +1,7 @@
 package com.portal.dao;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.portal.exceptions.AppException;
@@ -9,7 +10,7 @@ import com.portal.model.MenuModel;
 
 public interface IAccessListMenuDAO {
 
-	public List<MenuModel> listMenuByAccessList(Integer id) throws AppException;
+	public Map<Integer, List<Integer>> listMenuIdsByAccessList() throws AppException;
 	
 	public Optional<AccessListModel> save(AccessListModel model, MenuModel menu) throws AppException;
 	
@@ -1,6 +1,12 @@
 package com.portal.dao;
 
+import java.util.Collection;
+import java.util.Map;
+
+import com.portal.exceptions.AppException;
 import com.portal.model.AddressModel;
 
 public interface IAddressDAO extends IBaseDAO<AddressModel> {
+
+	public Map<Integer, AddressModel> getByIds(Collection<Integer> ids) throws AppException;
 }
@@ -1,5 +1,9 @@
 package com.portal.dao;
 
+import java.util.List;
+
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.exceptions.AppException;
 import com.portal.model.AuditModel;
 
@@ -7,4 +11,8 @@ public interface IAuditDAO {
 
 	public void save(AuditModel model) throws AppException;
 	
+	public void saveAll(List<AuditModel> models) throws AppException;
+	
+	public KeysetPageDTO<AuditModel> listAllByKeyset(KeysetRequestDTO request) throws AppException;
+	
 }
@@ -1,6 +1,8 @@
 package com.portal.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
@@ -15,6 +17,8 @@ public interface IBankAccountDAO extends IBaseDAO<BankAccount> {
 	public List<BankAccount> find( BankAccount model, Pageable pageable ) throws AppException;
 	
 	public List<BankAccount> search( BankAccount model, Pageable pageable ) throws AppException;
+
+	public Map<Integer, List<BankAccount>> findByPersons( Collection<Integer> perIds ) throws AppException;
 	
 	/**
 	 * Usar a função {@link #listAll(Pageable)}
@@ -35,5 +35,14 @@ public interface IBankDAO extends IBaseDAO<Bank> {
 	 */
 	@Deprecated
 	public List<Bank> search( Bank model ) throws AppException;
-	
+
+	/**
+	 * Verifica se já existe um banco com o mesmo nome, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicateName( Bank model ) throws AppException;
+
+	/**
+	 * Verifica se já existe um banco com o mesmo código, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicateCode( Bank model ) throws AppException;
 }
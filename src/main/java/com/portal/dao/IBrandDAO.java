@@ -39,4 +39,9 @@ public interface IBrandDAO extends IBaseDAO<Brand> {
 	 */
 	@Deprecated
 	public List<Brand> search( Brand brand ) throws AppException;
+
+	/**
+	 * Verifica se já existe uma marca com o mesmo nome, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( Brand model ) throws AppException;
 }
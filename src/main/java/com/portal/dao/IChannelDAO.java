@@ -40,5 +40,8 @@ public interface IChannelDAO extends IBaseDAO<Channel> {
 	@Deprecated
 	public List<Channel> search( Channel model ) throws AppException;
 
-	
+	/**
+	 * Verifica se já existe um canal com o mesmo nome, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( Channel model ) throws AppException;
 }
@@ -1,6 +1,8 @@
 package com.portal.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.portal.exceptions.AppException;
 import com.portal.model.Contact;
@@ -8,4 +10,6 @@ import com.portal.model.Contact;
 public interface IContactDAO extends IBaseDAO<Contact> {
 
 	public List<Contact> findByPerson(Integer id) throws AppException;
+
+	public Map<Integer, List<Contact>> findByPersons(Collection<Integer> ids) throws AppException;
 }
@@ -0,0 +1,31 @@
+package com.portal.dao;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.portal.exceptions.AppException;
+
+public interface IDocumentBlobDAO {
+
+	public void addReference( String sha256, long size ) throws AppException;
+	
+	public boolean removeReference( String sha256 ) throws AppException;
+	
+	public boolean exists( String sha256 ) throws AppException;
+	
+	public Set<String> listExisting( Collection<String> hashes ) throws AppException;
+	
+	public List<String> listHashes( String after, int limit ) throws AppException;
+	
+	public int countMismatchedReferences() throws AppException;
+	
+	public List<String> listMissing( String after, int limit ) throws AppException;
+	
+	public void restoreReference( String sha256, long size ) throws AppException;
+	
+	public List<String> listUnreferenced() throws AppException;
+	
+	public void delete( String sha256 ) throws AppException;
+	
+}
@@ -35,4 +35,12 @@ public interface IDocumentDAO extends IBaseDAO<Document> {
 	public List<Document> search( Document model ) throws AppException;
 
 	public boolean hasProposalRelationship(Integer docId) throws AppException;
+	
+	public List<Document> listWithoutHash( Integer afterId, int limit ) throws AppException;
+	
+	public void updateStorage( Integer id, String filePath, String sha256 ) throws AppException;
+	
+	public boolean hasFilePath( String filePath ) throws AppException;
+	
+	public boolean hasSha256( String sha256 ) throws AppException;
 }
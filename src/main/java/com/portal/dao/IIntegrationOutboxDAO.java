@@ -0,0 +1,25 @@
+package com.portal.dao;
+
+import java.util.List;
+
+import com.portal.dto.IntegrationOutboxStatsDTO;
+import com.portal.exceptions.AppException;
+import com.portal.model.IntegrationOutbox;
+
+public interface IIntegrationOutboxDAO {
+
+	public boolean enqueue( IntegrationOutbox model ) throws AppException;
+	
+	public List<IntegrationOutbox> listReady( int limit ) throws AppException;
+	
+	public boolean claim( Integer id, long lockSeconds ) throws AppException;
+	
+	public void markDone( Integer id, String result ) throws AppException;
+	
+	public void markRetry( Integer id, String error, long delaySeconds ) throws AppException;
+	
+	public void markFailed( Integer id, String error ) throws AppException;
+	
+	public IntegrationOutboxStatsDTO getStats() throws AppException;
+	
+}
@@ -46,6 +46,8 @@ public interface IItemDAO extends IBaseDAO<Item> {
 	@Deprecated
 	public List<Item> search( Item Item ) throws AppException;
 
-	
-
+	/**
+	 * Verifica se já existe um item com o mesmo nome, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( Item model ) throws AppException;
 }
@@ -35,5 +35,9 @@ public interface IItemTypeDAO extends IBaseDAO<ItemType> {
 	public List<ItemType> search( ItemType model ) throws AppException;
 
 	public boolean hasItemRelationship(Integer itemTypeId) throws AppException;
-	
+
+	/**
+	 * Verifica se já existe um tipo de item com o mesmo nome, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( ItemType model ) throws AppException;
 }
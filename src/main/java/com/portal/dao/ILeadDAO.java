@@ -5,6 +5,8 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.exceptions.AppException;
 import com.portal.model.Lead;
 
@@ -12,6 +14,8 @@ public interface ILeadDAO extends IBaseDAO<Lead> {
 	
 	public List<Lead> listAll( Pageable pageable ) throws AppException;
 	
+	public KeysetPageDTO<Lead> listAllByKeyset( KeysetRequestDTO request ) throws AppException;
+	
 	public List<Lead> find( Lead model, Pageable pageable ) throws AppException;
 	
 	public boolean hasProposalRelationship(Integer ledId) throws AppException;
@@ -43,4 +43,9 @@ public interface IModelDAO extends IBaseDAO<Model> {
 	public boolean hasVehicleRelationship(Integer modelId) throws AppException;
 
     List<Model> listAllByBrand(int id, Pageable pageable) throws AppException;
+
+	/**
+	 * Verifica se já existe um modelo com o mesmo nome e marca, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( Model model ) throws AppException;
 }
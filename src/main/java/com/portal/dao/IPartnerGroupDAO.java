@@ -35,4 +35,9 @@ public interface IPartnerGroupDAO extends IBaseDAO<PartnerGroup> {
 	 */
 	@Deprecated
 	public List<PartnerGroup> search( PartnerGroup model ) throws AppException;
+
+	/**
+	 * Verifica se já existe um grupo de parceiros com o mesmo nome, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( PartnerGroup model ) throws AppException;
 }
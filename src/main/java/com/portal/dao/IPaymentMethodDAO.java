@@ -35,4 +35,9 @@ public interface IPaymentMethodDAO extends IBaseDAO<PaymentMethod> {
 	public List<PaymentMethod> search( PaymentMethod brand ) throws AppException;
 
 	public boolean hasProposalRelationship(Integer pymId) throws AppException;
+
+	/**
+	 * Verifica se já existe um método de pagamento com o mesmo nome, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( PaymentMethod model ) throws AppException;
 }
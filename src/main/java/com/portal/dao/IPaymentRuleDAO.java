@@ -35,4 +35,9 @@ public interface IPaymentRuleDAO extends IBaseDAO<PaymentRule> {
 	public List<PaymentRule> search( PaymentRule model ) throws AppException;
 
     List<PaymentRule> listToPaymentMethod(Integer id) throws AppException;
+
+	/**
+	 * Verifica se já existe uma regra de pagamento com o mesmo nome no mesmo método de pagamento, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( PaymentRule model ) throws AppException;
 }
@@ -5,6 +5,8 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.exceptions.AppException;
 import com.portal.model.Person;
 
@@ -12,6 +14,8 @@ public interface IPersonDAO extends IBaseDAO<Person>{
 	
 	public List<Person> listAll( Pageable pageable ) throws AppException;
 	
+	public KeysetPageDTO<Person> listAllByKeyset( KeysetRequestDTO request ) throws AppException;
+	
 	public List<Person> find( Person model, Pageable pageable ) throws AppException;
 	
 	public List<Person> search( Person model, Pageable pageable ) throws AppException;
@@ -58,4 +62,9 @@ public interface IPersonDAO extends IBaseDAO<Person>{
 	
     public Optional<Person> searchByDocument(String searchText) throws AppException;
 
+	/**
+	 * Verifica se já existe outra pessoa vinculada a um parceiro com o mesmo documento da classificação (CPF, CNPJ ou RNE).
+	 */
+	public boolean hasDuplicatePartnerDocument( Person model ) throws AppException;
+
 }
@@ -1,6 +1,8 @@
 package com.portal.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.portal.exceptions.AppException;
 import com.portal.model.PersonQualification;
@@ -8,6 +10,8 @@ import com.portal.model.PersonQualification;
 public interface IPersonQualificationDAO {
 
 	public List<PersonQualification> find( PersonQualification qualification ) throws AppException;
+
+	public Map<Integer, List<PersonQualification>> findByPersons( Collection<Integer> perIds ) throws AppException;
 	
 	public void save( PersonQualification qualification ) throws AppException;
 	
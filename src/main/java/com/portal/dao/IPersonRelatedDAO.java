@@ -1,6 +1,8 @@
 package com.portal.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
@@ -35,4 +37,11 @@ public interface IPersonRelatedDAO extends IBaseDAO<PersonRelated> {
 	public List<PersonRelated> search( PersonRelated brand ) throws AppException;
 
     List<PersonRelated> findByPerson(Integer id) throws AppException;
+
+    Map<Integer, List<PersonRelated>> findByPersons(Collection<Integer> perIds) throws AppException;
+
+	/**
+	 * Verifica se já existe um relacionamento com o mesmo nome, tipo e pessoa, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( PersonRelated model ) throws AppException;
 }
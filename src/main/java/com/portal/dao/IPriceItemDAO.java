@@ -14,9 +14,19 @@ public interface IPriceItemDAO extends IBaseDAO<PriceItem> {
 	
 	public boolean hasProposalDetailRelationship(Integer ipcId) throws AppException;
 	
+	/**
+	 * Insere os preços em lote, preenchendo o ID gerado de cada um.
+	 */
+	public void saveAll( List<PriceItem> models ) throws AppException;
+	
 	/**
 	 * Usar a função {@link #find(PriceItem, Pageable)}
 	 */
 	@Deprecated
-	public Optional<PriceItem> find( PriceItem model ) throws AppException; 
+	public Optional<PriceItem> find( PriceItem model ) throws AppException;
+
+	/**
+	 * Verifica se já existe um preço para o mesmo item na mesma lista, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( PriceItem model ) throws AppException;
 }
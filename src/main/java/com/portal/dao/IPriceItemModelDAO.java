@@ -14,6 +14,11 @@ public interface IPriceItemModelDAO extends IBaseDAO<PriceItemModel> {
 	
 	public boolean hasProposalDetailRelationship(Integer ipcId) throws AppException;
 	
+	/**
+	 * Insere os preços em lote, preenchendo o ID gerado de cada um.
+	 */
+	public void saveAll( List<PriceItemModel> models ) throws AppException;
+	
 	/**
 	 * Usar a função {@link #find(PriceItemModel, Pageable)}
 	 */
@@ -40,4 +40,9 @@ public interface IPriceListDAO extends IBaseDAO<PriceList> {
 	 */
 	@Deprecated
 	public List<PriceList> search( PriceList model ) throws AppException;
+
+	/**
+	 * Verifica se já existe uma lista de preço com o mesmo nome, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( PriceList model ) throws AppException;
 }
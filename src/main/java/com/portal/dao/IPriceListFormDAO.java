@@ -1,8 +1,10 @@
 package com.portal.dao;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import com.portal.dto.form.PriceListDuplicateItemDTO;
 import com.portal.exceptions.AppException;
@@ -15,4 +17,17 @@ public interface IPriceListFormDAO {
 
 	public Optional<List<PriceListDuplicateItemDTO>> findItemModelOverlay( LocalDateTime start, LocalDateTime end ) throws AppException;
 	
+	/**
+	 * Retorna, dentre os IDs informados, os que existem na tabela de modelos de produto.
+	 */
+	public Set<Integer> findExistingProductModelIds( Collection<Integer> ids ) throws AppException;
+	
+	public Set<Integer> findExistingItemIds( Collection<Integer> ids ) throws AppException;
+	
+	public Set<Integer> findExistingItemModelIds( Collection<Integer> ids ) throws AppException;
+	
+	public Set<Integer> findExistingBrandIds( Collection<Integer> ids ) throws AppException;
+	
+	public Set<Integer> findExistingPartnerIds( Collection<Integer> ids ) throws AppException;
+	
 }
@@ -19,6 +19,8 @@ public interface IPriceListPartnerDAO {
 	
 	public void save( Integer prlId, Integer ptnId ) throws AppException;
 	
+	public void saveAll( Integer prlId, List<Integer> ptnIds ) throws AppException;
+	
 	public void delete( Integer prlId, Integer ptnId  ) throws AppException;
 	
 	public void deleteByPriceList( Integer prlId  ) throws AppException;
@@ -14,9 +14,19 @@ public interface IPriceProductDAO extends IBaseDAO<PriceProduct> {
 	
 	public boolean hasProposalDetailRelationship(Integer ipcId) throws AppException;
 	
+	/**
+	 * Insere os preços em lote, preenchendo o ID gerado de cada um.
+	 */
+	public void saveAll( List<PriceProduct> models ) throws AppException;
+	
 	/**
 	 * Usar a função {@link #find(PriceProduct, Pageable)}
 	 */
 	@Deprecated
-	public Optional<PriceProduct> find( PriceProduct model ) throws AppException; 
+	public Optional<PriceProduct> find( PriceProduct model ) throws AppException;
+
+	/**
+	 * Verifica se já existe um preço para o mesmo modelo na mesma lista, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( PriceProduct model ) throws AppException;
 }
@@ -0,0 +1,20 @@
+package com.portal.dao;
+
+import java.util.List;
+
+import com.portal.dto.form.ModelItemRangeDTO;
+import com.portal.dto.form.PriceRuleDTO;
+import com.portal.dto.form.ResolvedItemPriceDTO;
+import com.portal.exceptions.AppException;
+
+public interface IPriceResolutionDAO {
+
+	public List<PriceRuleDTO> listRules( Integer prlId ) throws AppException;
+	
+	public List<ResolvedItemPriceDTO> listItemPrices( Integer prlId ) throws AppException;
+	
+	public List<Integer> listPricedModels( Integer prlId ) throws AppException;
+	
+	public List<ModelItemRangeDTO> listModelItems( Integer mdlId ) throws AppException;
+	
+}
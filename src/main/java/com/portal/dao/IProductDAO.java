@@ -35,5 +35,9 @@ public interface IProductDAO extends IBaseDAO<Product> {
 	 */
 	@Deprecated
 	public List<Product> search( Product model ) throws AppException;
-	
+
+	/**
+	 * Verifica se já existe um produto com o mesmo nome, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( Product model ) throws AppException;
 }
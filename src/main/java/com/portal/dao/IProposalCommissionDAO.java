@@ -32,5 +32,9 @@ public interface IProposalCommissionDAO extends IBaseDAO<ProposalCommission> {
 	 */
 	@Deprecated
 	public List<ProposalCommission> search( ProposalCommission model ) throws AppException;
-	
+
+	/**
+	 * Verifica se já existe uma comissão do mesmo tipo para a mesma pessoa no detalhe da proposta, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( ProposalCommission model ) throws AppException;
 }
@@ -1,11 +1,14 @@
 package com.portal.dao;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import com.portal.model.VehicleModel;
 import org.springframework.data.domain.Pageable;
 
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.exceptions.AppException;
 import com.portal.model.Proposal;
 import com.portal.model.ProposalFrontForm;
@@ -14,6 +17,8 @@ public interface IProposalDAO extends IBaseDAO<Proposal> {
 	
 	public List<Proposal> listAll( Pageable pageable ) throws AppException;
 	
+	public KeysetPageDTO<Proposal> listAllByKeyset( KeysetRequestDTO request ) throws AppException;
+	
 	public List<Proposal> find( Proposal model, Pageable pageable ) throws AppException;
 	
 	/**
@@ -37,5 +42,29 @@ public interface IProposalDAO extends IBaseDAO<Proposal> {
     List<ProposalFrontForm> getByVehicle(VehicleModel vehicleModel, Pageable defaultPagination) throws AppException;
     
 	public Long getLastProposalNumber() throws AppException;
+	
+	/**
+	 * Data da última alteração da proposta, usada como versão dos relatórios em cache.
+	 */
+	public Optional<LocalDateTime> getUpdateDate( String proposalNumber ) throws AppException;
 
+	/**
+	 * Números das propostas que exibem a pessoa no relatório, como cliente ou como executivo.
+	 */
+	public List<String> listProposalNumbersByPerson( Integer perId ) throws AppException;
+
+	/**
+	 * Números das propostas que exibem o executivo no relatório, como executivo ou venda interna.
+	 */
+	public List<String> listProposalNumbersBySeller( Integer selId ) throws AppException;
+
+	/**
+	 * Números das propostas que exibem o veículo no relatório.
+	 */
+	public List<String> listProposalNumbersByVehicle( Integer vheId ) throws AppException;
+
+	/**
+	 * Verifica se já existe uma proposta com a mesma versão (num e cod), ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( Proposal model ) throws AppException;
 }
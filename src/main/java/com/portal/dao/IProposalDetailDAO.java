@@ -33,5 +33,9 @@ public List<ProposalDetail> listAll( Pageable pageable ) throws AppException;
 	 */
 	@Deprecated
 	public List<ProposalDetail> search( ProposalDetail model ) throws AppException;
-	
+
+	/**
+	 * Verifica se já existe um detalhe para a mesma proposta, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( ProposalDetail model ) throws AppException;
 }
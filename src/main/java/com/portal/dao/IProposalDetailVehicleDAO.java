@@ -35,4 +35,9 @@ public interface IProposalDetailVehicleDAO extends IBaseDAO<ProposalDetailVehicl
 	 */
 	@Deprecated
 	public List<ProposalDetailVehicle> search( ProposalDetailVehicle model ) throws AppException;
+
+	/**
+	 * Verifica se já existe o mesmo veículo no mesmo detalhe da proposta, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( ProposalDetailVehicle model ) throws AppException;
 }
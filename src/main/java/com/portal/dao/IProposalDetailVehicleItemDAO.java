@@ -1,6 +1,8 @@
 package com.portal.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Pageable;
 
@@ -10,4 +12,6 @@ import com.portal.model.ProposalDetailVehicleItem;
 public interface IProposalDetailVehicleItemDAO extends IBaseDAO<ProposalDetailVehicleItem> {
 	
 	public List<ProposalDetailVehicleItem> find( ProposalDetailVehicleItem model, Pageable pageable ) throws AppException;
+	
+	public Map<Integer, Double> sumDiscountByDetailVehicle( Collection<Integer> detailVehicleIds ) throws AppException;
 }
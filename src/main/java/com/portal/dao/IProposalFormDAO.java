@@ -7,6 +7,7 @@ import com.portal.dto.ProposalSearchDTO;
 import com.portal.dto.ProposalSearchRulesDTO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.dto.form.ProductItemFormDTO;
+import com.portal.dto.form.ResolvedItemPriceDTO;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Brand;
@@ -20,7 +21,7 @@ import com.portal.model.Seller;
 
 public interface IProposalFormDAO {
 
-	public List<ProposalFrontForm> getListProposalFrontForm(ProposalSearchDTO dto, Integer proposalDaysLimit, Seller seller, UserProfileDTO userProfile  ) throws AppException;
+	public List<ProposalFrontForm> getListProposalFrontForm(ProposalSearchDTO dto, Integer proposalDaysLimit, ProposalSearchRulesDTO searchRules, UserProfileDTO userProfile  ) throws AppException;
 
 	public List<Partner> getListPartnerByChannel(Integer id) throws AppException;
 	
@@ -38,9 +39,9 @@ public interface IProposalFormDAO {
 	
 	public List<ProposalProduct> getProduct(ProductItemFormDTO productItemFormDTO) throws AppException, BusException;
 	
-	public List<ProposalItemType> getListItemProduct(ProductItemFormDTO productItemFormDTO) throws AppException, BusException;
+	public List<ProposalItemType> getListItemProduct(List<ResolvedItemPriceDTO> prices) throws AppException, BusException;
 
-	public List<ProposalItemModelType> getListItemModelProduct(ProductItemFormDTO productItemFormDTO) throws AppException, BusException;
+	public List<ProposalItemModelType> getListItemModelProduct(List<ResolvedItemPriceDTO> prices) throws AppException, BusException;
 
 	public List<Seller> getlistExecutive() throws AppException;
 
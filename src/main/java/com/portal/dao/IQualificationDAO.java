@@ -1,5 +1,6 @@
 package com.portal.dao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,10 @@ public interface IQualificationDAO extends IBaseDAO<Qualification> {
 	
 	public boolean hasPersonRelationship(Integer qlfId) throws AppException;
 	
+	public boolean hasPersonRelationship(Collection<Integer> qlfIds) throws AppException;
+	
+	public void delete(Collection<Integer> ids) throws AppException;
+	
 	/**
 	 * Usar a função {@link #listAll(Pageable)}
 	 */
@@ -19,9 +19,5 @@ public interface IQualificationTreeDAO {
 	
 	public boolean hasDuplicate( int nodeA, int nodeB ) throws AppException;
 	
-	public List<QualificationTreePathDTO> tree() throws AppException;
-	
-	public List<QualificationTreePathDTO> treeByName( String name ) throws AppException;
-
-	public List<QualificationTreePathDTO> treeByParent(int parentId) throws AppException;
+	public List<QualificationTreePathDTO> listNodes() throws AppException;
 }
@@ -1,10 +1,14 @@
 package com.portal.dao;
 
+import java.util.function.Consumer;
+
 import com.portal.exceptions.AppException;
 import com.portal.model.SaleModel;
 
 public interface ISaleDAO extends IBaseDAO<SaleModel>{
 
 	public Long getTotalRecords(SaleModel model) throws AppException;
+	
+	public void search(SaleModel model, Consumer<SaleModel> consumer) throws AppException;
 
 }
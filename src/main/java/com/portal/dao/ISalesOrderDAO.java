@@ -33,4 +33,16 @@ public interface ISalesOrderDAO extends IBaseDAO<SalesOrder> {
 	public List<SalesOrder> search( SalesOrder model ) throws AppException;
 
 	public  Optional<SalesOrder> findByProposal(Integer id) throws AppException;
+	
+	/**
+	 * Grava a chave da tarefa do JIRA se o pedido ainda estiver aguardando a integração.
+	 * 
+	 * @return true se a chave foi gravada
+	 */
+	public boolean updateJiraKey(Integer id, String jiraKey) throws AppException;
+
+	/**
+	 * Verifica se já existe um pedido de venda para a mesma proposta, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( SalesOrder model ) throws AppException;
 }
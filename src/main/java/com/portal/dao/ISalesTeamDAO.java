@@ -19,4 +19,9 @@ public interface ISalesTeamDAO extends IBaseDAO<SalesTeam> {
     public List<SalesTeam> find(SalesTeam model, Pageable pageable) throws AppException;
 
     List<SalesTeam> searchForm(String searchText, Pageable pageable) throws AppException;
+
+    /**
+     * Verifica se já existe uma célula de venda com o mesmo nome, ignorando o próprio registro na alteração.
+     */
+    public boolean hasDuplicate( SalesTeam model ) throws AppException;
 }
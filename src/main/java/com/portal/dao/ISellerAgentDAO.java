@@ -9,6 +9,10 @@ public interface ISellerAgentDAO  {
 
 	public List<Seller> findBySeller( Integer selId ) throws AppException;
 	
+	public List<Integer> listSellerIdByAgent( Integer agentSelId ) throws AppException;
+	
+	public List<Integer> listAgentIdBySeller( Integer selId ) throws AppException;
+	
 	public void save( Integer selId, Integer selAgentId ) throws AppException;
 	
 	public void delete( Integer selId, Integer selAgentId ) throws AppException;
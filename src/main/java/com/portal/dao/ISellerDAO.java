@@ -20,6 +20,10 @@ public interface ISellerDAO extends IBaseDAO<Seller> {
     public List<Seller> search(Seller model, Pageable pageable) throws AppException;
 
     public Optional<Seller> getByUser(Integer id) throws AppException;
+
+    public Optional<Seller> getReferenceById(Integer id) throws AppException;
+
+    public Optional<Seller> getReferenceByUser(Integer id) throws AppException;
     
     public Integer checkSellerDocument(String text) throws AppException;
 
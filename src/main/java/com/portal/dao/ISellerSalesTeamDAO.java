@@ -12,6 +12,8 @@ public interface ISellerSalesTeamDAO {
 	
 	public List<Seller> findBySalesTeam( Integer sltdId ) throws AppException;
 	
+	public List<Integer> listTeamSellerIdBySeller( Integer selId ) throws AppException;
+	
 	public void save( Integer selId, Integer sltId ) throws AppException;
 	
 	public void delete( Integer selId, Integer sltId  ) throws AppException;
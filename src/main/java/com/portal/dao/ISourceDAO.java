@@ -36,5 +36,8 @@ public interface ISourceDAO extends IBaseDAO<Source> {
 	@Deprecated
 	public List<Source> search( Source model ) throws AppException;
 
-	
+	/**
+	 * Verifica se já existe uma fonte com o mesmo nome, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicate( Source model ) throws AppException;
 }
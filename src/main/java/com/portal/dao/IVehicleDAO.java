@@ -5,6 +5,8 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.exceptions.AppException;
 import com.portal.model.VehicleModel;
 
@@ -12,6 +14,8 @@ public interface IVehicleDAO extends IBaseDAO<VehicleModel> {
 	
 	public List<VehicleModel> listAll(Pageable pageable ) throws AppException;
 	
+	public KeysetPageDTO<VehicleModel> listAllByKeyset( KeysetRequestDTO request ) throws AppException;
+	
 	public List<VehicleModel> find(VehicleModel model, Pageable pageable ) throws AppException;
 	
 	public List<VehicleModel> search(VehicleModel model, Pageable pageable ) throws AppException;
@@ -42,4 +46,14 @@ public interface IVehicleDAO extends IBaseDAO<VehicleModel> {
 	public List<VehicleModel> getByBrand(String brand, Pageable pageReq) throws AppException;
 
 	public Optional<VehicleModel> getByChassi(String chassi) throws AppException;
+
+	/**
+	 * Verifica se já existe um veículo com a mesma placa, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicatePlate( VehicleModel model ) throws AppException;
+
+	/**
+	 * Verifica se já existe um veículo com o mesmo chassi, ignorando o próprio registro na alteração.
+	 */
+	public boolean hasDuplicateChassi( VehicleModel model ) throws AppException;
 }
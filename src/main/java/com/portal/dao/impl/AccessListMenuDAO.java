@@ -1,6 +1,9 @@
 package com.portal.dao.impl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -8,17 +11,19 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Repository;
-import org.springframework.util.CollectionUtils;
 
 import com.portal.config.BaseDAO;
 import com.portal.dao.IAccessListMenuDAO;
 import com.portal.exceptions.AppException;
-import com.portal.mapper.MenuMapper;
 import com.portal.model.AccessListModel;
 import com.portal.model.MenuModel;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Repository
 public class AccessListMenuDAO extends BaseDAO implements IAccessListMenuDAO {
 	
@@ -27,43 +32,30 @@ public class AccessListMenuDAO extends BaseDAO implements IAccessListMenuDAO {
 	@Autowired
 	private MessageSource messageSource;
 	
+	/**
+	 * IDs dos menus de cada lista de acesso, na ordem de exibição (mnu_order). Usado na montagem da árvore de menus em memória.
+	 */
 	@Override
-	public List<MenuModel> listMenuByAccessList(Integer id) throws AppException {
-		List<MenuModel> listReturn = null;
+	public Map<Integer, List<Integer>> listMenuIdsByAccessList() throws AppException {
+		Map<Integer, List<Integer>> mapReturn = new HashMap<>();
 		
 		try {
 			StringBuilder query = new StringBuilder();
-			query.append(" SELECT ");
-			query.append(" 	m.mnu_id, ");
-			query.append(" 	m.name, ");
-			query.append(" 	fnMenu(m.mnu_id) as path, ");
-			query.append(" 	m.url, ");
-			query.append(" 	m.description, ");
-			query.append(" 	m.icon, ");
-			query.append(" 	ifnull(m.root_id,0) as root_id, ");
-			query.append(" 	m.show, ");
-			query.append(" 	cla.cla_id, ");
-			query.append(" 	cla.value as cla_value, ");
-			query.append(" 	cla.type as cla_type ");
-			query.append(" FROM " + schemaName + "menu as m ");
-			query.append(" INNER JOIN " + schemaName + "classifier as cla on m.type_cla = cla.cla_id ");
-			query.append(" INNER JOIN " + schemaName + "access_list_menu as am on m.mnu_id = am.mnu_id ");
-			query.append(" WHERE am.acl_id = :acl_id ");
-			query.append(" ORDER BY am.mnu_order ");
+			query.append(" SELECT am.acl_id, am.mnu_id ");
+			query.append(" FROM " + schemaName + "access_list_menu as am ");
+			query.append(" ORDER BY am.acl_id, am.mnu_order, am.mnu_id ");
 			
-			MapSqlParameterSource params = new MapSqlParameterSource();
-			params.addValue("acl_id", id);
+			log.trace( "[QUERY] accessListMenu.listMenuIdsByAccessList: {} [PARAMS]: {}", query, null );
 			
-			List<MenuModel> users = this.getJdbcTemplatePortal().query( query.toString(), params, new MenuMapper() );
-			if(!CollectionUtils.isEmpty(users)) {
-				listReturn = users;
-			}
+			this.getJdbcTemplatePortal().query( query.toString(), (RowCallbackHandler) rs -> {
+				mapReturn.computeIfAbsent( rs.getInt( "acl_id" ), key -> new ArrayList<>() ).add( rs.getInt( "mnu_id" ) );
+			});
 		} catch( Exception e ) {
 			logger.error(e.getMessage());
 			throw new AppException(this.messageSource.getMessage("error.generic", null, LocaleContextHolder.getLocale()));
 		}
 		
-		return listReturn;
+		return mapReturn;
 	}
 	
 	public Optional<AccessListModel> save(AccessListModel model, MenuModel menu) throws AppException {
@@ -1,6 +1,9 @@
 package com.portal.dao.impl;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -124,6 +127,50 @@ public class AddressDAO extends BaseDAO implements IAddressDAO {
 		return objReturn;
 	}
 
+	/**
+	 * Carrega vários endereços com uma consulta IN por bloco, indexados pelo ID do endereço.
+	 */
+	@Override
+	public Map<Integer, AddressModel> getByIds(Collection<Integer> ids) throws AppException {
+		Map<Integer, AddressModel> addresses = new HashMap<>();
+		try {
+			StringBuilder query = new StringBuilder();
+			query.append( "SELECT " );
+			query.append( "	a.add_id, ");
+			query.append( "	a.street, ");
+			query.append( "	a.number, ");
+			query.append( "	a.district, ");
+			query.append( "	a.complement, ");
+			query.append( "	a.zip_code,");
+			query.append( "	a.latitude, ");
+			query.append( "	a.longitude, ");
+			query.append( "	c.cit_id, ");
+			query.append( "	c.name as nameCity, " );
+			query.append( "	s.ste_id, ");
+			query.append( "	s.name as nameState, " );
+			query.append( "	s.abbreviation as abbrevState, " );
+			query.append( "	co.cou_id, " );
+			query.append( "	co.name as nameCountry, " );
+			query.append( "	co.abbreviation as abbrevCountry " );
+			query.append( "FROM " + schemaName + "address as a ");
+			query.append( "INNER JOIN " + schemaName + "city as c on c.cit_id = a.cit_id " );
+			query.append( "INNER JOIN " + schemaName + "state as s on s.ste_id = c.ste_id " );
+			query.append( "INNER JOIN " + schemaName + "country as co on co.cou_id = s.cou_id " );
+			query.append( "WHERE a.add_id IN (:ids) " );
+
+			logger.trace("[QUERY] address.getByIds: {} [PARAMS]: {}", query, ids );
+
+			this.queryGroupedByIds( query.toString(), ids, new AddressMapper(), AddressModel::getId )
+				.forEach( (id, list) -> addresses.put( id, list.get( 0 ) ) );
+			
+		} catch( Exception e ) {
+			logger.error(e.getMessage());
+			throw new AppException(this.messageSource.getMessage("error.generic", null, LocaleContextHolder.getLocale()));
+		}
+		
+		return addresses;
+	}
+
 	@Override
 	public List<AddressModel> list() throws AppException {
 		List<AddressModel> listReturn = null;
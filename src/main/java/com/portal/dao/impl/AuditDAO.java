@@ -1,18 +1,24 @@
 package com.portal.dao.impl;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
 import com.portal.dao.IAuditDAO;
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.exceptions.AppException;
+import com.portal.mapper.AuditMapper;
 import com.portal.model.AuditModel;
 
 @Repository
@@ -20,6 +26,8 @@ public class AuditDAO extends BaseDAO implements IAuditDAO {
 
 	private static final Logger logger = LoggerFactory.getLogger(AuditDAO.class);	
 	
+	private static final Map<String, String> KEYSET_SORT_COLUMNS = Collections.singletonMap( "date", "log_date" );
+	
 	@Autowired
 	private MessageSource messageSource;
 	
@@ -37,11 +45,54 @@ public class AuditDAO extends BaseDAO implements IAuditDAO {
 			params.addValue("operation", model.getOperation().toString() );
 			params.addValue("details", model.getDetails() );
 			
-			KeyHolder keyHolder = new GeneratedKeyHolder();
-			this.getJdbcTemplatePortal().update( query.toString(), params, keyHolder );
+			this.getJdbcTemplatePortal().update( query.toString(), params );
 		} catch( Exception e ) {
 			logger.error(e.getMessage());
 			throw new AppException(this.messageSource.getMessage("error.generic", null, LocaleContextHolder.getLocale()));
 		}
 	}
+	
+	public void saveAll(List<AuditModel> models) throws AppException {
+		try {
+			if( models == null || models.isEmpty() ) {
+				return;
+			}
+			
+			StringBuilder query = new StringBuilder();
+			query.append("INSERT INTO " + schemaName + "audit ( log_date, ip, hostname, username, operation, details ) ");
+			query.append("VALUES ( :logDate, :ip, :hostname, :username, :operation, :details )");
+			
+			MapSqlParameterSource[] batch = new MapSqlParameterSource[ models.size() ];
+			for( int i = 0; i < models.size(); i++ ) {
+				AuditModel model = models.get( i );
+				batch[ i ] = new MapSqlParameterSource()
+									.addValue("logDate", model.getDate() )
+									.addValue("ip", model.getIp() )
+									.addValue("hostname", model.getHostname() )
+									.addValue("username", model.getUsername() )
+									.addValue("operation", model.getOperation().toString() )
+									.addValue("details", model.getDetails() );
+			}
+			
+			for( int start = 0; start < batch.length; start += BATCH_SIZE ) {
+				this.getJdbcTemplatePortal().batchUpdate( query.toString(), Arrays.copyOfRange( batch, start, Math.min( start + BATCH_SIZE, batch.length ) ) );
+			}
+		} catch( Exception e ) {
+			logger.error(e.getMessage());
+			throw new AppException(this.messageSource.getMessage("error.generic", null, LocaleContextHolder.getLocale()));
+		}
+	}
+	
+	public KeysetPageDTO<AuditModel> listAllByKeyset(KeysetRequestDTO request) throws AppException {
+		try {
+			return this.queryKeyset( "log_id, log_date, ip, hostname, username, operation, details", "FROM " + schemaName + "audit", null, 
+										new MapSqlParameterSource(), request, KEYSET_SORT_COLUMNS, "log_id", new AuditMapper() );
+			
+		} catch( AppException e ) {
+			throw e;
+		} catch( Exception e ) {
+			logger.error( "Erro ao listar os registros de auditoria.", e );
+			throw new AppException( "Erro ao listar os registros de auditoria.", e );
+		}
+	}
 }
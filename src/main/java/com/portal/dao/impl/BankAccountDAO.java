@@ -1,6 +1,8 @@
 package com.portal.dao.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -8,6 +10,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
@@ -147,6 +150,28 @@ public class BankAccountDAO extends BaseDAO implements IBankAccountDAO {
 		}
 	}
 	
+	/**
+	 * Carrega as contas bancárias de várias pessoas com uma consulta IN por bloco, agrupadas pelo ID da pessoa.
+	 */
+	@Override
+	public Map<Integer, List<BankAccount>> findByPersons( Collection<Integer> perIds ) throws AppException {
+		try {
+			String query = "SELECT * " +
+							"FROM bank_account act " +
+							"INNER JOIN bank bnk ON bnk.bnk_id = act.bnk_id " +
+							"WHERE act.per_id IN (:ids) " +
+							"ORDER BY act.act_id DESC ";
+			
+			log.trace( "[QUERY] bankAccount.findByPersons: {} [PARAMS]: {}", query, perIds );
+			
+			return this.queryGroupedByIds( query, perIds, new RowMapperResultSetExtractor<>( new BankAccountMapper() ), account -> account.getPerson().getId() );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao buscar as contas bancárias.", e );
+			throw new AppException( "Erro ao buscar as contas bancárias.", e );
+		}
+	}
+	
 	/**
 	 * @deprecated Usar a função {@link #find(BankAccount, Pageable)}
 	 */
@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IBankDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.BankMapper;
@@ -25,6 +26,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Repository
 public class BankDAO extends BaseDAO implements IBankDAO {
+
+	private static final UniqueKey<Bank> UNIQUE_NAME = UniqueKey.<Bank>of( "bank", "bnk_id", Bank::getId )
+			.column( "name", Bank::getName );
+	private static final UniqueKey<Bank> UNIQUE_CODE = UniqueKey.<Bank>of( "bank", "bnk_id", Bank::getId )
+			.column( "code", Bank::getCode );
 	
 	@Override
 	public List<Bank> listAll(Pageable pageable) throws AppException {
@@ -320,4 +326,14 @@ public class BankDAO extends BaseDAO implements IBankDAO {
 			throw new AppException( "Erro ao verificar a existência de relacionamento com conta bancária.", e );
 		}
 	}
+
+	@Override
+	public boolean hasDuplicateName( Bank model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_NAME, model );
+	}
+
+	@Override
+	public boolean hasDuplicateCode( Bank model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_CODE, model );
+	}
 }
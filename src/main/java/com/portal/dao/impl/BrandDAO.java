@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IBrandDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.BrandMapper;
@@ -26,6 +27,9 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class BrandDAO extends BaseDAO implements IBrandDAO {
 
+	private static final UniqueKey<Brand> UNIQUE_NAME = UniqueKey.<Brand>of( "brand", "brd_id", Brand::getId )
+			.column( "name", Brand::getName );
+
 	@Override
 	public List<Brand> listAll( Pageable pageable ) throws AppException {
 		try {
@@ -357,4 +361,9 @@ public class BrandDAO extends BaseDAO implements IBrandDAO {
 			throw new AppException( "Erro ao verificar a existência de relacionamento com lead.", e );
 		}
 	}
+
+	@Override
+	public boolean hasDuplicate( Brand model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_NAME, model );
+	}
 }
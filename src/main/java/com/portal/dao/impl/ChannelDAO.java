@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IChannelDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.ChannelMapper;
@@ -26,6 +27,9 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class ChannelDAO extends BaseDAO implements IChannelDAO {
 
+	private static final UniqueKey<Channel> UNIQUE_NAME = UniqueKey.<Channel>of( "channel", "chn_id", Channel::getId )
+			.column( "name", Channel::getName );
+
 	@Override
 	public List<Channel> listAll(Pageable pageable) throws AppException {
 		try {
@@ -389,4 +393,9 @@ public class ChannelDAO extends BaseDAO implements IChannelDAO {
 			throw new AppException( "Erro ao consultar o canal.", e );
 		}
 	}
+
+	@Override
+	public boolean hasDuplicate( Channel model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_NAME, model );
+	}
 }
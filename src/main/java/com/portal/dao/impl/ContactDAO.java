@@ -1,6 +1,8 @@
 package com.portal.dao.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -278,4 +280,34 @@ public class ContactDAO extends BaseDAO implements IContactDAO {
 		
 		return list;
 	}
+
+	/**
+	 * Carrega os contatos de várias pessoas com uma consulta IN por bloco, agrupados pelo ID da pessoa.
+	 */
+	@Override
+	public Map<Integer, List<Contact>> findByPersons(Collection<Integer> ids) throws AppException {
+		try {
+			StringBuilder query = new StringBuilder();
+			query.append("SELECT ");
+			query.append(" 	c.cot_id, ");
+			query.append(" 	c.value, ");
+			query.append(" 	c.complement, ");
+			query.append(" 	c.per_id, ");
+			query.append(" 	ct.cla_id, ");
+			query.append(" 	ct.value as cla_value, ");
+			query.append(" 	ct.label as cla_label, ");
+			query.append(" 	ct.type as cla_type ");
+			query.append("FROM contact as c ");
+			query.append("INNER JOIN classifier as ct on c.type_cla = ct.cla_id ");
+			query.append("WHERE c.per_id IN (:ids) ");
+			query.append("ORDER BY c.value ");
+
+			logger.trace("[QUERY] contact.findByPersons: {} [PARAMS]: {}", query, ids );
+
+			return this.queryGroupedByIds(query.toString(), ids, new ContactMapper(), contact -> contact.getPerson().getId());
+		} catch( Exception e ) {
+			logger.error(e.getMessage());
+			throw new AppException(this.messageSource.getMessage("error.generic", null, LocaleContextHolder.getLocale()));
+		}
+	}
 }
@@ -0,0 +1,253 @@
+package com.portal.dao.impl;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.portal.config.BaseDAO;
+import com.portal.dao.IDocumentBlobDAO;
+import com.portal.exceptions.AppException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Controle dos arquivos do armazenamento por conteúdo (document_blob): um registro por SHA-256 com a quantidade de
+ * documentos que apontam para ele.
+ */
+@Slf4j
+@Repository
+public class DocumentBlobDAO extends BaseDAO implements IDocumentBlobDAO {
+
+	/**
+	 * O document.sha256 é a fonte da verdade: o registro do blob só é excluído se nenhum documento aponta para ele,
+	 * mesmo que a contagem esteja zerada.
+	 */
+	private static final String NOT_REFERENCED = "AND NOT EXISTS ( SELECT 1 FROM document d WHERE d.sha256 = document_blob.sha256 )";
+
+	@Override
+	public void addReference( String sha256, long size ) throws AppException {
+		try {
+			String query = "INSERT INTO document_blob (sha256, size, ref_count, create_date) " +
+						   "VALUES ( :sha256, :size, 1, NOW() ) " +
+						   "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "sha256", sha256 );
+			params.addValue( "size", size );
+			
+			log.trace( "[QUERY] documentBlob.addReference: {} [PARAMS]: {}", query, params.getValues() );
+			
+			this.getJdbcTemplatePortal().update( query, params );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao incluir a referência do arquivo: {}", sha256, e );
+			throw new AppException( "Erro ao incluir a referência do arquivo.", e );
+		}
+	}
+	
+	/**
+	 * Remove uma referência e, se era a última e nenhum documento aponta para o hash, exclui o registro do blob.
+	 * 
+	 * @return true se o blob ficou sem referências e o arquivo pode ser excluído
+	 */
+	@Override
+	public boolean removeReference( String sha256 ) throws AppException {
+		try {
+			String query = "UPDATE document_blob SET ref_count = ref_count - 1 WHERE sha256 = :sha256 AND ref_count > 0";
+			String release = "DELETE FROM document_blob WHERE sha256 = :sha256 AND ref_count <= 0 " + NOT_REFERENCED;
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "sha256", sha256 );
+			
+			log.trace( "[QUERY] documentBlob.removeReference: {} [PARAMS]: {}", query, params.getValues() );
+			this.getJdbcTemplatePortal().update( query, params );
+			
+			log.trace( "[QUERY] documentBlob.removeReference: {} [PARAMS]: {}", release, params.getValues() );
+			return this.getJdbcTemplatePortal().update( release, params ) > 0;
+			
+		} catch (Exception e) {
+			log.error( "Erro ao remover a referência do arquivo: {}", sha256, e );
+			throw new AppException( "Erro ao remover a referência do arquivo.", e );
+		}
+	}
+	
+	@Override
+	public boolean exists( String sha256 ) throws AppException {
+		try {
+			String query = "SELECT EXISTS ( SELECT 1 FROM document_blob WHERE sha256 = :sha256 ) AS `exists`";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "sha256", sha256 );
+			
+			log.trace( "[QUERY] documentBlob.exists: {} [PARAMS]: {}", query, params.getValues() );
+			
+			return this.getJdbcTemplatePortal().queryForObject( query, params, (rs, rowNum) -> rs.getBoolean( "exists" ) );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao verificar a existência do arquivo: {}", sha256, e );
+			throw new AppException( "Erro ao verificar a existência do arquivo.", e );
+		}
+	}
+	
+	@Override
+	public Set<String> listExisting( Collection<String> hashes ) throws AppException {
+		Set<String> existing = new HashSet<>();
+		if( hashes == null || hashes.isEmpty() ) {
+			return existing;
+		}
+		
+		try {
+			String query = "SELECT sha256 FROM document_blob WHERE sha256 IN (:hashes)";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "hashes", hashes );
+			
+			log.trace( "[QUERY] documentBlob.listExisting: {} [PARAMS]: {}", query, hashes.size() );
+			
+			this.getJdbcTemplatePortal().query( query, params, rs -> {
+				existing.add( rs.getString( "sha256" ) );
+			} );
+			
+			return existing;
+			
+		} catch (Exception e) {
+			log.error( "Erro ao listar os arquivos cadastrados.", e );
+			throw new AppException( "Erro ao listar os arquivos cadastrados.", e );
+		}
+	}
+	
+	/**
+	 * Lista os hashes em ordem, a partir do hash informado (exclusivo), para percorrer a tabela em páginas.
+	 */
+	@Override
+	public List<String> listHashes( String after, int limit ) throws AppException {
+		try {
+			String query = "SELECT sha256 FROM document_blob WHERE sha256 > :after ORDER BY sha256 LIMIT :limit";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "after", after == null ? "" : after );
+			params.addValue( "limit", limit );
+			
+			log.trace( "[QUERY] documentBlob.listHashes: {} [PARAMS]: {}", query, params.getValues() );
+			
+			return this.getJdbcTemplatePortal().query( query, params, (rs, rowNum) -> rs.getString( "sha256" ) );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao listar os arquivos cadastrados.", e );
+			throw new AppException( "Erro ao listar os arquivos cadastrados.", e );
+		}
+	}
+	
+	/**
+	 * Conta os blobs cuja quantidade de referências diverge dos documentos. A contagem não é corrigida aqui: os
+	 * documentos ainda não confirmados não são visíveis nessa consulta e a correção gravaria um valor menor que o real.
+	 * 
+	 * @return quantidade de blobs com divergência
+	 */
+	@Override
+	public int countMismatchedReferences() throws AppException {
+		try {
+			String query = "SELECT COUNT(*) FROM document_blob b " +
+						   "LEFT JOIN ( SELECT sha256, COUNT(*) AS total FROM document WHERE sha256 IS NOT NULL GROUP BY sha256 ) d ON d.sha256 = b.sha256 " +
+						   "WHERE b.ref_count <> COALESCE( d.total, 0 )";
+			
+			log.trace( "[QUERY] documentBlob.countMismatchedReferences: {}", query );
+			
+			Integer total = this.getJdbcTemplatePortal().queryForObject( query, new MapSqlParameterSource(), Integer.class );
+			return total == null ? 0 : total;
+			
+		} catch (Exception e) {
+			log.error( "Erro ao verificar as referências dos arquivos.", e );
+			throw new AppException( "Erro ao verificar as referências dos arquivos.", e );
+		}
+	}
+	
+	/**
+	 * Lista em ordem os hashes usados por documentos que não têm registro em document_blob, a partir do hash
+	 * informado (exclusivo).
+	 */
+	@Override
+	public List<String> listMissing( String after, int limit ) throws AppException {
+		try {
+			String query = "SELECT DISTINCT d.sha256 FROM document d " +
+						   "WHERE d.sha256 > :after " +
+						   "AND NOT EXISTS ( SELECT 1 FROM document_blob b WHERE b.sha256 = d.sha256 ) " +
+						   "ORDER BY d.sha256 LIMIT :limit";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "after", after == null ? "" : after );
+			params.addValue( "limit", limit );
+			
+			log.trace( "[QUERY] documentBlob.listMissing: {} [PARAMS]: {}", query, params.getValues() );
+			
+			return this.getJdbcTemplatePortal().query( query, params, (rs, rowNum) -> rs.getString( "sha256" ) );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao listar os arquivos sem registro.", e );
+			throw new AppException( "Erro ao listar os arquivos sem registro.", e );
+		}
+	}
+	
+	/**
+	 * Recria o registro de um blob usado por documentos, com a contagem dos documentos confirmados. Se o registro já
+	 * existir (ex.: incluído por um upload concorrente) nada é alterado.
+	 */
+	@Override
+	public void restoreReference( String sha256, long size ) throws AppException {
+		try {
+			String query = "INSERT INTO document_blob (sha256, size, ref_count, create_date) " +
+						   "SELECT :sha256, :size, COUNT(*), NOW() FROM document WHERE sha256 = :sha256 " +
+						   "ON DUPLICATE KEY UPDATE ref_count = document_blob.ref_count";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "sha256", sha256 );
+			params.addValue( "size", size );
+			
+			log.trace( "[QUERY] documentBlob.restoreReference: {} [PARAMS]: {}", query, params.getValues() );
+			
+			this.getJdbcTemplatePortal().update( query, params );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao recriar o registro do arquivo: {}", sha256, e );
+			throw new AppException( "Erro ao recriar o registro do arquivo.", e );
+		}
+	}
+	
+	@Override
+	public List<String> listUnreferenced() throws AppException {
+		try {
+			String query = "SELECT sha256 FROM document_blob WHERE ref_count <= 0 " + NOT_REFERENCED;
+			
+			log.trace( "[QUERY] documentBlob.listUnreferenced: {}", query );
+			
+			return this.getJdbcTemplatePortal().query( query, new MapSqlParameterSource(), (rs, rowNum) -> rs.getString( "sha256" ) );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao listar os arquivos sem referência.", e );
+			throw new AppException( "Erro ao listar os arquivos sem referência.", e );
+		}
+	}
+	
+	@Override
+	public void delete( String sha256 ) throws AppException {
+		try {
+			String query = "DELETE FROM document_blob WHERE sha256 = :sha256 AND ref_count <= 0 " + NOT_REFERENCED;
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "sha256", sha256 );
+			
+			log.trace( "[QUERY] documentBlob.delete: {} [PARAMS]: {}", query, params.getValues() );
+			
+			this.getJdbcTemplatePortal().update( query, params );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao excluir o registro do arquivo: {}", sha256, e );
+			throw new AppException( "Erro ao excluir o registro do arquivo.", e );
+		}
+	}
+	
+}
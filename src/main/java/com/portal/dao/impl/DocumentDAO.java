@@ -315,14 +315,15 @@ public class DocumentDAO extends BaseDAO implements IDocumentDAO {
 	@Override
 	public Optional<Document> save(Document model) throws AppException {
 		try {
-			String query = "INSERT INTO document (doc_id, file_name, content_type, description, file_path, create_date, usr_id, type_cla_id) " +
-					 	   "VALUES ( NULL, :fileName, :contentType, :description, :filePath, :createDate, :usrId, :typeId ) ";
+			String query = "INSERT INTO document (doc_id, file_name, content_type, description, file_path, sha256, create_date, usr_id, type_cla_id) " +
+					 	   "VALUES ( NULL, :fileName, :contentType, :description, :filePath, :sha256, :createDate, :usrId, :typeId ) ";
 			
 			MapSqlParameterSource params = new MapSqlParameterSource();
 			params.addValue( "fileName", model.getFileName() );
 			params.addValue( "contentType", model.getContentType() );
 			params.addValue( "description", model.getDescription() );
 			params.addValue( "filePath", model.getFilePath() );
+			params.addValue( "sha256", model.getSha256() );
 			params.addValue( "createDate", PortalTimeUtils.localDateTimeFormat( model.getCreateDate(), "yyyy-MM-dd HH:mm:ss" ) );
 			params.addValue( "usrId", ( model.getUser() == null ? null : model.getUser().getId() ) );
 			params.addValue( "typeId", model.getType().getId() );
@@ -412,4 +413,94 @@ public class DocumentDAO extends BaseDAO implements IDocumentDAO {
 			throw new AppException( "Erro ao verificar a existência de relacionamento com a proposta.", e );
 		}
 	}
+
+	/**
+	 * Lista os documentos gravados antes do armazenamento por conteúdo (sem hash), em ordem de ID a partir do ID
+	 * informado (exclusivo).
+	 */
+	@Override
+	public List<Document> listWithoutHash( Integer afterId, int limit ) throws AppException {
+		try {
+			String query = "SELECT doc.*, " +
+							"c.cla_id, " +
+							"c.value as cla_value, " +
+							"c.type as cla_type, " +
+							"c.label as cla_label, " + 
+							"NULL AS name " + 
+							"FROM document doc " +
+							"INNER JOIN classifier c on doc.type_cla_id = c.cla_id " +
+							"WHERE doc.sha256 IS NULL " +
+							"AND doc.doc_id > :afterId " +
+							"ORDER BY doc.doc_id " +
+							"LIMIT :limit";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "afterId", afterId == null ? 0 : afterId );
+			params.addValue( "limit", limit );
+
+			log.trace( "[QUERY] document.listWithoutHash: {} [PARAMS]: {}", query, params.getValues() );
+
+			return this.getJdbcTemplatePortal().query( query, params, new DocumentMapper() );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao listar os documentos sem hash.", e );
+			throw new AppException( "Erro ao listar os documentos sem hash.", e );
+		}
+	}
+	
+	@Override
+	public void updateStorage( Integer id, String filePath, String sha256 ) throws AppException {
+		try {
+			String query = "UPDATE document SET file_path = :filePath, sha256 = :sha256 WHERE doc_id = :id";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "id", id );
+			params.addValue( "filePath", filePath );
+			params.addValue( "sha256", sha256 );
+
+			log.trace( "[QUERY] document.updateStorage: {} [PARAMS]: {}", query, params.getValues() );
+
+			this.getJdbcTemplatePortal().update( query, params );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao atualizar o armazenamento do documento: {}", id, e );
+			throw new AppException( "Erro ao atualizar o armazenamento do documento.", e );
+		}
+	}
+	
+	@Override
+	public boolean hasFilePath( String filePath ) throws AppException {
+		try {
+			String query = "SELECT EXISTS ( SELECT 1 FROM document WHERE file_path = :filePath ) AS `exists`";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "filePath", filePath );
+
+			log.trace( "[QUERY] document.hasFilePath: {} [PARAMS]: {}", query, params.getValues() );
+
+			return this.getJdbcTemplatePortal().queryForObject( query, params, (rs, rowNum) -> rs.getBoolean( "exists" ) );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao verificar o uso do arquivo: {}", filePath, e );
+			throw new AppException( "Erro ao verificar o uso do arquivo.", e );
+		}
+	}
+	
+	@Override
+	public boolean hasSha256( String sha256 ) throws AppException {
+		try {
+			String query = "SELECT EXISTS ( SELECT 1 FROM document WHERE sha256 = :sha256 ) AS `exists`";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "sha256", sha256 );
+
+			log.trace( "[QUERY] document.hasSha256: {} [PARAMS]: {}", query, params.getValues() );
+
+			return this.getJdbcTemplatePortal().queryForObject( query, params, (rs, rowNum) -> rs.getBoolean( "exists" ) );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao verificar o uso do arquivo: {}", sha256, e );
+			throw new AppException( "Erro ao verificar o uso do arquivo.", e );
+		}
+	}
 }
@@ -0,0 +1,207 @@
+package com.portal.dao.impl;
+
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.portal.config.BaseDAO;
+import com.portal.dao.IIntegrationOutboxDAO;
+import com.portal.dto.IntegrationOutboxStatsDTO;
+import com.portal.enums.IntegrationOutboxStatus;
+import com.portal.exceptions.AppException;
+import com.portal.mapper.IntegrationOutboxMapper;
+import com.portal.model.IntegrationOutbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fila de integrações com sistemas externos (integration_outbox). As datas de controle usam o relógio do banco para
+ * que várias instâncias do sistema concordem sobre quando um registro está disponível.
+ */
+@Slf4j
+@Repository
+public class IntegrationOutboxDAO extends BaseDAO implements IIntegrationOutboxDAO {
+
+	private static final int ERROR_MAX_LENGTH = 1000;
+
+	/**
+	 * Grava o registro se a chave de idempotência ainda não existir.
+	 * 
+	 * @return true se o registro foi incluído, false se já existia
+	 */
+	@Override
+	public boolean enqueue( IntegrationOutbox model ) throws AppException {
+		try {
+			String query = "INSERT IGNORE INTO integration_outbox (type, idempotency_key, aggregate_id, payload, status, attempts, next_attempt_date, create_date) " +
+						   "VALUES ( :type, :idempotencyKey, :aggregateId, :payload, :status, 0, NOW(), NOW() )";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "type", model.getType() );
+			params.addValue( "idempotencyKey", model.getIdempotencyKey() );
+			params.addValue( "aggregateId", model.getAggregateId() );
+			params.addValue( "payload", model.getPayload() );
+			params.addValue( "status", IntegrationOutboxStatus.PENDING.name() );
+			
+			log.trace( "[QUERY] integrationOutbox.enqueue: {} [PARAMS]: {}", query, params.getValues() );
+			
+			return this.getJdbcTemplatePortal().update( query, params ) > 0;
+			
+		} catch (Exception e) {
+			log.error( "Erro ao incluir o registro de integração: {}", model, e );
+			throw new AppException( "Erro ao incluir o registro de integração.", e );
+		}
+	}
+	
+	/**
+	 * Registros prontos para envio: pendentes cuja próxima tentativa já venceu e reservados cuja reserva expirou
+	 * (dispatcher interrompido no meio do envio).
+	 */
+	@Override
+	public List<IntegrationOutbox> listReady( int limit ) throws AppException {
+		try {
+			String query = "SELECT * FROM integration_outbox " +
+						   "WHERE ( status = :pending AND next_attempt_date <= NOW() ) " +
+						   "OR ( status = :processing AND locked_until < NOW() ) " +
+						   "ORDER BY next_attempt_date, iob_id " +
+						   "LIMIT :limit";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "pending", IntegrationOutboxStatus.PENDING.name() );
+			params.addValue( "processing", IntegrationOutboxStatus.PROCESSING.name() );
+			params.addValue( "limit", limit );
+			
+			log.trace( "[QUERY] integrationOutbox.listReady: {} [PARAMS]: {}", query, params.getValues() );
+			
+			return this.getJdbcTemplatePortal().query( query, params, new IntegrationOutboxMapper() );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao listar os registros de integração pendentes.", e );
+			throw new AppException( "Erro ao listar os registros de integração pendentes.", e );
+		}
+	}
+	
+	/**
+	 * Reserva o registro para envio, contando a tentativa. A condição do UPDATE garante que só um dispatcher consiga
+	 * reservar o mesmo registro.
+	 * 
+	 * @return true se o registro foi reservado
+	 */
+	@Override
+	public boolean claim( Integer id, long lockSeconds ) throws AppException {
+		try {
+			String query = "UPDATE integration_outbox SET status = :processing, attempts = attempts + 1, locked_until = NOW() + INTERVAL :lockSeconds SECOND " +
+						   "WHERE iob_id = :id " +
+						   "AND ( ( status = :pending AND next_attempt_date <= NOW() ) OR ( status = :processing AND locked_until < NOW() ) )";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "id", id );
+			params.addValue( "lockSeconds", lockSeconds );
+			params.addValue( "pending", IntegrationOutboxStatus.PENDING.name() );
+			params.addValue( "processing", IntegrationOutboxStatus.PROCESSING.name() );
+			
+			log.trace( "[QUERY] integrationOutbox.claim: {} [PARAMS]: {}", query, params.getValues() );
+			
+			return this.getJdbcTemplatePortal().update( query, params ) > 0;
+			
+		} catch (Exception e) {
+			log.error( "Erro ao reservar o registro de integração: {}", id, e );
+			throw new AppException( "Erro ao reservar o registro de integração.", e );
+		}
+	}
+	
+	@Override
+	public void markDone( Integer id, String result ) throws AppException {
+		try {
+			String query = "UPDATE integration_outbox SET status = :status, result = :result, last_error = NULL, locked_until = NULL, processed_date = NOW() " +
+						   "WHERE iob_id = :id";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "id", id );
+			params.addValue( "status", IntegrationOutboxStatus.DONE.name() );
+			params.addValue( "result", result );
+			
+			log.trace( "[QUERY] integrationOutbox.markDone: {} [PARAMS]: {}", query, params.getValues() );
+			
+			this.getJdbcTemplatePortal().update( query, params );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao concluir o registro de integração: {}", id, e );
+			throw new AppException( "Erro ao concluir o registro de integração.", e );
+		}
+	}
+	
+	@Override
+	public void markRetry( Integer id, String error, long delaySeconds ) throws AppException {
+		try {
+			String query = "UPDATE integration_outbox SET status = :status, last_error = :error, locked_until = NULL, next_attempt_date = NOW() + INTERVAL :delaySeconds SECOND " +
+						   "WHERE iob_id = :id";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "id", id );
+			params.addValue( "status", IntegrationOutboxStatus.PENDING.name() );
+			params.addValue( "error", StringUtils.abbreviate( error, ERROR_MAX_LENGTH ) );
+			params.addValue( "delaySeconds", delaySeconds );
+			
+			log.trace( "[QUERY] integrationOutbox.markRetry: {} [PARAMS]: {}", query, params.getValues() );
+			
+			this.getJdbcTemplatePortal().update( query, params );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao reagendar o registro de integração: {}", id, e );
+			throw new AppException( "Erro ao reagendar o registro de integração.", e );
+		}
+	}
+	
+	@Override
+	public void markFailed( Integer id, String error ) throws AppException {
+		try {
+			String query = "UPDATE integration_outbox SET status = :status, last_error = :error, locked_until = NULL, processed_date = NOW() " +
+						   "WHERE iob_id = :id";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "id", id );
+			params.addValue( "status", IntegrationOutboxStatus.FAILED.name() );
+			params.addValue( "error", StringUtils.abbreviate( error, ERROR_MAX_LENGTH ) );
+			
+			log.trace( "[QUERY] integrationOutbox.markFailed: {} [PARAMS]: {}", query, params.getValues() );
+			
+			this.getJdbcTemplatePortal().update( query, params );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao marcar a falha do registro de integração: {}", id, e );
+			throw new AppException( "Erro ao marcar a falha do registro de integração.", e );
+		}
+	}
+	
+	@Override
+	public IntegrationOutboxStatsDTO getStats() throws AppException {
+		try {
+			String query = "SELECT " +
+						   "	SUM( CASE WHEN status IN ( :pending, :processing ) THEN 1 ELSE 0 END ) AS pending, " +
+						   "	SUM( CASE WHEN status = :failed THEN 1 ELSE 0 END ) AS failed, " +
+						   "	COALESCE( TIMESTAMPDIFF( SECOND, MIN( CASE WHEN status IN ( :pending, :processing ) THEN create_date END ), NOW() ), 0 ) AS lag_seconds " +
+						   "FROM integration_outbox " +
+						   "WHERE status IN ( :pending, :processing, :failed )";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "pending", IntegrationOutboxStatus.PENDING.name() );
+			params.addValue( "processing", IntegrationOutboxStatus.PROCESSING.name() );
+			params.addValue( "failed", IntegrationOutboxStatus.FAILED.name() );
+			
+			log.trace( "[QUERY] integrationOutbox.getStats: {} [PARAMS]: {}", query, params.getValues() );
+			
+			return this.getJdbcTemplatePortal().queryForObject( query, params, (rs, rowNum) -> IntegrationOutboxStatsDTO.builder()
+																												.pending( rs.getLong( "pending" ) )
+																												.failed( rs.getLong( "failed" ) )
+																												.lagSeconds( rs.getLong( "lag_seconds" ) )
+																												.build() );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao consultar a situação da fila de integração.", e );
+			throw new AppException( "Erro ao consultar a situação da fila de integração.", e );
+		}
+	}
+	
+}
@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IItemDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.ItemMapper;
@@ -26,6 +27,9 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class ItemDAO extends BaseDAO implements IItemDAO {
 
+	private static final UniqueKey<Item> UNIQUE_NAME = UniqueKey.<Item>of( "item", "itm_id", Item::getId )
+			.column( "name", Item::getName );
+
 	@Override
 	public List<Item> listAll(Pageable pageable) throws AppException {
 		try {
@@ -556,4 +560,9 @@ public class ItemDAO extends BaseDAO implements IItemDAO {
 		}
 		
 	}
+
+	@Override
+	public boolean hasDuplicate( Item model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_NAME, model );
+	}
 }
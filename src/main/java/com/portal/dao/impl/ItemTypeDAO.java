@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IItemTypeDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.ItemTypeMapper;
@@ -26,6 +27,9 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class ItemTypeDAO extends BaseDAO implements IItemTypeDAO {
 
+	private static final UniqueKey<ItemType> UNIQUE_NAME = UniqueKey.<ItemType>of( "item_type", "itt_id", ItemType::getId )
+			.column( "name", ItemType::getName );
+
 	@Override
 	public List<ItemType> listAll(Pageable pageable) throws AppException {
 		try {
@@ -335,4 +339,9 @@ public class ItemTypeDAO extends BaseDAO implements IItemTypeDAO {
 			throw new AppException( "Erro ao verificar a existência de relacionamento com item.", e );
 		}
 	}
+
+	@Override
+	public boolean hasDuplicate( ItemType model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_NAME, model );
+	}
 }
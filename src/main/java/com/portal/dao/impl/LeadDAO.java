@@ -1,6 +1,8 @@
 package com.portal.dao.impl;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -15,6 +17,8 @@ import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
 import com.portal.dao.ILeadDAO;
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.LeadMapper;
 import com.portal.model.Lead;
@@ -26,6 +30,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Repository
 public class LeadDAO extends BaseDAO implements ILeadDAO {
+	
+	private static final Map<String, String> KEYSET_SORT_COLUMNS = Collections.singletonMap( "createDate", "led.create_date" );
 
 	@Override
 	public List<Lead> listAll(Pageable pageable) throws AppException {
@@ -68,6 +74,36 @@ public class LeadDAO extends BaseDAO implements ILeadDAO {
 		}
 	}
 
+	@Override
+	public KeysetPageDTO<Lead> listAllByKeyset( KeysetRequestDTO request ) throws AppException {
+		try {
+			String select = "led.*, " +
+							"src.name AS source_name, " +
+							"src.active AS source_active, " +
+							"mdl.mdl_id AS mdl_id, " +
+							"mdl.name AS model_name, " +
+							"brd.brd_id AS brand_id, " +
+							"brd.name AS brand_name, " +
+							"per.per_id AS seller_per_id, " +
+							"per.name AS seller_name";
+			
+			String from = 	"FROM " + schemaName + "lead led " +
+							"INNER JOIN " + schemaName + "seller sel ON sel.sel_id = led.seller_id " +
+							"INNER JOIN " + schemaName + "source src ON src.src_id = led.src_id " +
+							"INNER JOIN " + schemaName + "model mdl ON mdl.mdl_id = led.mdl_id " +
+							"INNER JOIN " + schemaName + "brand brd ON brd.brd_id = mdl.brd_id " +
+							"INNER JOIN " + schemaName + "person per ON per.per_id = sel.per_id";
+			
+			return this.queryKeyset( select, from, null, new MapSqlParameterSource(), request, KEYSET_SORT_COLUMNS, "led.led_id", new LeadMapper() );
+			
+		} catch (AppException e) {
+			throw e;
+		} catch (Exception e) {
+			log.error( "Erro ao listar os leads.", e );
+			throw new AppException( "Erro ao listar os leads.", e );
+		}
+	}
+
 	/**
 	 * @deprecated Usar a função {@link #listAll(Pageable)}
 	 */
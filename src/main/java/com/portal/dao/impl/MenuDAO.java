@@ -16,7 +16,6 @@ import org.springframework.util.CollectionUtils;
 
 import com.portal.config.BaseDAO;
 import com.portal.dao.IMenuDAO;
-import com.portal.enums.MenuType;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.MenuMapper;
 import com.portal.model.MenuModel;
@@ -40,7 +39,6 @@ public class MenuDAO extends BaseDAO implements IMenuDAO {
 			query.append(" SELECT ");
 			query.append(" 	m.mnu_id, ");
 			query.append(" 	m.name, ");
-			query.append(" 	fnMenu(m.mnu_id) as path, ");
 			query.append(" 	m.url, ");
 			query.append(" 	m.description, ");
 			query.append(" 	m.icon, ");
@@ -114,7 +112,6 @@ public class MenuDAO extends BaseDAO implements IMenuDAO {
 			query.append(" SELECT ");
 			query.append(" 	m.mnu_id, ");
 			query.append(" 	m.name, ");
-			query.append(" 	fnMenu(m.mnu_id) as path, ");
 			query.append(" 	m.url, ");
 			query.append(" 	m.description, ");
 			query.append(" 	m.icon, ");
@@ -151,7 +148,6 @@ public class MenuDAO extends BaseDAO implements IMenuDAO {
 			query.append(" SELECT ");
 			query.append(" 	m.mnu_id, ");
 			query.append(" 	m.name, ");
-			query.append(" 	fnMenu(m.mnu_id) as path, ");
 			query.append(" 	m.url, ");
 			query.append(" 	m.description, ");
 			query.append(" 	m.icon, ");
@@ -186,7 +182,6 @@ public class MenuDAO extends BaseDAO implements IMenuDAO {
 			query.append(" SELECT ");
 			query.append(" 	m.mnu_id, ");
 			query.append(" 	m.name, ");
-			query.append(" 	fnMenu(m.mnu_id) as path, ");
 			query.append(" 	m.url, ");
 			query.append(" 	m.description, ");
 			query.append(" 	m.icon, ");
@@ -341,306 +336,6 @@ public class MenuDAO extends BaseDAO implements IMenuDAO {
 		}
 	}
 	
-	/**
-	 * Lista os menus por usuário
-	 * @param usrId
-	 * @return Lista de menus
-	 * @throws AppException
-	 */
-	@Override
-	public List<MenuModel> listByUser( Integer usrId ) throws AppException {
-		List<MenuModel> list = null;
-		
-		StringBuilder query = new StringBuilder();
-		query.append("SELECT ");
-		query.append(" 	m.mnu_id, ");
-		query.append(" 	m.name, ");
-		query.append(" 	fnMenu(m.mnu_id) as path, ");
-		query.append(" 	m.url, ");
-		query.append(" 	m.description, ");
-		query.append(" 	m.icon, ");
-		query.append(" 	m.root_id, ");
-		query.append("  m.show, ");
-		query.append(" 	mt.cla_id, ");
-		query.append(" 	mt.value as cla_value, ");
-		query.append(" 	mt.type as cla_type ");
-		query.append("FROM " + schemaName + "menu as m ");
-		query.append("INNER JOIN " + schemaName + "classifier as mt ON m.type_cla = mt.cla_id ");
-		query.append("LEFT JOIN " + schemaName + "access_list_menu as alm ON ( m.mnu_id = alm.mnu_id ) ");
-		query.append("LEFT JOIN " + schemaName + "user as u ON ( u.acl_id = alm.acl_id ) ");
-		query.append("WHERE u.usr_id = :usrId ");
-		query.append("ORDER BY alm.mnu_order ASC ");
-		
-		MapSqlParameterSource params = new MapSqlParameterSource();
-		params.addValue( "usrId", usrId );
-		
-		try {
-			list = this.getJdbcTemplatePortal().query( query.toString(), params, new MenuMapper() );
-		} catch( Exception e ) {
-			logger.error(e.getMessage());
-			throw new AppException(this.messageSource.getMessage("error.generic", null, LocaleContextHolder.getLocale()));
-		}
-		
-		return list;
-	}
-	
-	/**
-	 * Lista os menus por usuário
-	 * @param usrId
-	 * @return Lista de menus
-	 * @throws AppException
-	 */
-	@Override
-	public List<MenuModel> list( Integer usrId ) throws AppException {
-		List<MenuModel> list = null;
-		
-		StringBuilder query = new StringBuilder();
-		query.append("SELECT ");
-		query.append(" 	m.mnu_id, ");
-		query.append(" 	m.name, ");
-		query.append(" 	fnMenu(m.mnu_id) as path, ");
-		query.append(" 	m.url, ");
-		query.append(" 	m.description, ");
-		query.append(" 	m.icon, ");
-		query.append(" 	m.root_id, ");
-		query.append("  m.show, ");
-		query.append(" 	mt.cla_id, ");
-		query.append(" 	mt.value as cla_value, ");
-		query.append(" 	mt.type as cla_type ");
-		query.append("FROM " + schemaName + "menu as m ");
-		query.append("INNER JOIN " + schemaName + "classifier as mt ON m.type_cla = mt.cla_id ");
-		query.append("LEFT JOIN " + schemaName + "access_list_menu as alm ON ( m.mnu_id = alm.mnu_id ) ");
-		query.append("LEFT JOIN " + schemaName + "user as u ON ( u.acl_id = alm.acl_id ) ");
-		query.append("WHERE u.usr_id = :usrId ");
-		query.append("ORDER BY alm.mnu_order ASC ");
-		
-		MapSqlParameterSource params = new MapSqlParameterSource();
-		params.addValue( "usrId", usrId );
-		try {
-			list = this.getJdbcTemplatePortal().query( query.toString(), params, new MenuMapper() );
-		} catch( Exception e ) {
-			logger.error(e.getMessage());
-			throw new AppException(this.messageSource.getMessage("error.generic", null, LocaleContextHolder.getLocale()));
-		}
-		
-		return list;
-	}
-	
-	/**
-	 * Lista os menus por tipo
-	 * @param type
-	 * @return Lista de menus
-	 * @throws AppException
-	 */
-	@Override
-	public List<MenuModel> list( MenuType type ) throws AppException {
-		List<MenuModel> menus = null;
-		
-		try {
-			StringBuilder query = new StringBuilder();
-			query.append( "SELECT " );
-			query.append(" 	m.mnu_id, ");
-			query.append(" 	m.name, ");
-			query.append(" 	fnMenu(m.mnu_id) as path, ");
-			query.append(" 	m.url, ");
-			query.append(" 	m.description, ");
-			query.append(" 	m.icon, ");
-			query.append(" 	m.root_id, ");
-			query.append("  m.show, ");
-			query.append(" 	mt.cla_id, ");
-			query.append(" 	mt.value as cla_value, ");
-			query.append(" 	mt.type as cla_type ");
-			query.append( "FROM " + schemaName + "menu m " );	
-			query.append(" INNER JOIN " + schemaName + "classifier as mt ON m.type_cla = mt.cla_id ");
-			query.append( "WHERE m.mnu_id = :type " );
-			
-			MapSqlParameterSource params = new MapSqlParameterSource();
-			params.addValue("type", type.getType().getId());
-			
-			menus = this.getJdbcTemplatePortal().query( query.toString(), params, new MenuMapper() );
-		} catch( Exception e ) {
-			logger.error(e.getMessage());
-			throw new AppException(this.messageSource.getMessage("error.generic", null, LocaleContextHolder.getLocale()));
-		}
-
-		return menus;
-	}
-	
-	/**
-	 * Lista os menus por tipo e usuário
-	 * @param type
-	 * @param usrId
-	 * @return Lista de menus
-	 * @throws AppException
-	 */
-	@Override
-	public List<MenuModel> list( MenuType type, Integer usrId ) throws AppException {
-		List<MenuModel> list = null;
-		
-		StringBuilder query = new StringBuilder();
-		query.append("SELECT ");
-		query.append(" 	m.mnu_id, ");
-		query.append(" 	m.name, ");
-		query.append(" 	fnMenu(m.mnu_id) as path, ");
-		query.append(" 	m.url, ");
-		query.append(" 	m.description, ");
-		query.append(" 	m.icon, ");
-		query.append(" 	m.root_id, ");
-		query.append("  m.show, ");
-		query.append(" 	mt.cla_id, ");
-		query.append(" 	mt.value as cla_value, ");
-		query.append(" 	mt.type as cla_type ");
-		query.append("FROM " + schemaName + "menu as m ");
-		query.append("INNER JOIN " + schemaName + "classifier as mt ON m.type_cla = mt.cla_id ");
-		query.append("INNER JOIN " + schemaName + "access_list_menu as alm ON ( m.mnu_id = alm.mnu_id ) ");
-		query.append("INNER JOIN " + schemaName + "user as u ON ( u.acl_id = alm.acl_id ) ");
-		query.append("WHERE m.type_cla = :type ");
-		query.append("AND u.usr_id = :usrId ");
-		query.append("ORDER BY alm.mnu_order, m.mnu_id ASC ");
-		
-		MapSqlParameterSource params = new MapSqlParameterSource();
-		params.addValue( "usrId", usrId );
-		params.addValue( "type", type.getType().getId());
-		
-		try {
-			list = this.getJdbcTemplatePortal().query( query.toString(), params, new MenuMapper() );
-		} catch( Exception e ) {
-			logger.error(e.getMessage());
-			throw new AppException(this.messageSource.getMessage("error.generic", null, LocaleContextHolder.getLocale()));
-		}
-		
-		return list;
-	}
-	
-	
-	/**
-	 * Lista os itens raiz do menu
-	 * @return Lista de menus
-	 * @throws AppException
-	 */
-	@Override
-	public List<MenuModel> listRoots() throws AppException {
-		List<MenuModel> list = null;
-		
-		try {
-			StringBuilder query = new StringBuilder();
-			query.append("SELECT ");
-			query.append(" 	m.mnu_id, ");
-			query.append(" 	m.name, ");
-			query.append(" 	fnMenu(m.mnu_id) as path, ");
-			query.append(" 	m.url, ");
-			query.append(" 	m.description, ");
-			query.append(" 	m.icon, ");
-			query.append(" 	m.root_id, ");
-			query.append("  m.show, ");
-			query.append(" 	mt.cla_id, ");
-			query.append(" 	mt.value as cla_value, ");
-			query.append(" 	mt.type as cla_type ");
-			query.append("FROM " + schemaName + "menu as m ");
-			query.append("INNER JOIN " + schemaName + "classifier as mt ON m.type_cla = mt.cla_id ");
-			query.append("WHERE m.root_id IS NULL ");
-			
-			list = this.getJdbcTemplate().query( query.toString(), new MenuMapper() );
-		} catch( Exception e ) {
-			logger.error(e.getMessage());
-			throw new AppException(this.messageSource.getMessage("error.generic", null, LocaleContextHolder.getLocale()));
-		}
-		
-		return list;
-	}
-	
-	/**
-	 * Lista os itens de raiz do menu principal (sem os menus de configurações)
-	 * @param usrId
-	 * @return Lista de menus
-	 * @throws AppException
-	 */
-	@Override
-	public List<MenuModel> listRoots(Integer usrId) throws AppException {
-		List<MenuModel> list = null;
-		
-		StringBuilder query = new StringBuilder();
-		query.append("SELECT ");
-		query.append(" 	m.mnu_id, ");
-		query.append(" 	m.name, ");
-		query.append(" 	fnMenu(m.mnu_id) as path, ");
-		query.append(" 	m.url, ");
-		query.append(" 	m.description, ");
-		query.append(" 	m.icon, ");
-		query.append(" 	m.root_id, ");
-		query.append("  m.show, ");
-		query.append(" 	mt.cla_id, ");
-		query.append(" 	mt.value as cla_value, ");
-		query.append(" 	mt.type as cla_type ");
-		query.append("FROM " + schemaName + "menu as m ");
-		query.append("INNER JOIN " + schemaName + "classifier as mt ON m.type_cla = mt.cla_id ");
-		query.append("INNER JOIN " + schemaName + "access_list_menu as alm ON (alm.mnu_id = m.mnu_id) ");
-		query.append("INNER JOIN " + schemaName + "user as u ON ( u.acl_id = alm.acl_id ) ");
-		query.append("WHERE m.type_cla = :type ");
-		query.append("AND m.root_id is null ");
-		query.append("AND u.usr_id = :usrId ");
-		query.append("ORDER BY alm.mnu_order, m.mnu_id ASC ");
-		
-		MapSqlParameterSource params = new MapSqlParameterSource();
-		params.addValue( "type", MenuType.PORTAL_PRODUCT.getType().getId() );
-		params.addValue( "usrId", usrId );
-		
-		try {
-			list = this.getJdbcTemplatePortal().query( query.toString(), params, new MenuMapper() );
-		} catch( Exception e ) {
-			logger.error(e.getMessage());
-			throw new AppException(this.messageSource.getMessage("error.generic", null, LocaleContextHolder.getLocale()));
-		}
-	
-		return list;
-	}
-	
-	/**
-	 * Lista os sub-itens do menu princial (sem os menus de configurações)
-	 * @param usrId
-	 * @return Lista de menus
-	 * @throws AppException
-	 */
-	@Override
-	public List<MenuModel> listSub(Integer usrId) throws AppException {
-		List<MenuModel> list = null;
-		
-		StringBuilder query = new StringBuilder();
-		query.append("SELECT ");
-		query.append(" 	m.mnu_id, ");
-		query.append(" 	m.name, ");
-		query.append(" 	fnMenu(m.mnu_id) as path, ");
-		query.append(" 	m.url, ");
-		query.append(" 	m.description, ");
-		query.append(" 	m.icon, ");
-		query.append(" 	m.root_id, ");
-		query.append("  m.show, ");
-		query.append(" 	mt.cla_id, ");
-		query.append(" 	mt.value as cla_value, ");
-		query.append(" 	mt.type as cla_type ");
-		query.append("FROM " + schemaName + "menu as m ");
-		query.append("INNER JOIN " + schemaName + "classifier as mt ON m.type_cla = mt.cla_id ");
-		query.append("LEFT JOIN " + schemaName + "access_list_menu as alm ON (alm.mnu_id = m.mnu_id) ");
-		query.append("LEFT JOIN " + schemaName + "user as u ON ( u.acl_id = alm.acl_id ) ");
-		query.append("WHERE m.type_cla = :type ");
-		query.append("AND m.root_id is not null ");
-		query.append("AND u.usr_id = :usrId ");
-		query.append("ORDER BY alm.mnu_order, m.mnu_id ASC ");
-		
-		MapSqlParameterSource params = new MapSqlParameterSource();
-		params.addValue( "type", MenuType.PORTAL_PRODUCT.getType().getId());
-		params.addValue( "usrId", usrId );
-		
-		try {
-			list = this.getJdbcTemplatePortal().query( query.toString(), params, new MenuMapper() );
-		} catch( Exception e ) {
-			logger.error(e.getMessage());
-			throw new AppException(this.messageSource.getMessage("error.generic", null, LocaleContextHolder.getLocale()));
-		}
-		
-		return list;
-	}
-	
 	@Override
 	public boolean hasChildren(Integer rootId) throws AppException {
 		try {
@@ -655,41 +350,6 @@ public class MenuDAO extends BaseDAO implements IMenuDAO {
 		}
 	}
 	
-	@Override
-	public List<MenuModel> listByAccesslistId(Integer aclId) throws AppException {
-		List<MenuModel> list = null;
-		
-		StringBuilder query = new StringBuilder();
-		query.append("SELECT ");
-		query.append(" 	m.mnu_id, ");
-		query.append(" 	m.name, ");
-		query.append(" 	fnMenu(m.mnu_id) as path, ");
-		query.append(" 	m.url, ");
-		query.append(" 	m.description, ");
-		query.append(" 	m.icon, ");
-		query.append(" 	m.root_id, ");
-		query.append("  m.show, ");
-		query.append(" 	mt.cla_id, ");
-		query.append(" 	mt.value as cla_value, ");
-		query.append(" 	mt.type as cla_type ");
-		query.append("FROM " + schemaName + "menu as m ");
-		query.append("INNER JOIN " + schemaName + "classifier as mt ON m.type_cla = mt.cla_id ");
-		query.append("LEFT JOIN " + schemaName + "access_list_menu as alm ON ( m.mnu_id = alm.mnu_id ) ");
-		query.append("WHERE alm.acl_id = :aclId");
-		
-		MapSqlParameterSource params = new MapSqlParameterSource();
-		params.addValue( "aclId", aclId );
-		
-		try {
-			list = this.getJdbcTemplatePortal().query( query.toString(), params, new MenuMapper() );
-		} catch( Exception e ) {
-			logger.error(e.getMessage());
-			throw new AppException(this.messageSource.getMessage("error.generic", null, LocaleContextHolder.getLocale()));
-		}
-		
-		return list;
-	}
-	
 	@Override
 	public boolean hasAccesslist(MenuModel menu) throws AppException {
 		try {
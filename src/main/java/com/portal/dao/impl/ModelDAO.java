@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IModelDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.ModelMapper;
@@ -26,6 +27,10 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class ModelDAO extends BaseDAO implements IModelDAO {
 
+	private static final UniqueKey<Model> UNIQUE_NAME = UniqueKey.<Model>of( "model", "mdl_id", Model::getId )
+			.column( "name", Model::getName )
+			.column( "brd_id", m -> m.getBrand() != null ? m.getBrand().getId() : null );
+
 	@Override
 	public List<Model> listAll(Pageable pageable) throws AppException {
 		try {
@@ -533,5 +538,8 @@ public class ModelDAO extends BaseDAO implements IModelDAO {
 		}
 	}
 
-
+	@Override
+	public boolean hasDuplicate( Model model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_NAME, model );
+	}
 }
@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IPartnerGroupDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.PartnerGroupMapper;
@@ -26,6 +27,9 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class PartnerGroupDAO extends BaseDAO implements IPartnerGroupDAO {
 
+	private static final UniqueKey<PartnerGroup> UNIQUE_NAME = UniqueKey.<PartnerGroup>of( "partner_group", "ptg_id", PartnerGroup::getId )
+			.column( "name", PartnerGroup::getName );
+
 	@Override
 	public List<PartnerGroup> listAll(Pageable pageable) throws AppException {
 		try {
@@ -307,4 +311,9 @@ public class PartnerGroupDAO extends BaseDAO implements IPartnerGroupDAO {
 			throw new AppException( "Erro ao verificar a existência de relacionamento com parceiro.", e );
 		}
 	}
+
+	@Override
+	public boolean hasDuplicate( PartnerGroup model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_NAME, model );
+	}
 }
@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IPaymentMethodDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.PaymentMethodMapper;
@@ -26,6 +27,9 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class PaymentMethodDAO extends BaseDAO implements IPaymentMethodDAO {
 
+	private static final UniqueKey<PaymentMethod> UNIQUE_NAME = UniqueKey.<PaymentMethod>of( "payment_method", "pym_id", PaymentMethod::getId )
+			.column( "name", PaymentMethod::getName );
+
 	@Override
 	public List<PaymentMethod> listAll( Pageable pageable ) throws AppException {
 		try {
@@ -311,4 +315,9 @@ public class PaymentMethodDAO extends BaseDAO implements IPaymentMethodDAO {
 			throw new AppException( "Erro ao verificar a existência de relacionamento com a proposta.", e );
 		}
 	}
+
+	@Override
+	public boolean hasDuplicate( PaymentMethod model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_NAME, model );
+	}
 }
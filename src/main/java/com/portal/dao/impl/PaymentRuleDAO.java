@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IPaymentRuleDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.PaymentRuleMapper;
@@ -26,6 +27,10 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class PaymentRuleDAO extends BaseDAO implements IPaymentRuleDAO {
 
+	private static final UniqueKey<PaymentRule> UNIQUE_NAME = UniqueKey.<PaymentRule>of( "payment_rule", "pyr_id", PaymentRule::getId )
+			.column( "name", PaymentRule::getName )
+			.column( "pym_id", m -> m.getPaymentMethod() != null ? m.getPaymentMethod().getId() : null );
+
 	@Override
 	public List<PaymentRule> listAll( Pageable pageble ) throws AppException {
 		try {
@@ -334,4 +339,9 @@ public class PaymentRuleDAO extends BaseDAO implements IPaymentRuleDAO {
 			throw new AppException( "Erro ao excluir a regra de método de pagamento.", e );
 		}
 	}
+
+	@Override
+	public boolean hasDuplicate( PaymentRule model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_NAME, model );
+	}
 }
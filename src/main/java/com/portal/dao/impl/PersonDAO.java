@@ -1,6 +1,8 @@
 package com.portal.dao.impl;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -15,6 +17,9 @@ import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
 import com.portal.dao.IPersonDAO;
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
+import com.portal.enums.PersonClassification;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.PersonMapper;
 import com.portal.model.Person;
@@ -27,6 +32,8 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class PersonDAO extends BaseDAO implements IPersonDAO {
 
+    private static final Map<String, String> KEYSET_SORT_COLUMNS = Collections.singletonMap("name", "per.name");
+
     @Override
     public List<Person> find(Person model, Pageable pageable) throws AppException {
         try {
@@ -468,6 +475,33 @@ public class PersonDAO extends BaseDAO implements IPersonDAO {
         }
     }
 
+    @Override
+    public KeysetPageDTO<Person> listAllByKeyset(KeysetRequestDTO request) throws AppException {
+        try {
+            String select = "per.*, " +
+                    "typ.cla_id as per_cla_id, " +
+                    "typ.value as per_cla_value, " +
+                    "typ.type as per_cla_type, " +
+                    "typ.label as per_cla_label, " +
+                    "ifnull(negList.cla_id,0) as neg_list_cla_id, " +
+                    "negList.value as neg_list_value, " +
+                    "negList.type as neg_list_type, " +
+                    "negList.label as neg_list_label";
+
+            String from = "FROM person per " +
+                    "INNER JOIN classifier typ ON per.classification_cla_id = typ.cla_id " +
+                    "LEFT JOIN classifier negList ON per.negative_list_cla_id = negList.cla_id";
+
+            return this.queryKeyset(select, from, null, new MapSqlParameterSource(), request, KEYSET_SORT_COLUMNS, "per.per_id", new PersonMapper());
+
+        } catch (AppException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Erro ao listar as pessoas.", e);
+            throw new AppException("Erro ao listar as pessoas.", e);
+        }
+    }
+
     /**
      * @deprecated Usar a função {@link #listAll(Pageable)}
      */
@@ -807,4 +841,58 @@ public class PersonDAO extends BaseDAO implements IPersonDAO {
             throw new AppException("Erro ao verificar a existência de relacionamento com seller do sistema.", e);
         }
     }
+
+    /**
+     * Verifica se outra pessoa vinculada a um parceiro tem o mesmo documento da classificação (CPF, CNPJ ou RNE).
+     * Pessoas que não são parceiros (clientes, leads, contatos) podem repetir o documento.
+     */
+    @Override
+    public boolean hasDuplicatePartnerDocument( Person model ) throws AppException {
+        if( model == null || model.getClassification() == null ) {
+            return false;
+        }
+
+        String column;
+        String document;
+        if( PersonClassification.PF.getType().equals( model.getClassification() ) ) {
+            column = "cpf";
+            document = model.getCpf();
+
+        } else if( PersonClassification.PJ.getType().equals( model.getClassification() ) ) {
+            column = "cnpj";
+            document = model.getCnpj();
+
+        } else if( PersonClassification.ESTRANGEIRO.getType().equals( model.getClassification() ) ) {
+            column = "rne";
+            document = model.getRne();
+
+        } else {
+            return false;
+        }
+
+        if( document == null ) {
+            return false;
+        }
+
+        try {
+            String query = "SELECT EXISTS ( " +
+                    "SELECT 1 FROM person p " +
+                    "INNER JOIN partner ptn ON ptn.entity_per_id = p.per_id " +
+                    "WHERE p." + column + " = :document " +
+                    ( model.getId() != null && model.getId() > 0 ? "AND p.per_id <> :perId " : "" ) +
+                    ") AS `exists`";
+
+            MapSqlParameterSource params = new MapSqlParameterSource();
+            params.addValue("document", document);
+            params.addValue("perId", model.getId());
+
+            log.trace("[QUERY] person.hasDuplicatePartnerDocument: {} [PARAMS]: {}", query, params.getValues());
+
+            return this.getJdbcTemplatePortal().queryForObject(query, params, (rs, rowNum) -> rs.getBoolean("exists"));
+
+        } catch (Exception e) {
+            log.error("Erro ao verificar a duplicidade do documento do parceiro.", e);
+            throw new AppException("Erro ao verificar a duplicidade do documento do parceiro.", e);
+        }
+    }
 }
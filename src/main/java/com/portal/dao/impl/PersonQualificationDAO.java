@@ -1,7 +1,10 @@
 package com.portal.dao.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Repository;
 
@@ -68,6 +71,40 @@ public class PersonQualificationDAO extends BaseDAO implements IPersonQualificat
 			throw new AppException( "Erro ao buscar o relacionamento entre pessoa e qualificação.", e );
 		}
 	}
+	
+	/**
+	 * Carrega as qualificações de várias pessoas com uma consulta IN por bloco, agrupadas pelo ID da pessoa.
+	 */
+	@Override
+	public Map<Integer, List<PersonQualification>> findByPersons( Collection<Integer> perIds ) throws AppException {
+		try {
+			StringBuilder query = new StringBuilder();
+
+			query.append("SELECT pqf.*, ");
+			query.append("		 per.name AS per_name, " );
+			query.append("		 per.job_title AS per_job_title, " );
+			query.append("		 per.cpf AS per_cpf, " );
+			query.append("		 per.cnpj AS per_cnpj, " );
+			query.append("		 per.rg AS per_rg, " );
+			query.append("		 per.rne AS per_rne, " );
+			query.append("		 per.classification_cla_id AS per_cla_id, " );
+			query.append("		 per.add_id AS per_add_id, " );
+			query.append("		 qlf.name AS qlf_name, ");
+			query.append("		 qlf.seq AS qlf_seq ");
+			query.append("FROM person_qualification pqf ");
+			query.append("INNER JOIN person per ON per.per_id = pqf.per_id ");
+			query.append("INNER JOIN qualification qlf ON qlf.qlf_id = pqf.qlf_id ");
+			query.append("WHERE pqf.per_id IN (:ids) ");
+			
+			log.trace( "[QUERY] personQualification.findByPersons: {} [PARAMS]: {}", query, perIds );
+			
+			return this.queryGroupedByIds( query.toString(), perIds, new RowMapperResultSetExtractor<>( new PersonQualificationMapper() ), model -> model.getPerson().getId() );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao buscar o relacionamento entre pessoa e qualificação.", e );
+			throw new AppException( "Erro ao buscar o relacionamento entre pessoa e qualificação.", e );
+		}
+	}
 
 	@Override
 	public void save( PersonQualification qualification ) throws AppException {
@@ -1,6 +1,8 @@
 package com.portal.dao.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -8,12 +10,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IPersonRelatedDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.PersonRelatedMapper;
@@ -27,6 +31,11 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class PersonRelatedDAO extends BaseDAO implements IPersonRelatedDAO {
 
+	private static final UniqueKey<PersonRelated> UNIQUE_RELATED = UniqueKey.<PersonRelated>of( "person_related", "psr_id", PersonRelated::getId )
+			.column( "name", PersonRelated::getName )
+			.column( "type_cla_id", m -> m.getRelatedType() != null ? m.getRelatedType().getId() : null )
+			.column( "per_id", m -> m.getPerson() != null ? m.getPerson().getId() : null );
+
 	@Override
 	public List<PersonRelated> listAll( Pageable pageable ) throws AppException {
 		try {
@@ -353,4 +362,35 @@ public class PersonRelatedDAO extends BaseDAO implements IPersonRelatedDAO {
 		}
 		return personRelatedList;
 	}
+
+	/**
+	 * Carrega as pessoas relacionadas de várias pessoas com uma consulta IN por bloco, agrupadas pelo ID da pessoa.
+	 */
+	@Override
+	public Map<Integer, List<PersonRelated>> findByPersons(Collection<Integer> perIds) throws AppException {
+		try {
+			StringBuilder query = new StringBuilder();
+			query.append("SELECT psr.*, ");
+			query.append("	 typ.cla_id as per_cla_id, " );
+			query.append("	 typ.value as per_cla_value, " );
+			query.append("	 typ.type as per_cla_type, " );
+			query.append("	 typ.label as per_cla_label " );
+			query.append(" FROM person_related as psr ");
+			query.append(" INNER JOIN classifier typ ON psr.type_cla_id = typ.cla_id ");
+			query.append(" WHERE psr.per_id IN (:ids) ");
+			query.append(" ORDER BY psr.psr_id DESC ");
+
+			log.trace( "[QUERY] person_related.findByPersons: {} [PARAMS]: {}", query, perIds );
+
+			return this.queryGroupedByIds(query.toString(), perIds, new RowMapperResultSetExtractor<>(new PersonRelatedMapper()), related -> related.getPerson().getId());
+		} catch (Exception e) {
+			log.error("Erro ao procurar os relacionamentos da pessoa.", e);
+			throw new AppException("Erro ao procurar os relacionamentos da pessoa.", e);
+		}
+	}
+
+	@Override
+	public boolean hasDuplicate( PersonRelated model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_RELATED, model );
+	}
 }
@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IPriceItemDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.PriceItemMapper;
@@ -27,6 +28,10 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class PriceItemDAO extends BaseDAO implements IPriceItemDAO {
 
+	private static final UniqueKey<PriceItem> UNIQUE_ITEM = UniqueKey.<PriceItem>of( "price_item", "pci_id", PriceItem::getId )
+			.column( "prl_id", m -> m.getPriceList() != null ? m.getPriceList().getId() : null )
+			.column( "itm_id", m -> m.getItem() != null ? m.getItem().getId() : null );
+
 	/**
 	 * @deprecated Essa operação não existe nessa entidade. Use o {@link #find(ProductModel, Pageable)}
 	 * 
@@ -168,6 +173,36 @@ public class PriceItemDAO extends BaseDAO implements IPriceItemDAO {
 			throw new AppException( "Erro ao tentar salvar o preço do item.", e);
 		}
 	}
+	
+	@Override
+	public void saveAll(List<PriceItem> models) throws AppException {
+		try {
+			String query = "INSERT INTO price_item ( pci_id, price, itm_id, prl_id ) VALUES ( NULL, :price, :itmId, :prlId ) ";
+			
+			MapSqlParameterSource[] batch = new MapSqlParameterSource[ models.size() ];
+			for( int i = 0; i < models.size(); i++ ) {
+				PriceItem model = models.get( i );
+				batch[ i ] = new MapSqlParameterSource()
+									.addValue( "price", model.getPrice() )
+									.addValue( "itmId", ( model.getItem() == null ? null : model.getItem().getId() ) )
+									.addValue( "prlId", ( model.getPriceList() == null ? null : model.getPriceList().getId() ) );
+			}
+			
+			log.trace( "[QUERY] priceItem.saveAll: {} [ROWS]: {}", query, batch.length );
+			
+			KeyHolder keyHolder = new GeneratedKeyHolder();
+			
+			this.batchUpdate( query, batch, keyHolder );
+			
+			for( int i = 0; i < models.size(); i++ ) {
+				models.get( i ).setId( this.getKey( keyHolder, i ) );
+			}
+			
+		} catch (Exception e) {
+			log.error( "Erro ao tentar salvar os preços dos itens em lote.", e );
+			throw new AppException( "Erro ao tentar salvar os preços dos itens em lote.", e);
+		}
+	}
 
 	@Override
 	public Optional<PriceItem> update(PriceItem model) throws AppException {
@@ -232,4 +267,9 @@ public class PriceItemDAO extends BaseDAO implements IPriceItemDAO {
 			throw new AppException( "Erro ao verificar a existência de relacionamento com proposta.", e );
 		}
 	}
+
+	@Override
+	public boolean hasDuplicate( PriceItem model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_ITEM, model );
+	}
 }
@@ -195,6 +195,41 @@ public class PriceItemModelDAO extends BaseDAO implements IPriceItemModelDAO {
 			throw new AppException( "Erro ao tentar salvar o preço do modelo do item.", e);
 		}
 	}
+	
+	@Override
+	public void saveAll(List<PriceItemModel> models) throws AppException {
+		try {
+			String query = "INSERT INTO price_item_model ( pim_id, price, all_models, all_brands, prl_id, itm_id, imd_id, brd_id ) " +
+					       "VALUES ( NULL, :price, :allModels, :allBrands, :prlId, :itmId, :imdId, :brdId ) ";
+			
+			MapSqlParameterSource[] batch = new MapSqlParameterSource[ models.size() ];
+			for( int i = 0; i < models.size(); i++ ) {
+				PriceItemModel model = models.get( i );
+				batch[ i ] = new MapSqlParameterSource()
+									.addValue("price", model.getPrice() )
+									.addValue("allModels", PortalNumberUtils.booleanToInt( model.getAllModels() ) )
+									.addValue("allBrands", PortalNumberUtils.booleanToInt( model.getAllBrands() ) )
+									.addValue("prlId", ( model.getPriceList() == null ? null : model.getPriceList().getId() ) )
+									.addValue("itmId", ( model.getItem() == null ? null : model.getItem().getId() ) )
+									.addValue("imdId", ( model.getItemModel() == null ? null : model.getItemModel().getId() ) )
+									.addValue("brdId", ( model.getBrand() == null ? null : model.getBrand().getId() ) );
+			}
+			
+			log.trace( "[QUERY] priceItemModel.saveAll: {} [ROWS]: {}", query, batch.length );
+			
+			KeyHolder keyHolder = new GeneratedKeyHolder();
+			
+			this.batchUpdate( query, batch, keyHolder );
+			
+			for( int i = 0; i < models.size(); i++ ) {
+				models.get( i ).setId( this.getKey( keyHolder, i ) );
+			}
+			
+		} catch (Exception e) {
+			log.error( "Erro ao tentar salvar os preços dos modelos dos itens em lote.", e );
+			throw new AppException( "Erro ao tentar salvar os preços dos modelos dos itens em lote.", e);
+		}
+	}
 
 	@Override
 	public Optional<PriceItemModel> update(PriceItemModel model) throws AppException {
@@ -15,6 +15,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IPriceListDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.PriceListMapper;
@@ -27,6 +28,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Repository
 public class PriceListDAO extends BaseDAO implements IPriceListDAO {
+
+	private static final UniqueKey<PriceList> UNIQUE_NAME = UniqueKey.<PriceList>of( "price_list", "prl_id", PriceList::getId )
+			.column( "name", PriceList::getName );
 	
 	@Override
 	public List<PriceList> listAll(Pageable pageable) throws AppException {
@@ -524,5 +528,8 @@ public class PriceListDAO extends BaseDAO implements IPriceListDAO {
 		}
 	}
 
-
+	@Override
+	public boolean hasDuplicate( PriceList model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_NAME, model );
+	}
 }
@@ -222,6 +222,32 @@ public class PriceListPartnerDAO extends BaseDAO implements IPriceListPartnerDAO
 			throw new AppException( "Erro ao tentar salvar o relacionamento de lista de preço com parceiro.", e);
 		}		
 	}
+	
+	@Override
+	public void saveAll(Integer prlId, List<Integer> ptnIds) throws AppException {
+		try {
+			if( prlId == null || prlId.equals(0) || ptnIds.stream().anyMatch( ptnId -> ptnId == null || ptnId.equals(0) ) ) {
+				throw new AppException( "Os IDs de relacionamento de lista de preço e parceiro estão inválido." );
+			}
+			
+			String query = "INSERT INTO price_list_partner ( ptn_id, prl_id ) " +
+					 	   "VALUES ( :ptnId, :prlId ) " +
+						   "ON DUPLICATE KEY UPDATE prl_id=VALUES(prl_id), ptn_id=VALUES(ptn_id) ";
+			
+			MapSqlParameterSource[] batch = ptnIds.stream()
+													.map( ptnId -> new MapSqlParameterSource().addValue( "ptnId", ptnId ).addValue( "prlId", prlId ) )
+													.toArray( MapSqlParameterSource[]::new );
+			
+			log.trace( "[QUERY] priceListPartner.saveAll: {} [PRL_ID]: {} [ROWS]: {}", query, prlId, batch.length );
+			
+			this.getJdbcTemplatePortal().batchUpdate( query, batch );
+		} catch (AppException e) {
+			throw e;	
+		} catch( Exception e ) {
+			log.error( "Erro ao tentar salvar os relacionamentos de lista de preço com parceiro.", e );
+			throw new AppException( "Erro ao tentar salvar os relacionamentos de lista de preço com parceiro.", e);
+		}		
+	}
 
 	@Override
 	public void delete(Integer prlId, Integer ptnId) throws AppException {
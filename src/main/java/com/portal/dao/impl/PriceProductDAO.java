@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IPriceProductDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.PriceProductMapper;
@@ -27,6 +28,10 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class PriceProductDAO extends BaseDAO implements IPriceProductDAO {
 
+	private static final UniqueKey<PriceProduct> UNIQUE_PRODUCT_MODEL = UniqueKey.<PriceProduct>of( "price_product", "ppr_id", PriceProduct::getId )
+			.column( "prl_id", m -> m.getPriceList() != null ? m.getPriceList().getId() : null )
+			.column( "prm_id", m -> m.getProductModel() != null ? m.getProductModel().getId() : null );
+
 	/**
 	 * @deprecated Essa operação não existe nessa entidade. Use o {@link #find(ProductModel, Pageable)}
 	 * 
@@ -170,6 +175,36 @@ public class PriceProductDAO extends BaseDAO implements IPriceProductDAO {
 			throw new AppException( "Erro ao tentar salvar o preço do produto.", e);
 		}
 	}
+	
+	@Override
+	public void saveAll(List<PriceProduct> models) throws AppException {
+		try {
+			String query = "INSERT INTO price_product ( ppr_id, price, prm_id, prl_id ) VALUES ( NULL, :price, :prmId, :prlId ) ";
+			
+			MapSqlParameterSource[] batch = new MapSqlParameterSource[ models.size() ];
+			for( int i = 0; i < models.size(); i++ ) {
+				PriceProduct model = models.get( i );
+				batch[ i ] = new MapSqlParameterSource()
+									.addValue( "price", model.getPrice() )
+									.addValue( "prmId", ( model.getProductModel() == null ? null : model.getProductModel().getId() ) )
+									.addValue( "prlId", ( model.getPriceList() == null ? null : model.getPriceList().getId() ) );
+			}
+			
+			log.trace( "[QUERY] priceProduct.saveAll: {} [ROWS]: {}", query, batch.length );
+			
+			KeyHolder keyHolder = new GeneratedKeyHolder();
+			
+			this.batchUpdate( query, batch, keyHolder );
+			
+			for( int i = 0; i < models.size(); i++ ) {
+				models.get( i ).setId( this.getKey( keyHolder, i ) );
+			}
+			
+		} catch (Exception e) {
+			log.error( "Erro ao tentar salvar os preços dos produtos em lote.", e );
+			throw new AppException( "Erro ao tentar salvar os preços dos produtos em lote.", e);
+		}
+	}
 
 	@Override
 	public Optional<PriceProduct> update(PriceProduct model) throws AppException {
@@ -234,4 +269,9 @@ public class PriceProductDAO extends BaseDAO implements IPriceProductDAO {
 			throw new AppException( "Erro ao verificar a existência de relacionamento com proposta.", e );
 		}
 	}
+
+	@Override
+	public boolean hasDuplicate( PriceProduct model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_PRODUCT_MODEL, model );
+	}
 }
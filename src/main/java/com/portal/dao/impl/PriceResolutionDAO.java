@@ -0,0 +1,131 @@
+package com.portal.dao.impl;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.portal.config.BaseDAO;
+import com.portal.dao.IPriceResolutionDAO;
+import com.portal.dto.form.ModelItemRangeDTO;
+import com.portal.dto.form.PriceRuleDTO;
+import com.portal.dto.form.ResolvedItemPriceDTO;
+import com.portal.exceptions.AppException;
+import com.portal.utils.PortalNumberUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consultas simples, por lista de preço ou por modelo, usadas na carga dos índices de preço em memória.
+ */
+@Slf4j
+@Repository
+public class PriceResolutionDAO extends BaseDAO implements IPriceResolutionDAO {
+
+	@Override
+	public List<PriceRuleDTO> listRules( Integer prlId ) throws AppException {
+		try {
+			String query = "SELECT pim.pim_id, pim.prl_id, pim.itm_id, pim.imd_id, pim.brd_id, pim.all_models, pim.all_brands, pim.price " +
+						   "FROM price_item_model pim " +
+						   "WHERE pim.prl_id = :prlId " +
+						   "ORDER BY pim.pim_id";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "prlId", prlId );
+			
+			log.trace( "[QUERY] priceResolution.listRules: {} [PARAMS]: {}", query, params.getValues() );
+			
+			return this.getJdbcTemplatePortal().query( query, params, (rs, rowNum) -> PriceRuleDTO.builder()
+																								.pimId( rs.getInt( "pim_id" ) )
+																								.prlId( rs.getInt( "prl_id" ) )
+																								.itmId( rs.getInt( "itm_id" ) )
+																								.imdId( rs.getObject( "imd_id", Integer.class ) )
+																								.brdId( rs.getObject( "brd_id", Integer.class ) )
+																								.allModels( PortalNumberUtils.intToBoolean( rs.getInt( "all_models" ) ) )
+																								.allBrands( PortalNumberUtils.intToBoolean( rs.getInt( "all_brands" ) ) )
+																								.price( rs.getDouble( "price" ) )
+																								.build() );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao carregar as regras de preço da lista: {}", prlId, e );
+			throw new AppException( "Erro ao carregar as regras de preço da lista.", e );
+		}
+	}
+	
+	@Override
+	public List<ResolvedItemPriceDTO> listItemPrices( Integer prlId ) throws AppException {
+		try {
+			String query = "SELECT pi.pci_id, pi.prl_id, pi.itm_id, pi.price " +
+						   "FROM price_item pi " +
+						   "WHERE pi.prl_id = :prlId " +
+						   "ORDER BY pi.pci_id";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "prlId", prlId );
+			
+			log.trace( "[QUERY] priceResolution.listItemPrices: {} [PARAMS]: {}", query, params.getValues() );
+			
+			return this.getJdbcTemplatePortal().query( query, params, (rs, rowNum) -> ResolvedItemPriceDTO.builder()
+																								.id( rs.getInt( "pci_id" ) )
+																								.prlId( rs.getInt( "prl_id" ) )
+																								.itmId( rs.getInt( "itm_id" ) )
+																								.price( rs.getDouble( "price" ) )
+																								.build() );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao carregar os preços dos itens da lista: {}", prlId, e );
+			throw new AppException( "Erro ao carregar os preços dos itens da lista.", e );
+		}
+	}
+	
+	@Override
+	public List<Integer> listPricedModels( Integer prlId ) throws AppException {
+		try {
+			String query = "SELECT DISTINCT prm.mdl_id " +
+						   "FROM product_model prm " +
+						   "INNER JOIN price_product ppr ON ppr.prm_id = prm.prm_id " +
+						   "WHERE ppr.prl_id = :prlId";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "prlId", prlId );
+			
+			log.trace( "[QUERY] priceResolution.listPricedModels: {} [PARAMS]: {}", query, params.getValues() );
+			
+			return this.getJdbcTemplatePortal().queryForList( query, params, Integer.class );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao carregar os modelos com preço na lista: {}", prlId, e );
+			throw new AppException( "Erro ao carregar os modelos com preço na lista.", e );
+		}
+	}
+	
+	@Override
+	public List<ModelItemRangeDTO> listModelItems( Integer mdlId ) throws AppException {
+		try {
+			String query = "SELECT imd.imd_id, imd.itm_id, imd.mdl_id, mdl.brd_id, imd.model_year_start, imd.model_year_end " +
+						   "FROM item_model imd " +
+						   "INNER JOIN model mdl ON mdl.mdl_id = imd.mdl_id " +
+						   "WHERE imd.mdl_id = :mdlId " +
+						   "ORDER BY imd.imd_id";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "mdlId", mdlId );
+			
+			log.trace( "[QUERY] priceResolution.listModelItems: {} [PARAMS]: {}", query, params.getValues() );
+			
+			return this.getJdbcTemplatePortal().query( query, params, (rs, rowNum) -> ModelItemRangeDTO.builder()
+																								.imdId( rs.getInt( "imd_id" ) )
+																								.itmId( rs.getInt( "itm_id" ) )
+																								.mdlId( rs.getInt( "mdl_id" ) )
+																								.brdId( rs.getInt( "brd_id" ) )
+																								.yearStart( rs.getInt( "model_year_start" ) )
+																								.yearEnd( rs.getInt( "model_year_end" ) )
+																								.build() );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao carregar os itens do modelo: {}", mdlId, e );
+			throw new AppException( "Erro ao carregar os itens do modelo.", e );
+		}
+	}
+	
+}
@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IProductDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.ProductMapper;
@@ -26,6 +27,9 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class ProductDAO extends BaseDAO implements IProductDAO {
 
+	private static final UniqueKey<Product> UNIQUE_NAME = UniqueKey.<Product>of( "product", "prd_id", Product::getId )
+			.column( "name", Product::getName );
+
 
 
 	@Override
@@ -330,4 +334,9 @@ public class ProductDAO extends BaseDAO implements IProductDAO {
 			throw new AppException( "Erro ao consultar o produto.", e );
 		}
 	}
+
+	@Override
+	public boolean hasDuplicate( Product model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_NAME, model );
+	}
 }
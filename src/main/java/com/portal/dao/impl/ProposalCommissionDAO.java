@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IProposalCommissionDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.ProposalCommisionMapper;
@@ -26,6 +27,11 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class ProposalCommissionDAO extends BaseDAO implements IProposalCommissionDAO {
 
+	private static final UniqueKey<ProposalCommission> UNIQUE_COMMISSION = UniqueKey.<ProposalCommission>of( "proposal_commission", "pcm_id", ProposalCommission::getId )
+			.column( "ppd_id", m -> m.getProposalDetail() != null ? m.getProposalDetail().getId() : null )
+			.column( "per_id", m -> m.getPerson() != null ? m.getPerson().getId() : null )
+			.column( "type_cla_id", m -> m.getCommissionType() != null ? m.getCommissionType().getId() : null );
+
 	@Override
 	public List<ProposalCommission> listAll(Pageable pageable) throws AppException {
 		try {
@@ -256,4 +262,9 @@ public class ProposalCommissionDAO extends BaseDAO implements IProposalCommissio
 			throw new AppException( "Erro ao excluir o detalhe da proposta.", e );
 		}
 	}
+
+	@Override
+	public boolean hasDuplicate( ProposalCommission model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_COMMISSION, model );
+	}
 }
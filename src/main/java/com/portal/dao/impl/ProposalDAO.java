@@ -1,7 +1,10 @@
 package com.portal.dao.impl;
 
 import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.portal.service.IParameterService;
@@ -17,7 +20,10 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IProposalDAO;
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.ProposalFrontFormMapper;
 import com.portal.mapper.ProposalMapper;
@@ -33,6 +39,17 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class ProposalDAO extends BaseDAO implements IProposalDAO {
 
+	private static final UniqueKey<Proposal> UNIQUE_VERSION = UniqueKey.<Proposal>of( "proposal", "pps_id", Proposal::getId )
+			.column( "num", m -> m.getNum() == null ? 0L : m.getNum() )
+			.column( "cod", Proposal::getCod );
+	
+	private static final Map<String, String> KEYSET_SORT_COLUMNS = new HashMap<>();
+	
+	static {
+		KEYSET_SORT_COLUMNS.put( "createDate", "pps.create_date" );
+		KEYSET_SORT_COLUMNS.put( "num", "pps.num" );
+	}
+
 	@Autowired
 	private IParameterService parameterService;
 
@@ -76,6 +93,35 @@ public class ProposalDAO extends BaseDAO implements IProposalDAO {
 		}
 	}
 
+	@Override
+	public KeysetPageDTO<Proposal> listAllByKeyset( KeysetRequestDTO request ) throws AppException {
+		try {
+			String select = "pps.*, "+ 
+							"slo.order_number as order_number, " +
+							"statusCla.cla_id as status_cla_id, " +
+							"statusCla.value as status_cla_value, " +
+							"statusCla.type as status_cla_type, " +
+							"statusCla.label as status_cla_label, " +
+							"riskCla.cla_id as risk_cla_id, " +
+							"riskCla.value as risk_cla_value, " +
+							"riskCla.type as risk_cla_type, " +
+							"riskCla.label as risk_cla_label";
+			
+			String from = 	"FROM proposal pps " +
+							"inner join classifier statusCla on statusCla.cla_id = pps.status_cla_id " +
+							"inner join classifier riskCla on riskCla.cla_id = pps.risk_cla_id " +
+							"left join sales_order slo on slo.pps_id = pps.pps_id";
+			
+			return this.queryKeyset( select, from, null, new MapSqlParameterSource(), request, KEYSET_SORT_COLUMNS, "pps.pps_id", new ProposalMapper() );
+			
+		} catch (AppException e) {
+			throw e;
+		} catch (Exception e) {
+			log.error( "Erro ao listar as propostas.", e );
+			throw new AppException( "Erro ao listar as propostas.", e );
+		}
+	}
+
 	/**
 	 * @deprecated Usar a função {@link #listAll(Pageable)}
 	 */
@@ -373,7 +419,8 @@ public class ProposalDAO extends BaseDAO implements IProposalDAO {
 							"					commercial_contact_phone = :commercialContactPhone, " +
 							"					risk_cla_id = :riskclaid, " +
 							"					immediate_delivery = :immediatedelivery, " +
-							"					contract = :contract " +
+							"					contract = :contract, " +
+							"					update_date = now() " +
 					 	   "WHERE pps_id = :id";
 			
 			MapSqlParameterSource params = new MapSqlParameterSource();
@@ -446,4 +493,78 @@ public class ProposalDAO extends BaseDAO implements IProposalDAO {
             throw new AppException("Erro em seller.checkSellerDocument .", e);
         }
 	}
+
+	@Override
+	public Optional<LocalDateTime> getUpdateDate(String proposalNumber) throws AppException {
+		try {
+			String query = "SELECT update_date FROM proposal WHERE proposal_number = :proposalNumber";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue("proposalNumber", proposalNumber);
+			
+			log.trace( "[QUERY] proposal.getUpdateDate: {} [PARAMS]: {}", query, params.getValues() );
+			
+			List<LocalDateTime> dates = this.getJdbcTemplatePortal().query(query, params, (rs, rowNum) -> rs.getObject("update_date", LocalDateTime.class));
+			
+			return dates.stream().findFirst();
+			
+		} catch (Exception e) {
+			log.error( "Erro ao buscar a data de alteração da proposta: {}", proposalNumber, e );
+			throw new AppException( "Erro ao buscar a data de alteração da proposta.", e );
+		}
+	}
+
+	@Override
+	public List<String> listProposalNumbersByPerson( Integer perId ) throws AppException {
+		String query = 	"SELECT DISTINCT pps.proposal_number " +
+						"FROM " + schemaName + "proposal pps " +
+						"WHERE pps.pps_id IN ( SELECT ppc.pps_id FROM " + schemaName + "proposal_person_client ppc WHERE ppc.per_id = :id ) " +
+						"OR pps.pps_id IN ( SELECT ppd.pps_id " +
+						"					FROM " + schemaName + "proposal_detail ppd " +
+						"					INNER JOIN " + schemaName + "seller sel ON sel.sel_id IN ( ppd.sel_id, ppd.intern_sale_sel_id ) " +
+						"					WHERE sel.per_id = :id )";
+		
+		return this.listProposalNumbers( "listProposalNumbersByPerson", query, perId );
+	}
+
+	@Override
+	public List<String> listProposalNumbersBySeller( Integer selId ) throws AppException {
+		String query = 	"SELECT DISTINCT pps.proposal_number " +
+						"FROM " + schemaName + "proposal pps " +
+						"INNER JOIN " + schemaName + "proposal_detail ppd ON ppd.pps_id = pps.pps_id " +
+						"WHERE ppd.sel_id = :id OR ppd.intern_sale_sel_id = :id";
+		
+		return this.listProposalNumbers( "listProposalNumbersBySeller", query, selId );
+	}
+
+	@Override
+	public List<String> listProposalNumbersByVehicle( Integer vheId ) throws AppException {
+		String query = 	"SELECT DISTINCT pps.proposal_number " +
+						"FROM " + schemaName + "proposal pps " +
+						"INNER JOIN " + schemaName + "proposal_detail ppd ON ppd.pps_id = pps.pps_id " +
+						"INNER JOIN " + schemaName + "proposal_detail_vehicle pdv ON pdv.ppd_id = ppd.ppd_id " +
+						"WHERE pdv.vhe_id = :id";
+		
+		return this.listProposalNumbers( "listProposalNumbersByVehicle", query, vheId );
+	}
+
+	private List<String> listProposalNumbers( String name, String query, Integer id ) throws AppException {
+		try {
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "id", id );
+			
+			log.trace( "[QUERY] proposal.{}: {} [PARAMS]: {}", name, query, params.getValues() );
+			
+			return this.getJdbcTemplatePortal().queryForList( query, params, String.class );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao buscar as propostas relacionadas: {} {}", name, id, e );
+			throw new AppException( "Erro ao buscar as propostas relacionadas.", e );
+		}
+	}
+
+	@Override
+	public boolean hasDuplicate( Proposal model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_VERSION, model );
+	}
 }
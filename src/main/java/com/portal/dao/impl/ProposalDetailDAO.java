@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IProposalDetailDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.ProposalDetailMapper;
@@ -26,6 +27,9 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class ProposalDetailDAO extends BaseDAO implements IProposalDetailDAO {
 
+	private static final UniqueKey<ProposalDetail> UNIQUE_PROPOSAL = UniqueKey.<ProposalDetail>of( "proposal_detail", "ppd_id", ProposalDetail::getId )
+			.column( "pps_id", m -> m.getProposal() != null ? m.getProposal().getId() : null );
+
 	@Override
 	public List<ProposalDetail> listAll(Pageable pageable) throws AppException {
 		try {
@@ -356,4 +360,9 @@ public class ProposalDetailDAO extends BaseDAO implements IProposalDetailDAO {
 			throw new AppException( "Erro ao buscar os detalhes da proposta.", e );
 		}
 	}
+
+	@Override
+	public boolean hasDuplicate( ProposalDetail model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_PROPOSAL, model );
+	}
 }
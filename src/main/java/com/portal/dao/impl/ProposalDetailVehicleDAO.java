@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IProposalDetailVehicleDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.ProposalDetailVehicleMapper;
@@ -26,6 +27,10 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class ProposalDetailVehicleDAO extends BaseDAO implements IProposalDetailVehicleDAO {
 
+	private static final UniqueKey<ProposalDetailVehicle> UNIQUE_VEHICLE = UniqueKey.<ProposalDetailVehicle>of( "proposal_detail_vehicle", "pdv_id", ProposalDetailVehicle::getId )
+			.column( "ppd_id", m -> m.getProposalDetail() != null ? m.getProposalDetail().getId() : null )
+			.column( "vhe_id", m -> m.getVehicle() != null ? m.getVehicle().getId() : null );
+
 	@Override
 	public List<ProposalDetailVehicle> listAll(Pageable pageable) throws AppException {
 		try {
@@ -378,4 +383,9 @@ public class ProposalDetailVehicleDAO extends BaseDAO implements IProposalDetail
 			throw new AppException( "Erro ao buscar os detalhes do veiculo da proposta.", e );
 		}
 	}
+
+	@Override
+	public boolean hasDuplicate( ProposalDetailVehicle model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_VEHICLE, model );
+	}
 }
@@ -1,6 +1,11 @@
 package com.portal.dao.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -8,6 +13,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
@@ -137,6 +143,44 @@ public class ProposalDetailVehicleItemDAO extends BaseDAO implements IProposalDe
 		}
 	}
 
+	/**
+	 * Soma amount_discount agrupado por pdv_id, com uma consulta IN para cada bloco de {@link #BATCH_SIZE} IDs.
+	 */
+	@Override
+	public Map<Integer, Double> sumDiscountByDetailVehicle(Collection<Integer> detailVehicleIds) throws AppException {
+		Map<Integer, Double> discounts = new HashMap<>();
+		
+		try {
+			if(detailVehicleIds == null || detailVehicleIds.isEmpty()) {
+				return discounts;
+			}
+			
+			StringBuilder query = new StringBuilder();
+			query.append("SELECT pdvi.pdv_id, SUM(IFNULL(pdvi.amount_discount, 0)) AS amount_discount ");
+			query.append("FROM proposal_detail_vehicle_item pdvi ");
+			query.append("WHERE pdvi.pdv_id IN (:ids) ");
+			query.append("GROUP BY pdvi.pdv_id ");
+			
+			List<Integer> ids = new ArrayList<>(new HashSet<>(detailVehicleIds));
+			for(int start = 0; start < ids.size(); start += BATCH_SIZE) {
+				MapSqlParameterSource params = new MapSqlParameterSource();
+				params.addValue("ids", ids.subList(start, Math.min(start + BATCH_SIZE, ids.size())));
+				
+				log.trace( "[QUERY] proposal_detail_vehicle_item.sumDiscountByDetailVehicle: {} [PARAMS]: {}", query, params.getValues() );
+				
+				this.getJdbcTemplatePortal().query(query.toString(), params, (RowCallbackHandler) rs -> {
+					discounts.put(rs.getInt("pdv_id"), rs.getDouble("amount_discount"));
+				});
+			}
+			
+			return discounts;
+			
+		} catch (Exception e) {
+			log.error( "Erro ao somar os descontos dos itens do veiculo da proposta.", e );
+			throw new AppException( "Erro ao somar os descontos dos itens do veiculo da proposta.", e );
+		}
+	}
+
 	@Override
 	public Optional<ProposalDetailVehicleItem> save(ProposalDetailVehicleItem model) throws AppException {
 		try {
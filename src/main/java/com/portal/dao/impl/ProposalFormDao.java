@@ -18,10 +18,12 @@ import com.portal.config.BaseDAO;
 import com.portal.dao.IProposalFormDAO;
 import com.portal.dto.ProposalSearchDTO;
 import com.portal.dto.form.ProductItemFormDTO;
+import com.portal.dto.form.ResolvedItemPriceDTO;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Brand;
 import com.portal.model.Classifier;
+import com.portal.model.ItemType;
 import com.portal.model.Partner;
 import com.portal.model.Person;
 import com.portal.model.Product;
@@ -44,7 +46,7 @@ public class ProposalFormDao extends BaseDAO implements IProposalFormDAO {
     private final String CREATE_DATE = "creationDate";
 
     @Override
-    public List<ProposalFrontForm> getListProposalFrontForm(ProposalSearchDTO dto, Integer proposalDaysLimit, Seller seller, UserProfileDTO userProfile) throws AppException {
+    public List<ProposalFrontForm> getListProposalFrontForm(ProposalSearchDTO dto, Integer proposalDaysLimit, ProposalSearchRulesDTO searchRules, UserProfileDTO userProfile) throws AppException {
 
         try {
 
@@ -79,23 +81,7 @@ public class ProposalFormDao extends BaseDAO implements IProposalFormDAO {
                     + "inner join seller sel_pd on sel_pd.sel_id = pd.sel_id "
 
                     + "inner join `user` usr on usr.per_id = sel_pd.per_id "
-                    + "and ( "
-                    + "		(usr.usr_id = :usr_id) "
-
-                    + "		or (fnGetUserHasCheckpoint(:usr_id,'PROPOSAL.VIEW.ALL')) "
-
-                    + "		or (fnGetUserHasCheckpoint(:usr_id,'PROPOSAL.VIEW.PROMPT.DELIVERY') and p.immediate_delivery = 1)"
-
-                    + "		or (fnGetUserHasCheckpoint(:usr_id,'PROPOSAL.VIEW.PREPOSTO') and sel_pd.sel_id in (select pre.sel_id from seller_agent pre where  pre.agent_sel_id = :sel_id)) "
-
-                    + "		or (fnGetUserHasCheckpoint(:usr_id,'PROPOSAL.VIEW.OWNER') and sel_pd.sel_id in (select own.agent_sel_id from seller_agent own where  own.sel_id = :sel_id)) "
-
-                    + "		or (fnGetUserHasCheckpoint(:usr_id,'PROPOSAL.VIEW.TEAM') "
-                    + "				and sel_pd.sel_id in (select sts_team.sel_id "
-                        + "									from sales_team_seller sts_seller "
-                        + "									inner join sales_team_seller sts_team on sts_team.slt_id = sts_seller.slt_id "
-                        + "									where sts_seller.sel_id = :sel_id)) "
-                    + "		) "
+                    + this.getVisibilityCondition(searchRules)
 
                     + "inner join person per_pd on sel_pd.per_id = per_pd.per_id "
                     + "inner join proposal_detail_vehicle pdv on pdv.ppd_id = pd.ppd_id  "
@@ -111,10 +97,8 @@ public class ProposalFormDao extends BaseDAO implements IProposalFormDAO {
             MapSqlParameterSource params = new MapSqlParameterSource();
 
 
-            if (seller != null) {
-                params.addValue("sel_id", seller.getId());
-            } else {
-            	params.addValue("sel_id", null);
+            if (searchRules != null && !searchRules.getVisibleSellerIds().isEmpty()) {
+                params.addValue("visibleSellerIds", searchRules.getVisibleSellerIds());
             }
             
             if (userProfile != null) {
@@ -240,6 +224,29 @@ public class ProposalFormDao extends BaseDAO implements IProposalFormDAO {
         }
     }
 
+    /**
+     * Monta a condição de visibilidade da listagem com as regras já resolvidas para o usuário,
+     * sem chamar fnGetUserHasCheckpoint nem subconsultas de executivo por linha.
+     */
+    private String getVisibilityCondition(ProposalSearchRulesDTO searchRules) {
+        if (searchRules != null && searchRules.isProposalViewAll()) {
+            return "";
+        }
+
+        String condition = "and ( "
+                + "		(usr.usr_id = :usr_id) ";
+
+        if (searchRules != null && searchRules.isProposalViewPromptDelivery()) {
+            condition += "		or (p.immediate_delivery = 1) ";
+        }
+
+        if (searchRules != null && !searchRules.getVisibleSellerIds().isEmpty()) {
+            condition += "		or (sel_pd.sel_id in (:visibleSellerIds)) ";
+        }
+
+        return condition + "		) ";
+    }
+
     @Override
     public List<Partner> getListPartnerByChannel(Integer id) throws AppException {
 
@@ -616,168 +623,57 @@ public class ProposalFormDao extends BaseDAO implements IProposalFormDAO {
     }
 
     @Override
-    public List<ProposalItemModelType> getListItemModelProduct(ProductItemFormDTO productItemFormDTO) throws AppException, BusException {
+    public List<ProposalItemModelType> getListItemModelProduct(List<ResolvedItemPriceDTO> prices) throws AppException, BusException {
 
         try {
 
-            String query = "select " +
-                    "    itt.name as name_item_type, " +
-                    "    itt.itt_id, " +
-                    "    itm.itm_id, " +
-                    "    itm.name as name_item, " +
-                    "    itm.cod, " +
-                    "    itm.seq, " +
-                    "    itm.for_free, " +
-                    "    itm.generic, " +
-                    "    itm.file,  " +
-                    "    itm.icon, " +
-                    "    itm.description, " +
-                    "    itm.hyperlink, " +
-                    "    itm.term, " +
-                    "    itm.term_work_day, " +
-                    "    itm.highlight, " +
-                    "    item_mand.cla_id as mand_cla_id, " +
-                    "    item_mand.label as mand_label, " +
-                    "    item_mand.value as mand_value, " +
-                    "    item_mand.type as mand_type, " +
-                    "    item_resp.cla_id as resp_cla_id, " +
-                    "    item_resp.label as resp_label, " +
-                    "    item_resp.value as resp_value, " +
-                    "    item_resp.type as resp_type, " +
-                    "    pim.price, " +
-                    "    pim.pim_id, " +
-                    "    prl.prl_id  " +
-
-                    "from model mdl " +
-
-                    "inner join brand brd on brd.brd_id = mdl.brd_id " +
-                    "inner join item_model imd on imd.mdl_id = mdl.mdl_id " +
-                    "inner join item itm on	imd.itm_id = itm.itm_id " +
-                    "inner join item_type itt on itt.itt_id = itm.itt_id " +
-                    "inner join classifier as item_mand on itm.mandatory_cla_id = item_mand.cla_id " +
-                    "inner join classifier as item_resp on itm.responsability_cla_id = item_resp.cla_id " +
-                    "inner join price_item_model pim " +
-                    "	on pim.itm_id = itm.itm_id " +
-                    "    and (  " +
-
-                    "			(pim.imd_id = imd.imd_id) " +
-
-                    "			or 	(	pim.brd_id = mdl.brd_id  " +
-                    "				and pim.all_models = 1  " +
-                    "				and pim.itm_id not in 	(select pim2.itm_id  " +
-                    "										from price_item_model pim2  " +
-                    "										where pim2.prl_id = pim.prl_id " +
-                    "										and pim2.imd_id = imd.imd_id " +
-                    "										) " +
-                    "				) " +
-
-                    "			or	(	pim.all_brands = 1  " +
-                    "				and pim.itm_id not in 	(select pim3.itm_id  " +
-                    "										from price_item_model pim3  " +
-                    "										where pim3.prl_id = pim.prl_id  " +
-                    "										and (	pim3.imd_id = imd.imd_id  " +
-                    "											or (	pim3.brd_id = mdl.brd_id  " +
-                    "												and pim3.all_models = 1 " +
-                    "												) " +
-                    "											) " +
-                    "										) " +
-                    "				) " +
-                    "			) " +
-
-                    "inner join (select distinct mdl_id as p_mdl_id, prl_id as p_prl_id  " +
-                    "			from product_model prm  " +
-                    "            inner join price_product ppr  " +
-                    "				on ppr.prm_id = prm.prm_id) as a  " +
-
-                    "				on a.p_mdl_id = mdl.mdl_id  " +
-
-
-                    "inner join price_list prl  on 	prl.prl_id = pim.prl_id and prl.prl_id = a.p_prl_id " +
-
-                    "where 	prl.prl_id = :prl_id " +
-                    "	and mdl.mdl_id = :mdl_id " +
-                    "	and imd.model_year_start <= :model_year " +
-                    "	and imd.model_year_end >= :model_year ";
-
-            MapSqlParameterSource params = new MapSqlParameterSource();
-
-            params.addValue("model_year", productItemFormDTO.getYear());
-            params.addValue("mdl_id", productItemFormDTO.getMdlId());
-            params.addValue("prl_id", productItemFormDTO.getPrlId());
-
-            log.trace("[QUERY] proposalform.getListItemModelProduct: {} [PARAMS]: {}", query, params.getValues());
-
-            List<ProposalItemModelType> listProposalItemModelType = this.getJdbcTemplatePortal().query(query, params, (ResultSet rs) -> {
-
-                List<ProposalItemModelType> plistItemType = new ArrayList<ProposalItemModelType>();
-
-                Map<String, List<ProposalItemModel>> mapProposalItem = new HashMap<String, List<ProposalItemModel>>();
-
-                while (rs.next()) {
-
-                    ProposalItemModel proposalItemModel = new ProposalItemModel();
-                    proposalItemModel.setItmId(rs.getInt("itm_id"));
-                    proposalItemModel.setNameItem(rs.getString("name_item"));
-                    proposalItemModel.setCod(rs.getString("cod"));
-                    proposalItemModel.setSeq(rs.getInt("seq"));
-                    proposalItemModel.setForFree(PortalNumberUtils.intToBoolean(rs.getInt("for_free")));
-                    proposalItemModel.setGeneric(PortalNumberUtils.intToBoolean(rs.getInt("generic")));
-
-                    Classifier mandatory = new Classifier();
-                    mandatory.setId(rs.getInt("mand_cla_id"));
-                    mandatory.setLabel(rs.getString("mand_label"));
-                    mandatory.setValue(rs.getString("mand_value"));
-                    mandatory.setType(rs.getString("mand_type"));
-                    proposalItemModel.setMandatory(mandatory);
-
-                    proposalItemModel.setFile(rs.getString("file"));
-                    proposalItemModel.setIcon(rs.getString("icon"));
-                    proposalItemModel.setDescription(rs.getString("description"));
-                    proposalItemModel.setHyperlink(rs.getString("hyperlink"));
-
-                    proposalItemModel.setTerm(rs.getInt("term"));
-                    proposalItemModel.setTermWorkDay(PortalNumberUtils.intToBoolean(rs.getInt("term_work_day")));
-
-                    Classifier responsability = new Classifier();
-                    responsability.setId(rs.getInt("resp_cla_id"));
-                    responsability.setLabel(rs.getString("resp_label"));
-                    responsability.setValue(rs.getString("resp_value"));
-                    responsability.setType(rs.getString("resp_type"));
-                    proposalItemModel.setResponsability(responsability);
-
-                    proposalItemModel.setPrice(rs.getDouble("price"));
-                    proposalItemModel.setPimId(rs.getInt("pim_id"));
-                    proposalItemModel.setPrlId(rs.getInt("prl_id"));
-                    proposalItemModel.setIttId(rs.getInt("itt_id"));
-                    String nameItemType = rs.getString("name_item_type");
-
-                    if (mapProposalItem.containsKey(nameItemType)) {
-
-                        mapProposalItem.get(nameItemType).add(proposalItemModel);
+            Map<Integer, ProposalItem> items = this.getItemDetails(prices);
 
-                    } else {
-
-                        List<ProposalItemModel> lProposalItemModel = new ArrayList<ProposalItemModel>();
-                        lProposalItemModel.add(proposalItemModel);
+            Map<String, List<ProposalItemModel>> mapProposalItem = new HashMap<String, List<ProposalItemModel>>();
 
-                        mapProposalItem.put(nameItemType, lProposalItemModel);
-                    }
+            for (ResolvedItemPriceDTO price : prices) {
 
+                ProposalItem item = items.get(price.getItmId());
+                if (item == null) {
+                    continue;
                 }
 
-                mapProposalItem.forEach((nameItemType, proposalItemModel) -> {
+                ProposalItemModel proposalItemModel = new ProposalItemModel();
+                proposalItemModel.setItmId(item.getItmId());
+                proposalItemModel.setNameItem(item.getNameItem());
+                proposalItemModel.setCod(item.getCod());
+                proposalItemModel.setSeq(item.getSeq());
+                proposalItemModel.setForFree(item.getForFree());
+                proposalItemModel.setGeneric(item.getGeneric());
+                proposalItemModel.setMandatory(item.getMandatory());
+                proposalItemModel.setFile(item.getFile());
+                proposalItemModel.setIcon(item.getIcon());
+                proposalItemModel.setDescription(item.getDescription());
+                proposalItemModel.setHyperlink(item.getHyperlink());
+                proposalItemModel.setTerm(item.getTerm());
+                proposalItemModel.setTermWorkDay(item.getTermWorkDay());
+                proposalItemModel.setResponsability(item.getResponsability());
+                proposalItemModel.setIttId(item.getIttId());
+
+                proposalItemModel.setPrice(price.getPrice() != null ? price.getPrice() : 0d);
+                proposalItemModel.setPimId(price.getId());
+                proposalItemModel.setPrlId(price.getPrlId());
+
+                mapProposalItem.computeIfAbsent(item.getItemType().getName(), key -> new ArrayList<ProposalItemModel>()).add(proposalItemModel);
+            }
+
+            List<ProposalItemModelType> plistItemType = new ArrayList<ProposalItemModelType>();
 
-                    ProposalItemModelType proposalItemModelType = new ProposalItemModelType();
-                    proposalItemModelType.setNameItemType(nameItemType);
-                    proposalItemModelType.setProposalItemModels(proposalItemModel);
+            mapProposalItem.forEach((nameItemType, proposalItemModel) -> {
 
-                    plistItemType.add(proposalItemModelType);
-                });
+                ProposalItemModelType proposalItemModelType = new ProposalItemModelType();
+                proposalItemModelType.setNameItemType(nameItemType);
+                proposalItemModelType.setProposalItemModels(proposalItemModel);
 
-                return plistItemType;
+                plistItemType.add(proposalItemModelType);
             });
 
-            return listProposalItemModelType;
+            return plistItemType;
 
         } catch (Exception e) {
             log.error("Erro ao listar os itens model com precos.", e);
@@ -786,122 +682,147 @@ public class ProposalFormDao extends BaseDAO implements IProposalFormDAO {
     }
 
     @Override
-    public List<ProposalItemType> getListItemProduct(ProductItemFormDTO productItemFormDTO) throws AppException, BusException {
+    public List<ProposalItemType> getListItemProduct(List<ResolvedItemPriceDTO> prices) throws AppException, BusException {
 
         try {
 
-            String query = "select " +
-                    "it.name as name_item_type, " +
-                    "it.itt_id, " +
-                    "i.itm_id, " +
-                    "i.name as name_item, " +
-                    "i.cod, " +
-                    "i.seq, " +
-                    "i.for_free, " +
-                    "i.generic, " +
-                    "i.file, " +
-                    "i.icon, " +
-                    "i.description, " +
-                    "i.hyperlink, " +
-                    "i.term, " +
-                    "i.term_work_day, " +
-                    "i.highlight, " +
-                    "item_mand.cla_id as mand_cla_id, " +
-                    "item_mand.label as mand_label, " +
-                    "item_mand.value as mand_value, " +
-                    "item_mand.type as mand_type, " +
-                    "item_resp.cla_id as resp_cla_id, " +
-                    "item_resp.label as resp_label, " +
-                    "item_resp.value as resp_value, " +
-                    "item_resp.type as resp_type, " +
-                    "pi.price, " +
-                    "pi.pci_id, " +
-                    "pl.prl_id " +
-                    "from item i " +
-                    "inner join classifier as item_mand on i.mandatory_cla_id = item_mand.cla_id " +
-                    "inner join classifier as item_resp on i.responsability_cla_id = item_resp.cla_id " +
-                    "inner join item_type it on it.itt_id = i.itt_id " +
-                    "inner join price_item pi on pi.itm_id = i.itm_id " +
-                    "inner join price_list pl on pl.prl_id = pi.prl_id " +
-                    "where pl.prl_id = :prl_id ";
-
-            MapSqlParameterSource params = new MapSqlParameterSource();
-            params.addValue("prl_id", productItemFormDTO.getPrlId());
-
+            Map<Integer, ProposalItem> items = this.getItemDetails(prices);
 
-            log.trace("[QUERY] proposalform.getListItemProduct: {} [PARAMS]: {}", query, params.getValues());
+            Map<String, List<ProposalItem>> mapProposalItem = new HashMap<String, List<ProposalItem>>();
 
-            List<ProposalItemType> listProposalItemType = this.getJdbcTemplatePortal().query(query, params, (ResultSet rs) -> {
+            for (ResolvedItemPriceDTO price : prices) {
 
-                List<ProposalItemType> plistItemType = new ArrayList<ProposalItemType>();
-
-                Map<String, List<ProposalItem>> mapProposalItem = new HashMap<String, List<ProposalItem>>();
-
-                while (rs.next()) {
-
-                    ProposalItem proposalItemModel = new ProposalItem();
-
-                    proposalItemModel.setItmId(rs.getInt("itm_id"));
-                    proposalItemModel.setNameItem(rs.getString("name_item"));
-                    proposalItemModel.setCod(rs.getString("cod"));
-                    proposalItemModel.setSeq(rs.getInt("seq"));
-                    proposalItemModel.setForFree(PortalNumberUtils.intToBoolean(rs.getInt("for_free")));
-                    proposalItemModel.setGeneric(PortalNumberUtils.intToBoolean(rs.getInt("generic")));
+                ProposalItem item = items.get(price.getItmId());
+                if (item == null) {
+                    continue;
+                }
 
-                    Classifier mandatory = new Classifier();
-                    mandatory.setId(rs.getInt("mand_cla_id"));
-                    mandatory.setLabel(rs.getString("mand_label"));
-                    mandatory.setValue(rs.getString("mand_value"));
-                    mandatory.setType(rs.getString("mand_type"));
-                    proposalItemModel.setMandatory(mandatory);
+                ProposalItem proposalItem = new ProposalItem();
+                proposalItem.setItmId(item.getItmId());
+                proposalItem.setNameItem(item.getNameItem());
+                proposalItem.setCod(item.getCod());
+                proposalItem.setSeq(item.getSeq());
+                proposalItem.setForFree(item.getForFree());
+                proposalItem.setGeneric(item.getGeneric());
+                proposalItem.setMandatory(item.getMandatory());
+                proposalItem.setFile(item.getFile());
+                proposalItem.setIcon(item.getIcon());
+                proposalItem.setDescription(item.getDescription());
+                proposalItem.setHyperlink(item.getHyperlink());
+                proposalItem.setTerm(item.getTerm());
+                proposalItem.setTermWorkDay(item.getTermWorkDay());
+                proposalItem.setResponsability(item.getResponsability());
+                proposalItem.setIttId(item.getIttId());
+
+                proposalItem.setPrice(price.getPrice() != null ? price.getPrice() : 0d);
+                proposalItem.setPciId(price.getId());
+                proposalItem.setPrlId(price.getPrlId());
+
+                mapProposalItem.computeIfAbsent(item.getItemType().getName(), key -> new ArrayList<ProposalItem>()).add(proposalItem);
+            }
 
-                    proposalItemModel.setFile(rs.getString("file"));
-                    proposalItemModel.setIcon(rs.getString("icon"));
-                    proposalItemModel.setDescription(rs.getString("description"));
-                    proposalItemModel.setHyperlink(rs.getString("hyperlink"));
+            List<ProposalItemType> plistItemType = new ArrayList<ProposalItemType>();
 
-                    proposalItemModel.setTerm(rs.getInt("term"));
-                    proposalItemModel.setTermWorkDay(PortalNumberUtils.intToBoolean(rs.getInt("term_work_day")));
+            mapProposalItem.forEach((nameItemType, proposalItem) -> {
+                ProposalItemType proposalItemType = new ProposalItemType();
+                proposalItemType.setNameItemType(nameItemType);
+                proposalItemType.setProposalItems(proposalItem);
+                plistItemType.add(proposalItemType);
+            });
 
-                    Classifier responsability = new Classifier();
-                    responsability.setId(rs.getInt("resp_cla_id"));
-                    responsability.setLabel(rs.getString("resp_label"));
-                    responsability.setValue(rs.getString("resp_value"));
-                    responsability.setType(rs.getString("resp_type"));
-                    proposalItemModel.setResponsability(responsability);
+            return plistItemType;
 
-                    proposalItemModel.setPrice(rs.getDouble("price"));
-                    proposalItemModel.setPciId(rs.getInt("pci_id"));
-                    proposalItemModel.setPrlId(rs.getInt("prl_id"));
-                    proposalItemModel.setIttId(rs.getInt("itt_id"));
+        } catch (Exception e) {
+            log.error("Erro ao listar os itens com precos.", e);
+            throw new AppException("Erro ao listar os itens com precos.", e);
+        }
+    }
 
-                    String nameItemType = rs.getString("name_item_type");
+    /**
+     * Carrega em uma única consulta os dados dos itens com preço resolvido (tipo e classificadores de obrigatoriedade
+     * e responsabilidade), indexados pelo ID do item.
+     */
+    private Map<Integer, ProposalItem> getItemDetails(List<ResolvedItemPriceDTO> prices) {
 
-                    if (mapProposalItem.containsKey(nameItemType)) {
-                        mapProposalItem.get(nameItemType).add(proposalItemModel);
-                    } else {
-                        List<ProposalItem> lProposalItemModel = new ArrayList<ProposalItem>();
-                        lProposalItemModel.add(proposalItemModel);
-                        mapProposalItem.put(nameItemType, lProposalItemModel);
-                    }
-                }
+        Map<Integer, ProposalItem> items = new HashMap<Integer, ProposalItem>();
 
-                mapProposalItem.forEach((nameItemType, proposalItem) -> {
-                    ProposalItemType proposalItemType = new ProposalItemType();
-                    proposalItemType.setNameItemType(nameItemType);
-                    proposalItemType.setProposalItems(proposalItem);
-                    plistItemType.add(proposalItemType);
-                });
+        if (prices == null || prices.isEmpty()) {
+            return items;
+        }
 
-                return plistItemType;
-            });
+        String query = "select " +
+                "it.name as name_item_type, " +
+                "it.itt_id, " +
+                "i.itm_id, " +
+                "i.name as name_item, " +
+                "i.cod, " +
+                "i.seq, " +
+                "i.for_free, " +
+                "i.generic, " +
+                "i.file, " +
+                "i.icon, " +
+                "i.description, " +
+                "i.hyperlink, " +
+                "i.term, " +
+                "i.term_work_day, " +
+                "item_mand.cla_id as mand_cla_id, " +
+                "item_mand.label as mand_label, " +
+                "item_mand.value as mand_value, " +
+                "item_mand.type as mand_type, " +
+                "item_resp.cla_id as resp_cla_id, " +
+                "item_resp.label as resp_label, " +
+                "item_resp.value as resp_value, " +
+                "item_resp.type as resp_type " +
+                "from item i " +
+                "inner join classifier as item_mand on i.mandatory_cla_id = item_mand.cla_id " +
+                "inner join classifier as item_resp on i.responsability_cla_id = item_resp.cla_id " +
+                "inner join item_type it on it.itt_id = i.itt_id " +
+                "where i.itm_id in (:ids) ";
 
-            return listProposalItemType;
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("ids", prices.stream().map(ResolvedItemPriceDTO::getItmId).distinct().collect(Collectors.toList()));
+
+        log.trace("[QUERY] proposalform.getItemDetails: {} [PARAMS]: {}", query, params.getValues());
+
+        this.getJdbcTemplatePortal().query(query, params, (ResultSet rs) -> {
+
+            ProposalItem item = new ProposalItem();
+            item.setItmId(rs.getInt("itm_id"));
+            item.setNameItem(rs.getString("name_item"));
+            item.setCod(rs.getString("cod"));
+            item.setSeq(rs.getInt("seq"));
+            item.setForFree(PortalNumberUtils.intToBoolean(rs.getInt("for_free")));
+            item.setGeneric(PortalNumberUtils.intToBoolean(rs.getInt("generic")));
+
+            Classifier mandatory = new Classifier();
+            mandatory.setId(rs.getInt("mand_cla_id"));
+            mandatory.setLabel(rs.getString("mand_label"));
+            mandatory.setValue(rs.getString("mand_value"));
+            mandatory.setType(rs.getString("mand_type"));
+            item.setMandatory(mandatory);
+
+            item.setFile(rs.getString("file"));
+            item.setIcon(rs.getString("icon"));
+            item.setDescription(rs.getString("description"));
+            item.setHyperlink(rs.getString("hyperlink"));
+
+            item.setTerm(rs.getInt("term"));
+            item.setTermWorkDay(PortalNumberUtils.intToBoolean(rs.getInt("term_work_day")));
+
+            Classifier responsability = new Classifier();
+            responsability.setId(rs.getInt("resp_cla_id"));
+            responsability.setLabel(rs.getString("resp_label"));
+            responsability.setValue(rs.getString("resp_value"));
+            responsability.setType(rs.getString("resp_type"));
+            item.setResponsability(responsability);
+
+            item.setIttId(rs.getInt("itt_id"));
+            item.setItemType(ItemType.builder().id(rs.getInt("itt_id")).name(rs.getString("name_item_type")).build());
+
+            items.put(item.getItmId(), item);
+        });
 
-        } catch (Exception e) {
-            log.error("Erro ao listar os itens com precos.", e);
-            throw new AppException("Erro ao listar os itens com precos.", e);
-        }
+        return items;
     }
 
     @Override
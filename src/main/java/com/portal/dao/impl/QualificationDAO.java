@@ -1,5 +1,6 @@
 package com.portal.dao.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -351,4 +352,53 @@ public class QualificationDAO extends BaseDAO implements IQualificationDAO {
 			throw new AppException( "Erro ao verificar a existência de relacionamento com pessoa.", e );
 		}
 	}
+	
+	@Override
+	public boolean hasPersonRelationship(Collection<Integer> qlfIds) throws AppException {
+		try {
+			if( qlfIds == null || qlfIds.isEmpty() ) {
+				return false;
+			}
+			
+			String query = 	"SELECT CASE WHEN EXISTS ( " +
+								"SELECT qlf_id FROM person_qualification WHERE qlf_id IN (:qlfIds) LIMIT 1 " +
+							") " +
+							"THEN TRUE " +
+							"ELSE FALSE " +
+							"END AS `exists` ";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "qlfIds", qlfIds );
+
+			log.trace( "[QUERY] qualification.hasPersonRelationship: {} [PARAMS]: {}", query, params.getValues() );
+
+			return this.getJdbcTemplatePortal().queryForObject( query, params, (rs, rowNum) -> rs.getBoolean( "exists" ) );
+			
+		} catch (Exception e) {
+			log.error( "Erro ao verificar a existência de relacionamento com pessoa." , e );
+			throw new AppException( "Erro ao verificar a existência de relacionamento com pessoa.", e );
+		}
+	}
+	
+	@Override
+	public void delete(Collection<Integer> ids) throws AppException {
+		try {
+			if( ids == null || ids.isEmpty() ) {
+				return;
+			}
+			
+			String query = 	"DELETE FROM qualification WHERE qlf_id IN (:ids)";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue( "ids", ids );
+
+			log.trace( "[QUERY] qualification.delete: {} [PARAMS]: {}", query, params.getValues() );
+
+			this.getJdbcTemplatePortal().update(query, params);
+			
+		} catch (Exception e) {
+			log.error( "Erro ao excluir as qualificações" , e );
+			throw new AppException( "Erro ao excluir as qualificações.", e );
+		}
+	}
 }
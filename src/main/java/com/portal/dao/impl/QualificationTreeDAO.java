@@ -193,147 +193,40 @@ public class QualificationTreeDAO extends BaseDAO implements IQualificationTreeD
 		}
 	}
 
+	/**
+	 * Lista os nós da árvore (qualificações com a linha de nível 0 na tabela de fechamento) com o ID do pai direto,
+	 * usados na montagem da floresta em memória.
+	 */
 	@Override
-	public List<QualificationTreePathDTO> tree() throws AppException {
-		try {
-			String query = 	"SELECT  q.qlf_id, " +
-									"MAX( q2.level ) AS level, " +
-									"q.seq, " +
-									"q.name, " +
-									"q.required, " +
-									"q.active, " +
-									"GROUP_CONCAT( " +
-										"q3.name ORDER BY q2.level DESC separator ',' " +
-									") AS breadcrumb_name, " +
-									"GROUP_CONCAT( " +
-										"q2.parent_qlf_id ORDER BY q2.level DESC separator ','  " +
-									") AS breadcrumb_id, " +
-									"GROUP_CONCAT( " +
-									"		q3.seq ORDER BY q3.seq DESC separator ',' " + 
-									") AS breadcrumb_seq " +
-							"FROM qualification q " +
-							"INNER JOIN qualification_tree q1 ON q1.child_qlf_id = q.qlf_id " +
-							"INNER JOIN qualification_tree q2 ON q2.child_qlf_id = q1.child_qlf_id " +
-							"INNER JOIN qualification q3 ON q3.qlf_id = q2.parent_qlf_id " +
-							"WHERE q1.parent_qlf_id = q1.child_qlf_id " +
-						    "GROUP BY q.qlf_id " +
-							"ORDER BY breadcrumb_seq";
-			
-			log.trace( "[QUERY] qualification_tree.tree: {} [PARAMS]: {}", query );
-
-			return this.getJdbcTemplatePortal().query( query, (rs, rowNum) -> { 
-																	return QualificationTreePathDTO.builder()
-																							.id( rs.getInt( "qlf_id" ) )
-																							.level( rs.getInt( "level" ) )
-																							.seq( rs.getInt( "seq" ) )
-																							.name( rs.getString( "name" ) )
-																							.required( PortalNumberUtils.intToBoolean( rs.getInt( "required" ) ) )
-																							.active( PortalNumberUtils.intToBoolean( rs.getInt( "active" ) ) )
-																							.breadcrumbNamePath( rs.getString( "breadcrumb_name" ) )
-																							.breadcrumbIdPath( rs.getString( "breadcrumb_id" ) )
-																							.build();
-																} );
-			
-		} catch (Exception e) {
-			log.error( "Erro ao carregar a estrutura de qualificação.", e );
-			throw new AppException( "Erro ao carregar a estrutura de qualificação.", e );
-		}
-	}
-	
-	@Override
-	public List<QualificationTreePathDTO> treeByName( String name ) throws AppException {
+	public List<QualificationTreePathDTO> listNodes() throws AppException {
 		try {
 			String query = 	"SELECT  q.qlf_id, " +
-									"MAX( q2.level ) AS level, " +
 									"q.seq, " +
 									"q.name, " +
 									"q.required, " +
 									"q.active, " +
-									"GROUP_CONCAT( " +
-										"q3.name ORDER BY q2.level DESC separator ',' " +
-									") AS breadcrumb_name, " +
-									"GROUP_CONCAT( " +
-									"	q2.parent_qlf_id ORDER BY q2.level DESC separator ','  " +
-									") AS breadcrumb_id, " +
-									"GROUP_CONCAT( " +
-									"	q3.seq ORDER BY q3.seq DESC separator ',' " + 
-									") AS breadcrumb_seq " +
+									"p.parent_qlf_id " +
 							"FROM qualification q " +
-							"INNER JOIN qualification_tree q1 ON q1.child_qlf_id = q.qlf_id " +
-							"INNER JOIN qualification_tree q2 ON q2.child_qlf_id = q1.child_qlf_id " +
-							"INNER JOIN qualification q3 ON q3.qlf_id = q2.parent_qlf_id " +
-							"WHERE q1.parent_qlf_id = ( SELECT qlf_id FROM qualification WHERE name = '" + name + "' ) " +
-							"GROUP BY q.qlf_id " +
-							"ORDER BY breadcrumb_seq";
+							"INNER JOIN qualification_tree s ON s.child_qlf_id = q.qlf_id AND s.parent_qlf_id = q.qlf_id " +
+							"LEFT JOIN qualification_tree p ON p.child_qlf_id = q.qlf_id AND p.level = 1 " +
+							"ORDER BY q.qlf_id";
 			
-			log.trace( "[QUERY] qualification_tree.treeByName: {} [PARAMS]: {}", query );
+			log.trace( "[QUERY] qualification_tree.listNodes: {} [PARAMS]: {}", query );
 
 			return this.getJdbcTemplatePortal().query( query, (rs, rowNum) -> { 
 																	return QualificationTreePathDTO.builder()
 																							.id( rs.getInt( "qlf_id" ) )
-																							.level( rs.getInt( "level" ) )
-																							.seq( rs.getInt( "seq" ) )
-																							.name( rs.getString( "name" ) )
-																							.required( PortalNumberUtils.intToBoolean( rs.getInt( "required" ) ) )
-																							.active( PortalNumberUtils.intToBoolean( rs.getInt( "active" ) ) )
-																							.breadcrumbNamePath( rs.getString( "breadcrumb_name" ) )
-																							.breadcrumbIdPath( rs.getString( "breadcrumb_id" ) )
-																							.build();
-																} );
-			
-		} catch (Exception e) {
-			log.error( "Erro ao carregar a estrutura de qualificação por nome.", e );
-			throw new AppException( "Erro ao carregar a estrutura de qualificação por nome.", e );
-		}
-	}
-	
-	@Override
-	public List<QualificationTreePathDTO> treeByParent( int parentId ) throws AppException {
-		try {
-			String query = 	"SELECT  q.qlf_id, " +
-									"MAX( q2.level ) AS level, " +
-									"q.seq, " +
-									"q.name, " +
-									"q.required, " +
-									"q.active, " +
-									"GROUP_CONCAT( " +
-										"q3.name ORDER BY q2.level DESC separator ',' " +
-									") AS breadcrumb_name, " +
-									"GROUP_CONCAT( " +
-									"	q2.parent_qlf_id ORDER BY q2.level DESC separator ','  " +
-									") AS breadcrumb_id, " +
-									"GROUP_CONCAT( " +
-									"	q3.seq ORDER BY q3.seq DESC separator ',' " + 
-									") AS breadcrumb_seq " +
-							"FROM qualification q " +
-							"INNER JOIN qualification_tree q1 ON q1.child_qlf_id = q.qlf_id " +
-							"INNER JOIN qualification_tree q2 ON q2.child_qlf_id = q1.child_qlf_id " +
-							"INNER JOIN qualification q3 ON q3.qlf_id = q2.parent_qlf_id " +
-							"WHERE q1.parent_qlf_id = :parentId " +
-							"GROUP BY q.qlf_id " +
-							"ORDER BY breadcrumb_seq";
-			
-			log.trace( "[QUERY] qualification_tree.treeByName: {} [PARAMS]: {}", query );
-
-			MapSqlParameterSource params = new MapSqlParameterSource();
-			params.addValue( "parentId", parentId );
-			
-			return this.getJdbcTemplatePortal().query( query, params, (rs, rowNum) -> { 
-																	return QualificationTreePathDTO.builder()
-																							.id( rs.getInt( "qlf_id" ) )
-																							.level( rs.getInt( "level" ) )
 																							.seq( rs.getInt( "seq" ) )
 																							.name( rs.getString( "name" ) )
 																							.required( PortalNumberUtils.intToBoolean( rs.getInt( "required" ) ) )
 																							.active( PortalNumberUtils.intToBoolean( rs.getInt( "active" ) ) )
-																							.breadcrumbNamePath( rs.getString( "breadcrumb_name" ) )
-																							.breadcrumbIdPath( rs.getString( "breadcrumb_id" ) )
+																							.parentId( rs.getObject( "parent_qlf_id", Integer.class ) )
 																							.build();
 																} );
 			
 		} catch (Exception e) {
-			log.error( "Erro ao carregar a estrutura de qualificação por parentId.", e );
-			throw new AppException( "Erro ao carregar a estrutura de qualificação por parentId.", e );
+			log.error( "Erro ao carregar os nós da estrutura de qualificação.", e );
+			throw new AppException( "Erro ao carregar os nós da estrutura de qualificação.", e );
 		}
 	}
 }
@@ -4,6 +4,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -241,58 +242,10 @@ public class SaleDAO extends BaseDAO implements ISaleDAO {
 	public List<SaleModel> search(SaleModel model) throws AppException {
 		List<SaleModel> listReturn = null;
 		try {
-			StringBuilder query = new StringBuilder();
-			query
-			.append( "SELECT " )
-			.append( "	 s.sal_id, " )
-			.append( "	 s.customer, " )
-			.append( "	 s.contact, " )
-			.append( "	 s.comments, " )
-			.append( "	 s.date, " )
-			.append( "	 s.value, " )
-			.append( "	 s.first_payment, " )
-			.append( "	 s.tax, " )
-			.append( "	 s.portion, " )
-			.append( "	 s.payment_type, " )
-			.append( "	 s.tax, " )
-			.append( "	 u.usr_id as usr_id, " )
-			.append( "	 u.username as usr_name, " )
-			.append( "	 per.name as usr_person " )
-			.append( "FROM " + schemaName + "sale as s  ")
-			.append( "INNER JOIN " + schemaName + "user as u on s.usr_id = u.usr_id ")
-			.append( "INNER JOIN " + schemaName + "person as per on per.per_id = u.per_id ")				
-			.append( "WHERE s.sal_id > 0 ");
-			
 			MapSqlParameterSource params = new MapSqlParameterSource();
-			if(model.getCustomer() != null) {
-				query.append( " AND s.customer like :customer " ); 
-				params.addValue("customer", this.mapLike(model.getCustomer()));
-			}
-			
-			if(model.getPaymentType() != null && !model.getPaymentType().equals("")) {
-				query.append( " AND s.payment_type = :paymentType " ); 
-				params.addValue("paymentType", model.getPaymentType());
-			}
+			String query = this.searchQuery(model, params);
 			
-			if(model.getDate() != null && model.getDateEnd() == null) {
-				query.append( " AND s.date  = :date " ); 
-				params.addValue("date", model.getDate().toString());
-			}
-			
-			if(model.getDate() != null && model.getDateEnd() != null) {
-				query.append( " AND s.date between :dateStart and :dateEnd " );
-				params.addValue("dateStart", PortalTimeUtils.dateToSQLDate(model.getDate(), "yyyy-MM-dd 00:00:00"));
-				params.addValue("dateEnd", PortalTimeUtils.dateToSQLDate(model.getDateEnd(), "yyyy-MM-dd 23:59:59"));
-			}
-			
-			if(model.getUser() != null && model.getUser().getId() > 0) {
-				query.append( " AND u.usr_id = :usrId " ); 
-				params.addValue("usrId", model.getUser().getId());
-			}
-			
-			query.append( " ORDER BY s.date DESC " );
-			
-			List<SaleModel> users = this.getJdbcTemplatePortal().query( query.toString(), params, new SaleMapper() );
+			List<SaleModel> users = this.getJdbcTemplatePortal().query( query, params, new SaleMapper() );
 			if(!CollectionUtils.isEmpty(users)) {
 				listReturn = users;
 			}
@@ -302,6 +255,79 @@ public class SaleDAO extends BaseDAO implements ISaleDAO {
 		}
 		return listReturn;
 	}
+	
+	/**
+	 * Mesma consulta do {@link #search(SaleModel)}, mas entrega cada venda ao consumer conforme
+	 * as linhas chegam do banco, sem montar a lista em memória.
+	 */
+	@Override
+	public void search(SaleModel model, Consumer<SaleModel> consumer) throws AppException {
+		try {
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			String query = this.searchQuery(model, params);
+			
+			SaleMapper mapper = new SaleMapper();
+			this.queryStream( query, params, rs -> consumer.accept( mapper.mapRow( rs, rs.getRow() ) ) );
+			
+		} catch( Exception e ) {
+			logger.error(e.getMessage());
+			throw new AppException(this.messageSource.getMessage("error.generic", null, LocaleContextHolder.getLocale()));
+		}
+	}
+	
+	private String searchQuery(SaleModel model, MapSqlParameterSource params) {
+		StringBuilder query = new StringBuilder();
+		query
+		.append( "SELECT " )
+		.append( "	 s.sal_id, " )
+		.append( "	 s.customer, " )
+		.append( "	 s.contact, " )
+		.append( "	 s.comments, " )
+		.append( "	 s.date, " )
+		.append( "	 s.value, " )
+		.append( "	 s.first_payment, " )
+		.append( "	 s.tax, " )
+		.append( "	 s.portion, " )
+		.append( "	 s.payment_type, " )
+		.append( "	 s.tax, " )
+		.append( "	 u.usr_id as usr_id, " )
+		.append( "	 u.username as usr_name, " )
+		.append( "	 per.name as usr_person " )
+		.append( "FROM " + schemaName + "sale as s  ")
+		.append( "INNER JOIN " + schemaName + "user as u on s.usr_id = u.usr_id ")
+		.append( "INNER JOIN " + schemaName + "person as per on per.per_id = u.per_id ")				
+		.append( "WHERE s.sal_id > 0 ");
+		
+		if(model.getCustomer() != null) {
+			query.append( " AND s.customer like :customer " ); 
+			params.addValue("customer", this.mapLike(model.getCustomer()));
+		}
+		
+		if(model.getPaymentType() != null && !model.getPaymentType().equals("")) {
+			query.append( " AND s.payment_type = :paymentType " ); 
+			params.addValue("paymentType", model.getPaymentType());
+		}
+		
+		if(model.getDate() != null && model.getDateEnd() == null) {
+			query.append( " AND s.date  = :date " ); 
+			params.addValue("date", model.getDate().toString());
+		}
+		
+		if(model.getDate() != null && model.getDateEnd() != null) {
+			query.append( " AND s.date between :dateStart and :dateEnd " );
+			params.addValue("dateStart", PortalTimeUtils.dateToSQLDate(model.getDate(), "yyyy-MM-dd 00:00:00"));
+			params.addValue("dateEnd", PortalTimeUtils.dateToSQLDate(model.getDateEnd(), "yyyy-MM-dd 23:59:59"));
+		}
+		
+		if(model.getUser() != null && model.getUser().getId() > 0) {
+			query.append( " AND u.usr_id = :usrId " ); 
+			params.addValue("usrId", model.getUser().getId());
+		}
+		
+		query.append( " ORDER BY s.date DESC " );
+		
+		return query.toString();
+	}
 
 	@Override
 	public Optional<SaleModel> save(SaleModel model) throws AppException {
@@ -15,6 +15,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.ISalesOrderDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.SalesOrderMapper;
@@ -26,8 +27,14 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Repository
 public class SalesOrderDAO extends BaseDAO implements ISalesOrderDAO {
+
+	private static final UniqueKey<SalesOrder> UNIQUE_PROPOSAL = UniqueKey.<SalesOrder>of( "sales_order", "sor_id", SalesOrder::getId )
+			.column( "pps_id", m -> m.getProposal() != null ? m.getProposal().getId() : null );
 	
 	private static final String TABLE_NAME =  "sales_order"; 
+	
+	/** Chave gravada na inclusão do pedido enquanto a tarefa do JIRA não é criada. */
+	private static final String JIRA_KEY_AWAITING = "AGUARDANDO";
 
 	@Override
 	public List<SalesOrder> listAll(Pageable pageable) throws AppException {
@@ -328,7 +335,7 @@ public class SalesOrderDAO extends BaseDAO implements ISalesOrderDAO {
 			MapSqlParameterSource params = new MapSqlParameterSource();
 			
 			params.addValue("proposalID", model.getProposal().getId());
-			params.addValue("jiraKey", StringUtils.isBlank(model.getJiraKey()) ? "AGUARDANDO" : model.getJiraKey());
+			params.addValue("jiraKey", StringUtils.isBlank(model.getJiraKey()) ? JIRA_KEY_AWAITING : model.getJiraKey());
 			params.addValue("status", model.getStatus().getType().getId());
 			params.addValue("userID", model.getUser().getId());
 	
@@ -348,6 +355,30 @@ public class SalesOrderDAO extends BaseDAO implements ISalesOrderDAO {
 		}
 	}
 
+	@Override
+	public boolean updateJiraKey(Integer id, String jiraKey) throws AppException {
+		try {
+			
+			StringBuilder query = new StringBuilder();
+			query.append("UPDATE " + TABLE_NAME +" SET ");
+			query.append(" jira_key = :jiraKey ");
+			query.append("WHERE sor_id = :id ");
+			query.append("AND ( jira_key IS NULL OR jira_key = :awaiting ) ");
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue("id", id);
+			params.addValue("jiraKey", jiraKey);
+			params.addValue("awaiting", JIRA_KEY_AWAITING);
+	
+			log.trace( "[QUERY] SalesOrder.updateJiraKey: {} [PARAMS]: {}", query, params.getValues() );
+	        return this.getNamedParameterJdbcTemplate().update(query.toString(), params) > 0;
+	        
+		} catch (Exception e) {
+			log.error( "Erro ao tentar atualizar a chave do JIRA do Pedido de compra: {}", id, e );
+			throw new AppException( "Erro ao tentar atualizar a chave do JIRA do Pedido de compra.", e);
+		}
+	}
+
 	@Override
 	public Optional<SalesOrder> update(SalesOrder model) throws AppException {
 		try {
@@ -395,4 +426,9 @@ public class SalesOrderDAO extends BaseDAO implements ISalesOrderDAO {
 			throw new AppException( "Erro ao excluir a Pedido de compra.", e );
 		}
 	}
+
+	@Override
+	public boolean hasDuplicate( SalesOrder model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_PROPOSAL, model );
+	}
 }
@@ -13,6 +13,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.ISalesTeamDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.SalesTeamMapper;
@@ -25,6 +26,9 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class SalesTeamDAO extends BaseDAO implements ISalesTeamDAO {
 
+    private static final UniqueKey<SalesTeam> UNIQUE_NAME = UniqueKey.<SalesTeam>of( "sales_team", "slt_id", SalesTeam::getId )
+            .column( "name", SalesTeam::getName );
+
     @Override
     public Optional<SalesTeam> find(SalesTeam model) throws AppException {
         List<SalesTeam> salesTeams = this.find(model, null);
@@ -295,4 +299,9 @@ public class SalesTeamDAO extends BaseDAO implements ISalesTeamDAO {
             throw new AppException("Erro ao buscar os celulas de venda.", e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean hasDuplicate( SalesTeam model ) throws AppException {
+        return this.existsDuplicate( UNIQUE_NAME, model );
+    }
+}
@@ -64,6 +64,40 @@ public class SellerAgentDAO extends BaseDAO implements ISellerAgentDAO {
         }
     }
 		
+	@Override
+	public List<Integer> listSellerIdByAgent( Integer agentSelId ) throws AppException {
+		try {
+			String query = "SELECT sel_id FROM " + schemaName + "seller_agent WHERE agent_sel_id = :agentSelId ";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue("agentSelId", agentSelId);
+			
+			log.trace("[QUERY] sellerAgent.listSellerIdByAgent: {} [PARAMS]: {}", query, params.getValues());
+			return this.getJdbcTemplatePortal().queryForList(query, params, Integer.class);
+			
+		} catch (Exception e) {
+			log.error("Erro ao listar sellerAgent.listSellerIdByAgent .", e);
+			throw new AppException("Erro ao listar sellerAgent.listSellerIdByAgent .", e);
+		}
+	}
+	
+	@Override
+	public List<Integer> listAgentIdBySeller( Integer selId ) throws AppException {
+		try {
+			String query = "SELECT agent_sel_id FROM " + schemaName + "seller_agent WHERE sel_id = :selId ";
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue("selId", selId);
+			
+			log.trace("[QUERY] sellerAgent.listAgentIdBySeller: {} [PARAMS]: {}", query, params.getValues());
+			return this.getJdbcTemplatePortal().queryForList(query, params, Integer.class);
+			
+		} catch (Exception e) {
+			log.error("Erro ao listar sellerAgent.listAgentIdBySeller .", e);
+			throw new AppException("Erro ao listar sellerAgent.listAgentIdBySeller .", e);
+		}
+	}
+	
 	@Override
 	public void save( Integer selId, Integer agentSelId ) throws AppException {
 		try {
@@ -1,6 +1,7 @@
 package com.portal.dao.impl;
 
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +21,8 @@ import com.portal.config.BaseDAO;
 import com.portal.dao.ISellerDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.SellerMapper;
+import com.portal.model.Job;
+import com.portal.model.Person;
 import com.portal.model.Seller;
 
 import lombok.extern.slf4j.Slf4j;
@@ -424,6 +427,68 @@ public class SellerDAO extends BaseDAO implements ISellerDAO {
         }
     }
 
+    /**
+     * Carga {@link com.portal.enums.FetchPlan#ID_ONLY}: só a linha do vendedor, com os IDs de pessoa e cargo.
+     */
+    @Override
+    public Optional<Seller> getReferenceById(Integer id) throws AppException {
+        try {
+            String query = "SELECT sel.sel_id, sel.per_id, sel.job_id " +
+                    "FROM " + schemaName + "seller AS sel " +
+                    "WHERE sel.sel_id = :id";
+
+            MapSqlParameterSource params = new MapSqlParameterSource();
+            params.addValue("id", id);
+
+            log.trace("[QUERY] seller.getReferenceById: {} [PARAMS]: {}", query, params.getValues());
+
+            return Optional.ofNullable(this.getJdbcTemplatePortal().queryForObject(query, params, (rs, rowNum) -> this.mapReference(rs)));
+
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+
+        } catch (Exception e) {
+            log.error("Erro ao consultar um seller.", e);
+            throw new AppException("Erro ao consultar um seller.", e);
+        }
+    }
+
+    /**
+     * Carga {@link com.portal.enums.FetchPlan#ID_ONLY} pelo usuário: o join com user é o único necessário.
+     */
+    @Override
+    public Optional<Seller> getReferenceByUser(Integer id) throws AppException {
+        try {
+            String query = "SELECT sel.sel_id, sel.per_id, sel.job_id " +
+                    "FROM " + schemaName + "seller AS sel " +
+                    "INNER JOIN " + schemaName + "user AS usr ON sel.per_id = usr.per_id " +
+                    "WHERE usr.usr_id = :id " +
+                    "LIMIT 1";
+
+            MapSqlParameterSource params = new MapSqlParameterSource();
+            params.addValue("id", id);
+
+            log.trace("[QUERY] seller.getReferenceByUser: {} [PARAMS]: {}", query, params.getValues());
+
+            return Optional.ofNullable(this.getJdbcTemplatePortal().queryForObject(query, params, (rs, rowNum) -> this.mapReference(rs)));
+
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+
+        } catch (Exception e) {
+            log.error("Erro ao consultar um seller.", e);
+            throw new AppException("Erro ao consultar um seller.", e);
+        }
+    }
+
+    private Seller mapReference(ResultSet rs) throws SQLException {
+        return Seller.builder()
+                .id(rs.getInt("sel_id"))
+                .person(new Person(rs.getInt("per_id")))
+                .job(Job.builder().id(rs.getInt("job_id")).build())
+                .build();
+    }
+
     @Override
     public List<Seller> list() throws AppException {
         return this.listAll(null);
@@ -90,6 +90,27 @@ public class SellerSalesTeamDAO extends BaseDAO implements ISellerSalesTeamDAO {
         }
     }
 	
+	@Override
+	public List<Integer> listTeamSellerIdBySeller( Integer selId ) throws AppException {
+		try {
+			StringBuilder query = new StringBuilder();
+			query.append("SELECT DISTINCT sts_team.sel_id ");
+			query.append("FROM " + schemaName + "sales_team_seller AS sts_seller ");
+			query.append("INNER JOIN " + schemaName + "sales_team_seller AS sts_team ON sts_team.slt_id = sts_seller.slt_id ");
+			query.append("WHERE sts_seller.sel_id = :selId ");
+			
+			MapSqlParameterSource params = new MapSqlParameterSource();
+			params.addValue("selId", selId);
+			
+			log.trace("[QUERY] salesTeamSeller.listTeamSellerIdBySeller: {} [PARAMS]: {}", query, params.getValues());
+			return this.getJdbcTemplatePortal().queryForList(query.toString(), params, Integer.class);
+			
+		} catch (Exception e) {
+			log.error("Erro ao listar salesTeamSeller.listTeamSellerIdBySeller .", e);
+			throw new AppException("Erro ao listar salesTeamSeller.listTeamSellerIdBySeller .", e);
+		}
+	}
+	
 	@Override
 	public void save( Integer selId, Integer sltId ) throws AppException {
 		try {
@@ -14,6 +14,7 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.ISourceDAO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.SourceMapper;
@@ -26,6 +27,9 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class SourceDAO extends BaseDAO implements ISourceDAO {
 
+	private static final UniqueKey<Source> UNIQUE_NAME = UniqueKey.<Source>of( "source", "src_id", Source::getId )
+			.column( "name", Source::getName );
+
 	@Override
 	public List<Source> listAll(Pageable pageable) throws AppException {
 		try {
@@ -308,4 +312,9 @@ public class SourceDAO extends BaseDAO implements ISourceDAO {
 			throw new AppException( "Erro ao verificar a existência de relacionamento com lead.", e );
 		}
 	}
+
+	@Override
+	public boolean hasDuplicate( Source model ) throws AppException {
+		return this.existsDuplicate( UNIQUE_NAME, model );
+	}
 }
@@ -1,6 +1,8 @@
 package com.portal.dao.impl;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -14,7 +16,10 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.portal.config.BaseDAO;
+import com.portal.config.UniqueKey;
 import com.portal.dao.IVehicleDAO;
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.exceptions.AppException;
 import com.portal.mapper.VehicleMapper;
 import com.portal.model.VehicleModel;
@@ -27,6 +32,18 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class VehicleDAO extends BaseDAO implements IVehicleDAO {
 
+    private static final UniqueKey<VehicleModel> UNIQUE_PLATE = UniqueKey.<VehicleModel>of( "vehicle", "vhe_id", VehicleModel::getId )
+            .column( "plate", VehicleModel::getPlate );
+    private static final UniqueKey<VehicleModel> UNIQUE_CHASSI = UniqueKey.<VehicleModel>of( "vehicle", "vhe_id", VehicleModel::getId )
+            .column( "chassi", VehicleModel::getChassi );
+
+    private static final Map<String, String> KEYSET_SORT_COLUMNS = new HashMap<>();
+
+    static {
+        KEYSET_SORT_COLUMNS.put("plate", "vhe.plate");
+        KEYSET_SORT_COLUMNS.put("modelYear", "vhe.model_year");
+    }
+
     @Override
     public List<VehicleModel> listAll(Pageable pageable) throws AppException {
         try {
@@ -74,6 +91,41 @@ public class VehicleDAO extends BaseDAO implements IVehicleDAO {
         }
     }
 
+    @Override
+    public KeysetPageDTO<VehicleModel> listAllByKeyset(KeysetRequestDTO request) throws AppException {
+        try {
+            String select = "vhe.vhe_id, " +
+                    "vhe.chassi, " +
+                    "vhe.plate, " +
+                    "mdl.mdl_id, " +
+                    "mdl.name, " +
+                    "brd.brd_id, " +
+                    "brd.name as brand_name, " +
+                    "vhe.version," +
+                    "vhe.model_year," +
+                    "vhe.purchase_date," +
+                    "vhe.purchase_value, " +
+                    "cla.cla_id, " +
+                    "cla.value, " +
+                    "cla.type, " +
+                    "cla.label, " +
+                    "cla.description";
+
+            String from = "FROM vehicle vhe " +
+                    "INNER JOIN model mdl ON (vhe.mdl_id = mdl.mdl_id) " +
+                    "INNER JOIN brand brd ON (mdl.brd_id = brd.brd_id) " +
+                    "LEFT JOIN  classifier cla ON (vhe.color_cla = cla.cla_id)";
+
+            return this.queryKeyset(select, from, null, new MapSqlParameterSource(), request, KEYSET_SORT_COLUMNS, "vhe.vhe_id", new VehicleMapper());
+
+        } catch (AppException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Erro ao listar os veículos.", e);
+            throw new AppException("Erro ao listar os veículos.", e);
+        }
+    }
+
     /**
      * @deprecated Usar a função {@link #listAll(Pageable)}
      */
@@ -572,4 +624,14 @@ public class VehicleDAO extends BaseDAO implements IVehicleDAO {
             throw new AppException("Erro ao verificar a existência de relacionamento com detalhe da proposta.", e);
         }
     }
+
+    @Override
+    public boolean hasDuplicatePlate( VehicleModel model ) throws AppException {
+        return this.existsDuplicate( UNIQUE_PLATE, model );
+    }
+
+    @Override
+    public boolean hasDuplicateChassi( VehicleModel model ) throws AppException {
+        return this.existsDuplicate( UNIQUE_CHASSI, model );
+    }
 }
@@ -3,8 +3,11 @@ package com.portal.dao.impl.form;
 import java.sql.ResultSet;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -225,4 +228,65 @@ public class PriceListFormDAO extends BaseDAO implements IPriceListFormDAO {
 		}
 	}
 
+	@Override
+	public Set<Integer> findExistingProductModelIds( Collection<Integer> ids ) throws AppException {
+		return this.findExistingIds( "product_model", "prm_id", ids );
+	}
+	
+	@Override
+	public Set<Integer> findExistingItemIds( Collection<Integer> ids ) throws AppException {
+		return this.findExistingIds( "item", "itm_id", ids );
+	}
+	
+	@Override
+	public Set<Integer> findExistingItemModelIds( Collection<Integer> ids ) throws AppException {
+		return this.findExistingIds( "item_model", "imd_id", ids );
+	}
+	
+	@Override
+	public Set<Integer> findExistingBrandIds( Collection<Integer> ids ) throws AppException {
+		return this.findExistingIds( "brand", "brd_id", ids );
+	}
+	
+	@Override
+	public Set<Integer> findExistingPartnerIds( Collection<Integer> ids ) throws AppException {
+		return this.findExistingIds( "partner", "ptn_id", ids );
+	}
+	
+	/**
+	 * Busca em blocos de {@link #BATCH_SIZE} quais IDs existem na tabela, usando uma consulta IN por bloco
+	 * no lugar de uma consulta por registro.
+	 * 
+	 * @param table		tabela, sempre uma constante interna
+	 * @param idColumn	coluna do ID, sempre uma constante interna
+	 * @param ids		IDs que devem ser verificados
+	 */
+	private Set<Integer> findExistingIds( String table, String idColumn, Collection<Integer> ids ) throws AppException {
+		Set<Integer> existing = new HashSet<>();
+		
+		try {
+			if( ids == null || ids.isEmpty() ) {
+				return existing;
+			}
+			
+			String query = "SELECT " + idColumn + " FROM " + table + " WHERE " + idColumn + " IN (:ids) ";
+			
+			List<Integer> list = new ArrayList<>( new HashSet<>( ids ) );
+			for( int start = 0; start < list.size(); start += BATCH_SIZE ) {
+				MapSqlParameterSource params = new MapSqlParameterSource();
+				params.addValue( "ids", list.subList( start, Math.min( start + BATCH_SIZE, list.size() ) ) );
+				
+				log.trace( "[QUERY] priceListForm.findExistingIds: {} [PARAMS]: {}", query, params.getValues() );
+				
+				existing.addAll( this.getJdbcTemplatePortal().queryForList( query, params, Integer.class ) );
+			}
+			
+			return existing;
+			
+		} catch (Exception e) {
+			log.error( "Erro ao verificar a existência dos registros em {}.", table, e );
+			throw new AppException( "Erro ao verificar a existência dos registros relacionados a lista de preço.", e );
+		}
+	}
+
 }
@@ -0,0 +1,29 @@
+package com.portal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Conteúdo de uma imagem de item pronto para ser servido: bytes, tipo, ETag e se o nome é um endereço por hash do
+ * conteúdo (imutável, podendo ser guardado em cache pelo navegador sem revalidação).
+ */
+@Builder
+@Getter
+@Setter
+@ToString(exclude = "content")
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageContentDTO {
+
+	private byte[] content;
+	
+	private String contentType;
+	
+	private String etag;
+	
+	private boolean immutable;
+}
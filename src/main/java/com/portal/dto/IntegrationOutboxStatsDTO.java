@@ -0,0 +1,26 @@
+package com.portal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Situação da fila de integração: registros aguardando envio, registros com falha e atraso do mais antigo pendente.
+ */
+@Builder
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntegrationOutboxStatsDTO {
+
+	private long pending;
+	
+	private long failed;
+	
+	private long lagSeconds;
+}
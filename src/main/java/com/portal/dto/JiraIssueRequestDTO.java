@@ -0,0 +1,26 @@
+package com.portal.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Dados de uma tarefa do JIRA montados na transação de negócio e gravados como payload na integration_outbox.
+ */
+@Builder
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class JiraIssueRequestDTO {
+
+	private String issueName;
+	
+	private Map<String, Object> fields;
+}
@@ -0,0 +1,28 @@
+package com.portal.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Página retornada pela paginação por keyset. Quando {@code nextCursor} é nulo não há mais registros.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class KeysetPageDTO<T> {
+
+	private List<T> content;
+	private String nextCursor;
+
+	public <R> KeysetPageDTO<R> map( Function<T, R> converter ) {
+		return new KeysetPageDTO<>( this.content.stream().map( converter ).collect( Collectors.toList() ), this.nextCursor );
+	}
+
+}
@@ -0,0 +1,29 @@
+package com.portal.dto;
+
+import org.springframework.data.domain.Sort;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Parâmetros de uma página por keyset (seek). O cursor é o valor opaco devolvido em
+ * {@link KeysetPageDTO#getNextCursor()} da página anterior; nulo para a primeira página.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class KeysetRequestDTO {
+
+	private String cursor;
+	private int size;
+	private String sortBy;
+	
+	@Builder.Default
+	private Sort.Direction sortDir = Sort.Direction.DESC;
+
+}
@@ -1,5 +1,8 @@
 package com.portal.dto;
 
+import java.util.Collections;
+import java.util.Set;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,6 +20,11 @@ public class ProposalSearchRulesDTO {
     boolean proposalViewPreposto;
     boolean proposalViewTeam;
 
+    /**
+     * Executivos cujas propostas o usuário enxerga pelas regras de preposto, dono e célula de venda.
+     */
+    Set<Integer> visibleSellerIds = Collections.emptySet();
+
     public ProposalSearchRulesDTO(boolean b) {
         this.proposalViewAll = b;
         this.proposalViewPromptDelivery = b;
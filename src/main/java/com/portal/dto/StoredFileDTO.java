@@ -0,0 +1,30 @@
+package com.portal.dto;
+
+import java.nio.file.Path;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Resultado da gravação de um upload: arquivo final, tamanho, hash SHA-256 (hexadecimal) e tipo detectado pelo conteúdo.
+ */
+@Builder
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredFileDTO {
+
+	private Path path;
+	
+	private long size;
+	
+	private String sha256;
+	
+	private String mediaType;
+}
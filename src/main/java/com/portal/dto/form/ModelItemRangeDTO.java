@@ -0,0 +1,34 @@
+package com.portal.dto.form;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Linha de item_model (item disponível para o modelo em um intervalo de anos) com a marca do modelo.
+ */
+@Builder
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ModelItemRangeDTO {
+
+	private Integer imdId;
+	
+	private Integer itmId;
+	
+	private Integer mdlId;
+	
+	private Integer brdId;
+	
+	private Integer yearStart;
+	
+	private Integer yearEnd;
+}
@@ -0,0 +1,30 @@
+package com.portal.dto.form;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Erro de validação de uma linha do formulário da lista de preço.
+ *
+ * section: products, itens, itensModel ou partners
+ * row: posição da linha dentro da seção, começando em 0
+ */
+@Builder
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceListFormRowErrorDTO {
+
+	private String section;
+
+	private Integer row;
+
+	private String message;
+
+}
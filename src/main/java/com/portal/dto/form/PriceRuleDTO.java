@@ -0,0 +1,38 @@
+package com.portal.dto.form;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Linha de price_item_model usada na resolução de preço em memória.
+ */
+@Builder
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PriceRuleDTO {
+
+	private Integer pimId;
+	
+	private Integer prlId;
+	
+	private Integer itmId;
+	
+	private Integer imdId;
+	
+	private Integer brdId;
+	
+	private boolean allModels;
+	
+	private boolean allBrands;
+	
+	private Double price;
+}
@@ -0,0 +1,30 @@
+package com.portal.dto.form;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Preço de item resolvido para a proposta: o ID é o pim_id (item por modelo) ou o pci_id (item avulso).
+ */
+@Builder
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ResolvedItemPriceDTO {
+
+	private Integer id;
+	
+	private Integer prlId;
+	
+	private Integer itmId;
+	
+	private Double price;
+}
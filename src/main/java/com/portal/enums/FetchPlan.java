@@ -0,0 +1,23 @@
+package com.portal.enums;
+
+/**
+ * Plano de carga usado no getById das entidades com muitos relacionamentos (vendedor, pessoa e usuário).
+ */
+public enum FetchPlan {
+
+    /**
+     * Apenas a linha da entidade e os IDs das chaves estrangeiras. Suficiente para validar existência ou ler o cargo.
+     */
+    ID_ONLY,
+
+    /**
+     * A entidade com os joins de cadastro (pessoa, usuário, cargo e classificação), sem as listas filhas.
+     */
+    SUMMARY,
+
+    /**
+     * A entidade com todas as listas filhas carregadas.
+     */
+    FULL;
+
+}
@@ -0,0 +1,55 @@
+package com.portal.enums;
+
+import com.portal.exceptions.BusException;
+
+/**
+ * Tamanhos das imagens dos itens gerados no upload. O tamanho é o maior lado, em pixels, preservando a proporção.
+ */
+public enum ImageSize {
+
+	/**
+	 * Arquivo enviado, sem redimensionamento.
+	 */
+	ORIGINAL( 0, null ),
+
+	/**
+	 * Imagem dos cards de item do formulário da proposta.
+	 */
+	CARD( 480, "card" ),
+
+	/**
+	 * Miniatura usada nas listagens.
+	 */
+	THUMBNAIL( 128, "thumb" );
+
+	private final int maxSize;
+	private final String suffix;
+
+	ImageSize( int maxSize, String suffix ) {
+		this.maxSize = maxSize;
+		this.suffix = suffix;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public String getSuffix() {
+		return suffix;
+	}
+
+	/**
+	 * Tamanho pelo nome, sem diferenciar maiúsculas. Nome inválido vem da requisição, por isso é erro de negócio (400).
+	 */
+	public static ImageSize getByName( String name ) throws BusException {
+		if( name != null ) {
+			for( ImageSize size : ImageSize.values() ) {
+				if( size.name().equalsIgnoreCase( name ) ) {
+					return size;
+				}
+			}
+		}
+
+		throw new BusException( "Tamanho de imagem inválido: " + name );
+	}
+}
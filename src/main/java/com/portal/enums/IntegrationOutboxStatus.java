@@ -0,0 +1,20 @@
+package com.portal.enums;
+
+/**
+ * Situação de um registro da integration_outbox.
+ */
+public enum IntegrationOutboxStatus {
+
+	/** Aguardando envio (novo ou aguardando a próxima tentativa). */
+	PENDING,
+
+	/** Reservado por um dispatcher até locked_until. */
+	PROCESSING,
+
+	/** Enviado com sucesso. */
+	DONE,
+
+	/** Esgotou as tentativas ou foi recusado pelo destino, precisa de intervenção. */
+	FAILED;
+
+}
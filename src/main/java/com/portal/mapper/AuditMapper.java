@@ -0,0 +1,40 @@
+package com.portal.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.portal.enums.AuditOperationType;
+import com.portal.model.AuditModel;
+
+public class AuditMapper implements RowMapper<AuditModel> {
+
+	@Override
+	public AuditModel mapRow(ResultSet rs, int rowNum) throws SQLException {
+		AuditModel model = new AuditModel();
+
+		model.setId( rs.getInt( "log_id" ) );
+		model.setDate( rs.getTimestamp( "log_date" ) );
+		model.setIp( rs.getString( "ip" ) );
+		model.setHostname( rs.getString( "hostname" ) );
+		model.setUsername( rs.getString( "username" ) );
+		model.setDetails( rs.getString( "details" ) );
+		model.setOperation( this.toOperation( rs.getString( "operation" ) ) );
+
+		return model;
+	}
+
+	/**
+	 * Registros antigos podem ter operações que não existem mais no enum; nesse caso a operação fica nula.
+	 */
+	private AuditOperationType toOperation( String operation ) {
+		for( AuditOperationType type : AuditOperationType.values() ) {
+			if( type.name().equals( operation ) ) {
+				return type;
+			}
+		}
+
+		return null;
+	}
+}
@@ -35,6 +35,7 @@ public class DocumentMapper implements RowMapper<Document> {
 						.contentType( rs.getString( "content_type" ) )
 						.description( rs.getString( "description" ) )
 						.filePath( rs.getString( "file_path" ) )
+						.sha256( rs.getString( "sha256" ) )
 						.createDate( rs.getTimestamp( "create_date" ).toLocalDateTime() )
 						.type( documentType )
 						.user( user )
@@ -0,0 +1,36 @@
+package com.portal.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.portal.enums.IntegrationOutboxStatus;
+import com.portal.model.IntegrationOutbox;
+
+public class IntegrationOutboxMapper implements RowMapper<IntegrationOutbox> {
+
+	@Override
+	public IntegrationOutbox mapRow(ResultSet rs, int rowNum) throws SQLException {
+		return IntegrationOutbox.builder()
+								.id( rs.getInt( "iob_id" ) )
+								.type( rs.getString( "type" ) )
+								.idempotencyKey( rs.getString( "idempotency_key" ) )
+								.aggregateId( rs.getInt( "aggregate_id" ) )
+								.payload( rs.getString( "payload" ) )
+								.status( IntegrationOutboxStatus.valueOf( rs.getString( "status" ) ) )
+								.attempts( rs.getInt( "attempts" ) )
+								.lastError( rs.getString( "last_error" ) )
+								.result( rs.getString( "result" ) )
+								.nextAttemptDate( this.toLocalDateTime( rs.getTimestamp( "next_attempt_date" ) ) )
+								.createDate( this.toLocalDateTime( rs.getTimestamp( "create_date" ) ) )
+								.processedDate( this.toLocalDateTime( rs.getTimestamp( "processed_date" ) ) )
+								.build();
+	}
+
+	private LocalDateTime toLocalDateTime( Timestamp timestamp ) {
+		return timestamp != null ? timestamp.toLocalDateTime() : null;
+	}
+}
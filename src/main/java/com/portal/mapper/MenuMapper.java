@@ -27,7 +27,6 @@ public class MenuMapper implements ResultSetExtractor<List<MenuModel>> {
 				MenuModel model = new MenuModel();
 				model.setId( rs.getInt( "mnu_id" ) );
 				model.setName( rs.getString( "name" ) );
-				model.setMenuPath( rs.getString("path") );
 				model.setDescription( rs.getString( "description" ) );
 				model.setIcon( rs.getString( "icon" ) );
 				model.setRoute( rs.getString( "url" ) );
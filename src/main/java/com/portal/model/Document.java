@@ -49,6 +49,10 @@ public class Document {
 
 	@Size(max = 255, groups = {OnUpdate.class, OnSave.class})
 	private String description; 
+
+	/** SHA-256 do conteúdo no armazenamento por conteúdo, nulo para os arquivos gravados antes dele. */
+	@Size(max = 64, groups = {OnUpdate.class, OnSave.class})
+	private String sha256;
 	
 	@NotNull(groups = {OnUpdate.class, OnSave.class})
 	private LocalDateTime createDate;
@@ -58,6 +62,10 @@ public class Document {
 	@NotNull(groups = {OnUpdate.class, OnSave.class})
 	private UserModel user;
 
+	public Document(Integer id, String fileName, String filePath, String contentType, String description, LocalDateTime createDate, Classifier type, UserModel user) {
+		this(id, fileName, filePath, contentType, description, null, createDate, type, user);
+	}
+
 
 	public static Document toEntity(DocumentDTO dto) {
 		if (dto == null) {
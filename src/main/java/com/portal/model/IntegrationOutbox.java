@@ -0,0 +1,52 @@
+package com.portal.model;
+
+import java.time.LocalDateTime;
+
+import com.portal.enums.IntegrationOutboxStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Registro de integração com sistema externo gravado na mesma transação da operação de negócio e enviado depois pelo
+ * dispatcher. A chave de idempotência é única: a mesma operação nunca gera dois envios.
+ */
+@Builder
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class IntegrationOutbox {
+
+	@EqualsAndHashCode.Include
+	private Integer id;
+	
+	private String type;
+	
+	private String idempotencyKey;
+	
+	private Integer aggregateId;
+	
+	private String payload;
+	
+	private IntegrationOutboxStatus status;
+	
+	private int attempts;
+	
+	private String lastError;
+	
+	private String result;
+	
+	private LocalDateTime nextAttemptDate;
+	
+	private LocalDateTime createDate;
+	
+	private LocalDateTime processedDate;
+}
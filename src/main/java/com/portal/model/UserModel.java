@@ -5,6 +5,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.portal.dto.UserDTO;
 
 import lombok.AllArgsConstructor;
@@ -22,6 +23,7 @@ public class UserModel implements Serializable {
 	
 	private Integer id;
 	private String username;
+	@JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
 	private String password;
 	private Classifier userType;
 	private Boolean enabled;
@@ -31,6 +33,7 @@ public class UserModel implements Serializable {
 	private Boolean changePass;
 	private Boolean expirePass;
 	private Integer passErrorCount;
+	@JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
 	private String forgotKey;
 	private Date forgotKeyCreated;
 	private Date lastPassChange;
@@ -16,6 +16,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.portal.utils.PortalJwtTokenUtil;
 
+import io.jsonwebtoken.Claims;
+
 public class JwtAuthenticationTokenFilter extends OncePerRequestFilter {
 
 	private static final String AUTH_HEADER = "Authorization";
@@ -32,11 +34,13 @@ public class JwtAuthenticationTokenFilter extends OncePerRequestFilter {
         	token = token.substring(7);
         }
 
-        String roleName = jwtTokenUtil.getRole(token);
+        // O token é verificado uma única vez; as claims ficam disponíveis para o restante da requisição
+        Claims claims = jwtTokenUtil.getClaims(token);
+        String roleName = jwtTokenUtil.getRole(claims);
         if (roleName != null) {
-            if (jwtTokenUtil.tokenValido(token)) {
-            	String username = jwtTokenUtil.getUsernameFromToken(token);
-            	Authentication authentication = new UsernamePasswordAuthenticationToken(username, null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+            if (jwtTokenUtil.tokenValido(claims)) {
+            	request.setAttribute(PortalJwtTokenUtil.CLAIMS_ATTRIBUTE, claims);
+            	Authentication authentication = new UsernamePasswordAuthenticationToken(claims.getSubject(), null, AuthorityUtils.createAuthorityList("ROLE_USER"));
     			SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }
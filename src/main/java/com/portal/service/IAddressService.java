@@ -1,6 +1,8 @@
 package com.portal.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.portal.exceptions.AppException;
@@ -12,5 +14,7 @@ public interface IAddressService extends IBaseService<AddressModel> {
 	public List<AddressModel> fillCity( List<AddressModel> addresses ) throws AppException, BusException;
 	
 	public Optional<AddressModel> fillCity( AddressModel address ) throws AppException, BusException;
+
+	public Map<Integer, AddressModel> getByIds( Collection<Integer> ids ) throws AppException, BusException;
 	
 }
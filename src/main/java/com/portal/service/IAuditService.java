@@ -1,5 +1,9 @@
 package com.portal.service;
 
+import java.util.List;
+
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.enums.AuditOperationType;
 import com.portal.exceptions.AppException;
@@ -12,4 +16,10 @@ public interface IAuditService {
 	
 	public void save( String details, AuditOperationType operation, UserProfileDTO userProfile ) throws AppException,BusException;
 	
+	public void saveAll( List<String> details, AuditOperationType operation, UserProfileDTO userProfile ) throws AppException,BusException;
+	
+	public KeysetPageDTO<AuditModel> listAllByKeyset( KeysetRequestDTO request ) throws AppException, BusException;
+	
+	public boolean canView( UserProfileDTO userProfile );
+	
 }
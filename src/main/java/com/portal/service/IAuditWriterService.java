@@ -0,0 +1,13 @@
+package com.portal.service;
+
+import java.util.List;
+
+import com.portal.model.AuditModel;
+
+public interface IAuditWriterService {
+
+	public void submit( List<AuditModel> models );
+
+	public int getQueueSize();
+
+}
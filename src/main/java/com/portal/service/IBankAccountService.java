@@ -1,6 +1,8 @@
 package com.portal.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Pageable;
 
@@ -15,5 +17,7 @@ public interface IBankAccountService extends IBaseService<BankAccount> {
 	public List<BankAccount> find( BankAccount model, Pageable pageable ) throws AppException, BusException;
 	
 	public List<BankAccount> search( BankAccount model, Pageable pageable ) throws AppException, BusException;
+
+	public Map<Integer, List<BankAccount>> findByPersons( Collection<Integer> perIds ) throws AppException, BusException;
 	
 }
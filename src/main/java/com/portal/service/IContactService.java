@@ -1,6 +1,8 @@
 package com.portal.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
@@ -9,5 +11,7 @@ import com.portal.model.Contact;
 public interface IContactService extends IBaseService<Contact> {
 	
 	public List<Contact> findByPerson(Integer id) throws AppException, BusException;
+
+	public Map<Integer, List<Contact>> findByPersons(Collection<Integer> ids) throws AppException, BusException;
     
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.portal.service;
 
+import java.nio.file.Path;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
@@ -16,4 +17,8 @@ public interface IDocumentService extends IBaseService<Document> {
 	
 	public List<Document> search( Document model, Pageable pageable ) throws AppException, BusException;
 	
+	public Path getStoredFile( Document model ) throws AppException, BusException;
+	
+	public List<String> listAllowedMimeTypes() throws AppException;
+	
 }
@@ -0,0 +1,25 @@
+package com.portal.service;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Collection;
+
+import com.portal.dto.StoredFileDTO;
+import com.portal.exceptions.AppException;
+import com.portal.exceptions.BusException;
+
+public interface IDocumentStoreService {
+
+	public StoredFileDTO put( InputStream inputStream, String fileName, long maxBytes, Collection<String> allowedMimeTypes ) throws AppException, BusException;
+	
+	public Path resolve( String sha256 ) throws BusException;
+	
+	public void addReference( String sha256 ) throws AppException, BusException;
+	
+	public void removeReference( String sha256 ) throws AppException, BusException;
+	
+	public int migrateLegacyDocuments() throws AppException;
+	
+	public void scrub() throws AppException;
+	
+}
@@ -1,5 +1,6 @@
 package com.portal.service;
 
+import java.io.OutputStream;
 import java.util.List;
 
 import com.portal.dto.UserProfileDTO;
@@ -13,8 +14,8 @@ public interface IHistoryService {
 	
 	Long getTotalRecords(SaleModel dto) throws AppException, BusException;
 	
-	public byte[] generateExportExcel(SaleModel dto) throws AppException, BusException;
+	public void generateExportExcel(SaleModel dto, OutputStream output) throws AppException, BusException;
 	
-	public byte[] generateExportPdf(SaleModel dto) throws AppException, BusException;
+	public void generateExportPdf(SaleModel dto, OutputStream output) throws AppException, BusException;
 
 }
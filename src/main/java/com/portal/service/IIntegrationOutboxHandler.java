@@ -0,0 +1,31 @@
+package com.portal.service;
+
+import com.portal.exceptions.AppException;
+import com.portal.exceptions.BusException;
+import com.portal.model.IntegrationOutbox;
+
+/**
+ * Envio de um tipo de registro da integration_outbox para o sistema externo.
+ */
+public interface IIntegrationOutboxHandler {
+
+	/**
+	 * Tipo de registro tratado, gravado na coluna type.
+	 */
+	public String getType();
+	
+	/**
+	 * Envia o registro. Executado fora de transação: não deve manter conexão com o banco durante a chamada externa.
+	 * 
+	 * @return resultado do envio (ex.: chave gerada no sistema externo)
+	 * @throws AppException	falha temporária, o envio será repetido
+	 * @throws BusException	registro recusado, não adianta repetir
+	 */
+	public String dispatch( IntegrationOutbox entry ) throws AppException, BusException;
+	
+	/**
+	 * Grava o resultado do envio no sistema. Executado na mesma transação que conclui o registro.
+	 */
+	public void complete( IntegrationOutbox entry, String result ) throws AppException;
+	
+}
@@ -0,0 +1,11 @@
+package com.portal.service;
+
+import com.portal.exceptions.AppException;
+
+public interface IIntegrationOutboxService {
+
+	public boolean enqueue( String type, String idempotencyKey, Integer aggregateId, Object payload ) throws AppException;
+	
+	public int dispatchPending();
+	
+}
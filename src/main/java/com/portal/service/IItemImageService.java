@@ -0,0 +1,20 @@
+package com.portal.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import com.portal.dto.ImageContentDTO;
+import com.portal.enums.ImageSize;
+import com.portal.exceptions.AppException;
+import com.portal.exceptions.BusException;
+
+public interface IItemImageService {
+
+	public String store( MultipartFile file, Integer id, String type ) throws AppException, BusException;
+	
+	public ImageContentDTO get( String name, ImageSize size ) throws AppException, BusException;
+	
+	public String getEtag( String name, ImageSize size );
+	
+	public void delete( String name );
+	
+}
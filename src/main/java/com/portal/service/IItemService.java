@@ -1,6 +1,5 @@
 package com.portal.service;
 
-import java.io.IOException;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
@@ -23,7 +22,7 @@ public interface IItemService extends IBaseService<Item> {
 
 	public Boolean store(MultipartFile file, Integer id, String type, UserProfileDTO userProfile) throws AppException, BusException;
 	
-	public String getItemImage(String id) throws AppException, IOException;
+	public String getItemImage(String name) throws AppException, BusException;
 	
 	public byte[] getImageIcon(Integer id) throws AppException, BusException;
 
@@ -24,4 +24,12 @@ public interface IJiraIntegrationService {
 	String createIssue(String issueName, Map<String, Object> valuesToCreateTransiction, UserProfileDTO userRequester)
 			throws NoSuchMessageException, AppException, JsonProcessingException, BusException; 
 
+	/**
+	 * Procura uma tarefa com exatamente o nome informado no projeto de integração.
+	 * 
+	 * @param issueName Nome da tarefa.
+	 * @return a chave da tarefa ou nulo se não existir
+	 */
+	String findIssueKey(String issueName) throws AppException;
+
 }
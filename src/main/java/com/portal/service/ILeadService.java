@@ -5,6 +5,8 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.dto.LeadDTO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.enums.LeadEvents;
@@ -17,6 +19,8 @@ public interface ILeadService extends IBaseService<Lead> {
 	
 	public List<Lead> listAll( Pageable pageable ) throws AppException, BusException;
 	
+	public KeysetPageDTO<Lead> listAllByKeyset( KeysetRequestDTO request ) throws AppException, BusException;
+	
 	public List<Lead> find( Lead model, Pageable pageable ) throws AppException, BusException;
 	
 	public List<Lead> search( Lead model, Pageable pageable ) throws AppException, BusException;
@@ -0,0 +1,12 @@
+package com.portal.service;
+
+import com.portal.exceptions.AppException;
+import com.portal.utils.MenuTree;
+
+public interface IMenuTreeService {
+
+	public MenuTree getTree() throws AppException;
+
+	public void reloadAfterCommit() throws AppException;
+
+}
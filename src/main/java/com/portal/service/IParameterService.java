@@ -9,6 +9,8 @@ public interface IParameterService extends IBaseService<ParameterModel> {
 
 	public String getValueOf(String name);
 
+	public Integer getIntValueOf(String name) throws AppException;
+
 	public List<String> getListFromConcatenatedParameter(String parameter) throws AppException;
 
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.portal.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.portal.dto.UserProfileDTO;
 import com.portal.exceptions.AppException;
@@ -11,6 +13,8 @@ import com.portal.model.PersonQualification;
 public interface IPersonQualificationService {
 
 	public List<PersonQualification> findByPerson( Integer perId ) throws AppException, BusException;
+
+	public Map<Integer, List<PersonQualification>> findByPersons( Collection<Integer> perIds ) throws AppException, BusException;
 	
 	public List<PersonQualification> findByQualification( Integer qlfId ) throws AppException, BusException;
 	
@@ -1,6 +1,8 @@
 package com.portal.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
@@ -20,4 +22,6 @@ public interface IPersonRelatedService extends IBaseService<PersonRelated> {
 	public Optional<PersonRelated> getById(Integer id, boolean withRule) throws AppException, BusException;
 
     List<PersonRelated> findByPerson(Integer id) throws AppException;
+
+    Map<Integer, List<PersonRelated>> findByPersons(Collection<Integer> perIds) throws AppException;
 }
@@ -5,14 +5,21 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
+import com.portal.enums.FetchPlan;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Person;
 
 public interface IPersonService extends IBaseService<Person> {
 
+	Optional<Person> getById(Integer id, FetchPlan plan) throws AppException, BusException;
+
 	List<Person> listAll(Pageable pageable) throws AppException, BusException;
 
+	KeysetPageDTO<Person> listAllByKeyset(KeysetRequestDTO request) throws AppException, BusException;
+
 	List<Person> find(Person model, Pageable pageable) throws AppException, BusException;
 
 	List<Person> search(Person model, Pageable pageable) throws AppException, BusException;
@@ -45,4 +52,6 @@ public interface IPersonService extends IBaseService<Person> {
 
 	Optional<Person> searchByDocument(String document) throws AppException;
 
+	boolean hasDuplicatePartnerDocument(Person model) throws AppException;
+
 }
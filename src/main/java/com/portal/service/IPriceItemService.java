@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.data.domain.Pageable;
 
+import com.portal.dto.UserProfileDTO;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.PriceItem;
@@ -11,4 +12,11 @@ import com.portal.model.PriceItem;
 public interface IPriceItemService extends IBaseService<PriceItem> {
 	
 	public List<PriceItem> find( PriceItem model, Pageable pageable ) throws AppException, BusException;
+	/**
+	 * Salva os preços em lote, com um único INSERT em lote e uma única gravação de auditoria.
+	 * As regras que dependem de consultas (existência e duplicidade) devem ser validadas antes
+	 * em conjunto, como em PriceListFormService.
+	 */
+	public void saveAll( List<PriceItem> models, UserProfileDTO userProfile ) throws AppException, BusException;
+
 }
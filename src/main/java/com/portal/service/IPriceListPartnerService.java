@@ -20,6 +20,12 @@ public interface IPriceListPartnerService  {
 	
 	public void save( Integer prlId, Integer ptnId ) throws AppException, BusException;
 	
+	/**
+	 * Salva em lote o relacionamento da lista com os parceiros. A existência dos parceiros deve ser
+	 * validada antes, em conjunto.
+	 */
+	public void saveAll( Integer prlId, List<Integer> ptnIds ) throws AppException, BusException;
+	
 	public void delete( Integer prlId, Integer ptnId  ) throws AppException, BusException;
 	
 	public void deleteByPriceList( Integer prlId  ) throws AppException, BusException;
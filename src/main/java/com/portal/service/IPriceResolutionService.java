@@ -0,0 +1,19 @@
+package com.portal.service;
+
+import java.util.List;
+
+import com.portal.dto.form.ProductItemFormDTO;
+import com.portal.dto.form.ResolvedItemPriceDTO;
+import com.portal.exceptions.AppException;
+
+public interface IPriceResolutionService {
+
+	public List<ResolvedItemPriceDTO> resolveItemModelPrices( ProductItemFormDTO productItemFormDTO ) throws AppException;
+
+	public List<ResolvedItemPriceDTO> resolveItemPrices( ProductItemFormDTO productItemFormDTO ) throws AppException;
+
+	public void evictAfterCommit( Integer prlId );
+
+	public void evictModelItemsAfterCommit( Integer mdlId );
+
+}
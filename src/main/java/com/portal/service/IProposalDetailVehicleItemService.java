@@ -1,6 +1,8 @@
 package com.portal.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Pageable;
 
@@ -11,4 +13,6 @@ import com.portal.model.ProposalDetailVehicleItem;
 public interface IProposalDetailVehicleItemService extends IBaseService<ProposalDetailVehicleItem>{
 
 	public List<ProposalDetailVehicleItem> find( ProposalDetailVehicleItem model, Pageable pageable ) throws AppException, BusException;
+	
+	public Map<Integer, Double> sumDiscountByDetailVehicle( Collection<Integer> detailVehicleIds ) throws AppException, BusException;
 }
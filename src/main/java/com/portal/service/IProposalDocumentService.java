@@ -28,7 +28,7 @@ public interface IProposalDocumentService  {
 	
 	public void deleteByProposal( Integer ppsId  ) throws AppException, BusException;
 
-	public Document store(MultipartFile multipartFile, Integer id, UserProfileDTO userProfile);
+	public Document store(MultipartFile multipartFile, Integer id, UserProfileDTO userProfile) throws AppException, BusException;
 
 	public String findDocument(Integer id) throws AppException, BusException, IOException;
 }
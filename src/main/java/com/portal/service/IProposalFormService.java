@@ -1,6 +1,7 @@
 package com.portal.service;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.List;
 
 import org.springframework.core.io.InputStreamResource;
@@ -48,6 +49,6 @@ public interface IProposalFormService {
 
 	public List<Partner> getListPartnerByChannelAndSeller(Integer channelId, Integer sellerId) throws AppException, BusException;
 	
-    public byte[] generateProposalReport(String proposalNumber) throws AppException, BusException;
+    public Path generateProposalReport(String proposalNumber) throws AppException, BusException;
 
 }
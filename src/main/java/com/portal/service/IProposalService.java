@@ -1,11 +1,14 @@
 package com.portal.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 
 import com.portal.dto.proposal.ProposalDTO;
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Proposal;
@@ -16,6 +19,8 @@ public interface IProposalService extends IBaseService<Proposal> {
 	
 	public List<Proposal> listAll( Pageable pageable ) throws AppException, BusException;
 	
+	public KeysetPageDTO<Proposal> listAllByKeyset( KeysetRequestDTO request ) throws AppException, BusException;
+	
 	public List<Proposal> find( Proposal model, Pageable pageable ) throws AppException, BusException;
 	
 	public List<Proposal> search( Proposal model, Pageable pageable ) throws AppException, BusException;
@@ -47,4 +52,12 @@ public interface IProposalService extends IBaseService<Proposal> {
 	public ProposalDTO getProposalForFillFollowUp(Integer id) throws AppException, BusException;
 
 	public Optional<Proposal> getAllProposalIdForFillFollowUp(Integer id) throws BusException, AppException;
+
+	public Optional<LocalDateTime> getUpdateDate(String proposalNumber) throws AppException;
+
+	public void evictReportCacheByPerson(Integer perId) throws AppException;
+
+	public void evictReportCacheBySeller(Integer selId) throws AppException;
+
+	public void evictReportCacheByVehicle(Integer vheId) throws AppException;
 }
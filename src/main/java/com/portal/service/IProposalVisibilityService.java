@@ -0,0 +1,13 @@
+package com.portal.service;
+
+import com.portal.dto.ProposalSearchRulesDTO;
+import com.portal.dto.UserProfileDTO;
+import com.portal.exceptions.AppException;
+
+public interface IProposalVisibilityService {
+
+	public ProposalSearchRulesDTO getSearchRules( UserProfileDTO userProfile ) throws AppException;
+
+	public void evictAll();
+
+}
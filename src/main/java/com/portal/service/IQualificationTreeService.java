@@ -6,6 +6,7 @@ import com.portal.dto.QualificationTreePathDTO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
+import com.portal.model.Qualification;
 
 public interface IQualificationTreeService {
 	
@@ -15,6 +16,8 @@ public interface IQualificationTreeService {
 	
 	public void moveNode( int nodeId, int parentId ) throws AppException, BusException;
 	
+	public void updateNode( Qualification model ) throws AppException;
+	
 	public List<QualificationTreePathDTO> tree() throws AppException, BusException;
 
 	public List<QualificationTreePathDTO> treeByName( String name ) throws AppException, BusException;
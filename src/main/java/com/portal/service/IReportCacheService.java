@@ -0,0 +1,22 @@
+package com.portal.service;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import com.portal.exceptions.AppException;
+
+public interface IReportCacheService {
+
+	/**
+	 * Escreve o conteúdo de um relatório no arquivo de cache.
+	 */
+	@FunctionalInterface
+	public interface ReportWriter {
+		public void write( OutputStream output ) throws Exception;
+	}
+
+	public Path getOrCreate( String group, String key, ReportWriter writer ) throws AppException;
+
+	public void evict( String group );
+
+}
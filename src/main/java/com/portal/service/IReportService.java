@@ -1,7 +1,9 @@
 package com.portal.service;
 
+import java.io.OutputStream;
 import java.util.List;
 
+import com.portal.exceptions.AppException;
 import com.portal.model.ReportModel;
 
 public interface IReportService {
@@ -12,6 +14,6 @@ public interface IReportService {
 	
 	public List<ReportModel> listAllFolders(String token);
 
-	public byte[] getReport(String jasperUrl, String reportPath, String jasperUser, String jasperPassword, String params);
+	public void writeReport(String jasperUrl, String reportPath, String jasperUser, String jasperPassword, String params, OutputStream output) throws AppException;
 
 }
@@ -6,6 +6,7 @@ import java.util.Optional;
 import com.portal.model.SalesTeam;
 import org.springframework.data.domain.Pageable;
 
+import com.portal.enums.FetchPlan;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Seller;
@@ -20,8 +21,12 @@ public interface ISellerService extends IBaseService<Seller> {
 
     public List<Seller> find(Seller model, Pageable pageable) throws AppException;
 
+    public Optional<Seller> getById(Integer id, FetchPlan plan) throws AppException, BusException;
+
     public Optional<Seller> getByUser(Integer id) throws AppException, BusException;
 
+    public Optional<Seller> getByUser(Integer id, FetchPlan plan) throws AppException, BusException;
+
     public List<Seller> getByAgent(Integer id) throws AppException, BusException;
 
     public List<Seller> getBySalesTeam(List<SalesTeam> salesTeamList) throws AppException;
@@ -0,0 +1,18 @@
+package com.portal.service;
+
+import java.util.Date;
+import java.util.Optional;
+
+import com.portal.dto.UserProfileDTO;
+import com.portal.exceptions.AppException;
+import com.portal.exceptions.BusException;
+
+public interface IUserProfileCacheService {
+
+	public Optional<UserProfileDTO> getProfile( String username, Date tokenCreated ) throws AppException, BusException;
+
+	public void evict( String username );
+
+	public void evictAll();
+
+}
@@ -3,12 +3,15 @@ package com.portal.service;
 import java.util.Optional;
 
 import com.portal.dto.UserProfileDTO;
+import com.portal.enums.FetchPlan;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.UserModel;
 
 public interface IUserService extends IBaseService<UserModel> {
 
+	public Optional<UserModel> getById(Integer id, FetchPlan plan) throws AppException, BusException;
+
 	public Optional<UserModel> saveUserConfig(UserModel model) throws AppException, BusException;
 	
 	public Optional<UserModel> findLogin(UserModel model) throws AppException, BusException;
@@ -6,6 +6,8 @@ import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 
 import com.portal.dto.VehicleDTO;
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.VehicleModel;
@@ -14,6 +16,8 @@ public interface IVehicleService extends IBaseService<VehicleModel> {
 	
 	public List<VehicleModel> listAll(Pageable pageable ) throws AppException, BusException;
 	
+	public KeysetPageDTO<VehicleModel> listAllByKeyset( KeysetRequestDTO request ) throws AppException, BusException;
+	
 	public List<VehicleModel> find(VehicleModel model, Pageable pageable ) throws AppException, BusException;
 	
 	public List<VehicleModel> search(VehicleModel model, Pageable pageable ) throws AppException, BusException;
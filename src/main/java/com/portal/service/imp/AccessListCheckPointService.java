@@ -11,6 +11,7 @@ import com.portal.exceptions.BusException;
 import com.portal.model.AccessListModel;
 import com.portal.model.CheckpointModel;
 import com.portal.service.IAccessListCheckPointService;
+import com.portal.service.IUserProfileCacheService;
 
 @Service
 public class AccessListCheckPointService implements IAccessListCheckPointService {
@@ -18,6 +19,9 @@ public class AccessListCheckPointService implements IAccessListCheckPointService
 	@Autowired
 	private IAccessListCheckPointDAO dao;
 	
+	@Autowired
+	private IUserProfileCacheService userProfileCacheService;
+	
 	@Override
 	public List<CheckpointModel> listCheckpointByAccessList(Integer ckpId, Integer aclId) throws AppException, BusException{
 		return this.dao.listCheckpointByAccessList(ckpId, aclId);
@@ -32,16 +36,19 @@ public class AccessListCheckPointService implements IAccessListCheckPointService
 				this.dao.save(model, checkpoint);
 			}
 		}
+		this.userProfileCacheService.evictAll();
 	}
 	
 	@Override
 	public void save(AccessListModel model, CheckpointModel checkpoint) throws AppException, BusException{
 		dao.save(model, checkpoint);
+		this.userProfileCacheService.evictAll();
 	}
 	
 	@Override
 	public void delete(Integer ckpId, Integer aclId) throws AppException, BusException {
 		dao.delete(ckpId, aclId);
+		this.userProfileCacheService.evictAll();
 	}
 
 }
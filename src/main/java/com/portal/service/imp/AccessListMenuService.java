@@ -1,6 +1,5 @@
 package com.portal.service.imp;
 
-import java.util.LinkedList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +12,7 @@ import com.portal.exceptions.BusException;
 import com.portal.model.AccessListModel;
 import com.portal.model.MenuModel;
 import com.portal.service.IAccessListMenuService;
+import com.portal.service.IMenuTreeService;
 
 @Service
 public class AccessListMenuService implements IAccessListMenuService {
@@ -20,35 +20,15 @@ public class AccessListMenuService implements IAccessListMenuService {
 	@Autowired
 	private IAccessListMenuDAO dao;
 	
+	@Autowired
+	private IMenuTreeService menuTreeService;
+	
+	/**
+	 * Menus do portal (raízes com seus submenus) da lista de acesso, lidos da árvore em memória.
+	 */
 	@Override
 	public List<MenuModel> listMenuByAccessList(Integer id) throws AppException, BusException{
-		List<MenuModel> returMenus = new LinkedList<MenuModel>();
-		List<MenuModel> menus = this.dao.listMenuByAccessList(id);
-		if(menus != null && !menus.isEmpty()) {
-			for(MenuModel menu : menus) {
-				if(menu.getType().getType().equals(MenuType.PORTAL_PRODUCT.getType().getType())) {
-					if(menu.getRoot() == null) {
-						returMenus.add(menu);
-					}
-				}
-			}
-			
-			for(MenuModel menu : menus) {
-				if(menu.getType().getType().equals(MenuType.PORTAL_PRODUCT.getType().getType())) {
-					if(menu.getRoot() != null) {
-						if(returMenus.contains(menu.getRoot())) {
-							MenuModel root = returMenus.get(returMenus.indexOf(menu.getRoot()));
-							if(root.getSubmenus() == null) {
-								root.setSubmenus(new LinkedList<MenuModel>());
-							}
-							root.getSubmenus().add(menu);
-						}
-					}
-				}
-			}
-		}
-		
-		return returMenus;
+		return this.menuTreeService.getTree().listTree( id, MenuType.PORTAL_PRODUCT );
 	}
 	
 	@Override
@@ -61,16 +41,19 @@ public class AccessListMenuService implements IAccessListMenuService {
 				this.dao.save(model, menu);
 			}
 		}
+		this.menuTreeService.reloadAfterCommit();
 	}
 	
 	@Override
 	public void save(AccessListModel model, MenuModel menu) throws AppException, BusException{
 		dao.save(model, menu);
+		this.menuTreeService.reloadAfterCommit();
 	}
 	
 	@Override
 	public void delete(Integer id) throws AppException, BusException {
 		dao.delete(id);
+		this.menuTreeService.reloadAfterCommit();
 	}
 
 }
@@ -22,6 +22,7 @@ import com.portal.service.IAccessListCheckPointService;
 import com.portal.service.IAccessListMenuService;
 import com.portal.service.IAccessListService;
 import com.portal.service.IAuditService;
+import com.portal.service.IUserProfileCacheService;
 
 @Service
 @Transactional(readOnly = false, propagation = Propagation.REQUIRED, rollbackFor = Exception.class)
@@ -44,6 +45,9 @@ public class AccessListService implements IAccessListService {
     
     @Autowired
     private ObjectMapper objectMapper;
+    
+    @Autowired
+    private IUserProfileCacheService userProfileCacheService;
 	
 	@Override
 	public Optional<AccessListModel> find(AccessListModel model) throws AppException, BusException {
@@ -86,6 +90,7 @@ public class AccessListService implements IAccessListService {
 		Optional<AccessListModel> accessList = dao.save(model);
 		this.accessListMenuService.saveAccessListMenus(accessList.get());
 		this.accessListCheckpointService.saveAccessListCheckpoints(accessList.get());
+		this.userProfileCacheService.evictAll();
 		this.audit(model, AuditOperationType.PERSON_INSERTED, userProfile);
 		return accessList;
 	}
@@ -96,6 +101,7 @@ public class AccessListService implements IAccessListService {
 		this.validateAccesslist(model);
 		this.accessListMenuService.saveAccessListMenus(model);
 		this.accessListCheckpointService.saveAccessListCheckpoints(model);
+		this.userProfileCacheService.evictAll();
 		this.audit( model, AuditOperationType.ACCESS_LIST_UPDATED, userProfile );
 		return this.dao.update(model);
 	}
@@ -110,6 +116,7 @@ public class AccessListService implements IAccessListService {
 			
 			this.audit(model.get(), AuditOperationType.ACCESS_LIST_DELETED, userProfile);
 			dao.delete(id);
+			this.userProfileCacheService.evictAll();
 		}
 	}
 	
@@ -1,6 +1,8 @@
 package com.portal.service.imp;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,6 +48,11 @@ public class AddressService implements IAddressService {
 		return this.dao.getById(id);
 	}
 	
+	@Override
+	public Map<Integer, AddressModel> getByIds(Collection<Integer> ids) throws AppException, BusException {
+		return this.dao.getByIds(ids);
+	}
+	
 	@Override
 	public Optional<AddressModel> find(AddressModel model) throws AppException, BusException {
 		return dao.find(model);
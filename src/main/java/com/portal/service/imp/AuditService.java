@@ -1,6 +1,10 @@
 package com.portal.service.imp;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -8,36 +12,127 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.portal.dao.IAuditDAO;
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.enums.AuditOperationType;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.AuditModel;
 import com.portal.service.IAuditService;
+import com.portal.service.IAuditWriterService;
 
 @Service
 @Transactional(readOnly = false, propagation = Propagation.REQUIRED, rollbackFor = Exception.class)
 public class AuditService implements IAuditService {
 
+	public static final String VIEW = "AUDIT.VIEW";
+
+	@Autowired
+	private IAuditWriterService writer;
+
 	@Autowired
 	private IAuditDAO dao;
-	
+
 	@Autowired
 	private HttpServletRequest request;
 
 	public void save( AuditModel model, UserProfileDTO userProfile ) throws AppException, BusException {
-		this.dao.save( model );
+		this.enqueue( Collections.singletonList( model ) );
 	}
 
 	public void save( String details, AuditOperationType operation, UserProfileDTO profileDTO ) throws AppException, BusException {
-		
+
 		if( profileDTO == null || profileDTO.getUser() == null || profileDTO.getUser().getUsername() == null ) {
 			throw new BusException( "As informações do usuário logado estão inválidas." );
 		}
-		
+
 		this.save( new AuditModel( new Date(), request.getRemoteAddr(), request.getRemoteHost(), profileDTO.getUser().getUsername(), details, operation ), profileDTO );
 	}
-	
+
+	/**
+	 * Grava em um único lote um registro de auditoria para cada detalhe informado.
+	 */
+	public void saveAll( List<String> details, AuditOperationType operation, UserProfileDTO profileDTO ) throws AppException, BusException {
+
+		if( profileDTO == null || profileDTO.getUser() == null || profileDTO.getUser().getUsername() == null ) {
+			throw new BusException( "As informações do usuário logado estão inválidas." );
+		}
+
+		Date now = new Date();
+		String ip = request.getRemoteAddr();
+		String hostname = request.getRemoteHost();
+		String username = profileDTO.getUser().getUsername();
+
+		this.enqueue( details.stream()
+								.map( detail -> new AuditModel( now, ip, hostname, username, detail, operation ) )
+								.collect( Collectors.toList() ) );
+	}
+
+	/**
+	 * Lista os registros de auditoria já gravados, paginando por keyset.
+	 * 
+	 * @param request cursor, tamanho da página e ordenação (id ou date)
+	 */
+	@Transactional(readOnly = true)
+	public KeysetPageDTO<AuditModel> listAllByKeyset( KeysetRequestDTO request ) throws AppException, BusException {
+		return this.dao.listAllByKeyset( request );
+	}
+
+	/**
+	 * Somente perfis com o checkpoint AUDIT.VIEW podem consultar os registros de auditoria.
+	 */
+	public boolean canView( UserProfileDTO userProfile ) {
+		if( userProfile == null || userProfile.getUser() == null 
+				|| userProfile.getUser().getAccessList() == null || userProfile.getUser().getAccessList().getCheckpoints() == null ) {
+			return false;
+		}
+
+		return userProfile.getUser().getAccessList().getCheckpoints().stream()
+																	.anyMatch( checkpoint -> VIEW.equals( checkpoint.getName() ) );
+	}
+
+	/**
+	 * Os registros ficam pendentes até o commit da transação atual e só então vão para a fila de gravação.
+	 * Se a transação for desfeita os registros são descartados.
+	 */
+	private void enqueue( List<AuditModel> models ) {
+		if( !TransactionSynchronizationManager.isSynchronizationActive() ) {
+			this.writer.submit( models );
+			return;
+		}
+
+		PendingAudit pending = TransactionSynchronizationManager.getSynchronizations().stream()
+									.filter( PendingAudit.class::isInstance )
+									.map( PendingAudit.class::cast )
+									.findFirst()
+									.orElse( null );
+
+		if( pending == null ) {
+			pending = new PendingAudit( this.writer );
+			TransactionSynchronizationManager.registerSynchronization( pending );
+		}
+
+		pending.models.addAll( models );
+	}
+
+	private static class PendingAudit implements TransactionSynchronization {
+
+		private final IAuditWriterService writer;
+		private final List<AuditModel> models = new ArrayList<>();
+
+		PendingAudit( IAuditWriterService writer ) {
+			this.writer = writer;
+		}
+
+		@Override
+		public void afterCommit() {
+			this.writer.submit( this.models );
+		}
+	}
+
 }
@@ -0,0 +1,248 @@
+package com.portal.service.imp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.portal.dao.IAuditDAO;
+import com.portal.model.AuditModel;
+import com.portal.service.IAuditWriterService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Grava os registros de auditoria fora da transação de negócio. Os registros entram em uma fila limitada
+ * e uma thread dedicada grava em lotes, quando o lote atinge o tamanho máximo ou o intervalo de gravação expira.
+ *
+ * Quando a fila está cheia o comportamento é definido por portal.audit.overflow-policy:
+ * BLOCK aguarda espaço até o offer-timeout e depois grava na thread de quem chamou, CALLER_RUNS grava
+ * direto na thread de quem chamou e DROP descarta o registro.
+ */
+@Service
+public class AuditWriterService implements IAuditWriterService {
+
+	private static final Logger logger = LoggerFactory.getLogger(AuditWriterService.class);
+
+	public enum OverflowPolicy { BLOCK, CALLER_RUNS, DROP }
+
+	@Autowired
+	private IAuditDAO dao;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Value("${portal.audit.queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${portal.audit.batch-size:500}")
+	private int batchSize;
+
+	@Value("${portal.audit.flush-interval:1000}")
+	private long flushInterval;
+
+	@Value("${portal.audit.offer-timeout:200}")
+	private long offerTimeout;
+
+	@Value("${portal.audit.shutdown-timeout:30000}")
+	private long shutdownTimeout;
+
+	@Value("${portal.audit.overflow-policy:BLOCK}")
+	private OverflowPolicy overflowPolicy;
+
+	private BlockingQueue<AuditModel> queue;
+
+	private TransactionTemplate transactionTemplate;
+
+	private Thread writer;
+
+	private volatile boolean running;
+
+	private Counter writtenCounter;
+	private Counter droppedCounter;
+	private Counter failedCounter;
+	private Counter callerRunsCounter;
+	private Timer flushTimer;
+
+	@PostConstruct
+	public void start() {
+		this.queue = new ArrayBlockingQueue<>(this.queueCapacity);
+
+		// A gravação sempre abre sua própria transação, inclusive quando executada no afterCommit de outra
+		this.transactionTemplate = new TransactionTemplate(this.transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		this.writtenCounter = Counter.builder("portal.audit.entries").tag("result", "written").register(meterRegistry);
+		this.droppedCounter = Counter.builder("portal.audit.entries").tag("result", "dropped").register(meterRegistry);
+		this.failedCounter = Counter.builder("portal.audit.entries").tag("result", "failed").register(meterRegistry);
+		this.callerRunsCounter = Counter.builder("portal.audit.entries").tag("result", "caller-runs").register(meterRegistry);
+		this.flushTimer = Timer.builder("portal.audit.flush").register(meterRegistry);
+		Gauge.builder("portal.audit.queue.size", this, AuditWriterService::getQueueSize).register(meterRegistry);
+
+		this.running = true;
+		this.writer = new Thread(this::run, "audit-writer");
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+
+	/**
+	 * Para de aceitar registros na fila e aguarda a gravação do que já foi enfileirado.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		this.running = false;
+
+		try {
+			this.writer.join(this.shutdownTimeout);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if(this.writer.isAlive()) {
+			logger.warn("Gravação da auditoria não terminou em {} ms, {} registros pendentes.", this.shutdownTimeout, this.queue.size());
+			return;
+		}
+
+		// Registros enfileirados enquanto a thread terminava
+		List<AuditModel> remaining = new ArrayList<>();
+		this.queue.drainTo(remaining);
+		if(!remaining.isEmpty()) {
+			this.write(remaining);
+		}
+	}
+
+	@Override
+	public void submit(List<AuditModel> models) {
+		if(models == null || models.isEmpty()) {
+			return;
+		}
+
+		if(!this.running) {
+			this.writeOnCaller(models);
+			return;
+		}
+
+		List<AuditModel> rejected = new ArrayList<>();
+		for(AuditModel model : models) {
+			if(!this.queue.offer(model) && !this.offerWithPolicy(model)) {
+				rejected.add(model);
+			}
+		}
+
+		if(!rejected.isEmpty()) {
+			if(this.overflowPolicy == OverflowPolicy.DROP) {
+				this.droppedCounter.increment(rejected.size());
+				logger.warn("Fila de auditoria cheia, {} registros descartados.", rejected.size());
+			} else {
+				this.writeOnCaller(rejected);
+			}
+		}
+	}
+
+	@Override
+	public int getQueueSize() {
+		return this.queue.size();
+	}
+
+	private boolean offerWithPolicy(AuditModel model) {
+		if(this.overflowPolicy != OverflowPolicy.BLOCK) {
+			return false;
+		}
+
+		try {
+			return this.queue.offer(model, this.offerTimeout, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void writeOnCaller(List<AuditModel> models) {
+		this.callerRunsCounter.increment(models.size());
+		this.write(models);
+	}
+
+	private void run() {
+		List<AuditModel> batch = new ArrayList<>(this.batchSize);
+
+		while(this.running || !this.queue.isEmpty()) {
+			try {
+				AuditModel first = this.queue.poll(this.flushInterval, TimeUnit.MILLISECONDS);
+				if(first == null) {
+					continue;
+				}
+
+				batch.add(first);
+				long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.flushInterval);
+
+				while(batch.size() < this.batchSize && this.running) {
+					if(this.queue.drainTo(batch, this.batchSize - batch.size()) > 0) {
+						continue;
+					}
+
+					long remaining = deadline - System.nanoTime();
+					AuditModel next = remaining > 0 ? this.queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+					if(next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+
+				// No desligamento grava o restante da fila sem esperar o intervalo
+				this.queue.drainTo(batch, this.batchSize - batch.size());
+
+			} catch (InterruptedException e) {
+				this.running = false;
+				this.queue.drainTo(batch);
+
+			} finally {
+				if(!batch.isEmpty()) {
+					this.write(batch);
+					batch = new ArrayList<>(this.batchSize);
+				}
+			}
+		}
+	}
+
+	private void write(List<AuditModel> batch) {
+		long start = System.nanoTime();
+
+		try {
+			this.transactionTemplate.executeWithoutResult(status -> {
+				try {
+					this.dao.saveAll(batch);
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			});
+			this.writtenCounter.increment(batch.size());
+
+		} catch (Exception e) {
+			this.failedCounter.increment(batch.size());
+			logger.error("Erro ao gravar {} registros de auditoria.", batch.size(), e);
+
+		} finally {
+			this.flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+}
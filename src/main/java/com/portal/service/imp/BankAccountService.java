@@ -1,6 +1,8 @@
 package com.portal.service.imp;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.validation.Validator;
@@ -20,6 +22,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.IBankAccountDAO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.enums.AuditOperationType;
+import com.portal.enums.FetchPlan;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Bank;
@@ -233,6 +236,16 @@ public class BankAccountService implements IBankAccountService {
 		return this.search( model, null );
 	}
 	
+	/**
+	 * Carrega as contas bancárias de várias pessoas de uma vez, agrupadas pelo ID da pessoa.
+	 * 
+	 * @param perIds IDs das pessoas
+	 */
+	@Override
+	public Map<Integer, List<BankAccount>> findByPersons( Collection<Integer> perIds ) throws AppException, BusException {
+		return this.dao.findByPersons( perIds );
+	}
+	
 	/**
 	 * Busca um banco pelo seu ID
 	 * 
@@ -334,7 +347,7 @@ public class BankAccountService implements IBankAccountService {
 				if( model.getPerson() == null || model.getPerson().getId() == null || model.getPerson().getId().equals(0) ) {
 					throw new BusException( "Não é possível salvar o relacionamento pois a pessoa relacionada é inválida ou não existe." );
 				} else {
-					Optional<Person> dbPriceList = this.personService.getById( model.getPerson().getId() );
+					Optional<Person> dbPriceList = this.personService.getById( model.getPerson().getId(), FetchPlan.ID_ONLY );
 					if( !dbPriceList.isPresent() ) {
 						throw new BusException( "Não é possível salvar o relacionamento pois a pessoa relacionada é inválida ou não existe." );	
 					}
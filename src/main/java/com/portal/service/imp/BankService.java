@@ -351,50 +351,13 @@ public class BankService implements IBankService {
 		if( model == null ) {
 			throw new BusException( "Não é possível chegar a duplicidade com o objeto da entidade nula." );
 		}
-		
-		Bank rnSearchName = Bank.builder()
-								.name( model.getName() )
-								.build();
 
-		Bank rnSearchCode = Bank.builder()
-								.code( model.getCode() )
-								.build();
-		
-		List<Bank> listNameBD = this.find( rnSearchName, null );
-		List<Bank> listCodeBD = this.find( rnSearchCode, null );
-		
-		// Save Action
-		if( model.getId() == null || model.getId().equals(0) ) {
-			if( listNameBD != null && !listNameBD.isEmpty() ) {
-				throw new BusException( "Já existe um banco com o mesmo nome.");
-			}
-			
-			if( listCodeBD != null && !listCodeBD.isEmpty() ) {
-				throw new BusException( "Já existe um banco com o mesmo código.");
-			}
+		if( this.dao.hasDuplicateName( model ) ) {
+			throw new BusException( "Já existe um banco com o mesmo nome." );
 		}
-		
-		// Update Action
-		if( model.getId() != null && !model.getId().equals(0) ) { 
-			if( listNameBD != null && !listNameBD.isEmpty() ) {
-				long count = listNameBD.stream()
-								.filter( item -> !item.getId().equals( model.getId() ) && item.getName().equals( model.getName() ) )
-								.count();
-			
-				if( count > 0 ) {
-					throw new BusException( "Já existe um banco com o mesmo nome.");
-				}
-			}
-			
-			if( listCodeBD != null && !listCodeBD.isEmpty() ) {
-				long count = listCodeBD.stream()
-								.filter( item -> !item.getId().equals( model.getId() ) && item.getCode().equals( model.getCode() ) )
-								.count();
-			
-				if( count > 0 ) {
-					throw new BusException( "Já existe um banco com o mesmo código.");
-				}
-			}
+
+		if( this.dao.hasDuplicateCode( model ) ) {
+			throw new BusException( "Já existe um banco com o mesmo código." );
 		}
 	}
 	
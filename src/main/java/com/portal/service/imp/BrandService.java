@@ -284,27 +284,9 @@ public class BrandService implements IBrandService {
 		if( model == null ) {
 			throw new BusException( "Não é possível chegar a duplicidade com o objeto da entidade nula." );
 		}
-		
-		Brand rnSearch = Brand.builder().name( model.getName() ).build();
-		List<Brand> listBD = this.find( rnSearch, null );
 
-		// Save Action
-		if( ( model.getId() == null || model.getId().equals(0) ) && 
-				listBD != null && !listBD.isEmpty() ) {
-			throw new BusException( "Já existe uma marca com o mesmo nome.");
-		}
-		
-		// Update Action
-		if( model.getId() != null && !model.getId().equals(0) && 
-				listBD != null && !listBD.isEmpty()) {
-			
-			long count = listBD.stream()
-							.filter( item -> !item.getId().equals( model.getId() ) && item.getName().equals( model.getName() ) )
-							.count();
-			
-			if( count > 0 ) {
-				throw new BusException( "Já existe uma marca com o mesmo nome.");
-			}
+		if( this.dao.hasDuplicate( model ) ) {
+			throw new BusException( "Já existe uma marca com o mesmo nome." );
 		}
 	}
 	
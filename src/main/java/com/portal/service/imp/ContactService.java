@@ -1,6 +1,8 @@
 package com.portal.service.imp;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -97,4 +99,9 @@ public class ContactService implements IContactService {
 	public List<Contact> findByPerson(Integer id) throws AppException, BusException {
 		return this.dao.findByPerson(id);
 	}
+
+	@Override
+	public Map<Integer, List<Contact>> findByPersons(Collection<Integer> ids) throws AppException, BusException {
+		return this.dao.findByPersons(ids);
+	}
 }
@@ -9,13 +9,13 @@ import java.text.Normalizer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
 import javax.validation.Validator;
 
 import org.apache.commons.io.FilenameUtils;
-import org.apache.tika.Tika;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
@@ -33,6 +33,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.IDocumentDAO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.enums.AuditOperationType;
+import com.portal.enums.FetchPlan;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Document;
@@ -40,8 +41,10 @@ import com.portal.model.Person;
 import com.portal.model.UserModel;
 import com.portal.service.IAuditService;
 import com.portal.service.IDocumentService;
+import com.portal.service.IDocumentStoreService;
 import com.portal.service.IParameterService;
 import com.portal.service.IUserService;
+import com.portal.utils.StreamingUpload;
 import com.portal.validators.ValidationHelper;
 import com.portal.validators.ValidationHelper.OnSave;
 import com.portal.validators.ValidationHelper.OnUpdate;
@@ -70,6 +73,9 @@ public class DocumentService implements IDocumentService {
 
 	@Autowired
 	private IParameterService parameterService;
+	
+	@Autowired
+	private IDocumentStoreService documentStoreService;
 
 	@Autowired
 	private ObjectMapper objectMapper;
@@ -131,6 +137,10 @@ public class DocumentService implements IDocumentService {
 
 			Optional<Document> saved = this.dao.save( model );
 			
+			if( model.getSha256() != null ) {
+				this.documentStoreService.addReference( model.getSha256() );
+			}
+			
 			this.audit( ( saved.isPresent() ? saved.get() : null ), AuditOperationType.DOCUMENT_INSERTED, userProfile);
 			
 			return saved;
@@ -260,6 +270,29 @@ public class DocumentService implements IDocumentService {
 		}
 	}
 
+	/**
+	 * Retorna o caminho do arquivo do documento dentro do diretório de armazenamento.
+	 * 
+	 * @param model documento com o file_path preenchido
+	 * @return caminho do arquivo ou null se o arquivo não existe
+	 */
+	@Override
+	public Path getStoredFile(Document model) throws AppException, BusException {
+		if( model == null || model.getFilePath() == null || model.getFilePath().isEmpty() ) {
+			throw new BusException( "Documento inválido." );
+		}
+		
+		Path rootLocation = Paths.get( this.locationDocument ).toAbsolutePath().normalize();
+		Path file = rootLocation.resolve( model.getFilePath() ).normalize();
+		
+		// Garante que o file_path não aponte para fora do diretório de documentos
+		if( !file.startsWith( rootLocation ) ) {
+			throw new BusException( "Caminho do documento inválido." );
+		}
+		
+		return ( Files.isRegularFile( file ) ? file : null );
+	}
+
 	/**
 	 * Lista todos as documentos.
 	 *
@@ -293,14 +326,21 @@ public class DocumentService implements IDocumentService {
 			// Regra: DOC-D1
 			this.validateProposalRelationship(id);
 
-			File file = new File(rootLocation + "/" + entityDB.get().getFilePath());
-			if( !Files.deleteIfExists( file.toPath() ) )  {
-				throw new AppException( "Apesar da tentativa o documento não foi excluído. Verificar possível falha." );
+			// Arquivos do armazenamento por conteúdo podem ser compartilhados, só são excluídos sem referências
+			if( entityDB.get().getSha256() == null ) {
+				File file = new File(rootLocation + "/" + entityDB.get().getFilePath());
+				if( !Files.deleteIfExists( file.toPath() ) )  {
+					throw new AppException( "Apesar da tentativa o documento não foi excluído. Verificar possível falha." );
+				}
 			}
 			
 			//this.audit( ( entityDB.isPresent() ? entityDB.get() : null ), AuditOperationType.DOCUMENT_DELETED, userProfile);
 			
 			this.dao.delete( id );
+			
+			if( entityDB.get().getSha256() != null ) {
+				this.documentStoreService.removeReference( entityDB.get().getSha256() );
+			}
 
 		} catch (BusException e) {
 			throw e;
@@ -335,32 +375,6 @@ public class DocumentService implements IDocumentService {
 		ValidationHelper.generateException( validator.validate( model, group));
 	}
 
-	/**
-	 * Valida se o arquivo já existe, em caso positivo adicionamos um número na frente.
-	 *
-	 * Regra: DOC-I9, DOC-U9
-	 *
-	 * @return
-	 * @throws AppException
-	 * @throws BusException
-	 */
-	private File processDuplicate( String directory, String filename, String extension ) throws AppException, BusException {
-		try {
-			File file = new File( directory + "/" + filename + "." + extension );
-	
-			int fileIndex = 1;
-			while ( file.exists() ) {
-				file = new File( directory + "/" + filename + "_" + fileIndex + "." + extension );
-				fileIndex++;
-			}
-			
-			return file; 
-			
-		}catch (Exception e) {
-			throw new AppException( "Erro na validação das extensões do arquivo." );
-		}
-	}
-	
 	/**
 	 * Trata o nome do arquivo para evitar problema com o SO
 	 * 
@@ -391,7 +405,7 @@ public class DocumentService implements IDocumentService {
 			throw new BusException( "O usuário é o obrigatório para salvar." );
 		}
 		
-		Optional<UserModel> userDB = this.userService.getById( user.getId() );
+		Optional<UserModel> userDB = this.userService.getById( user.getId(), FetchPlan.ID_ONLY );
 		if( !userDB.isPresent() ) {
 			throw new BusException( "O usuário é inválido ou não existe." );
 		}
@@ -464,8 +478,7 @@ public class DocumentService implements IDocumentService {
 		try {
 			List<String> supportedExtensionsList = this.listAllowedMimeTypes();
 
-			Tika tika = new Tika();
-			String mediaType = tika.detect(fileInputStream);
+			String mediaType = StreamingUpload.detect( fileInputStream, null );
 
             if( !supportedExtensionsList.contains(mediaType.toLowerCase() ) ) {
                 throw new BusException( "O tipo de conteúdo do arquivo não é permitido." );
@@ -526,14 +539,16 @@ public class DocumentService implements IDocumentService {
 	}
 	
 	/**
-	 * Lista todas as extensões permitidas para o upload dos documentos.
+	 * Lista os tipos de conteúdo permitidos no upload dos documentos (DOCUMENT_ALLOWED_MIME_TYPES), vazia se o
+	 * parâmetro não estiver cadastrado.
 	 */
-	private List<String> listAllowedMimeTypes() throws AppException {
+	@Override
+	public List<String> listAllowedMimeTypes() throws AppException {
 		try {
-			String extensions = parameterService.getValueOf( "DOCUMENT_ALLOWED_MIME_TYPES" );
+			String mimeTypes = parameterService.getValueOf( "DOCUMENT_ALLOWED_MIME_TYPES" );
 			
-			if( extensions != null ) {
-				return Arrays.asList( extensions.toLowerCase().split(",") );
+			if( mimeTypes != null && !mimeTypes.trim().isEmpty() ) {
+				return Arrays.stream( mimeTypes.toLowerCase().split(",") ).map( String::trim ).collect( Collectors.toList() );
 			}
 
 		} catch( Exception e ) {
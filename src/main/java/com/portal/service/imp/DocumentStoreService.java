@@ -0,0 +1,397 @@
+package com.portal.service.imp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.portal.dao.IDocumentBlobDAO;
+import com.portal.dao.IDocumentDAO;
+import com.portal.dto.StoredFileDTO;
+import com.portal.exceptions.AppException;
+import com.portal.exceptions.BusException;
+import com.portal.model.Document;
+import com.portal.service.IDocumentStoreService;
+import com.portal.utils.ContentAddressedStore;
+import com.portal.utils.StreamingUpload;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Armazenamento dos documentos por conteúdo ({@link ContentAddressedStore}) com contagem de referências em
+ * document_blob: o arquivo só é excluído quando o último documento que aponta para ele é removido.
+ *
+ * Além da gravação, mantém duas rotinas:
+ * <ul>
+ * 	<li>migração dos arquivos antigos (document_&lt;millis&gt;.ext no diretório raiz) para o armazenamento por conteúdo,
+ * 	executada na inicialização quando portal.document.migrate-on-startup estiver ligado;</li>
+ * 	<li>verificação periódica (portal.document.scrub-interval) que confere o hash de cada arquivo, recria os registros
+ * 	que faltam e remove arquivos sem referência.</li>
+ * </ul>
+ *
+ * O document.sha256 é a fonte da verdade: nenhum arquivo é excluído enquanto um documento apontar para ele, mesmo que
+ * o document_blob diga o contrário. Arquivos sem registro só são excluídos depois de portal.document.orphan-grace, pois
+ * entre a gravação do arquivo e o commit do documento o registro ainda não é visível para as outras transações.
+ */
+@Slf4j
+@Service
+public class DocumentStoreService implements IDocumentStoreService {
+
+	private static final int PAGE_SIZE = 500;
+
+	@Autowired
+	private IDocumentBlobDAO blobDAO;
+
+	@Autowired
+	private IDocumentDAO documentDAO;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Value("${store.location.document}")
+	private String locationDocument;
+
+	@Value("${portal.document.migrate-on-startup:false}")
+	private boolean migrateOnStartup;
+
+	@Value("${portal.document.orphan-grace:3600000}")
+	private long orphanGrace;
+
+	private ContentAddressedStore store;
+
+	private TransactionTemplate transactionTemplate;
+
+	private Counter verifiedCounter;
+	private Counter missingCounter;
+	private Counter corruptCounter;
+	private Counter removedCounter;
+
+	@PostConstruct
+	public void init() {
+		this.store = new ContentAddressedStore( Paths.get( this.locationDocument ) );
+
+		// Cada documento migrado é gravado em sua própria transação
+		this.transactionTemplate = new TransactionTemplate( this.transactionManager );
+		this.transactionTemplate.setPropagationBehavior( TransactionDefinition.PROPAGATION_REQUIRES_NEW );
+
+		this.verifiedCounter = Counter.builder( "portal.document.scrub" ).tag( "result", "verified" ).register( this.meterRegistry );
+		this.missingCounter = Counter.builder( "portal.document.scrub" ).tag( "result", "missing" ).register( this.meterRegistry );
+		this.corruptCounter = Counter.builder( "portal.document.scrub" ).tag( "result", "corrupt" ).register( this.meterRegistry );
+		this.removedCounter = Counter.builder( "portal.document.scrub" ).tag( "result", "removed" ).register( this.meterRegistry );
+	}
+
+	@Override
+	public StoredFileDTO put( InputStream inputStream, String fileName, long maxBytes, Collection<String> allowedMimeTypes ) throws AppException, BusException {
+		StoredFileDTO stored = this.store.put( inputStream, fileName, maxBytes, allowedMimeTypes );
+
+		// Renova a data do arquivo reaproveitado para que a verificação de órfãos respeite a carência
+		this.touch( stored.getPath() );
+
+		return stored;
+	}
+
+	@Override
+	public Path resolve( String sha256 ) throws BusException {
+		return this.store.resolve( sha256 );
+	}
+
+	@Override
+	public void addReference( String sha256 ) throws AppException, BusException {
+		Path blob = this.store.resolve( sha256 );
+		if( !Files.isRegularFile( blob ) ) {
+			throw new BusException( "O arquivo do documento não foi encontrado no armazenamento." );
+		}
+
+		try {
+			this.blobDAO.addReference( sha256, Files.size( blob ) );
+		} catch( IOException e ) {
+			throw new AppException( "Erro ao ler o tamanho do arquivo do documento.", e );
+		}
+	}
+
+	/**
+	 * Remove a referência e, se era a última, exclui o arquivo após o commit. O arquivo é mantido se outro documento
+	 * voltar a referenciá-lo ou se foi gravado há pouco (dentro da carência), ficando para a verificação periódica.
+	 */
+	@Override
+	public void removeReference( String sha256 ) throws AppException, BusException {
+		if( !this.blobDAO.removeReference( sha256 ) ) {
+			return;
+		}
+
+		if( TransactionSynchronizationManager.isSynchronizationActive() ) {
+			TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					deleteIfUnreferenced( sha256 );
+				}
+			} );
+		} else {
+			this.deleteIfUnreferenced( sha256 );
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void migrateOnStartup() {
+		if( !this.migrateOnStartup ) {
+			return;
+		}
+
+		try {
+			this.migrateLegacyDocuments();
+		} catch( Exception e ) {
+			log.error( "Erro na migração dos documentos para o armazenamento por conteúdo.", e );
+		}
+	}
+
+	/**
+	 * Move os documentos sem hash para o armazenamento por conteúdo. Pode ser executada novamente sem efeitos
+	 * colaterais: documentos já migrados não são listados e os que falharem são tentados na próxima execução.
+	 *
+	 * @return quantidade de documentos migrados
+	 */
+	@Override
+	public int migrateLegacyDocuments() throws AppException {
+		int migrated = 0;
+		int failed = 0;
+		Integer afterId = 0;
+
+		List<Document> page;
+		do {
+			page = this.documentDAO.listWithoutHash( afterId, PAGE_SIZE );
+
+			for( Document document : page ) {
+				afterId = document.getId();
+				if( this.migrate( document ) ) {
+					migrated++;
+				} else {
+					failed++;
+				}
+			}
+		} while( page.size() == PAGE_SIZE );
+
+		log.info( "Migração dos documentos para o armazenamento por conteúdo concluída: {} migrados, {} com falha.", migrated, failed );
+		return migrated;
+	}
+
+	@Scheduled(fixedDelayString = "${portal.document.scrub-interval:86400000}", initialDelayString = "${portal.document.scrub-interval:86400000}")
+	public void scheduledScrub() {
+		try {
+			this.scrub();
+		} catch( Exception e ) {
+			log.error( "Erro na verificação do armazenamento de documentos.", e );
+		}
+	}
+
+	/**
+	 * Verifica a integridade do armazenamento:
+	 * <ol>
+	 * 	<li>informa as divergências da contagem de referências, sem corrigi-las, pois os uploads ainda não confirmados
+	 * 	não são visíveis e a correção gravaria uma contagem menor que a real;</li>
+	 * 	<li>recria os registros de blob que faltam para hashes usados por documentos;</li>
+	 * 	<li>exclui os blobs sem referência e sem documentos;</li>
+	 * 	<li>confere se cada blob cadastrado existe e se o conteúdo corresponde ao hash;</li>
+	 * 	<li>exclui os arquivos sem cadastro e os temporários abandonados, respeitando a carência.</li>
+	 * </ol>
+	 */
+	@Override
+	public void scrub() throws AppException {
+		int mismatched = this.blobDAO.countMismatchedReferences();
+		if( mismatched > 0 ) {
+			log.warn( "Contagem de referências divergente dos documentos em {} arquivos do armazenamento de documentos.", mismatched );
+		}
+
+		this.restoreMissing();
+
+		for( String sha256 : this.blobDAO.listUnreferenced() ) {
+			this.blobDAO.delete( sha256 );
+			this.deleteIfUnreferenced( sha256 );
+		}
+
+		String after = null;
+		List<String> hashes;
+		do {
+			hashes = this.blobDAO.listHashes( after, PAGE_SIZE );
+
+			for( String sha256 : hashes ) {
+				after = sha256;
+				this.verify( sha256 );
+			}
+		} while( hashes.size() == PAGE_SIZE );
+
+		this.removeOrphans();
+	}
+
+	/**
+	 * Recria os registros de document_blob que faltam para os hashes usados por documentos, para que a verificação de
+	 * órfãos não exclua o arquivo.
+	 */
+	private void restoreMissing() throws AppException {
+		String after = null;
+		List<String> hashes;
+		do {
+			hashes = this.blobDAO.listMissing( after, PAGE_SIZE );
+
+			for( String sha256 : hashes ) {
+				after = sha256;
+				try {
+					Path blob = this.store.resolve( sha256 );
+					long size = Files.isRegularFile( blob ) ? Files.size( blob ) : 0;
+					this.blobDAO.restoreReference( sha256, size );
+					log.warn( "Registro do arquivo {} recriado no armazenamento de documentos.", sha256 );
+
+				} catch( IOException | BusException e ) {
+					log.error( "Erro ao recriar o registro do arquivo {} do armazenamento de documentos.", sha256, e );
+				}
+			}
+		} while( hashes.size() == PAGE_SIZE );
+	}
+
+	private boolean migrate( Document document ) {
+		try {
+			Path legacy = this.store.getRoot().resolve( document.getFilePath() ).normalize();
+			if( !legacy.startsWith( this.store.getRoot() ) || !Files.isRegularFile( legacy ) ) {
+				log.warn( "Arquivo do documento {} não encontrado para a migração: {}", document.getId(), document.getFilePath() );
+				return false;
+			}
+
+			String sha256 = StreamingUpload.sha256( legacy );
+			this.store.copyIn( legacy, sha256 );
+			this.touch( this.store.resolve( sha256 ) );
+
+			String filePath = ContentAddressedStore.relativePath( sha256 );
+			long size = Files.size( legacy );
+
+			this.transactionTemplate.execute( status -> {
+				try {
+					this.documentDAO.updateStorage( document.getId(), filePath, sha256 );
+					this.blobDAO.addReference( sha256, size );
+					return null;
+				} catch( AppException e ) {
+					throw new IllegalStateException( e );
+				}
+			} );
+
+			// O arquivo antigo só é excluído quando nenhum outro documento aponta para ele
+			if( !this.documentDAO.hasFilePath( document.getFilePath() ) ) {
+				Files.deleteIfExists( legacy );
+			}
+
+			return true;
+
+		} catch( Exception e ) {
+			log.error( "Erro ao migrar o documento {} para o armazenamento por conteúdo.", document.getId(), e );
+			return false;
+		}
+	}
+
+	private void verify( String sha256 ) {
+		try {
+			if( !this.store.exists( sha256 ) ) {
+				this.missingCounter.increment();
+				log.error( "Arquivo do armazenamento de documentos não encontrado: {}", sha256 );
+
+			} else if( !this.store.verify( sha256 ) ) {
+				this.corruptCounter.increment();
+				log.error( "Arquivo do armazenamento de documentos com conteúdo divergente do hash: {}", sha256 );
+
+			} else {
+				this.verifiedCounter.increment();
+			}
+
+		} catch( Exception e ) {
+			log.error( "Erro ao verificar o arquivo {} do armazenamento de documentos.", sha256, e );
+		}
+	}
+
+	private void removeOrphans() throws AppException {
+		List<Path> candidates = new ArrayList<>();
+		try {
+			this.store.forEachBlob( blob -> {
+				if( this.isPastGrace( blob ) ) {
+					candidates.add( blob );
+				}
+			} );
+
+			for( int start = 0; start < candidates.size(); start += PAGE_SIZE ) {
+				List<Path> chunk = candidates.subList( start, Math.min( start + PAGE_SIZE, candidates.size() ) );
+				List<String> hashes = new ArrayList<>( chunk.size() );
+				chunk.forEach( blob -> hashes.add( blob.getFileName().toString() ) );
+
+				Set<String> existing = this.blobDAO.listExisting( hashes );
+				for( String sha256 : hashes ) {
+					if( !existing.contains( sha256 ) ) {
+						this.deleteIfUnreferenced( sha256 );
+					}
+				}
+			}
+
+			Path temp = this.store.getRoot().resolve( ContentAddressedStore.TEMP_DIRECTORY );
+			if( Files.isDirectory( temp ) ) {
+				try( Stream<Path> files = Files.list( temp ) ) {
+					files.filter( this::isPastGrace ).forEach( StreamingUpload::deleteQuietly );
+				}
+			}
+
+		} catch( IOException e ) {
+			throw new AppException( "Erro ao percorrer o armazenamento de documentos.", e );
+		}
+	}
+
+	private void deleteIfUnreferenced( String sha256 ) {
+		try {
+			Path blob = this.store.resolve( sha256 );
+			if( Files.isRegularFile( blob ) && this.isPastGrace( blob ) && !this.blobDAO.exists( sha256 ) && !this.documentDAO.hasSha256( sha256 ) ) {
+				this.store.delete( sha256 );
+				this.removedCounter.increment();
+				log.debug( "Arquivo sem referência removido do armazenamento de documentos: {}", sha256 );
+			}
+		} catch( Exception e ) {
+			log.error( "Erro ao excluir o arquivo {} do armazenamento de documentos.", sha256, e );
+		}
+	}
+
+	private boolean isPastGrace( Path file ) {
+		try {
+			return Files.getLastModifiedTime( file ).toInstant().isBefore( Instant.now().minusMillis( this.orphanGrace ) );
+		} catch( IOException e ) {
+			return false;
+		}
+	}
+
+	private void touch( Path file ) {
+		try {
+			Files.setLastModifiedTime( file, FileTime.from( Instant.now() ) );
+		} catch( IOException e ) {
+			log.warn( "Não foi possível atualizar a data do arquivo {}.", file, e );
+		}
+	}
+
+}
@@ -0,0 +1,270 @@
+package com.portal.service.imp;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.dao.IIntegrationOutboxDAO;
+import com.portal.dto.IntegrationOutboxStatsDTO;
+import com.portal.exceptions.AppException;
+import com.portal.exceptions.BusException;
+import com.portal.model.IntegrationOutbox;
+import com.portal.service.IIntegrationOutboxHandler;
+import com.portal.service.IIntegrationOutboxService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Integrações com sistemas externos pelo padrão outbox: a operação de negócio grava o registro na integration_outbox
+ * dentro da sua própria transação e este serviço faz o envio depois, sem segurar conexão ou locks durante a chamada
+ * externa.
+ *
+ * O dispatcher consulta a fila a cada portal.integration.outbox.poll-interval e envia no máximo
+ * portal.integration.outbox.pool-size registros ao mesmo tempo. Cada registro é reservado com um UPDATE condicional,
+ * então várias instâncias podem rodar o dispatcher. As falhas temporárias são repetidas com espera exponencial
+ * (retry-base, dobrando até retry-max) até max-attempts; depois disso o registro fica como FAILED.
+ */
+@Slf4j
+@Service
+public class IntegrationOutboxService implements IIntegrationOutboxService {
+
+	@Autowired
+	private IIntegrationOutboxDAO dao;
+
+	@Autowired
+	private List<IIntegrationOutboxHandler> handlerList;
+
+	@Autowired
+	@Qualifier("integrationOutboxExecutor")
+	private TaskExecutor executor;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Value("${portal.integration.outbox.pool-size:4}")
+	private int poolSize;
+
+	@Value("${portal.integration.outbox.lock-timeout:120000}")
+	private long lockTimeout;
+
+	@Value("${portal.integration.outbox.retry-base:30000}")
+	private long retryBase;
+
+	@Value("${portal.integration.outbox.retry-max:3600000}")
+	private long retryMax;
+
+	@Value("${portal.integration.outbox.max-attempts:10}")
+	private int maxAttempts;
+
+	private Map<String, IIntegrationOutboxHandler> handlers;
+
+	private TransactionTemplate transactionTemplate;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicLong pending = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+	private final AtomicLong lagSeconds = new AtomicLong();
+
+	private Counter sentCounter;
+	private Counter retryCounter;
+	private Counter failedCounter;
+	private Timer dispatchTimer;
+
+	@PostConstruct
+	public void init() {
+		this.handlers = new HashMap<>();
+		this.handlerList.forEach( handler -> this.handlers.put( handler.getType(), handler ) );
+
+		// A conclusão do registro sempre abre sua própria transação, fora da chamada externa
+		this.transactionTemplate = new TransactionTemplate( this.transactionManager );
+		this.transactionTemplate.setPropagationBehavior( TransactionDefinition.PROPAGATION_REQUIRES_NEW );
+
+		this.sentCounter = Counter.builder( "portal.integration.outbox.dispatch" ).tag( "result", "sent" ).register( this.meterRegistry );
+		this.retryCounter = Counter.builder( "portal.integration.outbox.dispatch" ).tag( "result", "retry" ).register( this.meterRegistry );
+		this.failedCounter = Counter.builder( "portal.integration.outbox.dispatch" ).tag( "result", "failed" ).register( this.meterRegistry );
+		this.dispatchTimer = Timer.builder( "portal.integration.outbox.dispatch.duration" ).register( this.meterRegistry );
+		Gauge.builder( "portal.integration.outbox.pending", this.pending, AtomicLong::get ).register( this.meterRegistry );
+		Gauge.builder( "portal.integration.outbox.failed", this.failed, AtomicLong::get ).register( this.meterRegistry );
+		Gauge.builder( "portal.integration.outbox.lag", this.lagSeconds, AtomicLong::get ).baseUnit( "seconds" ).register( this.meterRegistry );
+		Gauge.builder( "portal.integration.outbox.in-flight", this.inFlight, AtomicInteger::get ).register( this.meterRegistry );
+	}
+
+	/**
+	 * Grava o registro na transação corrente. Se a chave de idempotência já existir nada é gravado.
+	 * 
+	 * @param type				tipo tratado por um {@link IIntegrationOutboxHandler}
+	 * @param idempotencyKey	chave única da operação
+	 * @param aggregateId		ID da entidade de origem
+	 * @param payload			dados do envio, gravados como JSON
+	 * @return true se o registro foi incluído
+	 */
+	@Override
+	public boolean enqueue( String type, String idempotencyKey, Integer aggregateId, Object payload ) throws AppException {
+		if( !this.handlers.containsKey( type ) ) {
+			throw new AppException( "Não existe tratamento para o tipo de integração " + type + "." );
+		}
+
+		try {
+			return this.dao.enqueue( IntegrationOutbox.builder()
+													.type( type )
+													.idempotencyKey( idempotencyKey )
+													.aggregateId( aggregateId )
+													.payload( this.objectMapper.writeValueAsString( payload ) )
+													.build() );
+		} catch( JsonProcessingException e ) {
+			throw new AppException( "Erro ao gerar os dados da integração.", e );
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${portal.integration.outbox.poll-interval:2000}", initialDelayString = "${portal.integration.outbox.poll-interval:2000}")
+	public void scheduledDispatch() {
+		this.dispatchPending();
+	}
+
+	/**
+	 * Reserva e envia os registros prontos, respeitando o limite de envios simultâneos.
+	 * 
+	 * @return quantidade de registros enviados ao executor
+	 */
+	@Override
+	public int dispatchPending() {
+		int submitted = 0;
+		try {
+			this.refreshStats();
+
+			int available = this.poolSize - this.inFlight.get();
+			if( available <= 0 ) {
+				return 0;
+			}
+
+			for( IntegrationOutbox entry : this.dao.listReady( available ) ) {
+				if( !this.dao.claim( entry.getId(), TimeUnit.MILLISECONDS.toSeconds( this.lockTimeout ) ) ) {
+					continue;
+				}
+				entry.setAttempts( entry.getAttempts() + 1 );
+
+				this.inFlight.incrementAndGet();
+				try {
+					this.executor.execute( () -> this.process( entry ) );
+					submitted++;
+				} catch( TaskRejectedException e ) {
+					this.inFlight.decrementAndGet();
+					this.dao.markRetry( entry.getId(), "Dispatcher ocupado.", 0 );
+				}
+			}
+
+		} catch( AppException e ) {
+			log.error( "Erro ao processar a fila de integração.", e );
+		}
+		return submitted;
+	}
+
+	private void process( IntegrationOutbox entry ) {
+		try {
+			IIntegrationOutboxHandler handler = this.handlers.get( entry.getType() );
+			if( handler == null ) {
+				throw new BusException( "Não existe tratamento para o tipo de integração " + entry.getType() + "." );
+			}
+
+			String result = this.dispatchTimer.recordCallable( () -> handler.dispatch( entry ) );
+
+			this.transactionTemplate.execute( new TransactionCallbackWithoutResult() {
+				@Override
+				protected void doInTransactionWithoutResult( TransactionStatus status ) {
+					try {
+						handler.complete( entry, result );
+						dao.markDone( entry.getId(), result );
+					} catch( AppException e ) {
+						throw new IllegalStateException( e.getMessage(), e );
+					}
+				}
+			} );
+			this.sentCounter.increment();
+
+		} catch( BusException e ) {
+			log.error( "Integração {} recusada: {}", entry.getIdempotencyKey(), e.getMessage() );
+			this.fail( entry, e.getMessage() );
+
+		} catch( Exception e ) {
+			if( entry.getAttempts() >= this.maxAttempts ) {
+				log.error( "Integração {} falhou após {} tentativas: {}", entry.getIdempotencyKey(), entry.getAttempts(), e.getMessage() );
+				this.fail( entry, e.getMessage() );
+			} else {
+				long delay = this.backoff( entry.getAttempts() );
+				log.warn( "Integração {} falhou na tentativa {}, nova tentativa em {} ms: {}", entry.getIdempotencyKey(), entry.getAttempts(), delay, e.getMessage() );
+				this.retry( entry, e.getMessage(), delay );
+			}
+
+		} finally {
+			this.inFlight.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Espera antes da próxima tentativa: retry-base na primeira falha, dobrando a cada falha até retry-max.
+	 */
+	public long backoff( int attempts ) {
+		int exponent = Math.min( Math.max( attempts - 1, 0 ), 30 );
+		return Math.min( this.retryBase << exponent, this.retryMax );
+	}
+
+	private void retry( IntegrationOutbox entry, String error, long delay ) {
+		try {
+			this.dao.markRetry( entry.getId(), error, TimeUnit.MILLISECONDS.toSeconds( delay ) );
+			this.retryCounter.increment();
+		} catch( AppException e ) {
+			// A reserva expira e o registro volta para a fila
+			log.error( "Erro ao reagendar a integração {}.", entry.getIdempotencyKey(), e );
+		}
+	}
+
+	private void fail( IntegrationOutbox entry, String error ) {
+		try {
+			this.dao.markFailed( entry.getId(), error );
+			this.failedCounter.increment();
+		} catch( AppException e ) {
+			log.error( "Erro ao marcar a falha da integração {}.", entry.getIdempotencyKey(), e );
+		}
+	}
+
+	private void refreshStats() throws AppException {
+		IntegrationOutboxStatsDTO stats = this.dao.getStats();
+		if( stats != null ) {
+			this.pending.set( stats.getPending() );
+			this.failed.set( stats.getFailed() );
+			this.lagSeconds.set( stats.getLagSeconds() );
+		}
+	}
+
+}
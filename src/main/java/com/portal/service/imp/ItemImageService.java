@@ -0,0 +1,325 @@
+package com.portal.service.imp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.PostConstruct;
+
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.portal.dto.ImageContentDTO;
+import com.portal.dto.StoredFileDTO;
+import com.portal.enums.ImageSize;
+import com.portal.exceptions.AppException;
+import com.portal.exceptions.BusException;
+import com.portal.service.IItemImageService;
+import com.portal.utils.ByteLruCache;
+import com.portal.utils.FileUtils;
+import com.portal.utils.ImageResizer;
+import com.portal.utils.StreamingUpload;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Armazenamento das imagens dos itens. No upload a imagem é gravada com o hash do conteúdo no nome
+ * ({id}_{tipo}_{hash}.{ext}) e os tamanhos derivados ({@link ImageSize}) são gerados uma única vez em
+ * derivatives/{tamanho}/. A leitura devolve os bytes do disco sem decodificar a imagem, passando por um cache em
+ * memória limitado por portal.item.image.cache.max-size-mb.
+ *
+ * Imagens gravadas antes dessa estrutura (sem hash no nome) continuam sendo servidas; os derivados delas são gerados
+ * no primeiro acesso.
+ */
+@Slf4j
+@Service
+public class ItemImageService implements IItemImageService {
+
+	private static final String DERIVATIVES_DIRECTORY = "derivatives";
+
+	private static final String TEMP_DIRECTORY = ".tmp";
+
+	private static final List<String> ALLOWED_MIME_TYPES = Arrays.asList( MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE );
+
+	private static final Pattern VALID_NAME = Pattern.compile( "[A-Za-z0-9_-][A-Za-z0-9._-]*" );
+
+	private static final Pattern CONTENT_ADDRESSED_NAME = Pattern.compile( "\\d+_[a-z]+_([0-9a-f]{16})\\.(png|jpg)" );
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Value("${store.location.item}")
+	private String locationItem;
+
+	@Value("${portal.item.image.max-size-mb:5}")
+	private long maxSizeMb;
+
+	@Value("${portal.item.image.cache.max-size-mb:64}")
+	private long cacheMaxSizeMb;
+
+	private Path root;
+
+	private ByteLruCache cache;
+
+	@PostConstruct
+	public void init() {
+		this.root = Paths.get( this.locationItem ).toAbsolutePath().normalize();
+		this.cache = new ByteLruCache( this.cacheMaxSizeMb * 1024 * 1024 );
+
+		Gauge.builder( "portal.item.image.cache.size", this.cache, ByteLruCache::getTotalBytes ).baseUnit( "bytes" ).register( this.meterRegistry );
+		FunctionCounter.builder( "portal.item.image.cache.requests", this.cache, ByteLruCache::getHits ).tag( "result", "hit" ).register( this.meterRegistry );
+		FunctionCounter.builder( "portal.item.image.cache.requests", this.cache, ByteLruCache::getMisses ).tag( "result", "miss" ).register( this.meterRegistry );
+	}
+
+	/**
+	 * Grava a imagem e seus derivados, devolvendo o nome do arquivo gravado. O tipo é validado pelo conteúdo e não
+	 * pelo cabeçalho enviado pelo navegador. Se a transação for desfeita, os arquivos gravados são excluídos.
+	 */
+	@Override
+	public String store( MultipartFile file, Integer id, String type ) throws AppException, BusException {
+		if( file == null || file.isEmpty() ) {
+			throw new BusException( "O arquivo não pode ser vazio!" );
+		}
+
+		StoredFileDTO stored;
+		try( InputStream inputStream = file.getInputStream() ) {
+			stored = StreamingUpload.write( inputStream, file.getOriginalFilename(), this.root.resolve( TEMP_DIRECTORY ), this.maxSizeMb * 1024 * 1024, ALLOWED_MIME_TYPES );
+		} catch( IOException e ) {
+			throw new AppException( "Erro ao ler o arquivo enviado.", e );
+		}
+
+		String extension = MediaType.IMAGE_PNG_VALUE.equals( stored.getMediaType() ) ? ImageResizer.PNG : ImageResizer.JPEG;
+		String name = id + "_" + type + "_" + stored.getSha256().substring( 0, 16 ) + "." + extension;
+
+		try {
+			if( !Files.isRegularFile( this.path( name, ImageSize.ORIGINAL ) ) ) {
+				this.deleteOnRollback( name );
+			}
+
+			byte[] original = Files.readAllBytes( stored.getPath() );
+
+			Map<ImageSize, byte[]> derivatives = new EnumMap<>( ImageSize.class );
+			for( ImageSize size : ImageSize.values() ) {
+				if( size != ImageSize.ORIGINAL ) {
+					derivatives.put( size, this.resize( original, size, extension ) );
+				}
+			}
+
+			for( Map.Entry<ImageSize, byte[]> derivative : derivatives.entrySet() ) {
+				this.write( this.path( name, derivative.getKey() ), derivative.getValue() );
+				this.cache.put( this.key( name, derivative.getKey() ), derivative.getValue() );
+			}
+
+			StreamingUpload.move( stored.getPath(), this.path( name, ImageSize.ORIGINAL ) );
+			this.cache.put( this.key( name, ImageSize.ORIGINAL ), original );
+
+			return name;
+
+		} catch( IOException e ) {
+			throw new AppException( "Erro ao gravar a imagem do item.", e );
+		} finally {
+			StreamingUpload.deleteQuietly( stored.getPath() );
+		}
+	}
+
+	/**
+	 * Conteúdo da imagem no tamanho solicitado, ou nulo se a imagem não existir.
+	 */
+	@Override
+	public ImageContentDTO get( String name, ImageSize size ) throws AppException, BusException {
+		Path original = this.path( name, ImageSize.ORIGINAL );
+		String key = this.key( name, size );
+
+		byte[] content = this.cache.get( key );
+		if( content == null ) {
+			try {
+				content = this.load( name, size, original );
+			} catch( IOException e ) {
+				throw new AppException( "Erro ao ler a imagem do item.", e );
+			}
+
+			if( content == null ) {
+				return null;
+			}
+			this.cache.put( key, content );
+		}
+
+		String etag = this.getEtag( name, size );
+		return ImageContentDTO.builder()
+								.content( content )
+								.contentType( this.contentType( name ) )
+								.etag( etag != null ? etag : "\"" + DigestUtils.md5DigestAsHex( content ) + "\"" )
+								.immutable( etag != null )
+								.build();
+	}
+
+	/**
+	 * ETag das imagens com hash no nome, que pode ser conferido sem ler o arquivo. Nulo para as demais.
+	 */
+	@Override
+	public String getEtag( String name, ImageSize size ) {
+		Matcher matcher = name != null ? CONTENT_ADDRESSED_NAME.matcher( name ) : null;
+		if( matcher == null || !matcher.matches() ) {
+			return null;
+		}
+		return "\"" + matcher.group( 1 ) + "-" + size.name().toLowerCase() + "\"";
+	}
+
+	/**
+	 * Exclui a imagem e seus derivados após o commit da transação corrente, para que um rollback não deixe o item
+	 * apontando para um arquivo inexistente.
+	 */
+	@Override
+	public void delete( String name ) {
+		if( name == null || !VALID_NAME.matcher( name ).matches() ) {
+			return;
+		}
+
+		if( TransactionSynchronizationManager.isSynchronizationActive() ) {
+			TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					deleteFiles( name );
+				}
+			} );
+		} else {
+			this.deleteFiles( name );
+		}
+	}
+
+	/**
+	 * Exclui a imagem e seus derivados se a transação corrente for desfeita, para que o rollback do item não deixe
+	 * arquivos órfãos. Só é registrado quando a imagem ainda não existia: reenviar o mesmo conteúdo gera o mesmo nome,
+	 * que já pode estar em uso pelo item.
+	 */
+	private void deleteOnRollback( String name ) {
+		if( !TransactionSynchronizationManager.isSynchronizationActive() ) {
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+			@Override
+			public void afterCompletion( int status ) {
+				if( status == STATUS_ROLLED_BACK ) {
+					deleteFiles( name );
+				}
+			}
+		} );
+	}
+
+	private void deleteFiles( String name ) {
+		for( ImageSize size : ImageSize.values() ) {
+			this.cache.remove( this.key( name, size ) );
+			try {
+				Files.deleteIfExists( this.path( name, size ) );
+			} catch( IOException | BusException e ) {
+				log.error( "Erro ao apagar a imagem {} do item.", name, e );
+			}
+		}
+	}
+
+	/**
+	 * Lê a imagem do disco. Derivados inexistentes (imagens antigas) são gerados e gravados para os próximos acessos;
+	 * se a imagem não puder ser redimensionada é devolvido o original.
+	 */
+	private byte[] load( String name, ImageSize size, Path original ) throws IOException, BusException {
+		Path path = this.path( name, size );
+		if( Files.isRegularFile( path ) ) {
+			return Files.readAllBytes( path );
+		}
+
+		if( size == ImageSize.ORIGINAL || !Files.isRegularFile( original ) ) {
+			return null;
+		}
+
+		byte[] source = Files.readAllBytes( original );
+		String format = this.format( name );
+		if( format == null ) {
+			return source;
+		}
+
+		try {
+			byte[] derivative = this.resize( source, size, format );
+			this.write( path, derivative );
+			return derivative;
+
+		} catch( BusException e ) {
+			log.warn( "Não foi possível gerar a imagem {} no tamanho {}, será usado o original.", name, size );
+			return source;
+		}
+	}
+
+	private byte[] resize( byte[] source, ImageSize size, String format ) throws BusException {
+		try {
+			return ImageResizer.resize( source, size.getMaxSize(), format );
+		} catch( IOException e ) {
+			throw new BusException( "O arquivo deve ser uma imagem!" );
+		}
+	}
+
+	/**
+	 * Grava em um temporário e move para o destino, evitando que uma leitura concorrente veja o arquivo pela metade.
+	 */
+	private void write( Path path, byte[] content ) throws IOException {
+		Files.createDirectories( path.getParent() );
+		Path temp = Files.createTempFile( path.getParent(), ".resize_", ".tmp" );
+		try {
+			Files.write( temp, content );
+			StreamingUpload.move( temp, path );
+		} finally {
+			StreamingUpload.deleteQuietly( temp );
+		}
+	}
+
+	private Path path( String name, ImageSize size ) throws BusException {
+		if( name == null || !VALID_NAME.matcher( name ).matches() ) {
+			throw new BusException( "Nome de imagem inválido." );
+		}
+
+		Path directory = size == ImageSize.ORIGINAL ? this.root : this.root.resolve( DERIVATIVES_DIRECTORY ).resolve( size.getSuffix() );
+		return directory.resolve( name );
+	}
+
+	private String key( String name, ImageSize size ) {
+		return size.name() + ":" + name;
+	}
+
+	/**
+	 * Formato dos derivados, o mesmo do original. Nulo para formatos que não são redimensionados (ex.: gif).
+	 */
+	private String format( String name ) {
+		switch( FilenameUtils.getExtension( name ).toLowerCase() ) {
+			case "png":
+				return ImageResizer.PNG;
+			case "jpg":
+			case "jpeg":
+				return ImageResizer.JPEG;
+			default:
+				return null;
+		}
+	}
+
+	private String contentType( String name ) {
+		String mediaType = FileUtils.getMediaType( name );
+		return mediaType != null ? mediaType : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+	}
+
+}
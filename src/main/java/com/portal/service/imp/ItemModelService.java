@@ -32,6 +32,7 @@ import com.portal.service.IAuditService;
 import com.portal.service.IItemModelService;
 import com.portal.service.IItemService;
 import com.portal.service.IModelService;
+import com.portal.service.IPriceResolutionService;
 import com.portal.validators.ValidationHelper;
 
 import lombok.extern.slf4j.Slf4j;
@@ -62,6 +63,9 @@ public class ItemModelService implements IItemModelService {
 	@Autowired
 	private ObjectMapper objectMapper;
 	
+	@Autowired
+	private IPriceResolutionService priceResolutionService;
+	
 	private static final Pageable DEFAULT_PAGINATION = PageRequest.of( 0, Integer.MAX_VALUE, Sort.Direction.fromString( "DESC" ), "imd_id"); 
 
 	/**
@@ -97,6 +101,8 @@ public class ItemModelService implements IItemModelService {
 			
 			Optional<ItemModel> saved = this.dao.save(model);
 			
+			this.evictModelItems( model );
+			
 			//this.audit( ( saved.isPresent() ? saved.get() : null ), AuditOperationType.ITEM_MODEL_INSERTED, userProfile);
 			
 			return saved;
@@ -135,6 +141,10 @@ public class ItemModelService implements IItemModelService {
 
 			Optional<ItemModel> saved = this.dao.update(model);
 			
+			// O modelo pode ter sido trocado, então os itens do modelo anterior também mudaram
+			this.evictModelItems( modelDB.get() );
+			this.evictModelItems( model );
+			
 			//this.audit( ( saved.isPresent() ? saved.get() : null ), AuditOperationType.ITEM_MODEL_UPDATED, userProfile);
 			
 			return saved;
@@ -253,6 +263,8 @@ public class ItemModelService implements IItemModelService {
 			this.audit( ( entityDB.isPresent() ? entityDB.get() : null ), AuditOperationType.ITEM_MODEL_DELETED, userProfile);
 			
 			this.dao.delete( id );
+			
+			this.evictModelItems( entityDB.get() );
 
 		} catch (BusException e) {
 			throw e;
@@ -262,6 +274,15 @@ public class ItemModelService implements IItemModelService {
 		}	
 	}
 	
+	/**
+	 * Descarta após o commit os itens em cache do modelo usados na resolução de preços da proposta.
+	 */
+	private void evictModelItems( ItemModel model ) {
+		if( model != null && model.getModel() != null ) {
+			this.priceResolutionService.evictModelItemsAfterCommit( model.getModel().getId() );
+		}
+	}
+	
 	@Override
 	public void audit(ItemModel model, AuditOperationType operationType, UserProfileDTO userProfile) throws AppException, BusException {
 		try {
@@ -1,23 +1,13 @@
 package com.portal.service.imp;
 
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
-import javax.imageio.ImageIO;
 import javax.validation.Validator;
 
-import org.apache.commons.io.FilenameUtils;
-import org.apache.tomcat.util.http.fileupload.ByteArrayOutputStream;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.i18n.LocaleContextHolder;
@@ -32,8 +22,10 @@ import org.springframework.web.multipart.MultipartFile;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.IItemDAO;
+import com.portal.dto.ImageContentDTO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.enums.AuditOperationType;
+import com.portal.enums.ImageSize;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Item;
@@ -42,10 +34,10 @@ import com.portal.model.Model;
 import com.portal.model.PaymentMethod;
 import com.portal.model.Person;
 import com.portal.service.IAuditService;
+import com.portal.service.IItemImageService;
 import com.portal.service.IItemModelService;
 import com.portal.service.IItemService;
 import com.portal.service.IModelService;
-import com.portal.utils.FileUtils;
 import com.portal.validators.ValidationHelper;
 import com.portal.validators.ValidationHelper.OnSave;
 import com.portal.validators.ValidationHelper.OnUpdate;
@@ -78,8 +70,11 @@ public class ItemService implements IItemService {
 	@Autowired
 	private ObjectMapper objectMapper;
 	
-	@Value("${store.location.item}")
-	private String locationItem;
+	@Autowired
+	private IItemImageService itemImageService;
+	
+	/** Colunas de imagem do item aceitas no upload. */
+	private static final List<String> IMAGE_TYPES = Arrays.asList("file", "icon");
 	
 	private static final Pageable DEFAULT_PAGINATION = PageRequest.of( 0, Integer.MAX_VALUE, Sort.Direction.fromString( "DESC" ), "itm_id"); 
 
@@ -477,28 +472,18 @@ public class ItemService implements IItemService {
 	}
 
 	private void syncFiles(Item item, Item itemDB) {
-		try {
-			if(item.getFile() == null || item.getFile().equals("")) {
-				Files.deleteIfExists(Paths.get(this.locationItem + "/" + itemDB.getFile()));
-			}
-		
-			if(item.getIcon() == null || item.getIcon().equals("")) {
-				Files.deleteIfExists(Paths.get(this.locationItem + "/" + itemDB.getIcon()));
-			}
-		} catch (IOException e) {
-			log.error("Erro ao apagar arquivo");
-			e.printStackTrace();
+		if(item.getFile() == null || item.getFile().equals("")) {
+			this.itemImageService.delete(itemDB.getFile());
+		}
+	
+		if(item.getIcon() == null || item.getIcon().equals("")) {
+			this.itemImageService.delete(itemDB.getIcon());
 		}
 	}
 	
 	private void deleteFiles(Item item) {
-		try {
-			Files.deleteIfExists(Paths.get(this.locationItem + "/" + item.getFile()));
-			Files.deleteIfExists(Paths.get(this.locationItem + "/" + item.getIcon()));
-		} catch (IOException e) {
-			log.error("Erro ao apagar arquivo");
-			e.printStackTrace();
-		}
+		this.itemImageService.delete(item.getFile());
+		this.itemImageService.delete(item.getIcon());
 	}
 	
 	@Override
@@ -525,29 +510,8 @@ public class ItemService implements IItemService {
 			throw new BusException( "Não é possível chegar a duplicidade com o objeto da entidade nula." );
 		}
 
-		Item rnSearch = Item.builder()
-				.name( model.getName() )
-				.build();
-
-		List<Item> listBD = this.find( rnSearch, null );
-		
-		// Save Action
-		if( ( model.getId() == null || model.getId().equals(0) ) && 
-				listBD != null && !listBD.isEmpty() ) {
-			throw new BusException( "Já existe um item com o mesmo nome.");
-		}
-		
-		// Update Action
-		if( model.getId() != null && !model.getId().equals(0) && 
-				listBD != null && !listBD.isEmpty()) {
-			
-			long count = listBD.stream()
-							.filter( item -> !item.getId().equals( model.getId() ) && item.getName().equals( model.getName() ) )
-							.count();
-			
-			if( count > 0 ) {
-				throw new BusException( "Já existe um item com o mesmo nome.");
-			}
+		if( this.dao.hasDuplicate( model ) ) {
+			throw new BusException( "Já existe um item com o mesmo nome." );
 		}
 	}
 	
@@ -609,67 +573,46 @@ public class ItemService implements IItemService {
 	}
 	
 	/**
-	 * Executa o upload de imagens do cadastro de Item
-	 * @throws BusException 
+	 * Executa o upload de imagens do cadastro de Item. A imagem anterior do mesmo tipo é excluída após o commit.
+	 * 
+	 * @param type	coluna da imagem no item: file ou icon
 	 */
 	public Boolean store(MultipartFile file, Integer id, String type, UserProfileDTO userProfile)  throws AppException, BusException {
-		try {
-			if (file.isEmpty()) {
-				throw new BusException("O arquivo não pode ser vazio!");
-			}
-			
-			if(!Arrays.asList("image/jpeg", "image/png", "image/x-png").contains(file.getContentType())) {
-				throw new BusException("O arquivo deve ser uma imagem!");
-			}
-
-			Path rootLocation = Paths.get(this.locationItem);
-			String name = (id + "_" + type + "." + FilenameUtils.getExtension(file.getOriginalFilename()));
-
-			Path destinationFile = rootLocation.resolve(name);
-			file.transferTo(new File(destinationFile.toString()));
-			
-			this.updateFile(id, type, name);
-			
-		} catch (BusException b) {
-			throw b;
-		} catch (IOException e) {
-			log.error("Failed to store file.", e);
-			return Boolean.FALSE;
-		} catch (AppException e) {
-			log.error("Failed to store file in database.", e);
+		if(!IMAGE_TYPES.contains(type)) {
+			throw new BusException("Tipo de imagem inválido.");
+		}
+		
+		Optional<Item> item = this.getById(id);
+		if(!item.isPresent()) {
+			throw new BusException("Não foi encontrado o item indicado.");
+		}
+		
+		String previous = "icon".equals(type) ? item.get().getIcon() : item.get().getFile();
+		String name = this.itemImageService.store(file, id, type);
+		
+		this.updateFile(id, type, name);
+		
+		if(previous != null && !previous.isEmpty() && !previous.equals(name)) {
+			this.itemImageService.delete(previous);
 		}
 		
 		return Boolean.TRUE;
 	}
 
 	@Override
-	public String getItemImage(String name) throws AppException, IOException {
-		String path = this.locationItem + "/" + name;
-		if(new File(path).exists()) {
-			BufferedImage bufferedImage = ImageIO.read(new File(path));
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			if (name.contains("jpg")) {
-				ImageIO.write(bufferedImage, "jpg", baos);
-			} else {
-				ImageIO.write(bufferedImage, "png", baos);
-			}
-			return Base64.getEncoder().encodeToString(baos.toByteArray());
-		}
-		return null;
+	public String getItemImage(String name) throws AppException, BusException {
+		ImageContentDTO image = this.itemImageService.get(name, ImageSize.ORIGINAL);
+		return image != null ? Base64.getEncoder().encodeToString(image.getContent()) : null;
 	}
 	
 	@Override 
 	public byte[] getImageIcon(Integer id) throws AppException, BusException {
-		try {
-			Optional<Item> item = this.getById(id);
-			if(item.isPresent()) {
-				return FileUtils.getFileBytes(this.locationItem + "/" + item.get().getIcon());
-			} else {
-				throw new BusException("Não foi encontrado um ícone para o item indicado");
-			}
-		} catch (AppException e) {
-			log.error("Failed to store file in database.", e);
+		Optional<Item> item = this.getById(id);
+		if(!item.isPresent()) {
+			throw new BusException("Não foi encontrado um ícone para o item indicado");
 		}
-		return null;
+		
+		ImageContentDTO image = this.itemImageService.get(item.get().getIcon(), ImageSize.ORIGINAL);
+		return image != null ? image.getContent() : null;
 	}
 }
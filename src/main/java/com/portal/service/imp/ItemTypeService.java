@@ -323,30 +323,9 @@ public class ItemTypeService implements IItemTypeService {
 		if( model == null ) {
 			throw new BusException( "Não é possível chegar a duplicidade com o objeto da entidade nula." );
 		}
-		
-		ItemType rnSearch = ItemType.builder()
-				.name( model.getName() )
-				.build();
 
-		List<ItemType> listBD = this.find( rnSearch, null );
-		
-		// Save Action
-		if( ( model.getId() == null || model.getId().equals(0) ) && 
-				listBD != null && !listBD.isEmpty() ) {
-			throw new BusException( "Já existe um tipo de item com o mesmo nome.");
-		}
-		
-		// Update Action
-		if( model.getId() != null && !model.getId().equals(0) && 
-				listBD != null && !listBD.isEmpty()) {
-			
-			long count = listBD.stream()
-							.filter( item -> !item.getId().equals( model.getId() ) && item.getName().equals( model.getName() ) )
-							.count();
-			
-			if( count > 0 ) {
-				throw new BusException( "Já existe um tipo de item com o mesmo nome.");
-			}
+		if( this.dao.hasDuplicate( model ) ) {
+			throw new BusException( "Já existe um tipo de item com o mesmo nome." );
 		}
 	}
 	
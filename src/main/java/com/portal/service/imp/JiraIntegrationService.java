@@ -15,6 +15,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.portal.dto.UserProfileDTO;
@@ -55,6 +56,7 @@ public class JiraIntegrationService implements IJiraIntegrationService {
 	 * @author Osmar
 	 */
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public String createIssue(String issueName , Map<String, Object> valuesToCreateTransiction , UserProfileDTO userRequester) throws NoSuchMessageException, AppException, JsonProcessingException, BusException {
 
 		String baseUri = this.parameterService.getValueOf("JIRA_INTEGRATION_BASE_URI");
@@ -86,6 +88,53 @@ public class JiraIntegrationService implements IJiraIntegrationService {
 
 	}
 
+	/**
+	 * Procura no projeto de integração uma tarefa com exatamente o nome informado. Usado antes de repetir uma
+	 * criação cujo resultado é desconhecido (ex.: tempo de resposta esgotado), evitando tarefas duplicadas.
+	 * 
+	 * @param issueName Nome da tarefa.
+	 * @return a chave da tarefa ou nulo se não existir
+	 */
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public String findIssueKey(String issueName) throws AppException {
+		
+		String baseUri = this.parameterService.getValueOf("JIRA_INTEGRATION_BASE_URI");
+		String project = this.parameterService.getValueOf("JIRA_INTEGRATION_PROJECT");
+		
+		URI uri = URI.create(new StringBuilder().append(baseUri).append("/search").toString());
+		
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("Authorization", this.makeAuthorizationHeader());
+		headers.add("Content-Type", "application/json");
+		
+		try {
+			ObjectNode bodyContent = mapper.createObjectNode();
+			bodyContent.put("jql", "project = " + project + " AND summary ~ \"\\\"" + issueName.replace("\\", "\\\\").replace("\"", "\\\"") + "\\\"\"");
+			bodyContent.put("maxResults", 20);
+			bodyContent.putArray("fields").add("summary");
+			
+			String response = httpClient.restExchange(mapper.writeValueAsString(bodyContent), String.class, HttpMethod.POST, uri.toString(), headers);
+			if(response == null) {
+				throw new AppException("Sem resposta do JIRA na busca da tarefa.");
+			}
+			
+			// A busca por texto do JIRA não é exata, por isso o nome é conferido
+			for(JsonNode issue : mapper.readTree(response).path("issues")) {
+				if(issueName.equals(issue.path("fields").path("summary").asText())) {
+					return issue.path("key").asText();
+				}
+			}
+			
+			return null;
+			
+		} catch (AppException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new AppException(e.getMessage());
+		}
+	}
+
 	private String makeAuthorizationHeader() {
 
 		String password = this.parameterService.getValueOf("JIRA_INTEGRATION_PASSWORD");
@@ -0,0 +1,83 @@
+package com.portal.service.imp;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.dao.ISalesOrderDAO;
+import com.portal.dto.JiraIssueRequestDTO;
+import com.portal.exceptions.AppException;
+import com.portal.exceptions.BusException;
+import com.portal.model.IntegrationOutbox;
+import com.portal.service.IIntegrationOutboxHandler;
+import com.portal.service.IJiraIntegrationService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cria a tarefa do JIRA de um Pedido de Venda e grava a chave gerada no pedido.
+ *
+ * A partir da segunda tentativa a tarefa é procurada pelo nome antes de ser criada: a tentativa anterior pode ter
+ * criado a tarefa e falhado antes de gravar a chave (ex.: tempo de resposta esgotado).
+ */
+@Slf4j
+@Service
+public class JiraSalesOrderOutboxHandler implements IIntegrationOutboxHandler {
+
+	public static final String TYPE = "JIRA_SALES_ORDER";
+
+	@Autowired
+	private IJiraIntegrationService jiraIntegrationService;
+
+	@Autowired
+	private ISalesOrderDAO salesOrderDAO;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	/**
+	 * Chave de idempotência da tarefa do pedido: um pedido gera no máximo uma tarefa.
+	 */
+	public static String idempotencyKey( Integer salesOrderId ) {
+		return TYPE + ":" + salesOrderId;
+	}
+
+	@Override
+	public String getType() {
+		return TYPE;
+	}
+
+	@Override
+	public String dispatch( IntegrationOutbox entry ) throws AppException, BusException {
+		JiraIssueRequestDTO request;
+		try {
+			request = this.objectMapper.readValue( entry.getPayload(), JiraIssueRequestDTO.class );
+		} catch( Exception e ) {
+			throw new BusException( "Payload inválido para a criação da tarefa do JIRA: " + e.getMessage() );
+		}
+
+		if( entry.getAttempts() > 1 ) {
+			String jiraKey = this.jiraIntegrationService.findIssueKey( request.getIssueName() );
+			if( jiraKey != null ) {
+				log.info( "Tarefa do JIRA {} já existia para o Pedido de Venda {}.", jiraKey, entry.getAggregateId() );
+				return jiraKey;
+			}
+		}
+
+		try {
+			return this.jiraIntegrationService.createIssue( request.getIssueName(), request.getFields(), null );
+		} catch( AppException | BusException e ) {
+			throw e;
+		} catch( Exception e ) {
+			throw new AppException( e.getMessage() );
+		}
+	}
+
+	@Override
+	public void complete( IntegrationOutbox entry, String result ) throws AppException {
+		if( !this.salesOrderDAO.updateJiraKey( entry.getAggregateId(), result ) ) {
+			log.warn( "Pedido de Venda {} não estava aguardando a chave do JIRA, a chave {} não foi gravada.", entry.getAggregateId(), result );
+		}
+	}
+
+}
@@ -5,7 +5,6 @@ import java.util.Optional;
 
 import javax.validation.Validator;
 
-import org.slf4j.helpers.MessageFormatter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.NoSuchMessageException;
@@ -13,9 +12,6 @@ import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.messaging.Message;
-import org.springframework.messaging.support.MessageBuilder;
-import org.springframework.statemachine.StateMachine;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +20,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.ILeadDAO;
 import com.portal.dao.ILeadFollowUpDAO;
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.dto.LeadDTO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.enums.AuditOperationType;
@@ -96,6 +94,23 @@ public class LeadService implements ILeadService {
 		}
 	}
 	
+	/**
+	 * Lista os leads paginando por keyset: a próxima página é buscada a partir do cursor
+	 * retornado na página anterior, sem o custo de OFFSET em tabelas grandes.
+	 * 
+	 * @param request cursor, tamanho da página e ordenação (id ou createDate)
+	 */
+	@Override
+	public KeysetPageDTO<Lead> listAllByKeyset( KeysetRequestDTO request ) throws AppException, BusException {
+		try {
+			return this.dao.listAllByKeyset( request );
+			
+		} catch (Exception e) {
+			log.error( "Erro no processo de listar os leads.", e );
+			throw new AppException( this.messageSource.getMessage("error.generic.listall", new Object [] { Lead.class.getSimpleName() }, LocaleContextHolder.getLocale() ) );
+		}
+	}
+	
 	/**
 	 * Método auxiliar que decide com base no ID se a entidade deve ser salva ou
 	 * atualizada.
@@ -243,7 +258,7 @@ public class LeadService implements ILeadService {
 			throw new BusException( "Não é possível altarar o status do lead com o evento inválido." );
 		}
 		
-		StateMachine<LeadState, LeadEvents> sm = null;
+		LeadState current = LeadState.OPENED;
 		
 		if( model.getId() != null && !model.getId().equals(0)) {
 			Optional<Lead> modelDB = this.getById( model.getId() );
@@ -251,34 +266,16 @@ public class LeadService implements ILeadService {
 				throw new BusException( "Não foi possível encontrar o lead com ID " + model.getId() + " para atualizar o status.");
 			}
 			
-			sm = leadStateBuilder.recoveryStateMachine( modelDB.get().getId().toString(), LeadState.getById(modelDB.get().getStatus().getId()) );
-		
-		} else {
-			sm = leadStateBuilder.recoveryStateMachine( null, LeadState.OPENED );
+			current = LeadState.getById(modelDB.get().getStatus().getId());
 		}
 		
-		if( sm != null ) {
-			// Customizamos o evento para enviar o ID do lead junto
-			Message<LeadEvents> msg = MessageBuilder.withPayload( event )
-											.setHeader( LeadStateBuilder.LEAD_INSTANCE, model)
-											.build();
-			
-			boolean eventFlag = sm.sendEvent( msg );
-						
-			if( sm.hasStateMachineError() ) {
-				throw (StateWorkflowException) sm.getExtendedState().get("stateException", StateWorkflowException.class);
-			}
-			if( !eventFlag ) {
-				throw new StateWorkflowException( MessageFormatter.format( "Fluxo inválido não é possível executar a ação de transição de {} do status {}.", msg.getPayload(), sm.getState().getId() ).getMessage() );
-			}
-			
-			// Seta o novo status
-			model.setStatus( sm.getState().getId().getType() );
-			
-			return Optional.of(model);
-		}
+		// A transição é resolvida na tabela pré-montada da máquina, sem criar uma máquina nova a cada troca de status
+		LeadState target = leadStateBuilder.changeState( current, event, model );
 		
-		return Optional.empty();
+		// Seta o novo status
+		model.setStatus( target.getType() );
+		
+		return Optional.of(model);
 	}
 	
 	/**
@@ -1,5 +1,6 @@
 package com.portal.service.imp;
 
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,11 +14,16 @@ import org.springframework.transaction.annotation.Transactional;
 import com.portal.dao.IMenuDAO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.enums.AuditOperationType;
+import com.portal.enums.FetchPlan;
+import com.portal.enums.MenuType;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.MenuModel;
+import com.portal.model.UserModel;
 import com.portal.service.IAuditService;
 import com.portal.service.IMenuService;
+import com.portal.service.IMenuTreeService;
+import com.portal.service.IUserService;
 
 @Service
 @Transactional(readOnly = false, propagation = Propagation.REQUIRED, rollbackFor = Exception.class)
@@ -32,24 +38,39 @@ public class MenuService implements IMenuService {
 	@Autowired 
 	private IAuditService auditService;
 	
+	@Autowired
+	private IMenuTreeService menuTreeService;
+	
+	@Autowired
+	private IUserService userService;
+	
 	@Override
 	public Optional<MenuModel> getById(Integer id) throws AppException, BusException {
-		return this.menuDAO.getById(id);
+		Optional<MenuModel> menu = this.menuDAO.getById(id);
+		if(menu.isPresent()) {
+			menu.get().setMenuPath(this.getPath(id));
+		}
+		return menu;
 	}
 	
 	@Override
 	public List<MenuModel> list() throws AppException, BusException {
-		return this.menuDAO.list();
+		List<MenuModel> menus = this.menuTreeService.getTree().list();
+		return menus.isEmpty() ? null : menus;
 	}
 
 	@Override
 	public Optional<MenuModel> find(MenuModel model) throws AppException {
-		return this.menuDAO.find(model);
+		Optional<MenuModel> menu = this.menuDAO.find(model);
+		if(menu.isPresent()) {
+			menu.get().setMenuPath(this.getPath(menu.get().getId()));
+		}
+		return menu;
 	}
 
 	@Override
 	public List<MenuModel> search(MenuModel model) throws AppException {
-		return this.menuDAO.search(model);
+		return this.menuTreeService.getTree().fillPaths(this.menuDAO.search(model));
 	}
 
 	@Override
@@ -65,6 +86,7 @@ public class MenuService implements IMenuService {
 	public Optional<MenuModel> save(MenuModel model, UserProfileDTO userProfile) throws BusException, AppException {
 		this.validateMenu(model);
 		Optional<MenuModel> saveModel = this.menuDAO.save(model);
+		this.menuTreeService.reloadAfterCommit();
 		this.audit( saveModel.get(), AuditOperationType.MENU_INSERTED, userProfile );
 		return saveModel;
 	}
@@ -77,6 +99,7 @@ public class MenuService implements IMenuService {
 			this.validateRootMenuOnDelete(menu.get());
 			this.validateAccesslistOnDelete(menu.get());
 			this.menuDAO.delete(id);
+			this.menuTreeService.reloadAfterCommit();
 			this.audit( menu.get(), AuditOperationType.MENU_DELETED, userProfile );
 		}
 	}
@@ -85,28 +108,37 @@ public class MenuService implements IMenuService {
 	public Optional<MenuModel> update(MenuModel model, UserProfileDTO userProfile) throws AppException, BusException {
 		this.validateMenu(model);
 		Optional<MenuModel> saveModel = this.menuDAO.update(model);
+		this.menuTreeService.reloadAfterCommit();
 		this.audit( model, AuditOperationType.MENU_UPDATED, userProfile );
 		return saveModel;
 	}
 
+	/**
+	 * Menus do portal do usuário (raízes com seus submenus), filtrados na árvore em memória pela lista de acesso.
+	 */
 	@Override
-	public List<MenuModel> listTree( Integer usrId ) throws AppException {
-		return this.parseToTreeMode( this.menuDAO.listRoots(usrId), this.menuDAO.listSub(usrId) );
+	public List<MenuModel> listTree( Integer usrId ) throws AppException, BusException {
+		Integer aclId = this.getAccessListId(usrId);
+		return aclId != null ? this.menuTreeService.getTree().listTree(aclId, MenuType.PORTAL_PRODUCT) : new LinkedList<MenuModel>();
 	}
 	
+	/**
+	 * Todos os menus do usuário, na ordem da lista de acesso, filtrados na árvore em memória.
+	 */
 	@Override
 	public List<MenuModel> list(Integer usrId) throws AppException, BusException {
-		return this.menuDAO.list(usrId);
+		Integer aclId = this.getAccessListId(usrId);
+		return aclId != null ? this.listByAccesslistId(aclId) : new LinkedList<MenuModel>();
 	}
 	
 	@Override
 	public List<MenuModel> listByAccesslistId(Integer aclId) throws AppException, BusException {
-		return this.menuDAO.listByAccesslistId(aclId);
+		return this.menuTreeService.getTree().listByAccessList(aclId);
 	}
 	
 	@Override
 	public List<MenuModel> listRoots() throws AppException, BusException {
-		return this.menuDAO.listRoots();
+		return this.menuTreeService.getTree().listRoots();
 	}
 	
 	@Override
@@ -143,29 +175,13 @@ public class MenuService implements IMenuService {
 		}
 	}	
 	
-	/**
-	 * Transforma uma lista inteira de menus em uma lista encadeada pelo menu root.
-	 * 
-	 * @param menus Lista de menus sem encadeamentos.
-	 * @param submenus Lista de submenus sem encadeamentos.
-	 * @return Lista de menus já encadeados.
-	 */
-	private List<MenuModel> parseToTreeMode(List<MenuModel> menus, List<MenuModel> submenus) {
-		submenus.forEach(subMenu -> {
-			Integer key = subMenu.getId();
-			key = subMenu.getRoot().getId();
-			
-			MenuModel menuKey = new MenuModel();
-			menuKey.setId( key );
-			
-			Integer index = menus.indexOf( menuKey );
-			
-			if( index > -1 ) {
-				MenuModel menuRoot = menus.get( index );
-				menuRoot.addSubMenu( subMenu );
-			}
-		});
-		return menus;
+	private String getPath(Integer id) throws AppException {
+		return this.menuTreeService.getTree().getPath(id);
+	}
+	
+	private Integer getAccessListId(Integer usrId) throws AppException, BusException {
+		Optional<UserModel> user = this.userService.getById(usrId, FetchPlan.ID_ONLY);
+		return user.isPresent() && user.get().getAccessList() != null ? user.get().getAccessList().getId() : null;
 	}
 
 	@Override
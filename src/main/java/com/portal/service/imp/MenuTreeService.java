@@ -0,0 +1,110 @@
+package com.portal.service.imp;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.portal.dao.IAccessListMenuDAO;
+import com.portal.dao.IMenuDAO;
+import com.portal.exceptions.AppException;
+import com.portal.service.IMenuTreeService;
+import com.portal.utils.MenuTree;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mantém em memória a árvore de menus ({@link MenuTree}) montada a partir das tabelas menu e access_list_menu.
+ * A árvore é trocada inteira após o commit das alterações de menus e de listas de acesso, então as leituras
+ * nunca veem uma árvore pela metade. A árvore também é recarregada periodicamente (portal.menu.refresh-interval),
+ * para que os outros nós recebam as alterações.
+ */
+@Slf4j
+@Service
+public class MenuTreeService implements IMenuTreeService {
+
+	@Autowired
+	private IMenuDAO menuDAO;
+
+	@Autowired
+	private IAccessListMenuDAO accessListMenuDAO;
+
+	private volatile MenuTree tree;
+
+	@Override
+	public MenuTree getTree() throws AppException {
+		MenuTree current = this.tree;
+		if( current == null ) {
+			current = this.reload();
+		}
+		return current;
+	}
+
+	/**
+	 * Recarrega a árvore depois do commit, para que a troca não exponha uma alteração que ainda pode ser desfeita.
+	 * Várias alterações na mesma transação (ex.: gravação dos menus de uma lista de acesso) geram uma única recarga.
+	 */
+	@Override
+	public void reloadAfterCommit() throws AppException {
+		if( TransactionSynchronizationManager.isSynchronizationActive() ) {
+			if( TransactionSynchronizationManager.hasResource( this ) ) {
+				return;
+			}
+			
+			TransactionSynchronizationManager.bindResource( this, Boolean.TRUE );
+			TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					try {
+						reload();
+					} catch (AppException e) {
+						log.error( "Erro ao recarregar a árvore de menus.", e );
+						tree = null;
+					}
+				}
+				
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible( MenuTreeService.this );
+				}
+			} );
+		} else {
+			this.reload();
+		}
+	}
+
+	/**
+	 * Carrega a árvore assim que a aplicação sobe, para que o primeiro login não pague a carga.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		try {
+			this.reload();
+		} catch (Exception e) {
+			log.error( "Erro ao carregar a árvore de menus na inicialização.", e );
+		}
+	}
+
+	/**
+	 * Recarrega a árvore do banco e troca a atual, trazendo as alterações feitas em outros nós.
+	 */
+	@Scheduled(fixedDelayString = "${portal.menu.refresh-interval:60000}", initialDelayString = "${portal.menu.refresh-interval:60000}")
+	public void refresh() {
+		try {
+			this.reload();
+		} catch (Exception e) {
+			log.error( "Erro ao recarregar a árvore de menus.", e );
+		}
+	}
+
+	private synchronized MenuTree reload() throws AppException {
+		MenuTree loaded = new MenuTree( this.menuDAO.list(), this.accessListMenuDAO.listMenuIdsByAccessList() );
+		this.tree = loaded;
+		log.debug( "Árvore de menus carregada com {} menus.", loaded.size() );
+		return loaded;
+	}
+
+}
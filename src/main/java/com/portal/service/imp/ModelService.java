@@ -27,6 +27,7 @@ import com.portal.model.Brand;
 import com.portal.model.Model;
 import com.portal.service.IAuditService;
 import com.portal.service.IModelService;
+import com.portal.service.IPriceResolutionService;
 import com.portal.validators.ValidationHelper;
 import com.portal.validators.ValidationHelper.OnSave;
 import com.portal.validators.ValidationHelper.OnUpdate;
@@ -56,6 +57,9 @@ public class ModelService implements IModelService {
 	@Autowired
 	private ObjectMapper objectMapper;
 	
+	@Autowired
+	private IPriceResolutionService priceResolutionService;
+	
 	private static final Pageable DEFAULT_PAGINATION = PageRequest.of( 0, Integer.MAX_VALUE, Sort.Direction.fromString( "DESC" ), "mdl_id"); 
 
 	/**
@@ -172,6 +176,9 @@ public class ModelService implements IModelService {
 			
 			Optional<Model> saved = this.dao.update(model);
 			
+			// Os itens do modelo em cache na resolução de preços guardam a marca do modelo
+			this.priceResolutionService.evictModelItemsAfterCommit( model.getId() );
+			
 			this.audit( ( saved.isPresent() ? saved.get() : null ), AuditOperationType.MODEL_UPDATED, userProfile);
 			
 			return saved;
@@ -314,31 +321,9 @@ public class ModelService implements IModelService {
 		if( model == null ) {
 			throw new BusException( "Não é possível chegar a duplicidade com o objeto da entidade nula." );
 		}
-		
-		Model rnSearch = Model.builder()
-				.name( model.getName() )
-				.brand( model.getBrand() )
-				.build();
 
-		List<Model> listBD = this.find( rnSearch, null );
-		
-		// Save Action
-		if( ( model.getId() == null || model.getId().equals(0) ) && 
-				listBD != null && !listBD.isEmpty() ) {
-			throw new BusException( "Já existe um modelo com o mesmo nome e fabricante.");
-		}
-		
-		// Update Action
-		if( model.getId() != null && !model.getId().equals(0) && 
-				listBD != null && !listBD.isEmpty()) {
-			
-			long count = listBD.stream()
-							.filter( item -> !item.getId().equals( model.getId() ) && item.getName().equals( model.getName() ) )
-							.count();
-			
-			if( count > 0 ) {
-				throw new BusException( "Já existe um modelo com o mesmo nome e fabricante.");
-			}
+		if( this.dao.hasDuplicate( model ) ) {
+			throw new BusException( "Já existe um modelo com o mesmo nome e fabricante." );
 		}
 	}
 	
@@ -1,15 +1,26 @@
 package com.portal.service.imp;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.portal.dao.IParameterDAO;
 import com.portal.dto.UserProfileDTO;
@@ -20,6 +31,14 @@ import com.portal.model.ParameterModel;
 import com.portal.service.IAuditService;
 import com.portal.service.IParameterService;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Os parâmetros são mantidos em memória em um snapshot completo da tabela parameter.
+ * O snapshot é trocado de forma atômica após o commit de save/update/delete e recarregado
+ * periodicamente (portal.parameter.refresh-interval) para que os outros nós recebam as alterações.
+ */
+@Slf4j
 @Service
 @Transactional(readOnly = false, propagation = Propagation.REQUIRED, rollbackFor = Exception.class)
 public class ParameterService implements IParameterService {
@@ -33,6 +52,8 @@ public class ParameterService implements IParameterService {
 	@Autowired
 	private IAuditService auditService;
 	
+	private volatile ParameterSnapshot snapshot;
+	
 	@Override
 	public Optional<ParameterModel> getById(Integer id) throws AppException, BusException {
 		return this.dao.getById(id);
@@ -40,6 +61,15 @@ public class ParameterService implements IParameterService {
 	
 	@Override
 	public Optional<ParameterModel> find(ParameterModel model) throws AppException {
+		// Busca somente pelo nome, que é o caso de todas as leituras de configuração, é atendida pelo snapshot
+		if( model != null && model.getName() != null && !model.getName().isEmpty()
+				&& ( model.getId() == null || model.getId().equals( 0 ) )
+				&& ( model.getValue() == null || model.getValue().isEmpty() ) ) {
+			
+			ParameterModel parameter = this.getSnapshot().get( model.getName() );
+			return Optional.ofNullable( parameter == null ? null : new ParameterModel( parameter.getId(), parameter.getName(), parameter.getValue(), parameter.getDescription() ) );
+		}
+		
 		return this.dao.find(model);
 	}
 	
@@ -67,13 +97,16 @@ public class ParameterService implements IParameterService {
 		this.validateDuplicateParameter( parameter );
 		Optional<ParameterModel> parameterModel = this.dao.save( parameter );
 		this.audit( parameterModel.get(), AuditOperationType.PARAMETER_INSERTED, userProfile );
+		this.reloadAfterCommit();
 		return parameterModel;
 	}
 
 	@Override
 	public Optional<ParameterModel> update(ParameterModel parameter, UserProfileDTO userProfile) throws AppException, BusException {
 		this.audit( parameter, AuditOperationType.PARAMETER_UPDATED, userProfile );
-		return this.dao.update( parameter );
+		Optional<ParameterModel> parameterModel = this.dao.update( parameter );
+		this.reloadAfterCommit();
+		return parameterModel;
 	}
 	
 	@Override
@@ -82,6 +115,7 @@ public class ParameterService implements IParameterService {
 		if(parameterModel.isPresent()) {
 			this.audit(parameterModel.get(), AuditOperationType.PARAMETER_DELETED, userProfile );
 			this.dao.delete(id);
+			this.reloadAfterCommit();
 		}
 	}
 
@@ -94,15 +128,36 @@ public class ParameterService implements IParameterService {
 	@Override
 	public String getValueOf(String name) {
 		try {
-			Optional<ParameterModel> optional = find(new ParameterModel(name));
-			if (optional.isPresent()) {
-				return optional.get().getValue();
+			ParameterModel parameter = this.getSnapshot().get( name );
+			if (parameter != null) {
+				return parameter.getValue();
 			}
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
 		return null;
 	}
+	
+	/**
+	 * Valor numérico de um parâmetro obrigatório. Parâmetro ausente ou que não é número gera erro com o nome do parâmetro,
+	 * em vez de um valor nulo que só falharia mais adiante.
+	 */
+	@Override
+	public Integer getIntValueOf(String name) throws AppException {
+		ParameterSnapshot current = this.getSnapshot();
+		
+		ParameterModel parameter = current.get( name );
+		if( parameter == null ) {
+			throw new AppException( "O parâmetro " + name + " não está cadastrado." );
+		}
+		
+		Integer value = current.getInt( name );
+		if( value == null ) {
+			throw new AppException( "O parâmetro " + name + " não é um número: " + parameter.getValue() );
+		}
+		
+		return value;
+	}
 
 	private void validateDuplicateParameter( ParameterModel parameter ) throws AppException, BusException {
 		if( parameter != null ) {
@@ -115,26 +170,155 @@ public class ParameterService implements IParameterService {
 
 	@Override
 	public List<String> getListFromConcatenatedParameter(String parameter) throws AppException{
-		Optional<ParameterModel> optParm = this.find( new ParameterModel( parameter ) );
-		if( optParm != null && optParm.isPresent() ) {
-			List<String> listReturn = new LinkedList<String>();
-			String s = optParm.get().getValue();
-
-			if( s != null && !s.isEmpty() ) {
-				String[] idsStatus = s.split(",");
-				//XXX: ###Dúvida aqui###
-				for (String id : idsStatus) {
+		return this.getSnapshot().getList( parameter );
+	}
+	
+	/**
+	 * Carrega o snapshot assim que a aplicação sobe, para que a primeira requisição não pague a carga.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		try {
+			this.reload();
+		} catch (Exception e) {
+			log.error( "Erro ao carregar os parâmetros na inicialização.", e );
+		}
+	}
+	
+	/**
+	 * Confere periodicamente se a tabela foi alterada por outro nó e troca o snapshot quando houver diferença.
+	 */
+	@Scheduled(fixedDelayString = "${portal.parameter.refresh-interval:60000}", initialDelayString = "${portal.parameter.refresh-interval:60000}")
+	public void refresh() {
+		try {
+			ParameterSnapshot current = this.snapshot;
+			ParameterSnapshot loaded = this.loadSnapshot();
+			
+			if( current == null || !current.sameValues( loaded ) ) {
+				log.debug( "Parâmetros alterados, trocando o snapshot." );
+				this.snapshot = loaded;
+			}
+			
+		} catch (Exception e) {
+			log.error( "Erro ao verificar a versão dos parâmetros.", e );
+		}
+	}
+	
+	private ParameterSnapshot getSnapshot() throws AppException {
+		ParameterSnapshot current = this.snapshot;
+		if( current == null ) {
+			current = this.reload();
+		}
+		return current;
+	}
+	
+	private ParameterSnapshot reload() throws AppException {
+		ParameterSnapshot loaded = this.loadSnapshot();
+		this.snapshot = loaded;
+		return loaded;
+	}
+	
+	private ParameterSnapshot loadSnapshot() throws AppException {
+		return new ParameterSnapshot( this.dao.list() );
+	}
+	
+	/**
+	 * Recarrega o snapshot depois do commit, para que a troca não exponha uma alteração que ainda pode ser desfeita.
+	 */
+	private void reloadAfterCommit() throws AppException {
+		if( TransactionSynchronizationManager.isSynchronizationActive() ) {
+			TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
 					try {
-						listReturn.add( id  );
-					} catch (Exception e) {
+						reload();
+					} catch (AppException e) {
+						log.error( "Erro ao recarregar os parâmetros.", e );
+						snapshot = null;
 					}
 				}
+			} );
+		} else {
+			this.reload();
+		}
+	}
+	
+	/**
+	 * Cópia imutável da tabela parameter indexada pelo nome. Os valores convertidos (inteiro e lista)
+	 * são calculados uma única vez por snapshot. O nome é comparado sem diferenciar maiúsculas e minúsculas,
+	 * como na collation da tabela.
+	 */
+	private static final class ParameterSnapshot {
+		
+		private final Map<String, ParameterModel> parameters;
+		
+		private final Map<String, Optional<Integer>> ints = new ConcurrentHashMap<>();
+		
+		private final Map<String, Optional<List<String>>> lists = new ConcurrentHashMap<>();
+		
+		ParameterSnapshot( List<ParameterModel> list ) {
+			Map<String, ParameterModel> parameters = new HashMap<>();
+			if( list != null ) {
+				list.forEach( parameter -> parameters.putIfAbsent( key( parameter.getName() ), parameter ) );
+			}
+			this.parameters = Collections.unmodifiableMap( parameters );
+		}
+		
+		private static String key( String name ) {
+			return ( name == null ? null : name.toUpperCase( Locale.ROOT ) );
+		}
+		
+		ParameterModel get( String name ) {
+			return ( name == null ? null : this.parameters.get( key( name ) ) );
+		}
+		
+		Integer getInt( String name ) {
+			ParameterModel parameter = this.get( name );
+			if( parameter == null ) {
+				return null;
 			}
 			
-			return listReturn;
+			return this.ints.computeIfAbsent( key( name ), key -> {
+				try {
+					return Optional.of( Integer.valueOf( parameter.getValue().trim() ) );
+				} catch (Exception e) {
+					log.warn( "Parâmetro {} não é um número: {}", name, parameter.getValue() );
+					return Optional.empty();
+				}
+			} ).orElse( null );
 		}
 		
-		return null;
+		List<String> getList( String name ) {
+			ParameterModel parameter = this.get( name );
+			if( parameter == null ) {
+				return null;
+			}
+			
+			return this.lists.computeIfAbsent( key( name ), key -> {
+				List<String> listReturn = new LinkedList<String>();
+				String s = parameter.getValue();
+				
+				if( s != null && !s.isEmpty() ) {
+					Collections.addAll( listReturn, s.split(",") );
+				}
+				
+				return Optional.of( Collections.unmodifiableList( listReturn ) );
+			} ).get();
+		}
+		
+		boolean sameValues( ParameterSnapshot other ) {
+			if( this.parameters.size() != other.parameters.size() ) {
+				return false;
+			}
+			
+			return this.parameters.values().stream().allMatch( parameter -> {
+				ParameterModel otherParameter = other.get( parameter.getName() );
+				return otherParameter != null
+						&& parameter.getId().equals( otherParameter.getId() )
+						&& Objects.equals( parameter.getValue(), otherParameter.getValue() )
+						&& Objects.equals( parameter.getDescription(), otherParameter.getDescription() );
+			} );
+		}
 	}
 	
 }
@@ -531,38 +531,8 @@ public class PartnerService implements IPartnerService {
 			throw new BusException( "Não é possível chegar a duplicidade com o objeto da entidade nula." );
 		}
 		
-		Person person = model.getPerson();
-		Person rnSearch = null;
-		
-		if( person.getClassification().equals( PersonClassification.PF ) ) {
-			rnSearch = Person.builder().cpf( person.getCpf() ).build();
-			
-		} else if( person.getClassification().equals( PersonClassification.PJ ) ) {
-			rnSearch = Person.builder().cnpj( person.getCnpj() ).build();
-			
-		} else if( person.getClassification().equals( PersonClassification.ESTRANGEIRO ) ) {
-			rnSearch = Person.builder().rne( person.getRne() ).build();
-		}
-		
-		List<Person> listBD = this.personService.find( rnSearch, null );
-
-		// NOVA PESSOA
-		if( person.getId() == null || person.getId().equals(0) ) {
-			
-			if( listBD != null && !listBD.isEmpty() ) {
-				throw new BusException( "Já existe um parceiro com esse número de documento." );
-			}
-			
-		} else { // PESSOA EXISTENTE
-			if( listBD != null && !listBD.isEmpty() ) {
-				long count = listBD.stream()
-									.filter( item -> !item.getId().equals( person.getId() ) )
-									.count();
-				
-				if( count > 0 ) {
-					throw new BusException( "Já existe um parceiro com esse número de documento." );
-				}
-			}
+		if( this.personService.hasDuplicatePartnerDocument( model.getPerson() ) ) {
+			throw new BusException( "Já existe um parceiro com esse número de documento." );
 		}
 	}
 	
@@ -384,29 +384,9 @@ public class PaymentRuleService implements IPaymentRuleService {
 		if( model == null ) {
 			throw new BusException( "Não é possível chegar a duplicidade com o objeto da entidade nula." );
 		}
-		
-		PaymentRule rnSearch = PaymentRule.builder()
-									.name( model.getName() )
-									.paymentMethod( model.getPaymentMethod() )
-									.build();
 
-		List<PaymentRule> listBD = this.find( rnSearch, DEFAULT_PAGINATION );
-		
-		// Save Action
-		if( ( model.getId() == null || model.getId().equals(0) ) && listBD != null && !listBD.isEmpty() ) {
-			throw new BusException( "Já existe a regra de pagamento com o mesmo nome para o mesmo método de pagamento.");
+		if( this.dao.hasDuplicate( model ) ) {
+			throw new BusException( "Já existe a regra de pagamento com o mesmo nome para o mesmo método de pagamento." );
 		}
-		
-		// Update Action
-		if( model.getId() != null && !model.getId().equals(0) &&  listBD != null && !listBD.isEmpty()) {
-			
-			long count = listBD.stream()
-							.filter( item -> !item.getId().equals( model.getId() ) && ( item.getName().equals( model.getName() ) && item.getPaymentMethod().equals( model.getPaymentMethod() ) ) )
-							.count();
-			
-			if( count > 0 ) {
-				throw new BusException( "Já existe a regra de pagamento com o mesmo nome para o mesmo método de pagamento.");
-			}
-		}		
 	}
 }
@@ -1,6 +1,8 @@
 package com.portal.service.imp;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.validation.Validator;
@@ -14,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.portal.dao.IPersonQualificationDAO;
 import com.portal.dto.UserProfileDTO;
+import com.portal.enums.FetchPlan;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.PaymentMethod;
@@ -57,6 +60,11 @@ public class PersonQualificationService implements IPersonQualificationService {
 		return this.find( PersonQualification.builder().person( Person.builder().id(perId).build()  ).build() );
 	}
 
+	@Override
+	public Map<Integer, List<PersonQualification>> findByPersons( Collection<Integer> perIds ) throws AppException, BusException {
+		return this.dao.findByPersons( perIds );
+	}
+
 	@Override
 	public List<PersonQualification> findByQualification(Integer qlfId) throws AppException, BusException {
 		if( qlfId == null || qlfId.equals( 0 ) ) {
@@ -83,7 +91,7 @@ public class PersonQualificationService implements IPersonQualificationService {
 			this.validateEntity( model );
 			
 			// REGRA: PER-QLF-I4,PER-QLF-U4
-			Optional<Person> personDB = this.personService.getById( model.getPerson().getId() );
+			Optional<Person> personDB = this.personService.getById( model.getPerson().getId(), FetchPlan.ID_ONLY );
 			if( !personDB.isPresent() ) {
 				throw new BusException( "Não é possível salvar o relacionamento entre pessoa e qualificação com a pessoa inválida ou inexistente." );
 			}
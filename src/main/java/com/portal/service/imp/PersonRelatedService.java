@@ -1,6 +1,8 @@
 package com.portal.service.imp;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.validation.Validator;
@@ -21,6 +23,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.IPersonRelatedDAO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.enums.AuditOperationType;
+import com.portal.enums.FetchPlan;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Person;
@@ -257,6 +260,11 @@ public class PersonRelatedService implements IPersonRelatedService {
 		return this.dao.findByPerson(id);
 	}
 
+	@Override
+	public Map<Integer, List<PersonRelated>> findByPersons(Collection<Integer> perIds) throws AppException {
+		return this.dao.findByPersons(perIds);
+	}
+
 	/**
 	 * Busca um relacionamento de pessoa pelo seu ID
 	 * 
@@ -333,34 +341,9 @@ public class PersonRelatedService implements IPersonRelatedService {
 		if( model == null ) {
 			throw new BusException( "Não é possível chegar a duplicidade com o objeto da entidade nula." );
 		}
-		
-		PersonRelated rnSearch = PersonRelated.builder()
-												.name( model.getName() )
-												.relatedType( model.getRelatedType() )
-												.person( model.getPerson() )
-												.build();
 
-		List<PersonRelated> listBD = this.find( rnSearch, null );
-		
-		// Save Action
-		if( ( model.getId() == null || model.getId().equals(0) ) && listBD != null && !listBD.isEmpty() ) {
-			throw new BusException( "Já existe esse relacionamento entre pessoas.");
-		}
-		
-		// Update Action
-		if( model.getId() != null && !model.getId().equals(0) && listBD != null && !listBD.isEmpty()) {
-			
-			long count = listBD.stream()
-							.filter( item -> !item.getId().equals( model.getId() ) && 
-													( item.getName().equals( model.getName() ) &&
-													  item.getPerson().equals( model.getPerson() ) &&
-													  item.getRelatedType().equals( model.getRelatedType() )
-													) )
-							.count();
-			
-			if( count > 0 ) {
-				throw new BusException( "Já existe esse relacionamento entre pessoas.");
-			}
+		if( this.dao.hasDuplicate( model ) ) {
+			throw new BusException( "Já existe esse relacionamento entre pessoas." );
 		}
 	}
 	
@@ -396,7 +379,7 @@ public class PersonRelatedService implements IPersonRelatedService {
 			}
 			
 			if( model.getPerson() != null && model.getPerson().getId() != null ) {
-				Optional<Person> personDB = this.personService.getById( model.getPerson().getId() );
+				Optional<Person> personDB = this.personService.getById( model.getPerson().getId(), FetchPlan.ID_ONLY );
 
 				if( !personDB.isPresent() ) {
 					throw new BusException( "Não é possível salvar o relacionamento com a pessoa relacionada não existente." );
@@ -2,6 +2,8 @@ package com.portal.service.imp;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -22,8 +24,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.IPersonDAO;
 import com.portal.dao.IPersonQualificationDAO;
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.enums.AuditOperationType;
+import com.portal.enums.FetchPlan;
 import com.portal.enums.PersonClassification;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
@@ -42,6 +47,7 @@ import com.portal.service.IContactService;
 import com.portal.service.IPersonQualificationService;
 import com.portal.service.IPersonRelatedService;
 import com.portal.service.IPersonService;
+import com.portal.service.IProposalService;
 import com.portal.service.IQualificationService;
 import com.portal.service.IUserService;
 import com.portal.utils.PortalStringUtils;
@@ -84,6 +90,9 @@ public class PersonService implements IPersonService {
 	@Autowired
 	private IUserService userService;
 	
+	@Autowired
+	private IProposalService proposalService;
+	
     @Autowired
     public MessageSource messageSource;
 
@@ -104,18 +113,7 @@ public class PersonService implements IPersonService {
 		try {
 			
 			List<Person> listPerson = dao.listAll( pageable );
-			
-			if( pageable == null ) {
-				pageable = DEFAULT_PAGINATION;
-			}
-
-			listPerson.forEach(person ->{
-				try {
-					person.setContacts(this.contactService.findByPerson(person.getId()));
-				} catch (AppException | BusException e) {
-					e.printStackTrace();
-				}
-			});
+			this.fillContact( listPerson );
 			
 			return listPerson;
 			
@@ -124,6 +122,25 @@ public class PersonService implements IPersonService {
 			throw new AppException( this.messageSource.getMessage("error.generic.listall", new Object [] { Person.class.getSimpleName() }, LocaleContextHolder.getLocale() ) );
 		}
 	}
+	
+	/**
+	 * Lista as pessoas paginando por keyset, carregando os contatos de cada pessoa da página.
+	 * 
+	 * @param request cursor, tamanho da página e ordenação (id ou name)
+	 */
+	@Override
+	public KeysetPageDTO<Person> listAllByKeyset( KeysetRequestDTO request ) throws AppException, BusException {
+		try {
+			KeysetPageDTO<Person> page = this.dao.listAllByKeyset( request );
+			this.fillContact( page.getContent() );
+			
+			return page;
+			
+		} catch (Exception e) {
+			log.error( "Erro no processo de listar as pessoas.", e );
+			throw new AppException( this.messageSource.getMessage("error.generic.listall", new Object [] { Person.class.getSimpleName() }, LocaleContextHolder.getLocale() ) );
+		}
+	}
     
 	/**
 	 * Lista todos as pessoas.
@@ -136,17 +153,7 @@ public class PersonService implements IPersonService {
 	public List<Person> list() throws AppException, BusException {
 		
 		List<Person> listPerson = this.listAll( null );
-		
-		listPerson.forEach(person ->{
-			try {
-				person.setContacts(this.contactService.findByPerson(person.getId()));
-				person.setPersonRelated(this.personRelatedService.findByPerson(person.getId()));
-			} catch (AppException | BusException e) {
-				e.printStackTrace();
-			}
-		});
-
-
+		this.fillPersonRelated( listPerson );
 		
 		return listPerson;
 	}
@@ -242,13 +249,25 @@ public class PersonService implements IPersonService {
 	 */
 	@Override
 	public Optional<Person> getById(Integer id) throws AppException, BusException {
+		return this.getById(id, FetchPlan.FULL);
+	}
+
+	/**
+	 * Busca uma pessoa pelo seu ID carregando contatos, qualificações, contas, endereços e pessoas
+	 * relacionadas apenas no plano {@link FetchPlan#FULL}. Nos demais planos é uma única consulta.
+	 *
+	 * @param id ID da pessoa
+	 * @param plan plano de carga
+	 */
+	@Override
+	public Optional<Person> getById(Integer id, FetchPlan plan) throws AppException, BusException {
 		try {
 			if( id == null ) {
 				throw new BusException( "ID de busca inválido." );
 			}
 		
 			Optional<Person> person = dao.getById(id);
-			if( person.isPresent() ) {
+			if( person.isPresent() && plan == FetchPlan.FULL ) {
 				this.fillContact(person.get());
 				this.fillQualification(person.get());
 				this.fillBankAccount(person.get());
@@ -398,6 +417,8 @@ public class PersonService implements IPersonService {
 			
 			}
 
+			this.proposalService.evictReportCacheByPerson( model.getId() );
+			
 			this.audit( ( saved.isPresent() ? saved.get() : null ), AuditOperationType.PERSON_UPDATED, userProfile);
 			
 			return saved;
@@ -498,15 +519,17 @@ public class PersonService implements IPersonService {
 		}
 	}
     
+	/**
+	 * Carrega os contatos das entidades com uma consulta IN por bloco de pessoas.
+	 * Vamos usar as mesmas entidades do parâmetro para preencher a lista.
+	 */
+	@Override
 	public List<Person> fillContact(List<Person> persons) throws AppException, BusException {
-		if( persons != null && !persons.isEmpty() ) {			
-			persons.forEach(person -> {
-			    try {
-					this.fillContact( person );
-				} catch (Exception e) {
-					e.printStackTrace();
-				}
-			});
+		if( persons != null && !persons.isEmpty() ) {
+			Map<Integer, List<Contact>> contacts = this.contactService.findByPersons( this.getIds( persons ) );
+			for( Person person : persons ) {
+				person.setContacts( contacts.getOrDefault( person.getId(), new ArrayList<>() ) );
+			}
 		}
 		
 		return persons;
@@ -528,8 +551,9 @@ public class PersonService implements IPersonService {
 		try {
 			
 			if( persons != null && !persons.isEmpty() ) {
+				Map<Integer, List<PersonQualification>> qualifications = this.personQualificationService.findByPersons( this.getIds( persons ) );
 				for( Person person : persons ) {
-					 this.fillQualification( person );
+					person.setQualifications( qualifications.getOrDefault( person.getId(), new ArrayList<>() ) );
 				}
 			}
 			
@@ -587,8 +611,9 @@ public class PersonService implements IPersonService {
 		try {
 			
 			if( persons != null && !persons.isEmpty() ) {
+				Map<Integer, List<BankAccount>> accounts = this.bankAccountService.findByPersons( this.getIds( persons ) );
 				for( Person person : persons ) {
-					 this.fillBankAccount(person);
+					person.setBankAccount( accounts.getOrDefault( person.getId(), new ArrayList<>() ) );
 				}
 			}
 			
@@ -633,8 +658,16 @@ public class PersonService implements IPersonService {
 		try {
 			
 			if( persons != null && !persons.isEmpty() ) {
+				List<Integer> addressIds = persons.stream()
+						.filter( person -> person.getId() != null && person.getAddress() != null && person.getAddress().getId() != null && person.getAddress().getId() != 0 )
+						.map( person -> person.getAddress().getId() )
+						.collect( Collectors.toList() );
+				
+				Map<Integer, AddressModel> addresses = this.addressService.getByIds( addressIds );
 				for( Person person : persons ) {
-					 this.fillAddress(person);
+					if( person.getAddress() != null && addresses.containsKey( person.getAddress().getId() ) ) {
+						person.setAddress( addresses.get( person.getAddress().getId() ) );
+					}
 				}
 			}
 			
@@ -674,20 +707,22 @@ public class PersonService implements IPersonService {
 		try {
 			
 			if( persons != null && !persons.isEmpty() ) {
+				Map<Integer, List<PersonRelated>> related = this.personRelatedService.findByPersons( this.getIds( persons ) );
 				for( Person person : persons ) {
-					 this.fillPersonRelated(person);
+					person.setPersonRelated( related.getOrDefault( person.getId(), new ArrayList<>() ) );
 				}
 			}
 
-		} catch (BusException e) {
-			throw e;
-
 		} catch (Exception e) {
 			log.error("Erro ao carregar o relacionamento entre pessoa e endereco.", e);
 			throw new AppException(this.messageSource.getMessage("error.generic", new Object[]{Person.class.getSimpleName()}, LocaleContextHolder.getLocale()));
 		}
 	}
 	
+	private List<Integer> getIds( List<Person> persons ) {
+		return persons.stream().map( Person::getId ).filter( Objects::nonNull ).collect( Collectors.toList() );
+	}
+	
 	private void syncContacts(Person model, UserProfileDTO userProfile) throws BusException, NoSuchMessageException, AppException {
 		try {
 			if( model != null && model.getId() != null && !model.getId().equals(0) ) {
@@ -875,14 +910,7 @@ public class PersonService implements IPersonService {
 			}
 			
 			List<Person> listPerson = dao.searchForm( searchText, pageable );
-			
-			listPerson.forEach(person ->{
-				try {
-					person.setContacts(this.contactService.findByPerson(person.getId()));
-				} catch (AppException | BusException e) {
-					e.printStackTrace();
-				}
-			});
+			this.fillContact( listPerson );
 			
 			return listPerson;
 
@@ -914,19 +942,20 @@ public class PersonService implements IPersonService {
 		}
 	}
 
+	/**
+	 * Verifica se já existe outro parceiro com o mesmo documento (CPF, CNPJ ou RNE, conforme a classificação).
+	 */
+	@Override
+	public boolean hasDuplicatePartnerDocument(Person model) throws AppException {
+		return this.dao.hasDuplicatePartnerDocument(model);
+	}
+
 	@Override
 	public List<Person> searchByContact(String contact) throws AppException {
 		try {
 			List<Person> listPerson = dao.findByContact(contact);
-			if(listPerson != null && !listPerson.isEmpty()) {
-				listPerson.forEach(person ->{
-					try {
-						person.setContacts(this.contactService.findByPerson(person.getId()));
-					} catch (AppException | BusException e) {
-						e.printStackTrace();
-					}
-				});
-			}
+			this.fillContact(listPerson);
+			
 			return listPerson;		
 		} catch (Exception e) {
 			log.error("Erro no processo de procurar pessoas.", e);
@@ -1,5 +1,6 @@
 package com.portal.service.imp;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -270,6 +271,38 @@ public class PriceItemModelService implements IPriceItemModelService {
 		}	
 	}
 	
+	@Override
+	public void saveAll(List<PriceItemModel> models, UserProfileDTO userProfile) throws AppException, BusException {
+		try {
+			if( models == null || models.isEmpty() ) {
+				return;
+			}
+			
+			for( PriceItemModel model : models ) {
+				this.validateEntity(model, OnSave.class);
+			}
+			
+			this.dao.saveAll(models);
+			
+			List<String> details = new ArrayList<>();
+			for( PriceItemModel model : models ) {
+				details.add( objectMapper.writeValueAsString( model ) );
+			}
+			
+			this.auditService.saveAll( details, AuditOperationType.PRICE_ITEM_MODEL_INSERTED, userProfile );
+			
+		} catch (BusException e) {
+			throw e;
+			
+		} catch (JsonProcessingException e) {
+			throw new AppException(this.messageSource.getMessage("error.audit", null, LocaleContextHolder.getLocale()));
+			
+		} catch (Exception e) {
+			log.error( "Erro no processo de cadastro em lote dos preços dos itens por modelo.", e );
+			throw new AppException( this.messageSource.getMessage("error.generic.save", new Object [] { PriceItemModel.class.getSimpleName() }, LocaleContextHolder.getLocale() ) );
+		}
+	}
+	
 	@Override
 	public void audit(PriceItemModel model, AuditOperationType operationType, UserProfileDTO userProfile) throws AppException, BusException {
 		try {
@@ -1,7 +1,7 @@
 package com.portal.service.imp;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 import javax.validation.Validator;
@@ -261,6 +261,38 @@ public class PriceItemService implements IPriceItemService {
 		}	
 	}
 	
+	@Override
+	public void saveAll(List<PriceItem> models, UserProfileDTO userProfile) throws AppException, BusException {
+		try {
+			if( models == null || models.isEmpty() ) {
+				return;
+			}
+			
+			for( PriceItem model : models ) {
+				this.validateEntity(model, OnSave.class);
+			}
+			
+			this.dao.saveAll(models);
+			
+			List<String> details = new ArrayList<>();
+			for( PriceItem model : models ) {
+				details.add( objectMapper.writeValueAsString( model ) );
+			}
+			
+			this.auditService.saveAll( details, AuditOperationType.PRICE_ITEM_INSERTED, userProfile );
+			
+		} catch (BusException e) {
+			throw e;
+			
+		} catch (JsonProcessingException e) {
+			throw new AppException(this.messageSource.getMessage("error.audit", null, LocaleContextHolder.getLocale()));
+			
+		} catch (Exception e) {
+			log.error( "Erro no processo de cadastro em lote dos preços dos itens.", e );
+			throw new AppException( this.messageSource.getMessage("error.generic.save", new Object [] { PriceItem.class.getSimpleName() }, LocaleContextHolder.getLocale() ) );
+		}
+	}
+	
 	@Override
 	public void audit(PriceItem model, AuditOperationType operationType, UserProfileDTO userProfile) throws AppException, BusException {
 		try {
@@ -284,31 +316,9 @@ public class PriceItemService implements IPriceItemService {
 		if( model == null ) {
 			throw new BusException( "Não é possível chegar a duplicidade com o objeto da entidade nula." );
 		}
-		
-		PriceItem rnSearch = PriceItem.builder()
-											.priceList( model.getPriceList() )
-											.item( model.getItem() )
-											.build();
-
-		List<PriceItem> listBD  = this.dao.find( rnSearch, DEFAULT_PAGINATION );
 
-		// Save Action
-		if( ( model.getId() == null || model.getId().equals(0) ) && 
-				listBD != null && !listBD.isEmpty() &&
-				listBD.stream().anyMatch(p -> !Objects.equals(p.getId(), model.getId()))) {
-			throw new BusException( "Já existe um preço definido para esse item na mesma lista.");
-		}
-		
-		// Update Action
-		if( model.getId() != null && !model.getId().equals(0) &&  listBD != null && !listBD.isEmpty()) {
-			
-			long count = listBD.stream()
-							.filter( item -> !item.getId().equals( model.getId() ) )
-							.count();
-			
-			if( count > 0 ) {
-				throw new BusException( "Já existe um preço definido para esse item na mesma lista.");
-			}
+		if( this.dao.hasDuplicate( model ) ) {
+			throw new BusException( "Já existe um preço definido para esse item na mesma lista." );
 		}
 	}
 	
@@ -77,6 +77,44 @@ public class PriceListPartnerService implements IPriceListPartnerService {
 			throw new AppException( this.messageSource.getMessage("error.generic.save", new Object [] { PriceListPartnerService.class.getSimpleName() }, LocaleContextHolder.getLocale() ) );
 		}		
 	}
+	
+	@Override
+	public void saveAll(Integer priceListId, List<Integer> partnerIds) throws AppException, BusException {
+		try {
+			
+			if( partnerIds == null || partnerIds.isEmpty() ) {
+				return;
+			}
+			
+			// REGRA: PTN-PRL-I1, PTN-PRL-U1
+			if( priceListId == null ) {
+				throw new BusException( "Não é possível salvar o relacionamento entre lista e preço e parceiro com a lista e preço inválida." );
+			}
+			
+			// REGRA: PTN-PRL-I3, PTN-PRL-U3
+			if( partnerIds.contains( null ) ) {
+				throw new BusException( "Não é possível salvar o relacionamento entre lista e preço e parceiro com o parceiro inválido." );
+			}
+			
+			// REGRA: PTN-PRL-I2, PTN-PRL-U2
+			Optional<PriceList> priceListDB = this.priceListService.getById( priceListId );
+			if( !priceListDB.isPresent() ) {
+				throw new BusException( "Não é possível salvar o relacionamento entre lista e preço e parceiro com a lista e preço inválida ou inexistente." );
+				
+			} else if( priceListDB.get().getAllPartners().booleanValue() ) { // REGRA: PTN-PRL-I6, PTN-PRL-U6
+				throw new BusException( "Não é permitido salvar um relacionamendo com parceiro com a lista de preço marcada como TODOS OS PARCEIROS." );
+			}
+			
+			this.dao.saveAll( priceListId, partnerIds );
+			
+		} catch (BusException e) {
+			throw e;
+			
+		} catch (Exception e) {
+			log.error( "Erro no processo salvar os relacionamentos entre lista e preço e parceiros.", e );
+			throw new AppException( this.messageSource.getMessage("error.generic.save", new Object [] { PriceListPartnerService.class.getSimpleName() }, LocaleContextHolder.getLocale() ) );
+		}		
+	}
 
 	@Override
 	public void delete(Integer priceListId, Integer partnerId) throws AppException, BusException {
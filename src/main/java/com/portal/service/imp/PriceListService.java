@@ -478,38 +478,20 @@ public class PriceListService implements IPriceListService {
 		}
 		
 		// REGRAS: PRL-I2, PRL-U2,
-		PriceList rnSearch = PriceList.builder()
-										.name( model.getName() )
-										.build();
-
-		List<PriceList> listBD = this.find( rnSearch, null );
-		
-		// Save Action
-		if( ( model.getId() == null || model.getId().equals(0) ) && listBD != null && !listBD.isEmpty() ) {
+		if( this.dao.hasDuplicate( model ) ) {
 			throw new BusException( "Já existe uma lista de preço com o mesmo nome.");
 		}
 		
-		// Update Action
-		if( model.getId() != null && !model.getId().equals(0) && listBD != null && !listBD.isEmpty()) {
-			long count = listBD.stream()
-							.filter( item -> !item.getId().equals( model.getId() ) && item.getName().equals( model.getName() ) )
-							.count();
-			
-			if( count > 0 ) {
-				throw new BusException( "Já existe uma lista de preço com o mesmo nome.");
-			}
-		}
-		
 		// REGRAS: PRL-I6, PRL-U8
 		if( model.getAllPartners().booleanValue() || !model.getChannel().getHasPartner()  ) {
-			rnSearch = PriceList.builder()
+			PriceList rnSearch = PriceList.builder()
 									.channel( model.getChannel() )
 									.allPartners( model.getAllPartners() )
 									.start( model.getStart() )
 									.end( model.getEnd() )
 									.build();
 			
-			listBD = this.listOverlay( rnSearch );
+			List<PriceList> listBD = this.listOverlay( rnSearch );
 		
 			// Save Action
 			if( ( model.getId() == null || model.getId().equals(0) ) && listBD != null && !listBD.isEmpty() ) {
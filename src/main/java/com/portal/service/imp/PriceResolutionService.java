@@ -0,0 +1,145 @@
+package com.portal.service.imp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.portal.dao.IPriceResolutionDAO;
+import com.portal.dto.form.ModelItemRangeDTO;
+import com.portal.dto.form.ProductItemFormDTO;
+import com.portal.dto.form.ResolvedItemPriceDTO;
+import com.portal.exceptions.AppException;
+import com.portal.service.IPriceResolutionService;
+import com.portal.utils.PriceListIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolve em memória quais preços de item (price_item_model e price_item) se aplicam ao modelo e ano escolhidos na
+ * proposta. Cada lista de preço é carregada uma vez em um {@link PriceListIndex} e os itens de cada modelo
+ * (item_model) ficam em cache, substituindo a consulta com as subconsultas NOT IN executada a cada escolha de veículo.
+ *
+ * A lista é descartada após o commit das alterações feitas pelo formulário da lista de preço, os itens do modelo após
+ * o commit das alterações em item_model e todo o cache é descartado periodicamente (portal.pricing.refresh-interval),
+ * para receber as alterações feitas em outros nós.
+ *
+ * As cargas usam {@link ConcurrentHashMap#computeIfAbsent}: um descarte da mesma chave espera a carga em andamento
+ * terminar e então a remove, assim uma leitura anterior ao commit nunca fica no cache depois do descarte.
+ */
+@Slf4j
+@Service
+public class PriceResolutionService implements IPriceResolutionService {
+
+	@Autowired
+	private IPriceResolutionDAO dao;
+
+	private final ConcurrentHashMap<Integer, PriceListIndex> priceLists = new ConcurrentHashMap<>();
+
+	private final ConcurrentHashMap<Integer, List<ModelItemRangeDTO>> modelItems = new ConcurrentHashMap<>();
+
+	@Override
+	public List<ResolvedItemPriceDTO> resolveItemModelPrices( ProductItemFormDTO productItemFormDTO ) throws AppException {
+		if( productItemFormDTO == null || productItemFormDTO.getPrlId() == null || productItemFormDTO.getMdlId() == null ) {
+			return new ArrayList<>();
+		}
+
+		PriceListIndex index = this.getPriceList( productItemFormDTO.getPrlId() );
+		return index.resolve( productItemFormDTO.getMdlId(), this.getModelItems( productItemFormDTO.getMdlId() ), productItemFormDTO.getYear() );
+	}
+
+	@Override
+	public List<ResolvedItemPriceDTO> resolveItemPrices( ProductItemFormDTO productItemFormDTO ) throws AppException {
+		if( productItemFormDTO == null || productItemFormDTO.getPrlId() == null ) {
+			return new ArrayList<>();
+		}
+
+		return this.getPriceList( productItemFormDTO.getPrlId() ).getItemPrices();
+	}
+
+	/**
+	 * Descarta a lista de preço na hora e novamente após o commit, para que uma leitura concorrente não deixe no
+	 * cache o estado anterior ao fim da transação.
+	 */
+	@Override
+	public void evictAfterCommit( Integer prlId ) {
+		this.evictAfterCommit( this.priceLists, prlId );
+	}
+
+	/**
+	 * Descarta os itens do modelo na hora e novamente após o commit, como em {@link #evictAfterCommit(Integer)}.
+	 */
+	@Override
+	public void evictModelItemsAfterCommit( Integer mdlId ) {
+		this.evictAfterCommit( this.modelItems, mdlId );
+	}
+
+	@Scheduled(fixedDelayString = "${portal.pricing.refresh-interval:300000}", initialDelayString = "${portal.pricing.refresh-interval:300000}")
+	public void refresh() {
+		log.debug( "Descartando o cache de resolução de preços: {} listas e {} modelos.", this.priceLists.size(), this.modelItems.size() );
+		this.priceLists.clear();
+		this.modelItems.clear();
+	}
+
+	private PriceListIndex getPriceList( Integer prlId ) throws AppException {
+		return this.load( this.priceLists, prlId, id -> new PriceListIndex( id, this.dao.listRules( id ), this.dao.listItemPrices( id ), this.dao.listPricedModels( id ) ) );
+	}
+
+	private List<ModelItemRangeDTO> getModelItems( Integer mdlId ) throws AppException {
+		return this.load( this.modelItems, mdlId, this.dao::listModelItems );
+	}
+
+	private <V> void evictAfterCommit( ConcurrentHashMap<Integer, V> cache, Integer id ) {
+		if( id == null ) {
+			return;
+		}
+
+		cache.remove( id );
+
+		if( TransactionSynchronizationManager.isSynchronizationActive() ) {
+			TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+				@Override
+				public void afterCompletion( int status ) {
+					cache.remove( id );
+				}
+			} );
+		}
+	}
+
+	private <V> V load( ConcurrentHashMap<Integer, V> cache, Integer id, Loader<V> loader ) throws AppException {
+		try {
+			return cache.computeIfAbsent( id, key -> {
+				try {
+					return loader.load( key );
+				} catch( AppException e ) {
+					throw new LoadException( e );
+				}
+			} );
+		} catch( LoadException e ) {
+			throw (AppException) e.getCause();
+		}
+	}
+
+	@FunctionalInterface
+	private interface Loader<V> {
+		V load( Integer id ) throws AppException;
+	}
+
+	/**
+	 * Leva a {@link AppException} da carga para fora do computeIfAbsent, que não aceita exceções checadas.
+	 */
+	private static class LoadException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		LoadException( AppException cause ) {
+			super( cause );
+		}
+	}
+
+}
@@ -1,7 +1,6 @@
 package com.portal.service.imp;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 import javax.validation.Validator;
@@ -402,31 +401,9 @@ public class ProductService implements IProductService {
 		if( model == null ) {
 			throw new BusException( "Não é possível chegar a duplicidade com o objeto da entidade nula." );
 		}
-		
-		Product rnSearch = Product.builder()
-				.name( model.getName() )
-				.build();
-
-		List<Product> listBD = this.find( rnSearch, null );
 
-		// Save Action
-		if( ( model.getId() == null || model.getId().equals(0) ) && 
-				listBD != null && !listBD.isEmpty() &&
-				listBD.stream().anyMatch(p -> !Objects.equals(p.getId(), model.getId()))) {
-			throw new BusException( "Já existe um produto com o mesmo nome.");
-		}
-		
-		// Update Action
-		if( model.getId() != null && !model.getId().equals(0) && 
-				listBD != null && !listBD.isEmpty()) {
-			
-			long count = listBD.stream()
-							.filter( item -> !item.getId().equals( model.getId() ) && item.getName().equals( model.getName() ) )
-							.count();
-			
-			if( count > 0 ) {
-				throw new BusException( "Já existe um produto com o mesmo nome.");
-			}
+		if( this.dao.hasDuplicate( model ) ) {
+			throw new BusException( "Já existe um produto com o mesmo nome." );
 		}
 	}
 	
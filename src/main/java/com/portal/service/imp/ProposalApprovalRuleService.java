@@ -22,6 +22,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.IProposalApprovalRuleDAO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.enums.AuditOperationType;
+import com.portal.enums.FetchPlan;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.ProposalApproval;
@@ -241,7 +242,7 @@ public class ProposalApprovalRuleService implements IProposalApprovalRuleService
     @Override
     public void validateRuleApproval(ProposalApproval model, UserProfileDTO userProfile) throws AppException, BusException {
     	BigDecimal limit = new BigDecimal(0);
-    	Optional<Seller> seller = this.sellerService.getByUser(userProfile.getUser().getId());
+    	Optional<Seller> seller = this.sellerService.getByUser(userProfile.getUser().getId(), FetchPlan.ID_ONLY);
     	if(seller.isPresent()) {
     		Optional<ProposalApprovalRule> proposalApprovalRule = this.getByJob(seller.get().getJob().getId());
     		if(proposalApprovalRule.isPresent()) {
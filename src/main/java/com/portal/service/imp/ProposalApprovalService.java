@@ -3,7 +3,9 @@ package com.portal.service.imp;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.validation.Validator;
 
@@ -27,18 +29,19 @@ import com.portal.dto.ProposalApprovalListDTO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.dto.proposal.ProposalDTO;
 import com.portal.enums.AuditOperationType;
+import com.portal.enums.FetchPlan;
 import com.portal.enums.ProposalState;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Proposal;
 import com.portal.model.ProposalApproval;
-import com.portal.model.ProposalDetailVehicleItem;
 import com.portal.model.Seller;
 import com.portal.service.IAuditService;
 import com.portal.service.IProposalApprovalRuleService;
 import com.portal.service.IProposalApprovalService;
 import com.portal.service.IProposalDetailVehicleItemService;
 import com.portal.service.IProposalService;
+import com.portal.service.ISellerSalesTeamService;
 import com.portal.validators.ValidationHelper;
 
 import lombok.extern.slf4j.Slf4j;
@@ -79,6 +82,9 @@ public class ProposalApprovalService implements IProposalApprovalService {
     @Autowired
     private SellerService sellerService;
 
+    @Autowired
+    private ISellerSalesTeamService sellerSalesTeamService;
+
     private static final Pageable DEFAULT_PAGINATION = PageRequest.of(0, Integer.MAX_VALUE, Sort.Direction.fromString("DESC"), "pps_id");
 
     @Override
@@ -158,8 +164,7 @@ public class ProposalApprovalService implements IProposalApprovalService {
 
             ProposalApprovalCheckpointRules checkpointRules = this.applyRulesCheckpoin(userProfile);
 
-            String daysLimit = this.parameterService.getValueOf("PROPOSAL_DAYS_LIMIT");
-            Integer proposalDaysLimit = Integer.valueOf(daysLimit);
+            Integer proposalDaysLimit = this.parameterService.getIntValueOf("PROPOSAL_DAYS_LIMIT");
             List<ProposalApprovalListDTO> list = new ArrayList<>();
 
             dto.setStatus(ProposalState.IN_COMMERCIAL_APPROVAL);
@@ -169,8 +174,8 @@ public class ProposalApprovalService implements IProposalApprovalService {
             }
 
             if (checkpointRules.isProposalComercialApprovalSalesTeam() && !checkpointRules.isProposalComercialApprovalAll()) {
-                Optional<Seller> seller = this.sellerService.getByUser(userProfile.getUser().getId());
-                List<Seller> sellersSalesTeam = this.sellerService.getBySalesTeam(seller.get().getSalesTeamList());
+                Optional<Seller> seller = this.sellerService.getByUser(userProfile.getUser().getId(), FetchPlan.ID_ONLY);
+                List<Seller> sellersSalesTeam = this.sellerService.getBySalesTeam(this.sellerSalesTeamService.findBySeller(seller.get().getId()));
                 dto.getExecutive().addAll(sellersSalesTeam);
                 List<ProposalApprovalListDTO> listSalesTeam = this.dao.search(dto, proposalDaysLimit, pageable);
                 list.addAll(listSalesTeam);
@@ -189,39 +194,26 @@ public class ProposalApprovalService implements IProposalApprovalService {
         }
     }
 
+    /**
+     * Soma os descontos do veículo, do produto e dos itens de cada aprovação. Os descontos dos itens
+     * são somados no banco em uma única consulta agrupada por pdv_id para toda a lista.
+     */
     public List<ProposalApprovalListDTO> fillDiscount(List<ProposalApprovalListDTO> list) {
-        list.forEach(itemApproval -> {
-        	itemApproval.setDiscount(Double.valueOf(0));
-
-        	try {
-            	itemApproval.setDiscount(itemApproval.getDiscount() + itemApproval.getProposalDetailVehicle().getPriceDiscountAmount());
-            	itemApproval.setDiscount(itemApproval.getDiscount() +itemApproval.getProposalDetailVehicle().getProductAmountDiscount());
-
-            	List<ProposalDetailVehicleItem> itens = this.proposalDetailVehicleItemService.search(ProposalDetailVehicleItem.builder().id(itemApproval.getProposalDetailVehicle().getId()).build());
-            	if(itens != null && !itens.isEmpty()) {
-            		itens.forEach(itemVehicle -> {
-                    	itemApproval.setDiscount(itemApproval.getDiscount() + itemVehicle.getAmountDiscount());
-            		});
-            	}
-            	
-            	/*
-                final ProposalDTO[] proposal = {this.proposalService.getProposal(itemApproval.getId())};
-                itemAmountDiscount[0] += proposal[0].getProposal().getProposalDetailVehicle().getPriceDiscountAmount();
-                
-                double productDiscount = proposal[0].getProposal().getProposalDetailVehicle().getProductAmountDiscount();
-                itemAmountDiscount[0] += productDiscount;
-                proposal[0].getProposal().getProposalDetailVehicleItem().forEach(itemVehicle -> {
-                    itemAmountDiscount[0] += itemVehicle.getAmountDiscount();
-            		itemApproval.setDiscount(itemAmountDiscount);
-                });
-                */
-            	
-            } catch (AppException e) {
-                throw new RuntimeException(e);
-            } catch (BusException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        try {
+            Map<Integer, Double> itemDiscounts = this.proposalDetailVehicleItemService.sumDiscountByDetailVehicle(list.stream()
+                                                        .map(itemApproval -> itemApproval.getProposalDetailVehicle().getId())
+                                                        .collect(Collectors.toSet()));
+
+            list.forEach(itemApproval -> {
+                itemApproval.setDiscount(Double.valueOf(0));
+                itemApproval.setDiscount(itemApproval.getDiscount() + itemApproval.getProposalDetailVehicle().getPriceDiscountAmount());
+                itemApproval.setDiscount(itemApproval.getDiscount() + itemApproval.getProposalDetailVehicle().getProductAmountDiscount());
+                itemApproval.setDiscount(itemApproval.getDiscount() + itemDiscounts.getOrDefault(itemApproval.getProposalDetailVehicle().getId(), Double.valueOf(0)));
+            });
+
+        } catch (AppException | BusException e) {
+            throw new RuntimeException(e);
+        }
         return list;
     }
 
@@ -262,18 +254,6 @@ public class ProposalApprovalService implements IProposalApprovalService {
     }
 
 
-    private void fillSeller(List<ProposalApprovalListDTO> list) {
-        list.forEach(item -> {
-            try {
-                item.setExecutive(this.sellerService.getById(item.getExecutive().getId()).get());
-            } catch (AppException e) {
-                throw new RuntimeException(e);
-            } catch (BusException e) {
-                throw new RuntimeException(e);
-            }
-        });
-    }
-
     @Override
     public Optional<ProposalApproval> saveOrUpdate(ProposalApproval model, UserProfileDTO userProfile) throws AppException, BusException {
         if (model.getProposal() != null && model.getProposal().getId() > 0) {
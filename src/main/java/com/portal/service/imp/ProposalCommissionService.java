@@ -256,17 +256,9 @@ public class ProposalCommissionService implements IProposalCommissionService {
 		if( model == null ) {
 			throw new BusException( "Não é possível executar a validação de duplicado pois a comissao da proposta está nula ou inválida." );
 		}
-		
-		ProposalCommission search = ProposalCommission.builder()
-										.proposalDetail( model.getProposalDetail() )
-										.person( model.getPerson() )
-										.commissionType( model.getCommissionType() )
-										.build();
-
-		List<ProposalCommission> commission = this.find(search, DEFAULT_PAGINATION);
 
-		if( commission.size() > 0 ) {
-			throw new BusException( "Já existe comissão igual para a proposta.");
+		if( this.dao.hasDuplicate( model ) ) {
+			throw new BusException( "Já existe comissão igual para a proposta." );
 		}
 	}
 }
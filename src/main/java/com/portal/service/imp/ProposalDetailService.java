@@ -1,7 +1,6 @@
 package com.portal.service.imp;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 import javax.validation.Validator;
@@ -21,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.IProposalDetailDAO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.enums.AuditOperationType;
+import com.portal.enums.FetchPlan;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Proposal;
@@ -345,31 +345,9 @@ public class ProposalDetailService implements IProposalDetailService {
 		if( model == null ) {
 			throw new BusException( "Não é possível executar a validação de duplicado pois o detalhe da proposta está nula ou inválida." );
 		}
-		
-		ProposalDetail rnSearch = ProposalDetail.builder()
-										.proposal( model.getProposal() )
-										.build();
-
-		List<ProposalDetail> listBD = this.find( rnSearch, DEFAULT_PAGINATION );
 
-		// Save Action
-		if( ( model.getId() == null || model.getId().equals(0) ) && 
-				listBD != null && !listBD.isEmpty() &&
-				listBD.stream().anyMatch(p -> !Objects.equals(p.getId(), model.getId()))) {
-			throw new BusException( "Já existe um detalhe para essa proposta.");
-		}
-		
-		// Update Action
-		if( model.getId() != null && !model.getId().equals(0) && 
-				listBD != null && !listBD.isEmpty()) {
-			
-			long count = listBD.stream()
-							.filter( item -> !item.getId().equals( model.getId() )  )
-							.count();
-			
-			if( count > 0 ) {
-				throw new BusException( "Já existe um detalhe para essa proposta.");
-			}
+		if( this.dao.hasDuplicate( model ) ) {
+			throw new BusException( "Já existe um detalhe para essa proposta." );
 		}
 	}
 	
@@ -388,7 +366,7 @@ public class ProposalDetailService implements IProposalDetailService {
 			}
 
 			if( model.getSeller() != null && model.getSeller().getId() != null ) {
-				Optional<Seller> seller = this.sellerService.getById(model.getSeller().getId());
+				Optional<Seller> seller = this.sellerService.getById(model.getSeller().getId(), FetchPlan.ID_ONLY);
 				if( !seller.isPresent() ) {
 					throw new BusException( "Não é possível salvar o detalhe da proposta com um vendedor não existente." );
 				}
@@ -418,7 +396,7 @@ public class ProposalDetailService implements IProposalDetailService {
 			}
 
 			if( model.getInternSale() != null && model.getInternSale().getId() != null ) {
-				Optional<Seller> seller = this.sellerService.getById(model.getInternSale().getId());
+				Optional<Seller> seller = this.sellerService.getById(model.getInternSale().getId(), FetchPlan.ID_ONLY);
 				if( !seller.isPresent() ) {
 					throw new BusException( "Não é possível salvar o detalhe da proposta com um vendedor interno não existente." );
 				}
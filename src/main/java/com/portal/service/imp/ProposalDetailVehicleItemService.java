@@ -1,6 +1,8 @@
 package com.portal.service.imp;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.validation.Validator;
@@ -93,6 +95,17 @@ public class ProposalDetailVehicleItemService implements IProposalDetailVehicleI
 	public List<ProposalDetailVehicleItem> search(ProposalDetailVehicleItem model) throws AppException, BusException {
 		return dao.search(model);
 	}
+	
+	/**
+	 * Soma o desconto dos itens de cada veículo da proposta.
+	 * 
+	 * @param detailVehicleIds IDs dos veículos da proposta (pdv_id)
+	 * @return mapa pdv_id -> soma de amount_discount; veículos sem itens não aparecem no mapa
+	 */
+	@Override
+	public Map<Integer, Double> sumDiscountByDetailVehicle(Collection<Integer> detailVehicleIds) throws AppException, BusException {
+		return dao.sumDiscountByDetailVehicle(detailVehicleIds);
+	}
 
 	@Override
 	public Optional<ProposalDetailVehicleItem> saveOrUpdate(ProposalDetailVehicleItem model, UserProfileDTO userProfile) throws AppException, BusException {
@@ -1,7 +1,6 @@
 package com.portal.service.imp;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 import javax.validation.Validator;
@@ -361,32 +360,9 @@ public class ProposalDetailVehicleService implements IProposalDetailVehicleServi
             throw new BusException("Não é possível executar a validação de duplicado pois o detalhe do veículo da proposta está nula ou inválida.");
         }
 
-        ProposalDetailVehicle rnSearch = ProposalDetailVehicle.builder()
-                .proposalDetail(model.getProposalDetail())
-                .vehicle(model.getVehicle())
-                .build();
-
-        List<ProposalDetailVehicle> listBD = this.find(rnSearch, DEFAULT_PAGINATION);
-
-        // Save Action
-        if ((model.getId() == null || model.getId().equals(0)) &&
-                listBD != null && !listBD.isEmpty() &&
-                listBD.stream().anyMatch(p -> !Objects.equals(p.getId(), model.getId()))) {
+        if (this.dao.hasDuplicate(model)) {
             throw new BusException("Já existe um veículo para essa proposta.");
         }
-
-        // Update Action
-        if (model.getId() != null && !model.getId().equals(0) &&
-                listBD != null && !listBD.isEmpty()) {
-
-            long count = listBD.stream()
-                    .filter(item -> !item.getId().equals(model.getId()))
-                    .count();
-
-            if (count > 0) {
-                throw new BusException("Já existe um veículo para essa proposta.");
-            }
-        }
     }
 
     /**
@@ -2,17 +2,13 @@ package com.portal.service.imp;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Base64;
-import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.portal.dao.IProposalDocumentDAO;
+import com.portal.dto.StoredFileDTO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
@@ -38,8 +35,10 @@ import com.portal.model.Document;
 import com.portal.model.Proposal;
 import com.portal.model.UserModel;
 import com.portal.service.IDocumentService;
+import com.portal.service.IDocumentStoreService;
 import com.portal.service.IProposalDocumentService;
 import com.portal.service.IProposalService;
+import com.portal.utils.ContentAddressedStore;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -61,9 +60,16 @@ public class ProposalDocumentService implements IProposalDocumentService {
 	private IDocumentService documentService;
 
 
+	@Autowired
+	private IDocumentStoreService documentStoreService;
+
+
 	@Value("${store.location.document}")
 	private String locationDocument;
 
+	@Value("${portal.document.max-size-mb:100}")
+	private long maxDocumentSizeMb;
+
 
 	@Override
 	public void save(Integer proposalId, Integer documentId) throws AppException, BusException {
@@ -112,51 +118,47 @@ public class ProposalDocumentService implements IProposalDocumentService {
 		this.dao.deleteByProposal(proposalId);
 	}
 
+	/**
+	 * Grava o arquivo enviado no armazenamento por conteúdo e cadastra o documento.
+	 * 
+	 * O upload é lido uma única vez: o tipo é validado pelos magic bytes (DOCUMENT_ALLOWED_MIME_TYPES), o tamanho
+	 * é limitado durante a cópia (portal.document.max-size-mb) e o SHA-256 calculado define o arquivo. Conteúdos
+	 * iguais reaproveitam o mesmo arquivo, cuja referência é contada no cadastro do documento.
+	 */
 	@Override
-	public Document store(MultipartFile multipartFile, Integer id,  UserProfileDTO userProfile) {
-		Path rootLocation = Paths.get(this.locationDocument);
+	public Document store(MultipartFile multipartFile, Integer id,  UserProfileDTO userProfile) throws AppException, BusException {
+		if (multipartFile == null || multipartFile.isEmpty()) {
+			throw new BusException("O arquivo não pode ser vazio!");
+		}
 
-		Document document = new Document();
+		if (multipartFile.getSize() > this.maxDocumentSize()) {
+			throw new BusException("O arquivo excede o tamanho máximo permitido de " + this.maxDocumentSizeMb + "MB.");
+		}
 
-		if (multipartFile.isEmpty()) {
-			log.error("Falha, não há arquivo!.");
-			return null;
+		StoredFileDTO stored;
+		try (InputStream inputStream = multipartFile.getInputStream()) {
+			stored = this.documentStoreService.put(inputStream, multipartFile.getOriginalFilename(), this.maxDocumentSize(), this.documentService.listAllowedMimeTypes());
+		} catch (IOException e) {
+			log.error("Erro ao ler o arquivo enviado.", e);
+			throw new AppException("Erro ao ler o arquivo enviado.", e);
 		}
 
-		try {
-			String name = ("document_" + new Date().getTime() + "." + FilenameUtils.getExtension(multipartFile.getOriginalFilename()));
+		log.debug("Documento {} gravado: {} bytes, tipo {}", stored.getSha256(), stored.getSize(), stored.getMediaType());
 
-			Path destinationFile = rootLocation.resolve(name);
-			if (!destinationFile.getParent().equals(rootLocation.toAbsolutePath())) {
-				log.error("Não foi possível amarzenar no diretório.");
-			}
+		// Se o cadastro falhar o arquivo fica sem referência e é removido pela verificação do armazenamento
+		Document document = new Document();
+		fillDocument(document, ContentAddressedStore.relativePath(stored.getSha256()), userProfile.getUser(), id, multipartFile);
+		document.setSha256(stored.getSha256());
 
-			try (InputStream inputStream = multipartFile.getInputStream()) {
-
-				// Block no image file
-				if (Arrays.asList("image/jpeg", "image/png", "image/x-png").contains(multipartFile.getContentType())) {
-					ImageIO.read(inputStream).toString();
-				} else {
-					File uploadedFile = new File(rootLocation + "\\" + multipartFile.getOriginalFilename());
-					FileOutputStream fos = new FileOutputStream(uploadedFile);
-					fos.write(multipartFile.getBytes());
-				}
-				Files.copy(multipartFile.getInputStream(), destinationFile, StandardCopyOption.REPLACE_EXISTING);
-			}
+		this.documentService.save(document, userProfile);
 
-			UserModel user = userProfile.getUser();
-			fillDocument(document, name, user, id, multipartFile);
-			this.documentService.save(document, userProfile);
-		} catch (AppException e) {
-			e.printStackTrace();
-		} catch (IOException e) {
-			e.printStackTrace();
-		} catch (BusException e) {
-			e.printStackTrace();
-		}
 		return document;
 	}
 
+	private long maxDocumentSize() {
+		return this.maxDocumentSizeMb * 1024L * 1024L;
+	}
+
 	@Override
 	public String findDocument(Integer id) throws AppException, BusException, IOException {
 		ByteArrayOutputStream baos = new ByteArrayOutputStream();
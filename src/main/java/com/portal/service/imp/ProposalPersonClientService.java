@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.portal.dao.IProposalPersonClientDAO;
 import com.portal.dto.UserProfileDTO;
+import com.portal.enums.FetchPlan;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.PaymentMethod;
@@ -58,7 +59,7 @@ public class ProposalPersonClientService implements IProposalPersonClientService
 			}
 			
 			// REGRA: PPS-PER-I4, PPS-PER-U4
-			Optional<Person> personDB = this.personService.getById( proposalPerson.getPerson().getId() );
+			Optional<Person> personDB = this.personService.getById( proposalPerson.getPerson().getId(), FetchPlan.ID_ONLY );
 			if( !personDB.isPresent() ) {
 				throw new BusException( "Não é possível salvar o relacionamento entre proposta e pessoa com a pessoa inexistente." );
 			}
@@ -160,7 +161,7 @@ public class ProposalPersonClientService implements IProposalPersonClientService
 			}
 			
 			// REGRA: PPS-PER-I4, PPS-PER-U4
-			Optional<Person> personDB = this.personService.getById( proposalPerson.getPerson().getId() );
+			Optional<Person> personDB = this.personService.getById( proposalPerson.getPerson().getId(), FetchPlan.ID_ONLY );
 			if( !personDB.isPresent() ) {
 				throw new BusException( "Não é possível salvar o relacionamento entre proposta e pessoa com a pessoa inexistente." );
 			}
@@ -4,14 +4,18 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import javax.validation.Validator;
 
 import com.portal.enums.PersonClassification;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.MessageSource;
 import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.i18n.LocaleContextHolder;
@@ -21,10 +25,14 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.IProposalDAO;
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.dto.proposal.ProposalDTO;
 import com.portal.enums.AuditOperationType;
@@ -68,6 +76,7 @@ import com.portal.service.IProposalPaymentService;
 import com.portal.service.IProposalPersonClientService;
 import com.portal.service.IProposalService;
 import com.portal.service.IProposalStateHistoryService;
+import com.portal.service.IReportCacheService;
 import com.portal.service.ISalesOrderService;
 import com.portal.utils.PortalTimeUtils;
 import com.portal.validators.ValidationHelper;
@@ -134,6 +143,10 @@ public class ProposalService implements IProposalService {
     @Autowired
     private IParameterService parameterService;
 
+    @Autowired
+    @Qualifier("proposalLoaderExecutor")
+    private Executor proposalLoaderExecutor;
+
     @Autowired
     private ISalesOrderService salesOrderService;
 
@@ -149,6 +162,9 @@ public class ProposalService implements IProposalService {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private IReportCacheService reportCacheService;
+
     private static final Pageable DEFAULT_PAGINATION = PageRequest.of(0, Integer.MAX_VALUE,
             Sort.Direction.fromString("DESC"), "pps_id");
 
@@ -175,6 +191,23 @@ public class ProposalService implements IProposalService {
         }
     }
 
+    /**
+     * Lista as propostas paginando por keyset.
+     *
+     * @param request cursor, tamanho da página e ordenação (id, createDate ou num)
+     */
+    @Override
+    public KeysetPageDTO<Proposal> listAllByKeyset(KeysetRequestDTO request) throws AppException, BusException {
+        try {
+            return this.dao.listAllByKeyset(request);
+
+        } catch (Exception e) {
+            log.error("Erro no processo de listar as propostas.", e);
+            throw new AppException(this.messageSource.getMessage("error.generic.listall",
+                    new Object[]{Proposal.class.getSimpleName()}, LocaleContextHolder.getLocale()));
+        }
+    }
+
     /**
      * Método auxiliar que decide com base no ID se a entidade deve ser salva ou
      * atualizada. Se não tiver ID é save, caso contrário é update.
@@ -335,6 +368,8 @@ public class ProposalService implements IProposalService {
 
             this.audit((reload.isPresent() ? reload.get() : null), AuditOperationType.PROPOSAL_UPDATED, userProfile);
 
+            this.evictReportCache(modelDB.get().getProposalNumber());
+
             return reload;
 
         } catch (BusException e) {
@@ -520,6 +555,14 @@ public class ProposalService implements IProposalService {
         return this.search(model, null);
     }
 
+    /**
+     * Leitura da proposta para a tela. Não abre transação própria para que, chamada fora de uma transação, as consultas
+     * de {@link #getAllProposalId(Integer)} rodem em paralelo no proposalLoaderExecutor.
+     *
+     * @param id ID de proposta
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ProposalDTO getProposal(Integer id) throws AppException, BusException {
     	try {
 	        ProposalDTO dto = new ProposalDTO();
@@ -577,6 +620,7 @@ public class ProposalService implements IProposalService {
      * @param id ID de proposta
      */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Proposal> getAllProposalId(Integer id) throws AppException, BusException {
         try {
 
@@ -584,59 +628,16 @@ public class ProposalService implements IProposalService {
                 throw new BusException("ID de busca inválido.");
             }
 
-            String daysLimit = this.parameterService.getValueOf("PROPOSAL_DAYS_LIMIT");
-            Integer proposalDaysValidity = Integer.valueOf(daysLimit);
+            Integer proposalDaysValidity = this.parameterService.getIntValueOf("PROPOSAL_DAYS_LIMIT");
 
-            Optional<Proposal> proposal = this.dao.getById(id);
+            Executor executor = this.loaderExecutor();
+            Optional<Proposal> proposal = this.join(this.supply(executor, () -> this.dao.getById(id)));
 
             if (proposal.isPresent()) {
 
                 proposal.get().setValidityDate(proposal.get().getValidityDate() != null ? proposal.get().getValidityDate() : proposal.get().getCreateDate().plusDays(proposalDaysValidity).toLocalDate().atStartOfDay());
 
-                ProposalDetail proposalDetailRet = new ProposalDetail();
-                ProposalDetail proposalDetail = new ProposalDetail();
-                proposalDetail.setProposal(proposal.get());
-
-                ProposalDetailVehicle proposalDetailVehicleRet = new ProposalDetailVehicle();
-                ProposalDetailVehicle proposalDetailVehicle = new ProposalDetailVehicle();
-                proposalDetailVehicle.setProposalDetail(proposalDetail);
-
-                List<ProposalDetailVehicleItem> proposalDetailVehicleItemRet = new ArrayList<ProposalDetailVehicleItem>();
-                ProposalDetailVehicleItem proposalDetailVehicleItem = new ProposalDetailVehicleItem();
-                proposalDetailVehicleItem.setProposalDetailVehicle(proposalDetailVehicle);
-
-                List<ProposalPayment> proposalPaymentRet = new ArrayList<ProposalPayment>();
-                ProposalPayment proposalPayment = new ProposalPayment();
-
-                List<ProposalCommission> proposalCommissionRet = new ArrayList<ProposalCommission>();
-                ProposalCommission proposalCommission = new ProposalCommission();
-
-                proposalDetailRet = this.proposalDetailService.getDetailByProposal(proposalDetail);
-                proposalDetailVehicle.setProposalDetail(proposalDetailRet);
-
-                proposalPayment.setProposalDetail(proposalDetailRet);
-                proposalCommission.setProposalDetail(proposalDetailRet);
-
-                proposalDetailVehicleRet = this.proposalDetailVehicleService.getDetailVehicleByDetail(proposalDetailVehicle);
-                proposalDetailVehicleItem.setProposalDetailVehicle(proposalDetailVehicleRet);
-
-                proposalDetailVehicleItemRet = this.proposalDetailVehicleItemService.find(proposalDetailVehicleItem,
-                        PageRequest.of(0, Integer.MAX_VALUE, Sort.Direction.fromString("ASC"), "pdvi_id"));
-
-                proposalPaymentRet = this.proposalPaymentService.find(proposalPayment, null);
-
-                proposalCommissionRet = this.proposalCommissionService.find(proposalCommission, null);
-
-                proposal.get().setProposalDetail(proposalDetailRet);
-                proposal.get().setProposalDetailVehicle(proposalDetailVehicleRet);
-                proposal.get().setProposalDetailVehicleItem(proposalDetailVehicleItemRet);
-                proposal.get().setProposalPayment(proposalPaymentRet);
-                proposal.get().setPersonList(this.proposalPersonClientService.findByProposal(id));
-                proposal.get().setProposalCommission(proposalCommissionRet);
-                proposal.get().setDocuments(this.proposalDocumentService.findByProposal(id));
-                proposal.get().setProposalFollowUp(this.proposalFollowUpService.search(new ProposalFollowUp(id)));
-                Optional<SalesOrder> salesOrder = this.salesOrderService.findByProposal(id);
-                proposal.get().setSalesOrder(salesOrder.isPresent() ? salesOrder.get() : null);
+                this.loadAggregate(proposal.get(), executor);
                 return proposal;
             } else {
 
@@ -654,6 +655,116 @@ public class ProposalService implements IProposalService {
         }
     }
 
+    /**
+     * Executor das consultas da proposta. Sem transação todas as consultas, inclusive a da própria proposta, rodam no
+     * proposalLoaderExecutor e a thread da requisição só espera pelos resultados, sem segurar uma conexão do pool
+     * enquanto as threads do executor pegam as suas.
+     *
+     * Dentro de uma transação (ex.: recarga após save/update) as consultas rodam em sequência na thread atual, pois as
+     * outras threads usam outra conexão e não enxergariam o que ainda não foi confirmado.
+     */
+    private Executor loaderExecutor() {
+        return TransactionSynchronizationManager.isActualTransactionActive() ? Runnable::run : this.proposalLoaderExecutor;
+    }
+
+    /**
+     * Carrega as coleções filhas da proposta. As consultas independentes rodam em paralelo no executor informado
+     * e só esperam pelas consultas de que dependem (detalhe -> veículo -> itens).
+     */
+    private void loadAggregate(Proposal proposal, Executor executor) throws AppException, BusException {
+        Integer id = proposal.getId();
+
+        CompletableFuture<ProposalDetail> detail = this.supply(executor, () -> {
+            ProposalDetail proposalDetail = new ProposalDetail();
+            proposalDetail.setProposal(proposal);
+            return this.proposalDetailService.getDetailByProposal(proposalDetail);
+        });
+
+        CompletableFuture<ProposalDetailVehicle> detailVehicle = this.then(executor, detail, proposalDetail -> {
+            ProposalDetailVehicle proposalDetailVehicle = new ProposalDetailVehicle();
+            proposalDetailVehicle.setProposalDetail(proposalDetail);
+            return this.proposalDetailVehicleService.getDetailVehicleByDetail(proposalDetailVehicle);
+        });
+
+        CompletableFuture<List<ProposalDetailVehicleItem>> detailVehicleItems = this.then(executor, detailVehicle, proposalDetailVehicle -> {
+            ProposalDetailVehicleItem proposalDetailVehicleItem = new ProposalDetailVehicleItem();
+            proposalDetailVehicleItem.setProposalDetailVehicle(proposalDetailVehicle);
+            return this.proposalDetailVehicleItemService.find(proposalDetailVehicleItem,
+                    PageRequest.of(0, Integer.MAX_VALUE, Sort.Direction.fromString("ASC"), "pdvi_id"));
+        });
+
+        CompletableFuture<List<ProposalPayment>> payments = this.then(executor, detail, proposalDetail -> {
+            ProposalPayment proposalPayment = new ProposalPayment();
+            proposalPayment.setProposalDetail(proposalDetail);
+            return this.proposalPaymentService.find(proposalPayment, null);
+        });
+
+        CompletableFuture<List<ProposalCommission>> commissions = this.then(executor, detail, proposalDetail -> {
+            ProposalCommission proposalCommission = new ProposalCommission();
+            proposalCommission.setProposalDetail(proposalDetail);
+            return this.proposalCommissionService.find(proposalCommission, null);
+        });
+
+        CompletableFuture<List<ProposalPerson>> persons = this.supply(executor, () -> this.proposalPersonClientService.findByProposal(id));
+        CompletableFuture<List<Document>> documents = this.supply(executor, () -> this.proposalDocumentService.findByProposal(id));
+        CompletableFuture<List<ProposalFollowUp>> followUps = this.supply(executor, () -> this.proposalFollowUpService.search(new ProposalFollowUp(id)));
+        CompletableFuture<Optional<SalesOrder>> salesOrder = this.supply(executor, () -> this.salesOrderService.findByProposal(id));
+
+        proposal.setProposalDetail(this.join(detail));
+        proposal.setProposalDetailVehicle(this.join(detailVehicle));
+        proposal.setProposalDetailVehicleItem(this.join(detailVehicleItems));
+        proposal.setProposalPayment(this.join(payments));
+        proposal.setPersonList(this.join(persons));
+        proposal.setProposalCommission(this.join(commissions));
+        proposal.setDocuments(this.join(documents));
+        proposal.setProposalFollowUp(this.join(followUps));
+        proposal.setSalesOrder(this.join(salesOrder).orElse(null));
+    }
+
+    @FunctionalInterface
+    private interface Loader<T> {
+        T load() throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface DependentLoader<P, T> {
+        T load(P parent) throws Exception;
+    }
+
+    private <T> CompletableFuture<T> supply(Executor executor, Loader<T> loader) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return loader.load();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private <P, T> CompletableFuture<T> then(Executor executor, CompletableFuture<P> parent, DependentLoader<P, T> loader) {
+        return parent.thenApplyAsync(value -> {
+            try {
+                return loader.load(value);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private <T> T join(CompletableFuture<T> future) throws AppException, BusException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BusException) {
+                throw (BusException) e.getCause();
+            }
+            if (e.getCause() instanceof AppException) {
+                throw (AppException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     @Override
     public List<ProposalFrontForm> getByVehicle(VehicleModel vehicleModel) throws AppException, BusException {
         return this.dao.getByVehicle(vehicleModel, DEFAULT_PAGINATION);
@@ -859,28 +970,9 @@ public class ProposalService implements IProposalService {
                     "Não é possível executar a validação de duplicado pois a proposta está nula ou inválida.");
         }
 
-        Proposal rnSearch = Proposal.builder().num((model.getNum() == null ? 0 : model.getNum())).cod(model.getCod())
-                .build();
-
-        List<Proposal> listBD = this.find(rnSearch, DEFAULT_PAGINATION);
-
-        // Save Action
-        if ((model.getId() == null || model.getId().equals(0)) && listBD != null && !listBD.isEmpty()
-                && listBD.stream().anyMatch(p -> !Objects.equals(p.getId(), model.getId()))) {
+        if (this.dao.hasDuplicate(model)) {
             throw new BusException("Já existe uma proposta com a mesma versão. Versão: " + model.getVerion());
         }
-
-        // Update Action
-        if (model.getId() != null && !model.getId().equals(0) && listBD != null && !listBD.isEmpty()) {
-
-            long count = listBD.stream()
-                    .filter(item -> !item.getId().equals(model.getId()) && item.getVerion().equals(model.getVerion()))
-                    .count();
-
-            if (count > 0) {
-                throw new BusException("Já existe uma proposta com a mesma versão. Versão: " + model.getVerion());
-            }
-        }
     }
 
     /**
@@ -1399,5 +1491,64 @@ public class ProposalService implements IProposalService {
         return dao.getLastProposalNumber();
     }
 
+    @Override
+    public Optional<LocalDateTime> getUpdateDate(String proposalNumber) throws AppException {
+        return dao.getUpdateDate(proposalNumber);
+    }
+
+    /**
+     * Os relatórios exibem dados da pessoa (cliente ou executivo), que não alteram a data da proposta.
+     */
+    @Override
+    public void evictReportCacheByPerson(Integer perId) throws AppException {
+        if (perId != null) {
+            this.evictReportCache(this.dao.listProposalNumbersByPerson(perId));
+        }
+    }
+
+    @Override
+    public void evictReportCacheBySeller(Integer selId) throws AppException {
+        if (selId != null) {
+            this.evictReportCache(this.dao.listProposalNumbersBySeller(selId));
+        }
+    }
+
+    @Override
+    public void evictReportCacheByVehicle(Integer vheId) throws AppException {
+        if (vheId != null) {
+            this.evictReportCache(this.dao.listProposalNumbersByVehicle(vheId));
+        }
+    }
+
+    private void evictReportCache(String proposalNumber) {
+        if (proposalNumber != null) {
+            this.evictReportCache(Collections.singletonList(proposalNumber));
+        }
+    }
+
+    /**
+     * Remove do cache os relatórios das propostas depois do commit. Para alterações na própria proposta a chave do cache
+     * já contém a data de alteração e a exclusão só libera espaço; para alterações em pessoa, executivo e veículo é a
+     * exclusão que impede a entrega do relatório antigo.
+     */
+    private void evictReportCache(List<String> proposalNumbers) {
+        if (proposalNumbers == null || proposalNumbers.isEmpty()) {
+            return;
+        }
+
+        Runnable eviction = () -> proposalNumbers.forEach(reportCacheService::evict);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
 
 }
@@ -0,0 +1,164 @@
+package com.portal.service.imp;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.portal.dao.ISellerAgentDAO;
+import com.portal.dao.ISellerDAO;
+import com.portal.dao.ISellerSalesTeamDAO;
+import com.portal.dto.ProposalSearchRulesDTO;
+import com.portal.dto.UserProfileDTO;
+import com.portal.exceptions.AppException;
+import com.portal.model.CheckpointModel;
+import com.portal.model.Seller;
+import com.portal.model.UserModel;
+import com.portal.service.IProposalVisibilityService;
+
+/**
+ * Resolve quais propostas o usuário pode visualizar a partir dos checkpoints do perfil
+ * e dos relacionamentos do executivo (preposto, dono e célula de venda).
+ * Os relacionamentos ficam em cache por usuário e são invalidados quando executivos,
+ * agentes ou células de venda são alterados.
+ */
+@Service
+public class ProposalVisibilityService implements IProposalVisibilityService {
+
+	public static final String CACHE_NAME = "proposalVisibility";
+
+	public static final String VIEW_ALL = "PROPOSAL.VIEW.ALL";
+	public static final String VIEW_PROMPT_DELIVERY = "PROPOSAL.VIEW.PROMPT.DELIVERY";
+	public static final String VIEW_PREPOSTO = "PROPOSAL.VIEW.PREPOSTO";
+	public static final String VIEW_OWNER = "PROPOSAL.VIEW.OWNER";
+	public static final String VIEW_TEAM = "PROPOSAL.VIEW.TEAM";
+
+	@Autowired
+	private ISellerDAO sellerDao;
+
+	@Autowired
+	private ISellerAgentDAO sellerAgentDao;
+
+	@Autowired
+	private ISellerSalesTeamDAO sellerSalesTeamDao;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Override
+	public ProposalSearchRulesDTO getSearchRules(UserProfileDTO userProfile) throws AppException {
+		ProposalSearchRulesDTO rules = new ProposalSearchRulesDTO(false);
+		if(userProfile == null || userProfile.getUser() == null) {
+			return rules;
+		}
+
+		UserModel user = userProfile.getUser();
+		if(user.getAccessList() != null && user.getAccessList().getCheckpoints() != null) {
+			for(CheckpointModel checkpoint : user.getAccessList().getCheckpoints()) {
+				if(VIEW_ALL.equals(checkpoint.getName())) {
+					rules.setProposalViewAll(true);
+				} else if(VIEW_PROMPT_DELIVERY.equals(checkpoint.getName())) {
+					rules.setProposalViewPromptDelivery(true);
+				} else if(VIEW_PREPOSTO.equals(checkpoint.getName())) {
+					rules.setProposalViewPreposto(true);
+				} else if(VIEW_OWNER.equals(checkpoint.getName())) {
+					rules.setProposalViewOwner(true);
+				} else if(VIEW_TEAM.equals(checkpoint.getName())) {
+					rules.setProposalViewTeam(true);
+				}
+			}
+		}
+
+		if(rules.isProposalViewAll() || !(rules.isProposalViewPreposto() || rules.isProposalViewOwner() || rules.isProposalViewTeam())) {
+			return rules;
+		}
+
+		SellerRelations relations = this.getSellerRelations(user.getId());
+
+		Set<Integer> visibleSellerIds = new HashSet<>();
+		if(rules.isProposalViewPreposto()) {
+			visibleSellerIds.addAll(relations.represented);
+		}
+		if(rules.isProposalViewOwner()) {
+			visibleSellerIds.addAll(relations.owners);
+		}
+		if(rules.isProposalViewTeam()) {
+			visibleSellerIds.addAll(relations.team);
+		}
+		rules.setVisibleSellerIds(visibleSellerIds);
+
+		return rules;
+	}
+
+	@Override
+	public void evictAll() {
+		Runnable eviction = () -> {
+			Cache cache = this.cacheManager.getCache(CACHE_NAME);
+			if(cache != null) {
+				cache.clear();
+			}
+		};
+
+		eviction.run();
+
+		// Repete após o commit para descartar cargas feitas com os dados anteriores
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					eviction.run();
+				}
+			});
+		}
+	}
+
+	private SellerRelations getSellerRelations(Integer usrId) throws AppException {
+		Cache cache = this.cacheManager.getCache(CACHE_NAME);
+		SellerRelations relations = cache != null ? cache.get(usrId, SellerRelations.class) : null;
+		if(relations == null) {
+			relations = this.loadSellerRelations(usrId);
+			if(cache != null) {
+				cache.put(usrId, relations);
+			}
+		}
+		return relations;
+	}
+
+	private SellerRelations loadSellerRelations(Integer usrId) throws AppException {
+		Optional<Seller> seller = this.sellerDao.getByUser(usrId);
+		if(!seller.isPresent()) {
+			return new SellerRelations(Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+		}
+
+		Integer selId = seller.get().getId();
+		return new SellerRelations(new HashSet<>(this.sellerAgentDao.listSellerIdByAgent(selId)),
+									new HashSet<>(this.sellerAgentDao.listAgentIdBySeller(selId)),
+									new HashSet<>(this.sellerSalesTeamDao.listTeamSellerIdBySeller(selId)));
+	}
+
+	private static class SellerRelations {
+
+		/** Executivos para os quais o usuário é preposto. */
+		private final Set<Integer> represented;
+
+		/** Prepostos (agentes) do executivo do usuário. */
+		private final Set<Integer> owners;
+
+		/** Executivos das mesmas células de venda. */
+		private final Set<Integer> team;
+
+		SellerRelations(Set<Integer> represented, Set<Integer> owners, Set<Integer> team) {
+			this.represented = Collections.unmodifiableSet(represented);
+			this.owners = Collections.unmodifiableSet(owners);
+			this.team = Collections.unmodifiableSet(team);
+		}
+	}
+
+}
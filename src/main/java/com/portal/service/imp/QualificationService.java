@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.validation.Validator;
 
@@ -129,6 +130,7 @@ public class QualificationService implements IQualificationService {
 			}
 			
 			Optional<Qualification> saved = this.dao.update( model );
+			this.treeService.updateNode( model );
 			
 			this.audit( ( saved.isPresent() ? saved.get() : null ), AuditOperationType.QUALIFICATION_UPDATED, userProfile);
 			
@@ -184,16 +186,18 @@ public class QualificationService implements IQualificationService {
 	}
 	
 	/**
-	 * Exclui todos os nós abaixo da hierarquia.
+	 * Exclui todos os nós abaixo da hierarquia, com uma única verificação de relacionamento e um único DELETE.
 	 */
 	private void deleteChildrens(List<QualificationTreePathDTO> childrens) throws BusException, AppException {
 		try {
 			if( childrens != null && !childrens.isEmpty() ) {
-				for (QualificationTreePathDTO children : childrens) {
-					//Rega: QLF-D1
-					this.validatePersonRelationship( children.getId() );
-					this.dao.delete( children.getId() );
+				List<Integer> ids = childrens.stream().map( QualificationTreePathDTO::getId ).collect( Collectors.toList() );
+				
+				//Rega: QLF-D1
+				if( this.dao.hasPersonRelationship( ids ) ) {
+					throw new BusException( "Não é possível excluir a qualificação pois existe um relacionamento com pessoa." );
 				}
+				this.dao.delete( ids );
 			}
 			
 		} catch (BusException e) {
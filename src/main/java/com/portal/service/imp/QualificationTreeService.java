@@ -2,13 +2,17 @@ package com.portal.service.imp;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.portal.dao.IQualificationTreeDAO;
 import com.portal.dto.QualificationTreePathDTO;
@@ -17,9 +21,16 @@ import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Qualification;
 import com.portal.service.IQualificationTreeService;
+import com.portal.utils.QualificationForest;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * As leituras da estrutura de qualificação são atendidas por uma {@link QualificationForest} em memória, carregada
+ * na primeira consulta. As alterações gravam na tabela de fechamento e, após o commit, são aplicadas na floresta.
+ * A floresta também é recarregada periodicamente (portal.qualification.refresh-interval), para que os outros nós
+ * recebam as alterações.
+ */
 @Slf4j
 @Service
 @Transactional(readOnly = false, propagation = Propagation.REQUIRED, rollbackFor = Exception.class)
@@ -34,6 +45,8 @@ public class QualificationTreeService implements IQualificationTreeService {
 	@Autowired
 	private QualificationService qualificationService;
 	
+	private volatile QualificationForest forest;
+	
 	/**
 	 * Adiciona um novo nó na árvore de relacionamento.
 	 * 
@@ -44,9 +57,10 @@ public class QualificationTreeService implements IQualificationTreeService {
 	public void addNode( int nodeId, int parentId, UserProfileDTO userProfile ) throws AppException, BusException {
 		try {
 			
-			this.validateExistedNode(nodeId, parentId);
+			Qualification node = this.validateExistedNode(nodeId, parentId);
 			this.validateHasDuplicate( nodeId, parentId );
 			this.dao.addNode( parentId, nodeId );
+			this.applyAfterCommit( forest -> forest.withNode( this.toNode( node ), parentId ) );
 
 		} catch (BusException e) {
 			throw e;
@@ -73,6 +87,7 @@ public class QualificationTreeService implements IQualificationTreeService {
 			}
 			
 			this.dao.deleteNode( nodeId );
+			this.applyAfterCommit( forest -> forest.withoutSubtree( nodeId ) );
 			
 		} catch (BusException e) {
 			throw e;
@@ -105,6 +120,7 @@ public class QualificationTreeService implements IQualificationTreeService {
 			this.validateExistedNode(nodeId, newParentId);
 			this.dao.disconnectNode( nodeId );
 			this.dao.connectNode( nodeId, newParentId );
+			this.applyAfterCommit( forest -> forest.withParent( nodeId, newParentId ) );
 
 		} catch (BusException e) {
 			throw e;
@@ -114,10 +130,18 @@ public class QualificationTreeService implements IQualificationTreeService {
 		}
 	}
 
+	/**
+	 * Atualiza os dados do nó (nome, seq, ativo e obrigatório) na floresta em memória após o commit.
+	 */
+	@Override
+	public void updateNode( Qualification model ) throws AppException {
+		this.applyAfterCommit( forest -> forest.withData( this.toNode( model ) ) );
+	}
+
 	@Override
 	public List<QualificationTreePathDTO> tree() throws AppException {
 		try {
-			return this.dao.tree();
+			return this.getForest().tree();
 		} catch (Exception e) {
 			log.error( "Erro ao carregar a estrutura de qualificação.", e );
 			throw new AppException( this.messageSource.getMessage("error.generic.save", new Object [] { "Qualification Tree" }, LocaleContextHolder.getLocale() ) );
@@ -127,7 +151,7 @@ public class QualificationTreeService implements IQualificationTreeService {
 	@Override
 	public List<QualificationTreePathDTO> treeByName(String name) throws AppException {
 		try {
-			return this.dao.treeByName( name );
+			return this.getForest().subtreeByName( name );
 		} catch (Exception e) {
 			log.error( "Erro ao carregar a estrutura de qualificação por nome.", e );
 			throw new AppException( this.messageSource.getMessage("error.generic.save", new Object [] { "Qualification Tree" }, LocaleContextHolder.getLocale() ) );
@@ -137,13 +161,85 @@ public class QualificationTreeService implements IQualificationTreeService {
 	@Override
 	public List<QualificationTreePathDTO> treeByParent(int parentId) throws AppException {
 		try {
-			return this.dao.treeByParent( parentId );
+			return this.getForest().subtree( parentId );
 		} catch (Exception e) {
 			log.error( "Erro ao carregar a estrutura de qualificação por parentId.", e );
 			throw new AppException( this.messageSource.getMessage("error.generic.save", new Object [] { "Qualification Tree" }, LocaleContextHolder.getLocale() ) );
 		}
 	}
 	
+	/**
+	 * Recarrega a floresta do banco e troca a atual, trazendo as alterações feitas em outros nós. Se a floresta ainda
+	 * não foi carregada a próxima leitura já carrega o estado gravado.
+	 */
+	@Scheduled(fixedDelayString = "${portal.qualification.refresh-interval:60000}", initialDelayString = "${portal.qualification.refresh-interval:60000}")
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public void refresh() {
+		if( this.forest == null ) {
+			return;
+		}
+		
+		try {
+			this.reload();
+		} catch (Exception e) {
+			log.error( "Erro ao recarregar a estrutura de qualificação.", e );
+		}
+	}
+	
+	private QualificationForest getForest() throws AppException {
+		QualificationForest current = this.forest;
+		if( current == null ) {
+			current = this.reload();
+		}
+		return current;
+	}
+	
+	private synchronized QualificationForest reload() throws AppException {
+		QualificationForest loaded = new QualificationForest( this.dao.listNodes() );
+		this.forest = loaded;
+		return loaded;
+	}
+	
+	/**
+	 * Aplica a alteração na floresta em memória depois do commit, sem recarregar do banco. Se a floresta ainda não
+	 * foi carregada não há o que alterar: a próxima leitura já carrega o estado gravado.
+	 */
+	private void applyAfterCommit( UnaryOperator<QualificationForest> change ) {
+		Runnable apply = () -> {
+			synchronized( this ) {
+				if( this.forest != null ) {
+					try {
+						this.forest = change.apply( this.forest );
+					} catch (RuntimeException e) {
+						log.error( "Erro ao atualizar a estrutura de qualificação em memória.", e );
+						this.forest = null;
+					}
+				}
+			}
+		};
+		
+		if( TransactionSynchronizationManager.isSynchronizationActive() ) {
+			TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					apply.run();
+				}
+			} );
+		} else {
+			apply.run();
+		}
+	}
+	
+	private QualificationTreePathDTO toNode( Qualification model ) {
+		return QualificationTreePathDTO.builder()
+										.id( model.getId() )
+										.seq( model.getSeq() )
+										.name( model.getName() != null ? model.getName().toUpperCase() : null )
+										.required( model.getRequired() )
+										.active( model.getActive() )
+										.build();
+	}
+	
 	/**
 	 * Valida se existe entidade duplicada.
 	 * 
@@ -169,7 +265,7 @@ public class QualificationTreeService implements IQualificationTreeService {
 	 * @throws AppException
 	 * @throws BusException
 	 */
-	private void validateExistedNode( int nodeId, int parentId ) throws AppException, BusException {
+	private Qualification validateExistedNode( int nodeId, int parentId ) throws AppException, BusException {
 		Optional<Qualification> parentDB =  this.qualificationService.getById( parentId );
 		if( !parentDB.isPresent() ) {
 			throw new BusException( "A qualificação apontada como pai não existe.");	
@@ -179,6 +275,8 @@ public class QualificationTreeService implements IQualificationTreeService {
 		if( !childDB.isPresent() ) {
 			throw new BusException( "A qualificação apontada como filho não existe.");	
 		}
+		
+		return childDB.get();
 	}
 	
 	
@@ -0,0 +1,200 @@
+package com.portal.service.imp;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.portal.exceptions.AppException;
+import com.portal.service.IReportCacheService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache em disco dos relatórios gerados no JasperServer.
+ *
+ * O arquivo é nomeado com o grupo (ex.: número da proposta) e o SHA-256 da chave, que deve conter tudo que
+ * muda o relatório (caminho, parâmetros e data de alteração). O tamanho total é limitado e os arquivos
+ * menos acessados são excluídos primeiro (LRU).
+ */
+@Slf4j
+@Service
+public class ReportCacheService implements IReportCacheService {
+
+	private static final String EXTENSION = ".pdf";
+
+	private static final String TEMP_EXTENSION = ".tmp";
+
+	private static final String SEPARATOR = "__";
+
+	@Value("${portal.report.cache.location:${java.io.tmpdir}/carbon-report-cache}")
+	private String location;
+
+	@Value("${portal.report.cache.max-size-mb:512}")
+	private long maxSizeMb;
+
+	private Path root;
+
+	/**
+	 * Arquivos do cache em ordem de acesso, do menos para o mais recente.
+	 */
+	private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>( 16, 0.75f, true );
+
+	private long totalSize = 0;
+
+	@PostConstruct
+	public void initialize() throws IOException {
+		this.root = Paths.get( this.location ).toAbsolutePath().normalize();
+		Files.createDirectories( this.root );
+
+		// Descarta arquivos temporários de gravações interrompidas
+		try( Stream<Path> files = Files.list( this.root ) ) {
+			files.filter( file -> file.getFileName().toString().endsWith( TEMP_EXTENSION ) ).forEach( this::delete );
+		}
+
+		// Recupera os arquivos de execuções anteriores, dos mais antigos para os mais novos
+		try( Stream<Path> files = Files.list( this.root ) ) {
+			List<Path> cached = files.filter( file -> file.getFileName().toString().endsWith( EXTENSION ) )
+										.sorted( ( a, b ) -> Long.compare( a.toFile().lastModified(), b.toFile().lastModified() ) )
+										.collect( Collectors.toList() );
+
+			synchronized( this ) {
+				for( Path file : cached ) {
+					this.entries.put( file.getFileName().toString(), file.toFile().length() );
+					this.totalSize += file.toFile().length();
+				}
+				this.evictOverflow();
+			}
+		}
+	}
+
+	/**
+	 * Retorna o arquivo do relatório em cache ou gera o relatório com o writer, grava no cache e retorna o arquivo.
+	 *
+	 * @param group		agrupador usado na invalidação, ex.: número da proposta
+	 * @param key		chave com todos os dados que alteram o conteúdo do relatório
+	 * @param writer	gera o relatório quando não existe no cache
+	 */
+	@Override
+	public Path getOrCreate( String group, String key, ReportWriter writer ) throws AppException {
+		String fileName = this.fileName( group, key );
+		Path file = this.root.resolve( fileName );
+
+		synchronized( this ) {
+			if( this.entries.get( fileName ) != null && Files.isRegularFile( file ) ) {
+				log.debug( "Relatório em cache: {}", fileName );
+				return file;
+			}
+		}
+
+		Path temp = null;
+		try {
+			temp = Files.createTempFile( this.root, "report-", TEMP_EXTENSION );
+
+			try( OutputStream output = Files.newOutputStream( temp ) ) {
+				writer.write( output );
+			}
+
+			Files.move( temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+
+			synchronized( this ) {
+				long size = Files.size( file );
+				Long previous = this.entries.put( fileName, size );
+				this.totalSize += size - ( previous == null ? 0 : previous );
+				this.evictOverflow();
+			}
+
+			return file;
+
+		} catch (AppException e) {
+			throw e;
+
+		} catch (Exception e) {
+			log.error( "Erro ao gravar o relatório no cache: {}", fileName, e );
+			throw new AppException( "Erro ao gerar o relatório.", e );
+
+		} finally {
+			this.delete( temp );
+		}
+	}
+
+	/**
+	 * Remove do cache todos os relatórios do grupo.
+	 */
+	@Override
+	public synchronized void evict( String group ) {
+		String prefix = this.sanitize( group ) + SEPARATOR;
+
+		Iterator<Map.Entry<String, Long>> iterator = this.entries.entrySet().iterator();
+		while( iterator.hasNext() ) {
+			Map.Entry<String, Long> entry = iterator.next();
+			if( entry.getKey().startsWith( prefix ) ) {
+				this.totalSize -= entry.getValue();
+				iterator.remove();
+				this.delete( this.root.resolve( entry.getKey() ) );
+			}
+		}
+	}
+
+	private void evictOverflow() {
+		long maxSize = this.maxSizeMb * 1024 * 1024;
+
+		// O último acessado nunca é excluído, para não remover o relatório que acabou de ser gerado
+		Iterator<Map.Entry<String, Long>> iterator = this.entries.entrySet().iterator();
+		while( this.totalSize > maxSize && this.entries.size() > 1 ) {
+			Map.Entry<String, Long> entry = iterator.next();
+			this.totalSize -= entry.getValue();
+			iterator.remove();
+			this.delete( this.root.resolve( entry.getKey() ) );
+		}
+	}
+
+	private void delete( Path file ) {
+		if( file == null ) {
+			return;
+		}
+
+		try {
+			Files.deleteIfExists( file );
+		} catch (IOException e) {
+			// No Windows o arquivo pode estar aberto em um download; fica para a próxima limpeza
+			log.warn( "Não foi possível excluir o arquivo do cache de relatórios: {}", file, e );
+		}
+	}
+
+	private String fileName( String group, String key ) throws AppException {
+		try {
+			byte[] hash = MessageDigest.getInstance( "SHA-256" ).digest( key.getBytes( StandardCharsets.UTF_8 ) );
+
+			StringBuilder hex = new StringBuilder();
+			for( byte b : hash ) {
+				hex.append( String.format( "%02x", b ) );
+			}
+
+			return this.sanitize( group ) + SEPARATOR + hex + EXTENSION;
+
+		} catch (Exception e) {
+			throw new AppException( "Erro ao gerar a chave do relatório.", e );
+		}
+	}
+
+	private String sanitize( String group ) {
+		return ( group == null ? "" : group.replaceAll( "[^A-Za-z0-9]", "-" ) );
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.portal.service.imp;
 
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -9,6 +10,7 @@ import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -20,11 +22,13 @@ import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.exceptions.AppException;
 import com.portal.model.ReportModel;
 import com.portal.service.IReportService;
 
@@ -35,6 +39,10 @@ public class ReportService implements IReportService {
 	@Autowired
 	private RestTemplate restTemplate;
 	
+	@Autowired
+	@Qualifier("jasperRestTemplate")
+	private RestTemplate jasperRestTemplate;
+	
 	@Autowired
 	private ObjectMapper objectMapper;
 
@@ -142,7 +150,11 @@ public class ReportService implements IReportService {
 		return list;
 	}
 	
-	public byte[] getReport(String jasperUrl, String reportPath, String jasperUser, String jasperPassword, String params) {
+	/**
+	 * Executa o relatório no JasperServer e copia a resposta para o output em streaming, sem carregar o PDF em memória.
+	 */
+	@Override
+	public void writeReport(String jasperUrl, String reportPath, String jasperUser, String jasperPassword, String params, OutputStream output) throws AppException {
 		StringBuilder url = new StringBuilder();
 		url.append(jasperUrl);
 		url.append("/rest_v2/reports" + reportPath);
@@ -150,12 +162,17 @@ public class ReportService implements IReportService {
 		url.append("&j_password=" + jasperPassword);
 		url.append("&" + params);
 		
-		RestTemplate restTemplate = new RestTemplate();
-		HttpHeaders headers = new HttpHeaders();
-		headers.setAccept(Arrays.asList(MediaType.APPLICATION_PDF, MediaType.APPLICATION_OCTET_STREAM));
-		HttpEntity<String> entity = new HttpEntity<>(headers);
-		ResponseEntity<byte[]> result = restTemplate.exchange(url.toString(), HttpMethod.GET, entity, byte[].class);
-	
-		return result.getBody();
+		try {
+			this.jasperRestTemplate.execute(url.toString(), HttpMethod.GET, 
+					request -> request.getHeaders().setAccept(Arrays.asList(MediaType.APPLICATION_PDF, MediaType.APPLICATION_OCTET_STREAM)),
+					response -> {
+						StreamUtils.copy(response.getBody(), output);
+						return null;
+					});
+			
+		} catch (Exception e) {
+			logger.error("Erro ao gerar o relatório {} no JasperServer.", reportPath, e);
+			throw new AppException("Erro ao gerar o relatório no JasperServer.", e);
+		}
 	}
 }
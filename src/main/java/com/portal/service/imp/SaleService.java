@@ -2,6 +2,7 @@ package com.portal.service.imp;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
@@ -60,6 +61,11 @@ public class SaleService implements ISaleService {
 	public List<SaleModel> search(SaleModel model) throws AppException, BusException {
 		return dao.search(model);
 	}
+	
+	@Override
+	public void search(SaleModel model, Consumer<SaleModel> consumer) throws AppException {
+		dao.search(model, consumer);
+	}
 
 	@Override
 	public Optional<SaleModel> saveOrUpdate(SaleModel model, UserProfileDTO userProfile) throws AppException, BusException {
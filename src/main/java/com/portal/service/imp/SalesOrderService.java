@@ -2,7 +2,6 @@ package com.portal.service.imp;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 
 import javax.validation.Validator;
@@ -21,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.ISalesOrderDAO;
+import com.portal.dto.JiraIssueRequestDTO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.enums.AuditOperationType;
 import com.portal.exceptions.AppException;
@@ -28,7 +28,7 @@ import com.portal.exceptions.BusException;
 import com.portal.model.Proposal;
 import com.portal.model.SalesOrder;
 import com.portal.service.IAuditService;
-import com.portal.service.IJiraIntegrationService;
+import com.portal.service.IIntegrationOutboxService;
 import com.portal.service.ISalesOrderService;
 import com.portal.utils.PortalStringUtils;
 import com.portal.utils.PortalTimeUtils;
@@ -62,7 +62,7 @@ public class SalesOrderService implements ISalesOrderService {
 	private ProposalService proposalService;
 	
 	@Autowired
-	private IJiraIntegrationService jiraIntegrationService;
+	private IIntegrationOutboxService integrationOutboxService;
 	
 	private static final Pageable DEFAULT_PAGINATION = PageRequest.of( 0, Integer.MAX_VALUE, Sort.Direction.fromString( "DESC" ), "pps_id");
 
@@ -123,14 +123,12 @@ public class SalesOrderService implements ISalesOrderService {
 			
 			this.audit( ( reload.isPresent() ? reload.get() : null ), AuditOperationType.SALES_INSERTED, userProfile);
 			
-			// Atualiza a Chave do Jira após integração
+			// A tarefa do Jira é criada após o commit pela integration_outbox, que grava a chave no pedido
 			if(reload.isPresent()) {
 				
-				String jiraKey = this.generateTaskJira(reload.get(), userProfile);
+				JiraIssueRequestDTO jiraRequest = this.generateTaskJira(reload.get());
 				
-				reload.get().setJiraKey(jiraKey);
-				
-				this.update(reload.get(), userProfile);
+				this.integrationOutboxService.enqueue(JiraSalesOrderOutboxHandler.TYPE, JiraSalesOrderOutboxHandler.idempotencyKey(reload.get().getId()), reload.get().getId(), jiraRequest);
 				
 			}
 			
@@ -366,30 +364,10 @@ public class SalesOrderService implements ISalesOrderService {
 		if( model == null ) {
 			throw new BusException( "Não é possível executar a validação de duplicado pois o Pedido de Venda está nula ou inválida." );
 		}
-		
-		SalesOrder rnSearch = SalesOrder.builder().proposal(model.getProposal()).build();
 
-		List<SalesOrder> listBD = this.find( rnSearch, DEFAULT_PAGINATION );
-
-		// Save Action
-		if( ( model.getId() == null || model.getId().equals(0) ) && 
-				listBD != null && !listBD.isEmpty() &&
-				listBD.stream().anyMatch(p -> !Objects.equals(p.getId(), model.getId()))) {
+		if( this.dao.hasDuplicate( model ) ) {
 			throw new BusException( "Já existe um Pedido de Venda para esta proposta: " + model.getProposal().getNum() );
 		}
-		
-		// Update Action
-		if( model.getId() != null && !model.getId().equals(0) && 
-				listBD != null && !listBD.isEmpty()) {
-			
-			long count = listBD.stream()
-							.filter( item -> !item.getId().equals( model.getId() ) && item.getProposal().getNum().equals( model.getProposal().getNum() ) )
-							.count();
-			
-			if( count > 0 ) {
-				throw new BusException( "Já existe uma proposta com a mesma versão. Versão: " + model.getProposal().getNum() );
-			}
-		}
 	}
 	
 	/**
@@ -401,7 +379,7 @@ public class SalesOrderService implements ISalesOrderService {
 	 * @throws BusException
 	 * @throws AppException
 	 */
-	private String generateTaskJira(SalesOrder salesOrder, UserProfileDTO requester) throws AppException, BusException {
+	private JiraIssueRequestDTO generateTaskJira(SalesOrder salesOrder) throws AppException, BusException {
 		try {
 			
 		Optional<Proposal> proposalToFinded = proposalService.getAllProposalId(salesOrder.getProposal().getId());
@@ -429,7 +407,7 @@ public class SalesOrderService implements ISalesOrderService {
 		if(!proposalToFinded.isPresent())
 			throw new BusException("Proposta do Pedido de Venda não existe");
 		
-		return jiraIntegrationService.createIssue(issueName, valuesIntegration, requester);
+		return JiraIssueRequestDTO.builder().issueName(issueName).fields(valuesIntegration).build();
 		
 		} catch (BusException e) {
 			throw new BusException(e.getMessage()); 
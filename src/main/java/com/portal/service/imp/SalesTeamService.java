@@ -266,27 +266,9 @@ public class SalesTeamService implements ISalesTeamService {
 		if( model == null ) {
 			throw new BusException( "Não é possível checar a duplicidade com o objeto da entidade nula." );
 		}
-		
-		SalesTeam rnSearch = SalesTeam.builder().name( model.getName() ).build();
-		List<SalesTeam> listBD = this.find( rnSearch, null );
 
-		// Save Action
-		if( ( model.getId() == null || model.getId().equals(0) ) && 
-				listBD != null && !listBD.isEmpty() ) {
-			throw new BusException( "Já existe uma célula de venda com o mesmo nome.");
-		}
-		
-		// Update Action
-		if( model.getId() != null && !model.getId().equals(0) && 
-				listBD != null && !listBD.isEmpty()) {
-			
-			long count = listBD.stream()
-							.filter( item -> !item.getId().equals( model.getId() ) && item.getName().equals( model.getName() ) )
-							.count();
-			
-			if( count > 0 ) {
-				throw new BusException( "Já existe uma célula de venda com o mesmo nome.");
-			}
+		if( this.dao.hasDuplicate( model ) ) {
+			throw new BusException( "Já existe uma célula de venda com o mesmo nome." );
 		}
 	}
     
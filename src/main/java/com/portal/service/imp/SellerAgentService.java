@@ -14,6 +14,7 @@ import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Seller;
 import com.portal.service.IAuditService;
+import com.portal.service.IProposalVisibilityService;
 import com.portal.service.ISellerAgentService;
 
 @Service
@@ -26,18 +27,23 @@ public class SellerAgentService implements ISellerAgentService {
     @Autowired
     private IAuditService auditService;
 
+    @Autowired
+    private IProposalVisibilityService proposalVisibilityService;
+
 	public List<Seller> findBySeller( Integer selId ) throws AppException, BusException {
 		return dao.findBySeller(selId);
 	}
 	
 	public void save( Integer selId, Integer selAgentId, UserProfileDTO userProfile ) throws AppException, BusException {
 		dao.save(selId, selAgentId);
+		this.proposalVisibilityService.evictAll();
 		this.auditService.save(new String ("{ selId: " + selId + ", selAgentId: " + selAgentId + " }"), AuditOperationType.SELLER_AGENT_INSERTED, userProfile);
 
 	}
 	
 	public void delete( Integer selId, Integer selAgentId, UserProfileDTO userProfile ) throws AppException, BusException {
 		dao.delete(selId, selAgentId);
+		this.proposalVisibilityService.evictAll();
 		this.auditService.save(new String ("{ selId: " + selId + ", selAgentId: " + selAgentId + " }"), AuditOperationType.SELLER_AGENT_DELETED, userProfile);
 	}
 }
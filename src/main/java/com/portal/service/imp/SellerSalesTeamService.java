@@ -15,6 +15,7 @@ import com.portal.exceptions.BusException;
 import com.portal.model.SalesTeam;
 import com.portal.model.Seller;
 import com.portal.service.IAuditService;
+import com.portal.service.IProposalVisibilityService;
 import com.portal.service.ISellerSalesTeamService;
 
 @Service
@@ -27,6 +28,9 @@ public class SellerSalesTeamService implements ISellerSalesTeamService {
 	@Autowired
 	private IAuditService auditService;
 	
+	@Autowired
+	private IProposalVisibilityService proposalVisibilityService;
+	
 	@Override
 	public List<SalesTeam> findBySeller(Integer selId) throws AppException, BusException {
 		return dao.findBySeller(selId);
@@ -40,12 +44,14 @@ public class SellerSalesTeamService implements ISellerSalesTeamService {
 	@Override
 	public void save(Integer selId, Integer sltId, UserProfileDTO userProfile) throws AppException, BusException {
 		dao.save(selId, sltId);
+		this.proposalVisibilityService.evictAll();
 		this.auditService.save(new String ("{ selId: " + selId + ", sltId: " + selId + " }"), AuditOperationType.SELLER_SALES_TEAM_INSERTED, userProfile);
 	}
 
 	@Override
 	public void delete(Integer selId, Integer sltId, UserProfileDTO userProfile) throws AppException, BusException {
 		dao.delete(selId, sltId);
+		this.proposalVisibilityService.evictAll();
 		this.auditService.save(new String ("{ selId: " + selId + ", sltId: " + selId + " }"), AuditOperationType.SELLER_SALES_TEAM_DELETED, userProfile);
 	}
 
@@ -22,6 +22,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.ISellerDAO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.enums.AuditOperationType;
+import com.portal.enums.FetchPlan;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Partner;
@@ -30,6 +31,8 @@ import com.portal.model.SalesTeam;
 import com.portal.model.Seller;
 import com.portal.service.IAuditService;
 import com.portal.service.IPersonService;
+import com.portal.service.IProposalService;
+import com.portal.service.IProposalVisibilityService;
 import com.portal.service.ISellerAgentService;
 import com.portal.service.ISellerPartnerService;
 import com.portal.service.ISellerSalesTeamService;
@@ -72,6 +75,12 @@ public class SellerService implements ISellerService {
     @Autowired
     private ISellerAgentService sellerAgentService;
 
+    @Autowired
+    private IProposalVisibilityService proposalVisibilityService;
+
+    @Autowired
+    private IProposalService proposalService;
+
 
     private static final Pageable DEFAULT_PAGINATION = PageRequest.of(0, Integer.MAX_VALUE, Sort.Direction.fromString("DESC"), "sel_id");
 
@@ -83,17 +92,23 @@ public class SellerService implements ISellerService {
 
     @Override
     public Optional<Seller> getById(Integer id) throws AppException, BusException {
+        return this.getById(id, FetchPlan.FULL);
+    }
+
+    /**
+     * Busca o vendedor carregando só o necessário para o plano informado. Em {@link FetchPlan#ID_ONLY}
+     * é uma consulta sem joins; em {@link FetchPlan#SUMMARY} traz pessoa, usuário e cargo sem as listas.
+     */
+    @Override
+    public Optional<Seller> getById(Integer id, FetchPlan plan) throws AppException, BusException {
         try {
             if (id == null) {
                 throw new BusException("ID de busca inválido.");
             }
 
-            Optional<Seller> seller = this.dao.getById(id);
-            if (seller.isPresent()) {
-                seller.get().setPerson(this.personService.getById(seller.get().getPerson().getId()).get());
-                seller.get().setSalesTeamList(this.salesTeamSellerService.findBySeller(seller.get().getId()));
-                seller.get().setPartnerList(this.sellerPartnerService.findBySeller(seller.get().getId()));
-                seller.get().setAgentList(this.sellerAgentService.findBySeller(seller.get().getId()));
+            Optional<Seller> seller = plan == FetchPlan.ID_ONLY ? this.dao.getReferenceById(id) : this.dao.getById(id);
+            if (seller.isPresent() && plan == FetchPlan.FULL) {
+                this.fillRelationships(seller.get());
             }
 
             return seller;
@@ -118,10 +133,7 @@ public class SellerService implements ISellerService {
             if (seller != null && seller.size() > 0) {
                 seller.forEach(executive -> {
                     try {
-                        executive.setPerson(this.personService.getById(executive.getPerson().getId()).get());
-                        executive.setSalesTeamList(this.salesTeamSellerService.findBySeller(executive.getId()));
-                        executive.setPartnerList(this.sellerPartnerService.findBySeller(executive.getId()));
-                        executive.setAgentList(this.sellerAgentService.findBySeller(executive.getId()));
+                        this.fillRelationships(executive);
                     } catch (AppException e) {
                         throw new RuntimeException(e);
                     } catch (BusException e) {
@@ -157,18 +169,21 @@ public class SellerService implements ISellerService {
     }
 
 
+    @Override
     public Optional<Seller> getByUser(Integer id) throws AppException, BusException {
+        return this.getByUser(id, FetchPlan.FULL);
+    }
+
+    @Override
+    public Optional<Seller> getByUser(Integer id, FetchPlan plan) throws AppException, BusException {
         try {
             if (id == null) {
                 throw new BusException("ID de busca inválido.");
             }
 
-            Optional<Seller> seller = this.dao.getByUser(id);
-            if (seller.isPresent()) {
-                seller.get().setPerson(this.personService.getById(seller.get().getPerson().getId()).get());
-                seller.get().setSalesTeamList(this.salesTeamSellerService.findBySeller(seller.get().getId()));
-                seller.get().setPartnerList(this.sellerPartnerService.findBySeller(seller.get().getId()));
-                seller.get().setAgentList(this.sellerAgentService.findBySeller(seller.get().getId()));
+            Optional<Seller> seller = plan == FetchPlan.ID_ONLY ? this.dao.getReferenceByUser(id) : this.dao.getByUser(id);
+            if (seller.isPresent() && plan == FetchPlan.FULL) {
+                this.fillRelationships(seller.get());
             }
 
             return seller;
@@ -259,6 +274,8 @@ public class SellerService implements ISellerService {
                 this.syncAgentSellerRelationship(saved.get(), userProfile);
             }
 
+            this.proposalVisibilityService.evictAll();
+
             this.audit((saved.isPresent() ? saved.get() : null), AuditOperationType.SELLER_INSERTED, userProfile);
 
             return saved;
@@ -297,6 +314,10 @@ public class SellerService implements ISellerService {
 
             this.personService.saveOrUpdate(seller.getPerson(), userProfile);
 
+            this.proposalVisibilityService.evictAll();
+
+            this.proposalService.evictReportCacheBySeller(seller.getId());
+
             this.audit((saved.isPresent() ? saved.get() : null), AuditOperationType.SELLER_UPDATED, userProfile);
 
             return saved;
@@ -329,6 +350,8 @@ public class SellerService implements ISellerService {
 
             this.personService.delete(entityDB.get().getPerson().getId(), userProfile);
 
+            this.proposalVisibilityService.evictAll();
+
             this.audit((entityDB.isPresent() ? entityDB.get() : null), AuditOperationType.SELLER_DELETED, userProfile);
         } catch (BusException e) {
             throw e;
@@ -503,6 +526,16 @@ public class SellerService implements ISellerService {
         }
     }
 
+    /**
+     * Carga {@link FetchPlan#FULL}: pessoa completa, times de venda, parceiros e agentes.
+     */
+    private void fillRelationships(Seller seller) throws AppException, BusException {
+        seller.setPerson(this.personService.getById(seller.getPerson().getId()).get());
+        seller.setSalesTeamList(this.salesTeamSellerService.findBySeller(seller.getId()));
+        seller.setPartnerList(this.sellerPartnerService.findBySeller(seller.getId()));
+        seller.setAgentList(this.sellerAgentService.findBySeller(seller.getId()));
+    }
+
     private void validateEntity(Seller model, Class<?> group) throws BusException {
         ValidationHelper.generateException(validator.validate(model, group));
     }
@@ -0,0 +1,180 @@
+package com.portal.service.imp;
+
+import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.portal.dto.UserProfileDTO;
+import com.portal.exceptions.AppException;
+import com.portal.exceptions.BusException;
+import com.portal.model.UserModel;
+import com.portal.service.IUserProfileCacheService;
+import com.portal.service.IUserService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Cache do perfil do usuário logado, evitando recarregar pessoa, menus, checkpoints e clientes
+ * a cada requisição. A entrada é indexada pelo username e só é reaproveitada quando a data de
+ * emissão do token for a mesma usada na carga.
+ */
+@Service
+public class UserProfileCacheService implements IUserProfileCacheService {
+
+	private static final Logger logger = LoggerFactory.getLogger(UserProfileCacheService.class);
+
+	public static final String CACHE_NAME = "userProfiles";
+
+	@Lazy
+	@Autowired
+	private IUserService userService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	/**
+	 * Incrementado a cada invalidação. Uma carga iniciada antes de uma invalidação não é
+	 * gravada no cache, evitando que um perfil desatualizado volte para o cache.
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	private Counter hitCounter;
+	private Counter missCounter;
+	private Timer loadTimer;
+
+	@PostConstruct
+	private void initialize() {
+		this.hitCounter = Counter.builder("portal.userprofile.cache.requests").tag("result", "hit").register(meterRegistry);
+		this.missCounter = Counter.builder("portal.userprofile.cache.requests").tag("result", "miss").register(meterRegistry);
+		this.loadTimer = Timer.builder("portal.userprofile.cache.load").register(meterRegistry);
+		Gauge.builder("portal.userprofile.cache.hit.ratio", this, UserProfileCacheService::hitRatio).register(meterRegistry);
+	}
+
+	@Override
+	public Optional<UserProfileDTO> getProfile(String username, Date tokenCreated) throws AppException, BusException {
+		if(username == null) {
+			return Optional.empty();
+		}
+
+		Cache cache = this.getCache();
+		CachedProfile cached = cache != null ? cache.get(username, CachedProfile.class) : null;
+		if(cached != null && Objects.equals(cached.tokenCreated, tokenCreated)) {
+			this.hitCounter.increment();
+			return Optional.of(cached.profile);
+		}
+
+		this.missCounter.increment();
+
+		long loadGeneration = this.generation.get();
+		long start = System.nanoTime();
+		Optional<UserProfileDTO> profile = this.load(username);
+		this.loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+		if(profile.isPresent() && cache != null && loadGeneration == this.generation.get()) {
+			cache.put(username, new CachedProfile(tokenCreated, profile.get()));
+		}
+
+		return profile;
+	}
+
+	@Override
+	public void evict(String username) {
+		if(username == null) {
+			return;
+		}
+
+		this.runNowAndAfterCommit(() -> {
+			this.generation.incrementAndGet();
+			Cache cache = this.getCache();
+			if(cache != null) {
+				cache.evict(username);
+			}
+		});
+	}
+
+	@Override
+	public void evictAll() {
+		this.runNowAndAfterCommit(() -> {
+			this.generation.incrementAndGet();
+			Cache cache = this.getCache();
+			if(cache != null) {
+				cache.clear();
+			}
+		});
+	}
+
+	private Optional<UserProfileDTO> load(String username) throws AppException, BusException {
+		Optional<UserModel> userModel = this.userService.findByUsername(new UserModel(username));
+		if(userModel.isPresent()) {
+			Optional<UserModel> user = this.userService.getById(userModel.get().getId());
+			if(user.isPresent()) {
+				return Optional.of(new UserProfileDTO(user.get()));
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * A invalidação é feita na hora e repetida após o commit, para que uma requisição concorrente
+	 * não grave no cache o estado anterior ao fim da transação.
+	 */
+	private void runNowAndAfterCommit(Runnable eviction) {
+		eviction.run();
+
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					eviction.run();
+				}
+			});
+		}
+	}
+
+	private Cache getCache() {
+		Cache cache = this.cacheManager.getCache(CACHE_NAME);
+		if(cache == null) {
+			logger.warn("Cache {} não configurado, perfil do usuário será carregado do banco.", CACHE_NAME);
+		}
+		return cache;
+	}
+
+	private double hitRatio() {
+		double hits = this.hitCounter.count();
+		double total = hits + this.missCounter.count();
+		return total == 0 ? 0 : hits / total;
+	}
+
+	private static class CachedProfile {
+
+		private final Date tokenCreated;
+		private final UserProfileDTO profile;
+
+		CachedProfile(Date tokenCreated, UserProfileDTO profile) {
+			this.tokenCreated = tokenCreated;
+			this.profile = profile;
+		}
+	}
+
+}
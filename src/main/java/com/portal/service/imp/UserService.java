@@ -23,6 +23,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.IUserDAO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.enums.AuditOperationType;
+import com.portal.enums.FetchPlan;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.CustomerModel;
@@ -36,6 +37,7 @@ import com.portal.service.IParameterService;
 import com.portal.service.IPassHistService;
 import com.portal.service.IPersonService;
 import com.portal.service.IUserCustomerService;
+import com.portal.service.IUserProfileCacheService;
 import com.portal.service.IUserService;
 import com.portal.utils.PortalPasswordUtils;
 
@@ -69,6 +71,9 @@ public class UserService implements IUserService {
 	@Autowired
 	private IUserCustomerService userCustomerService;
 	
+	@Autowired
+	private IUserProfileCacheService userProfileCacheService;
+	
     @Autowired
     public MessageSource messageSource;
     
@@ -105,18 +110,29 @@ public class UserService implements IUserService {
 	
 	@Override
 	public Optional<UserModel> getById(Integer id) throws AppException, BusException {
+		return this.getById(id, FetchPlan.FULL);
+	}
+
+	/**
+	 * Busca o usuário pelo ID. Em {@link FetchPlan#ID_ONLY} é só a consulta do usuário; em {@link FetchPlan#SUMMARY}
+	 * inclui o cadastro da pessoa; em {@link FetchPlan#FULL} carrega também menus, checkpoints e clientes.
+	 */
+	@Override
+	public Optional<UserModel> getById(Integer id, FetchPlan plan) throws AppException, BusException {
 		Optional<UserModel> userModel = dao.getById(id);
-		if(userModel.isPresent()) {
+		if(userModel.isPresent() && plan != FetchPlan.ID_ONLY) {
 			if(userModel.get().getPerson() != null) {
-				userModel.get().setPerson(this.personService.getById(userModel.get().getPerson().getId()).get());
+				userModel.get().setPerson(this.personService.getById(userModel.get().getPerson().getId(), plan).get());
 			}
-			
-			if(userModel.get().getAccessList() != null) {
-				userModel.get().getAccessList().setMenus(this.accesslistMenuService.listMenuByAccessList(userModel.get().getAccessList().getId()));
-				userModel.get().getAccessList().setCheckpoints(this.accessListCheckPointService.listCheckpointByAccessList(null, userModel.get().getAccessList().getId()));
+
+			if(plan == FetchPlan.FULL) {
+				if(userModel.get().getAccessList() != null) {
+					userModel.get().getAccessList().setMenus(this.accesslistMenuService.listMenuByAccessList(userModel.get().getAccessList().getId()));
+					userModel.get().getAccessList().setCheckpoints(this.accessListCheckPointService.listCheckpointByAccessList(null, userModel.get().getAccessList().getId()));
+				}
+
+				userModel.get().setCustomers(this.userCustomerService.listUserCustomer(userModel.get().getId()));
 			}
-			
-			userModel.get().setCustomers(this.userCustomerService.listUserCustomer(userModel.get().getId()));
 		}
 		return userModel;
 	}
@@ -189,6 +205,9 @@ public class UserService implements IUserService {
 			
 			this.syncUserCustomer( model );
 			
+			this.userProfileCacheService.evict(userModel.get().getUsername());
+			this.userProfileCacheService.evict(model.getUsername());
+			
 			if(userModel.get().getBlocked() && !model.getBlocked()) {
 				userModel.get().setPassErrorCount(0);
 			}
@@ -264,6 +283,7 @@ public class UserService implements IUserService {
 
 	@Override
 	public Optional<UserModel> saveUserConfig(UserModel model) throws AppException, BusException {
+		this.evictProfile(model);
 		return this.dao.saveUserConfig(model);
 	}
 
@@ -274,6 +294,7 @@ public class UserService implements IUserService {
 			this.deleteUserCustomer( model.get().getId(), 0 );
 			this.passHistService.deleteByUser(model.get().getId(), userProfile);
 			this.dao.delete( id );
+			this.userProfileCacheService.evict(model.get().getUsername());
 			this.audit(model.get(), AuditOperationType.USER_DELETED, userProfile);
 		}
 	}
@@ -287,6 +308,7 @@ public class UserService implements IUserService {
 			model.setLastPassChange(new Date());
 			model.setExpirePass(false);
 			this.dao.changePassword(model);
+			this.evictProfile(model);
 
 			PassHistModel passHist = new PassHistModel();
 			passHist.setPassword( model.getPassword() );
@@ -336,6 +358,17 @@ public class UserService implements IUserService {
 		}
 	}
 	
+	/**
+	 * Remove o perfil do usuário do cache. Quando o username não vem no modelo, o cache inteiro é limpo.
+	 */
+	private void evictProfile(UserModel user) {
+		if(user.getUsername() != null) {
+			this.userProfileCacheService.evict(user.getUsername());
+		} else {
+			this.userProfileCacheService.evictAll();
+		}
+	}
+	
 	private void syncUserCustomer(UserModel user) throws AppException, BusException {
 		this.userCustomerService.deleteUserCustomer(user.getId(), 0);
 		if(!CollectionUtils.isEmpty(user.getCustomers())) {
@@ -398,6 +431,7 @@ public class UserService implements IUserService {
 			
 			logger.info("Salvando");
 			this.dao.update(userModel.get());
+			this.userProfileCacheService.evict(userModel.get().getUsername());
 			
 			logger.info("Reset do usuario {} executado", id);
 		} else {
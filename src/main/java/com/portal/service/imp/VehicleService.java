@@ -3,6 +3,8 @@ package com.portal.service.imp;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.IVehicleDAO;
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.dto.VehicleDTO;
 import com.portal.enums.AuditOperationType;
@@ -81,6 +83,22 @@ public class VehicleService implements IVehicleService {
         }
     }
 
+    /**
+     * Lista os veículos paginando por keyset.
+     *
+     * @param request cursor, tamanho da página e ordenação (id, plate ou modelYear)
+     */
+    @Override
+    public KeysetPageDTO<VehicleModel> listAllByKeyset(KeysetRequestDTO request) throws AppException, BusException {
+        try {
+            return this.dao.listAllByKeyset(request);
+
+        } catch (Exception e) {
+            log.error("Erro no processo de listar os veículos.", e);
+            throw new AppException(this.messageSource.getMessage("error.generic.listall", new Object[]{VehicleModel.class.getSimpleName()}, LocaleContextHolder.getLocale()));
+        }
+    }
+
     /**
      * Método auxiliar que decide com base no ID se a entidade deve ser salva ou
      * atualizada.
@@ -145,6 +163,8 @@ public class VehicleService implements IVehicleService {
 
             Optional<VehicleModel> saved = this.dao.update(model);
 
+            this.proposalService.evictReportCacheByVehicle(model.getId());
+
             this.audit((saved.isPresent() ? saved.get() : null), AuditOperationType.VEHICLE_UPDATED, userProfile);
 
             return saved;
@@ -384,38 +404,13 @@ public class VehicleService implements IVehicleService {
             throw new BusException("Não é possível chegar a duplicidade com o objeto da entidade nula.");
         }
 
-        List<VehicleModel> searchPlate = this.find(VehicleModel.builder().plate(model.getPlate()).build(), null);
-
-        //validação de duplicidade para save
-        if ((model.getId() == null || model.getId().equals(0)) && searchPlate != null && !searchPlate.isEmpty()) {
-            if (model.getPlate() != null) throw new BusException("Já existe um veículo com a mesma placa.");
+        if (model.getPlate() != null && this.dao.hasDuplicatePlate(model)) {
+            throw new BusException("Já existe um veículo com a mesma placa.");
         }
 
-        //validação de duplicidade para update
-        if (model.getId() != null && !model.getId().equals(0) && searchPlate != null && !searchPlate.isEmpty()) {
-            if (model.getPlate() != null) {
-                long count = searchPlate.stream()
-                        .filter(item -> !item.getId().equals(model.getId()) && item.getPlate() != null && item.getPlate().equals(model.getPlate()))
-                        .count();
-                if (count > 0) throw new BusException("Já existe um veículo com a mesma placa.");
-            }
-        }
-
-        List<VehicleModel> searchChassi = this.find(VehicleModel.builder().chassi(model.getChassi()).build(), null);
-        //validação de duplicidade para save
-        if ((model.getId() == null || model.getId().equals(0)) && searchChassi != null && !searchChassi.isEmpty()) {
+        if (model.getChassi() != null && this.dao.hasDuplicateChassi(model)) {
             throw new BusException("Já existe um veículo com o mesmo chassi.");
         }
-        
-        //validação de duplicidade para update
-        if (model.getId() != null && !model.getId().equals(0) && searchChassi != null && !searchChassi.isEmpty()) {
-            long countChassi = searchChassi.stream()
-                    .filter(item -> !item.getId().equals(model.getId()) && item.getChassi().equals(model.getChassi()))
-                    .count();
-            if (countChassi > 0) {
-                throw new BusException("Já existe um veículo com o mesmo chassi.");
-            }
-        }
     }
 
     /**
@@ -1,10 +1,22 @@
 package com.portal.service.imp.form;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
@@ -24,6 +36,7 @@ import com.portal.dto.PriceProductDTO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.dto.form.PriceListDuplicateItemDTO;
 import com.portal.dto.form.PriceListFormDTO;
+import com.portal.dto.form.PriceListFormRowErrorDTO;
 import com.portal.dto.form.PriceListFormSearchDTO;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
@@ -49,7 +62,9 @@ import com.portal.service.IPriceListFormService;
 import com.portal.service.IPriceListPartnerService;
 import com.portal.service.IPriceListService;
 import com.portal.service.IPriceProductService;
+import com.portal.service.IPriceResolutionService;
 import com.portal.service.IProductModelService;
+import com.portal.validators.ValidationHelper.OnSave;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -64,6 +79,9 @@ public class PriceListFormService implements IPriceListFormService {
 	@Autowired
 	private IPriceListFormDAO dao;
 	
+	@Autowired
+	private Validator validator;
+	
 	@Autowired
 	private IPriceListService priceListService;
 	
@@ -97,7 +115,15 @@ public class PriceListFormService implements IPriceListFormService {
 	@Autowired
 	private IBrandService brandService;
 	
+	@Autowired
+	private IPriceResolutionService priceResolutionService;
+	
 	private static final Pageable DEFAULT_PAGINATION = PageRequest.of( 0, Integer.MAX_VALUE, Sort.Direction.fromString( "DESC" ), "prl_id"); 
+	
+	private static final String SECTION_PRODUCTS = "products";
+	private static final String SECTION_ITENS = "itens";
+	private static final String SECTION_ITENS_MODEL = "itensModel";
+	private static final String SECTION_PARTNERS = "partners";
 
 	@Override
 	public void save( PriceListFormDTO model, UserProfileDTO userProfile ) throws AppException, BusException {
@@ -133,40 +159,34 @@ public class PriceListFormService implements IPriceListFormService {
 				throw new BusException( "Não é possível salvar a lista pois existem produtos e/ou itens com sobreposição em outra lista." );
 			}
 			
-			Optional<PriceList> newPriceList = this.priceListService.save( PriceList.toEntity( model.getPriceList() ), userProfile);
+			PriceList formPriceList = PriceList.toEntity( model.getPriceList() );
+			
+			List<PriceProduct> products = this.withPriceList( PriceProduct.toEntity( model.getProducts() ), formPriceList, PriceProduct::setPriceList );
+			List<PriceItem> itens = this.withPriceList( PriceItem.toEntity( model.getItens() ), formPriceList, PriceItem::setPriceList );
+			List<PriceItemModel> itensModel = this.withPriceList( PriceItemModel.toEntity( model.getItensModel() ), formPriceList, PriceItemModel::setPriceList );
+			
+			List<Integer> partnerIds = new ArrayList<>();
+			if( !model.getPriceList().getAllPartners().booleanValue() && model.getPartners() != null ) {
+				partnerIds = model.getPartners().stream().map( PartnerDTO::getId ).collect( Collectors.toList() );
+			}
+			
+			// Valida todas as linhas antes de gravar qualquer coisa, com uma consulta por tabela relacionada
+			List<PriceListFormRowErrorDTO> errors = new ArrayList<>();
+			errors.addAll( this.validateProducts( products, null, Collections.emptySet() ) );
+			errors.addAll( this.validateItens( itens, null, Collections.emptySet() ) );
+			errors.addAll( this.validateItensModel( itensModel, null ) );
+			errors.addAll( this.validatePartners( partnerIds ) );
+			this.throwRowErrors( errors );
+			
+			Optional<PriceList> newPriceList = this.priceListService.save( formPriceList, userProfile);
 			
 			if( newPriceList.isPresent() ) {
 				
-				for( PriceProductDTO prdModelDTO : model.getProducts() ) {
-					PriceProduct prdModelEntity = PriceProduct.toEntity( prdModelDTO );
-					prdModelEntity.setPriceList( newPriceList.get() );
-
-					priceProductService.save(prdModelEntity, userProfile);
-				}
-				
-				if( model.getItens() != null && !model.getItens().isEmpty() ) {
-					for( PriceItemDTO itemDTO : model.getItens() ) {
-						PriceItem itemEntity = PriceItem.toEntity( itemDTO );
-						itemEntity.setPriceList( newPriceList.get() );
-	
-						priceItemService.save(itemEntity, userProfile);
-					}
-				}
-				
-				if( model.getItensModel() != null && !model.getItensModel().isEmpty() ) {
-					for( PriceItemModelDTO itemModelDTO : model.getItensModel() ) {
-						PriceItemModel itemModelEntity = PriceItemModel.toEntity( itemModelDTO );
-						itemModelEntity.setPriceList( newPriceList.get() );
-						
-						priceItemModelService.save(itemModelEntity, userProfile);
-					}
-				}
-				
-				if( !model.getPriceList().getAllPartners().booleanValue() && model.getPartners() != null && !model.getPartners().isEmpty() ) {
-					for( PartnerDTO partnerDTO : model.getPartners() ) {
-						priceListPartnerService.save( newPriceList.get().getId(), partnerDTO.getId() );
-					}
-				}
+				this.priceProductService.saveAll( this.withPriceList( products, newPriceList.get(), PriceProduct::setPriceList ), userProfile );
+				this.priceItemService.saveAll( this.withPriceList( itens, newPriceList.get(), PriceItem::setPriceList ), userProfile );
+				this.priceItemModelService.saveAll( this.withPriceList( itensModel, newPriceList.get(), PriceItemModel::setPriceList ), userProfile );
+				this.priceListPartnerService.saveAll( newPriceList.get().getId(), partnerIds );
+				this.priceResolutionService.evictAfterCommit( newPriceList.get().getId() );
 			}
 			
 		} catch (AppException | BusException e) {
@@ -213,6 +233,8 @@ public class PriceListFormService implements IPriceListFormService {
 			this.syncItem(model, userProfile);
 			this.syncItemModel(model, userProfile);
 			
+			this.priceResolutionService.evictAfterCommit( model.getPriceList().getId() );
+			
 		} catch (AppException | BusException e) {
 			throw e;
 			
@@ -227,6 +249,7 @@ public class PriceListFormService implements IPriceListFormService {
 		try {
 			
 			this.priceListService.delete(id, userProfile);
+			this.priceResolutionService.evictAfterCommit( id );
 			
 		} catch (AppException | BusException e) {
 			throw e;
@@ -358,6 +381,7 @@ public class PriceListFormService implements IPriceListFormService {
 				Optional<List<PriceListDuplicateItemDTO>> overlayList = this.dao.findProductsOverlay( model.getPriceList().getStart(), model.getPriceList().getEnd() );				
 				
 				if( overlayList.isPresent() ) {
+					Map<PriceListDuplicateItemDTO, List<PriceListDuplicateItemDTO>> overlayIndex = this.indexOverlay( overlayList.get() );
 					
 					if( model.getPartners() != null) {
 						for( PartnerDTO partner : model.getPartners() ) {
@@ -371,11 +395,7 @@ public class PriceListFormService implements IPriceListFormService {
 																						.productModelId( product.getProductModel().getId() )
 																						.build();
 									
-									List<PriceListDuplicateItemDTO> duplicatedItens = overlayList.get().parallelStream()
-																						.filter( item -> !item.getPriceList().equals( model.getPriceList() ) && item.equals( dto ) )
-																						.collect( Collectors.toList() );
-									
-									duplicatedList.addAll(duplicatedItens);
+									duplicatedList.addAll( this.findOverlay( overlayIndex, dto, model.getPriceList() ) );
 								}
 							}
 						}
@@ -399,6 +419,7 @@ public class PriceListFormService implements IPriceListFormService {
 				Optional<List<PriceListDuplicateItemDTO>> overlayList = this.dao.findItemOverlay( model.getPriceList().getStart(), model.getPriceList().getEnd() );				
 				
 				if( overlayList.isPresent() ) {
+					Map<PriceListDuplicateItemDTO, List<PriceListDuplicateItemDTO>> overlayIndex = this.indexOverlay( overlayList.get() );
 					
 					if( model.getPartners() != null) {
 						for( PartnerDTO partner : model.getPartners() ) {
@@ -412,11 +433,7 @@ public class PriceListFormService implements IPriceListFormService {
 																						.itemId( item.getItem().getId() )
 																						.build();
 									
-									List<PriceListDuplicateItemDTO> duplicatedItens = overlayList.get().parallelStream()
-																						.filter( itemFilter -> !itemFilter.getPriceList().equals( model.getPriceList() ) && itemFilter.equals( dto ) )
-																						.collect( Collectors.toList() );
-									
-									duplicatedList.addAll(duplicatedItens);
+									duplicatedList.addAll( this.findOverlay( overlayIndex, dto, model.getPriceList() ) );
 								}
 							}
 						}
@@ -440,6 +457,7 @@ public class PriceListFormService implements IPriceListFormService {
 				Optional<List<PriceListDuplicateItemDTO>> overlayList = this.dao.findItemModelOverlay( model.getPriceList().getStart(), model.getPriceList().getEnd() );				
 				
 				if( overlayList.isPresent() ) {
+					Map<PriceListDuplicateItemDTO, List<PriceListDuplicateItemDTO>> overlayIndex = this.indexOverlay( overlayList.get() );
 					
 					if( model.getPartners() != null) {
 						for( PartnerDTO partner : model.getPartners() ) {
@@ -457,11 +475,7 @@ public class PriceListFormService implements IPriceListFormService {
 																						.allModels( ( item.getAllModels() != null ? item.getAllModels() : false ) )
 																						.build();
 									
-									List<PriceListDuplicateItemDTO> duplicatedItens = overlayList.get().parallelStream()
-																						.filter( itemFilter -> !itemFilter.getPriceList().equals( model.getPriceList() ) && itemFilter.equals( dto ) )
-																						.collect( Collectors.toList() );
-									
-									duplicatedList.addAll(duplicatedItens);
+									duplicatedList.addAll( this.findOverlay( overlayIndex, dto, model.getPriceList() ) );
 								}
 							}
 						}
@@ -476,6 +490,39 @@ public class PriceListFormService implements IPriceListFormService {
 		return duplicatedList;
 	}
 	
+	/**
+	 * Indexa a lista de sobreposição pela chave canal + parceiro + produto/item/modelo do item, para que cada
+	 * produto do formulário seja verificado com uma única busca no mapa. O equals/hashCode de
+	 * PriceListDuplicateItemDTO ignora a lista de preço, então o próprio DTO é a chave. A ordem original da
+	 * lista é mantida dentro de cada chave.
+	 * 
+	 * O período já é filtrado na consulta da sobreposição, por isso o índice não precisa guardar os intervalos.
+	 */
+	private Map<PriceListDuplicateItemDTO, List<PriceListDuplicateItemDTO>> indexOverlay( List<PriceListDuplicateItemDTO> overlayList ) {
+		Map<PriceListDuplicateItemDTO, List<PriceListDuplicateItemDTO>> index = new HashMap<>();
+		
+		for( PriceListDuplicateItemDTO item : overlayList ) {
+			index.computeIfAbsent( item, key -> new ArrayList<>() ).add( item );
+		}
+		
+		return index;
+	}
+	
+	/**
+	 * Retorna os registros de outras listas de preço com a mesma chave do candidato.
+	 */
+	private List<PriceListDuplicateItemDTO> findOverlay( Map<PriceListDuplicateItemDTO, List<PriceListDuplicateItemDTO>> overlayIndex, PriceListDuplicateItemDTO candidate, PriceListDTO priceList ) {
+		List<PriceListDuplicateItemDTO> sameKey = overlayIndex.get( candidate );
+		
+		if( sameKey == null ) {
+			return Collections.emptyList();
+		}
+		
+		return sameKey.stream()
+						.filter( item -> !item.getPriceList().equals( priceList ) )
+						.collect( Collectors.toList() );
+	}
+	
 	private List<PriceItemDTO> loadPriceItem(PriceList findRefs) throws AppException, BusException {
 		try {
 			if( findRefs != null && findRefs.getId() != null ) {
@@ -632,10 +679,16 @@ public class PriceListFormService implements IPriceListFormService {
 					this.priceProductService.delete( item.getId(), profile  );
 				}
 
-				for( PriceProduct item : toInsert ) {
-					item.setPriceList( pcl );
-					this.priceProductService.save(item, profile);
-				}
+				this.withPriceList( toInsert, pcl, PriceProduct::setPriceList );
+				
+				Set<Integer> kept = toUpdate.stream()
+											.map( PriceProduct::getProductModel )
+											.filter( Objects::nonNull )
+											.map( ProductModel::getId )
+											.collect( Collectors.toSet() );
+				
+				this.throwRowErrors( this.validateProducts( priceProducts, this.identitySet( toInsert ), kept ) );
+				this.priceProductService.saveAll( toInsert, profile );
 
 				for( PriceProduct item : toUpdate ) {
 					item.setPriceList( pcl );
@@ -684,9 +737,10 @@ public class PriceListFormService implements IPriceListFormService {
 					this.priceListPartnerService.delete( pcl.getId(), item.getId()  );
 				}
 
-				for( Partner item : toInsert ) {
-					this.priceListPartnerService.save( pcl.getId(), item.getId() );
-				}
+				List<Integer> toInsertIds = toInsert.stream().map( Partner::getId ).collect( Collectors.toList() );
+				
+				this.throwRowErrors( this.validatePartners( toInsertIds ) );
+				this.priceListPartnerService.saveAll( pcl.getId(), toInsertIds );
 
 				for( Partner item : toUpdate ) {
 					this.priceListPartnerService.save( pcl.getId(), item.getId() );
@@ -736,10 +790,16 @@ public class PriceListFormService implements IPriceListFormService {
 					this.priceItemService.delete( item.getId(), profile  );
 				}
 
-				for( PriceItem item : toInsert ) {
-					item.setPriceList( pcl );
-					this.priceItemService.save(item, profile);
-				}
+				this.withPriceList( toInsert, pcl, PriceItem::setPriceList );
+				
+				Set<Integer> kept = toUpdate.stream()
+											.map( PriceItem::getItem )
+											.filter( Objects::nonNull )
+											.map( Item::getId )
+											.collect( Collectors.toSet() );
+				
+				this.throwRowErrors( this.validateItens( priceItens, this.identitySet( toInsert ), kept ) );
+				this.priceItemService.saveAll( toInsert, profile );
 
 				for( PriceItem item : toUpdate ) {
 					item.setPriceList( pcl );
@@ -790,10 +850,10 @@ public class PriceListFormService implements IPriceListFormService {
 					this.priceItemModelService.delete( item.getId(), profile  );
 				}
 
-				for( PriceItemModel item : toInsert ) {
-					item.setPriceList( pcl );
-					this.priceItemModelService.save(item, profile);
-				}
+				this.withPriceList( toInsert, pcl, PriceItemModel::setPriceList );
+				
+				this.throwRowErrors( this.validateItensModel( priceIteModels, this.identitySet( toInsert ) ) );
+				this.priceItemModelService.saveAll( toInsert, profile );
 
 				for( PriceItemModel item : toUpdate ) {
 					item.setPriceList( pcl );
@@ -810,4 +870,195 @@ public class PriceListFormService implements IPriceListFormService {
 		}
 	}
 	
+	/**
+	 * Valida as linhas de preço de produto: anotações da entidade, existência do modelo de produto e
+	 * duplicidade do modelo na mesma lista (REGRAS: PDP-I1 a PDP-I6).
+	 * 
+	 * @param products	todas as linhas da seção, usadas para calcular a posição de cada erro
+	 * @param toCheck	linhas que devem ser validadas; se nulo valida todas
+	 * @param reserved	IDs de modelo de produto que já estão na lista e não serão excluídos
+	 */
+	private List<PriceListFormRowErrorDTO> validateProducts( List<PriceProduct> products, Set<PriceProduct> toCheck, Set<Integer> reserved ) throws AppException {
+		List<PriceListFormRowErrorDTO> errors = new ArrayList<>();
+		
+		Set<Integer> existing = this.dao.findExistingProductModelIds( this.collectIds( products, toCheck, product -> product.getProductModel() != null ? product.getProductModel().getId() : null ) );
+		Set<Integer> seen = new HashSet<>( reserved );
+		
+		for( int row = 0; row < products.size(); row++ ) {
+			PriceProduct product = products.get( row );
+			if( toCheck != null && !toCheck.contains( product ) ) {
+				continue;
+			}
+			
+			String error = this.validateEntity( product );
+			
+			if( error == null ) {
+				Integer prmId = product.getProductModel().getId();
+				if( prmId == null || prmId.equals( 0 ) || !existing.contains( prmId ) ) {
+					error = "Não é possível salvar o relacionamento pois o modelo de produto relacionado é inválido ou não existe.";
+				} else if( !seen.add( prmId ) ) {
+					error = "Já existe um preço definido para esse modelo na mesma lista.";
+				}
+			}
+			
+			this.addRowError( errors, SECTION_PRODUCTS, row, error );
+		}
+		
+		return errors;
+	}
+	
+	/**
+	 * Valida as linhas de preço de item: anotações da entidade, existência do item e duplicidade do
+	 * item na mesma lista (REGRAS: PCI-I1 a PCI-I6).
+	 */
+	private List<PriceListFormRowErrorDTO> validateItens( List<PriceItem> itens, Set<PriceItem> toCheck, Set<Integer> reserved ) throws AppException {
+		List<PriceListFormRowErrorDTO> errors = new ArrayList<>();
+		
+		Set<Integer> existing = this.dao.findExistingItemIds( this.collectIds( itens, toCheck, item -> item.getItem() != null ? item.getItem().getId() : null ) );
+		Set<Integer> seen = new HashSet<>( reserved );
+		
+		for( int row = 0; row < itens.size(); row++ ) {
+			PriceItem item = itens.get( row );
+			if( toCheck != null && !toCheck.contains( item ) ) {
+				continue;
+			}
+			
+			String error = this.validateEntity( item );
+			
+			if( error == null ) {
+				Integer itmId = item.getItem().getId();
+				if( itmId == null || itmId.equals( 0 ) || !existing.contains( itmId ) ) {
+					error = "Não é possível salvar o relacionamento pois o item relacionado é inválido ou não existe.";
+				} else if( !seen.add( itmId ) ) {
+					error = "Já existe um preço definido para esse item na mesma lista.";
+				}
+			}
+			
+			this.addRowError( errors, SECTION_ITENS, row, error );
+		}
+		
+		return errors;
+	}
+	
+	/**
+	 * Valida as linhas de preço de item por modelo: anotações da entidade, existência do item, da marca
+	 * e do modelo do item e as regras das flags todas as marcas/todos os modelos (REGRAS: PIM-I1 a PIM-I9).
+	 */
+	private List<PriceListFormRowErrorDTO> validateItensModel( List<PriceItemModel> itensModel, Set<PriceItemModel> toCheck ) throws AppException {
+		List<PriceListFormRowErrorDTO> errors = new ArrayList<>();
+		
+		Set<Integer> existingItens = this.dao.findExistingItemIds( this.collectIds( itensModel, toCheck, item -> item.getItem() != null ? item.getItem().getId() : null ) );
+		Set<Integer> existingBrands = this.dao.findExistingBrandIds( this.collectIds( itensModel, toCheck, item -> item.getBrand() != null ? item.getBrand().getId() : null ) );
+		Set<Integer> existingItemModels = this.dao.findExistingItemModelIds( this.collectIds( itensModel, toCheck, item -> item.getItemModel() != null ? item.getItemModel().getId() : null ) );
+		
+		for( int row = 0; row < itensModel.size(); row++ ) {
+			PriceItemModel item = itensModel.get( row );
+			if( toCheck != null && !toCheck.contains( item ) ) {
+				continue;
+			}
+			
+			String error = this.validateEntity( item );
+			
+			if( error == null && !this.isValidId( item.getItem().getId(), existingItens ) ) {
+				error = "Não é possível salvar o relacionamento pois o item relacionado é inválido ou não existe.";
+			}
+			
+			if( error == null ) {
+				if( item.getAllBrands().booleanValue() ) {
+					if( item.getItemModel() != null || item.getBrand() != null ) {
+						error = "Não é permitido salvar item por modelo ou marca quando a flag TODOS AS MARCAS está selecionada.";
+					}
+					
+				} else if( item.getBrand() == null || !this.isValidId( item.getBrand().getId(), existingBrands ) ) {
+					error = "Não é possível salvar o relacionamento pois a marca relacionada é inválida ou não existe.";
+					
+				} else if( item.getAllModels().booleanValue() && item.getItemModel() != null ) {
+					error = "Não é permitido salvar o item por modelo quando a flag TODOS OS MODELOS está selecionada.";
+				}
+			}
+			
+			if( error == null && !item.getAllBrands().booleanValue() && !item.getAllModels().booleanValue() &&
+					( item.getItemModel() == null || !this.isValidId( item.getItemModel().getId(), existingItemModels ) ) ) {
+				error = "Não é possível salvar o relacionamento pois o item por modelo relacionado é inválido ou não existe.";
+			}
+			
+			this.addRowError( errors, SECTION_ITENS_MODEL, row, error );
+		}
+		
+		return errors;
+	}
+	
+	/**
+	 * Valida se os parceiros existem (REGRAS: PTN-PRL-I3, PTN-PRL-I4).
+	 */
+	private List<PriceListFormRowErrorDTO> validatePartners( List<Integer> partnerIds ) throws AppException {
+		List<PriceListFormRowErrorDTO> errors = new ArrayList<>();
+		
+		Set<Integer> existing = this.dao.findExistingPartnerIds( partnerIds.stream().filter( Objects::nonNull ).collect( Collectors.toSet() ) );
+		
+		for( int row = 0; row < partnerIds.size(); row++ ) {
+			if( !this.isValidId( partnerIds.get( row ), existing ) ) {
+				this.addRowError( errors, SECTION_PARTNERS, row, "Não é possível salvar o relacionamento entre lista e preço e parceiro com o parceiro inválido ou inexistente." );
+			}
+		}
+		
+		return errors;
+	}
+	
+	/**
+	 * Lança uma única exceção de negócio com todas as linhas inválidas na propriedade "error".
+	 */
+	private void throwRowErrors( List<PriceListFormRowErrorDTO> errors ) throws BusException {
+		if( errors != null && !errors.isEmpty() ) {
+			BusException exception = new BusException( "Não é possível salvar a lista de preço, existem " + errors.size() + " linha(s) inválida(s)." );
+			exception.addProperty( "error", errors );
+			throw exception;
+		}
+	}
+	
+	private void addRowError( List<PriceListFormRowErrorDTO> errors, String section, int row, String message ) {
+		if( message != null ) {
+			errors.add( PriceListFormRowErrorDTO.builder().section( section ).row( row ).message( message ).build() );
+		}
+	}
+	
+	private <T> String validateEntity( T model ) {
+		Set<ConstraintViolation<T>> violations = this.validator.validate( model, OnSave.class );
+		if( violations == null || violations.isEmpty() ) {
+			return null;
+		}
+		
+		return violations.stream()
+							.map( violation -> violation.getPropertyPath() + ": " + violation.getMessage() )
+							.collect( Collectors.joining( "; " ) );
+	}
+	
+	private boolean isValidId( Integer id, Set<Integer> existing ) {
+		return id != null && !id.equals( 0 ) && existing.contains( id );
+	}
+	
+	private <T> Set<Integer> collectIds( List<T> rows, Set<T> toCheck, Function<T, Integer> idGetter ) {
+		return rows.stream()
+					.filter( row -> toCheck == null || toCheck.contains( row ) )
+					.map( idGetter )
+					.filter( Objects::nonNull )
+					.collect( Collectors.toSet() );
+	}
+	
+	private <T> Set<T> identitySet( List<T> rows ) {
+		Set<T> set = Collections.newSetFromMap( new IdentityHashMap<>() );
+		set.addAll( rows );
+		return set;
+	}
+	
+	private <T> List<T> withPriceList( List<T> rows, PriceList priceList, BiConsumer<T, PriceList> setter ) {
+		if( rows == null ) {
+			return new ArrayList<>();
+		}
+		
+		rows.forEach( row -> setter.accept( row, priceList ) );
+		return rows;
+	}
+	
+
 }
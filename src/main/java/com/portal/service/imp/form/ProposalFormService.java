@@ -1,11 +1,15 @@
 package com.portal.service.imp.form;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -19,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.portal.dao.IProposalFormDAO;
 import com.portal.dto.ProductWithPriceListIdDTO;
 import com.portal.dto.ProposalSearchDTO;
+import com.portal.dto.ProposalSearchRulesDTO;
 import com.portal.dto.UserProfileDTO;
 import com.portal.dto.form.ProductItemFormDTO;
 import com.portal.dto.proposal.ProposalDTO;
@@ -40,9 +45,12 @@ import com.portal.model.Seller;
 import com.portal.service.ICheckpointService;
 import com.portal.service.IItemTypeService;
 import com.portal.service.IParameterService;
+import com.portal.service.IPriceResolutionService;
 import com.portal.service.IProposalFollowUp;
 import com.portal.service.IProposalFormService;
 import com.portal.service.IProposalService;
+import com.portal.service.IProposalVisibilityService;
+import com.portal.service.IReportCacheService;
 import com.portal.service.IReportService;
 import com.portal.service.ISellerService;
 
@@ -62,6 +70,9 @@ public class ProposalFormService implements IProposalFormService {
     @Autowired
     private IItemTypeService itemTypeService;
 
+    @Autowired
+    private IPriceResolutionService priceResolutionService;
+
     @Autowired
     private ICheckpointService checkpointService;
 
@@ -74,6 +85,12 @@ public class ProposalFormService implements IProposalFormService {
     @Autowired
     private ISellerService sellerService;
 
+    @Autowired
+    private IProposalVisibilityService proposalVisibilityService;
+
+    @Autowired
+    private IReportCacheService reportCacheService;
+
     @Autowired
     public MessageSource messageSource;
 
@@ -89,13 +106,12 @@ public class ProposalFormService implements IProposalFormService {
     public List<ProposalFrontForm> getListProposalFrontForm(ProposalSearchDTO dto, UserProfileDTO userProfile) throws AppException {
 
         try {
-            String daysLimit = this.parameterService.getValueOf("PROPOSAL_DAYS_LIMIT");
-            String daysFup = this.parameterService.getValueOf("PROPOSAL_DAYS_FOLLOW_UP");
-            Integer proposalDaysLimit = Integer.valueOf(daysLimit);
+            Integer daysFup = this.parameterService.getIntValueOf("PROPOSAL_DAYS_FOLLOW_UP");
+            Integer proposalDaysLimit = this.parameterService.getIntValueOf("PROPOSAL_DAYS_LIMIT");
 
-            Optional<Seller> seller = this.sellerService.getByUser(userProfile.getUser().getId());
+            ProposalSearchRulesDTO searchRules = this.proposalVisibilityService.getSearchRules(userProfile);
 
-            List<ProposalFrontForm> list = this.dao.getListProposalFrontForm(dto, proposalDaysLimit, (seller.isPresent() ? seller.get() : null), userProfile);
+            List<ProposalFrontForm> list = this.dao.getListProposalFrontForm(dto, proposalDaysLimit, searchRules, userProfile);
             Boolean editAll = Boolean.FALSE;
 
             for (CheckpointModel checkpointModel : userProfile.getUser().getAccessList().getCheckpoints() ) {
@@ -123,7 +139,7 @@ public class ProposalFormService implements IProposalFormService {
                     
                     List<ProposalFollowUp> followUPList = this.proposalFollowUpService.search(new ProposalFollowUp(proposal.getId()));
 
-                    LocalDate dayMinus = LocalDate.now().minusDays(Integer.valueOf(daysFup));
+                    LocalDate dayMinus = LocalDate.now().minusDays(daysFup);
                     dayMinus.atTime(00, 00, 00);
                     Boolean statusValid = this.validityStatusProposal(proposal.getStatus());
                     
@@ -147,21 +163,28 @@ public class ProposalFormService implements IProposalFormService {
             Collections.sort(list);
             
             return list;
+        } catch (AppException e) {
+            throw e;
         } catch (Exception e) {
             throw new AppException();
         }
     }
 
-    private void fillSeller(List<ProposalFrontForm> list) {
-        list.forEach(item -> {
-            try {
-                item.setExecutive(this.sellerService.getById(item.getExecutive().getId()).get());
-            } catch (AppException e) {
-                throw new RuntimeException(e);
-            } catch (BusException e) {
-                throw new RuntimeException(e);
+    /**
+     * Carrega cada executivo uma única vez, pois a mesma pessoa costuma aparecer em várias propostas da lista.
+     */
+    private void fillSeller(List<ProposalFrontForm> list) throws AppException, BusException {
+        Map<Integer, Seller> sellers = new HashMap<>();
+
+        for (ProposalFrontForm item : list) {
+            Integer sellerId = item.getExecutive().getId();
+            Seller seller = sellers.get(sellerId);
+            if (seller == null) {
+                seller = this.sellerService.getById(sellerId).get();
+                sellers.put(sellerId, seller);
             }
-        });
+            item.setExecutive(seller);
+        }
     }
 
     private Boolean validityStatusProposal(ProposalState status) {
@@ -354,19 +377,10 @@ public class ProposalFormService implements IProposalFormService {
             }
         }
 
-        //REALIZA A BUSCA PRIMEIRO PELO PARCEIRO E CASO NÃO ENCONTRE UMA PRICELIST POR PARCEIRO BUSCA GENERICA
-        List<ProposalItemModelType> proposalItemModelTypes = this.dao.getListItemModelProduct(productItemFormDTO);
-        if (proposalItemModelTypes == null || proposalItemModelTypes.isEmpty()) {
-            productItemFormDTO.setPtnId(null);
-            proposalItemModelTypes = this.dao.getListItemModelProduct(productItemFormDTO);
-        }
+        //A LISTA DE PREÇO JÁ VEM DEFINIDA NO FILTRO, A RESOLUÇÃO DOS PREÇOS É FEITA EM MEMÓRIA E SÓ OS DADOS DOS ITENS VÃO AO BANCO
+        List<ProposalItemModelType> proposalItemModelTypes = this.dao.getListItemModelProduct(this.priceResolutionService.resolveItemModelPrices(productItemFormDTO));
 
-        //REALIZA A BUSCA PRIMEIRO PELO PARCEIRO E CASO NÃO ENCONTRE UMA PRICELIST POR PARCEIRO BUSCA GENERICA
-        List<ProposalItemType> proposalItemTypes = this.dao.getListItemProduct(productItemFormDTO);
-        if (proposalItemTypes == null || proposalItemTypes.isEmpty()) {
-            productItemFormDTO.setPtnId(null);
-            proposalItemTypes = this.dao.getListItemProduct(productItemFormDTO);
-        }
+        List<ProposalItemType> proposalItemTypes = this.dao.getListItemProduct(this.priceResolutionService.resolveItemPrices(productItemFormDTO));
 
         proposalFormProduct.setProposalItemModelTypes(proposalItemModelTypes);
         proposalFormProduct.setProposalItemTypes(proposalItemTypes);
@@ -458,13 +472,25 @@ public class ProposalFormService implements IProposalFormService {
         }
     }
 
-    public byte[] generateProposalReport(String proposalNumber) throws AppException, BusException {
+    /**
+     * Retorna o PDF da proposta a partir do cache de relatórios. A chave do cache contém a data de alteração da proposta,
+     * então o JasperServer só é chamado novamente quando a proposta muda.
+     */
+    public Path generateProposalReport(String proposalNumber) throws AppException, BusException {
         String jasperUrl = this.parameterService.find(new ParameterModel("JASPER_URL")).get().getValue();
         String jasperUser = this.parameterService.find(new ParameterModel("JASPER_USER")).get().getValue();
         String jasperPass = this.parameterService.find(new ParameterModel("JASPER_PASSWORD")).get().getValue();
         String reportPath = this.parameterService.find(new ParameterModel("PROPOSAL_REPORT_PATH")).get().getValue();
         String proposalParams = this.parameterService.find(new ParameterModel("PROPOSAL_REPORT_PARAMS")).get().getValue() + proposalNumber;
 
-        return this.reportService.getReport(jasperUrl, reportPath, jasperUser, jasperPass, proposalParams);
+        Optional<LocalDateTime> updateDate = this.iProposalService.getUpdateDate(proposalNumber);
+        if (!updateDate.isPresent()) {
+            throw new BusException("Não foi possível encontrar a proposta " + proposalNumber + ".");
+        }
+
+        String key = jasperUrl + "|" + reportPath + "|" + proposalParams + "|" + updateDate.get();
+
+        return this.reportCacheService.getOrCreate(proposalNumber, key,
+                output -> this.reportService.writeReport(jasperUrl, reportPath, jasperUser, jasperPass, proposalParams, output));
     }
 }
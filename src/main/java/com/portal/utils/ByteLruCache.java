@@ -0,0 +1,81 @@
+package com.portal.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache em memória de conteúdos binários limitado pelo total de bytes. Quando o limite é ultrapassado as entradas
+ * menos acessadas são descartadas primeiro (LRU). Conteúdos maiores que o limite não são guardados.
+ *
+ * Os arrays são guardados e devolvidos sem cópia: o chamador não deve alterá-los.
+ */
+public final class ByteLruCache {
+
+	private final long maxBytes;
+
+	/**
+	 * Entradas em ordem de acesso, da menos para a mais recente.
+	 */
+	private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long totalBytes = 0;
+
+	private long hits = 0;
+
+	private long misses = 0;
+
+	public ByteLruCache(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	public synchronized byte[] get(String key) {
+		byte[] value = this.entries.get(key);
+		if(value != null) {
+			this.hits++;
+		} else {
+			this.misses++;
+		}
+		return value;
+	}
+
+	public synchronized void put(String key, byte[] value) {
+		if(value == null || value.length > this.maxBytes) {
+			return;
+		}
+
+		byte[] previous = this.entries.put(key, value);
+		this.totalBytes += value.length - (previous == null ? 0 : previous.length);
+
+		Iterator<Map.Entry<String, byte[]>> iterator = this.entries.entrySet().iterator();
+		while(this.totalBytes > this.maxBytes && iterator.hasNext()) {
+			Map.Entry<String, byte[]> eldest = iterator.next();
+			this.totalBytes -= eldest.getValue().length;
+			iterator.remove();
+		}
+	}
+
+	public synchronized void remove(String key) {
+		byte[] previous = this.entries.remove(key);
+		if(previous != null) {
+			this.totalBytes -= previous.length;
+		}
+	}
+
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	public synchronized long getTotalBytes() {
+		return this.totalBytes;
+	}
+
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+}
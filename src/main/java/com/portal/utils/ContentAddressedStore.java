@@ -0,0 +1,141 @@
+package com.portal.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.portal.dto.StoredFileDTO;
+import com.portal.exceptions.AppException;
+import com.portal.exceptions.BusException;
+
+/**
+ * Armazenamento de arquivos endereçado pelo conteúdo: cada arquivo é gravado uma única vez com o nome igual ao seu
+ * SHA-256, em dois níveis de diretórios com os primeiros caracteres do hash (ab/cd/abcd...), mantendo os diretórios
+ * pequenos. Conteúdos iguais enviados mais de uma vez apontam para o mesmo arquivo.
+ *
+ * Os uploads são gravados primeiro em {@value #TEMP_DIRECTORY} (no mesmo sistema de arquivos) e movidos
+ * atomicamente para o destino, então um blob presente no diretório está sempre completo.
+ */
+public final class ContentAddressedStore {
+
+	public static final String TEMP_DIRECTORY = ".tmp";
+
+	private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+
+	private final Path root;
+
+	public ContentAddressedStore(Path root) {
+		this.root = root.toAbsolutePath().normalize();
+	}
+
+	public Path getRoot() {
+		return this.root;
+	}
+
+	public static boolean isHash(String value) {
+		return value != null && SHA256.matcher(value).matches();
+	}
+
+	/**
+	 * Caminho do blob relativo à raiz, gravado no file_path do documento.
+	 */
+	public static String relativePath(String sha256) {
+		return sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+	}
+
+	public Path resolve(String sha256) throws BusException {
+		if(!isHash(sha256)) {
+			throw new BusException("Hash do arquivo inválido.");
+		}
+		return this.root.resolve(relativePath(sha256));
+	}
+
+	public boolean exists(String sha256) throws BusException {
+		return Files.isRegularFile(this.resolve(sha256));
+	}
+
+	/**
+	 * Grava o conteúdo em uma leitura, aplicando os limites de tamanho e tipo. Se o blob já existir o temporário é
+	 * descartado e o arquivo existente é reaproveitado.
+	 */
+	public StoredFileDTO put(InputStream inputStream, String fileName, long maxBytes, Collection<String> allowedMimeTypes) throws AppException, BusException {
+		StoredFileDTO stored = StreamingUpload.write(inputStream, fileName, this.root.resolve(TEMP_DIRECTORY), maxBytes, allowedMimeTypes);
+		Path temp = stored.getPath();
+		try {
+			stored.setPath(this.moveIntoPlace(temp, stored.getSha256()));
+			return stored;
+
+		} catch(IOException e) {
+			throw new AppException("Erro ao gravar o arquivo no armazenamento.", e);
+		} finally {
+			StreamingUpload.deleteQuietly(temp.equals(stored.getPath()) ? null : temp);
+		}
+	}
+
+	/**
+	 * Copia um arquivo já existente (ex.: documento gravado antes do armazenamento por conteúdo) para o blob do hash
+	 * informado, sem alterar a origem. Se o blob já existir nada é copiado.
+	 */
+	public Path copyIn(Path source, String sha256) throws IOException, BusException {
+		Path target = this.resolve(sha256);
+		if(Files.isRegularFile(target)) {
+			return target;
+		}
+
+		Path tempDirectory = this.root.resolve(TEMP_DIRECTORY);
+		Files.createDirectories(tempDirectory);
+		Path temp = Files.createTempFile(tempDirectory, ".migrate_", ".tmp");
+		try {
+			Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+			return this.moveIntoPlace(temp, sha256);
+		} finally {
+			StreamingUpload.deleteQuietly(temp);
+		}
+	}
+
+	public boolean delete(String sha256) throws IOException, BusException {
+		return Files.deleteIfExists(this.resolve(sha256));
+	}
+
+	/**
+	 * Confere se o conteúdo do blob ainda corresponde ao hash do nome.
+	 */
+	public boolean verify(String sha256) throws IOException, BusException {
+		Path blob = this.resolve(sha256);
+		return Files.isRegularFile(blob) && sha256.equals(StreamingUpload.sha256(blob));
+	}
+
+	/**
+	 * Percorre todos os blobs gravados (arquivos dos diretórios de dois níveis com nome de hash).
+	 */
+	public void forEachBlob(Consumer<Path> consumer) throws IOException {
+		if(!Files.isDirectory(this.root)) {
+			return;
+		}
+
+		try(Stream<Path> files = Files.walk(this.root, 3)) {
+			files.filter(path -> path.getNameCount() == this.root.getNameCount() + 3)
+					.filter(path -> isHash(path.getFileName().toString()))
+					.filter(path -> path.getParent().equals(this.root.resolve(relativePath(path.getFileName().toString())).getParent()))
+					.forEach(consumer);
+		}
+	}
+
+	private Path moveIntoPlace(Path source, String sha256) throws IOException, BusException {
+		Path target = this.resolve(sha256);
+		if(Files.isRegularFile(target)) {
+			return target;
+		}
+
+		Files.createDirectories(target.getParent());
+		StreamingUpload.move(source, target);
+		return target;
+	}
+
+}
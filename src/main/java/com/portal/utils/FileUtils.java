@@ -5,9 +5,19 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 
 import org.apache.commons.io.IOUtils;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 
 import com.portal.exceptions.AppException;
 
@@ -56,4 +66,39 @@ public class FileUtils {
 		
 		return null;
 	} 
+
+	/**
+	 * Monta a resposta de download do arquivo sem carregar o conteúdo em memória.
+	 * 
+	 * O ETag forte é gerado a partir do tamanho e da data de alteração do arquivo. Como o corpo é um {@link Resource},
+	 * o Spring MVC responde 304 quando o If-None-Match confere e 206 com o trecho solicitado quando há o header Range.
+	 * 
+	 * @param path			arquivo a ser enviado
+	 * @param contentType	tipo do arquivo, se nulo usamos application/octet-stream
+	 * @param fileName		nome do arquivo no Content-Disposition, pode ser nulo
+	 */
+	public static ResponseEntity<Resource> getFileResponse(Path path, String contentType, String fileName, CacheControl cacheControl) throws IOException {
+		BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		String eTag = "\"" + Long.toHexString(attributes.size()) + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+		
+		HttpHeaders headers = new HttpHeaders();
+		if(fileName != null && !fileName.isEmpty()) {
+			headers.setContentDisposition(ContentDisposition.inline().filename(fileName, StandardCharsets.UTF_8).build());
+		}
+		
+		MediaType mediaType;
+		try {
+			mediaType = (contentType != null && !contentType.isEmpty() ? MediaType.parseMediaType(contentType) : MediaType.APPLICATION_OCTET_STREAM);
+		} catch (Exception e) {
+			mediaType = MediaType.APPLICATION_OCTET_STREAM;
+		}
+		
+		return ResponseEntity.ok()
+								.headers(headers)
+								.contentType(mediaType)
+								.eTag(eTag)
+								.lastModified(attributes.lastModifiedTime().toMillis())
+								.cacheControl(cacheControl)
+								.body(new FileSystemResource(path));
+	}
 }
@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.slf4j.helpers.MessageFormatter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.Message;
 import org.springframework.statemachine.StateMachine;
@@ -37,6 +38,11 @@ public class LeadStateBuilder {
 	@Autowired
 	ILeadService leadService;
 	
+	/**
+	 * Tabela de transições montada uma única vez a partir da configuração da máquina.
+	 */
+	private volatile StateTransitionTable<LeadState, LeadEvents> transitionTable;
+	
 	public StateMachine<LeadState, LeadEvents> buildNewStateMachine() throws Exception {
 		return this.buildNewStateMachine(null);
 	}
@@ -150,25 +156,7 @@ public class LeadStateBuilder {
 				
 				Lead lead = (Lead) ctx.getMessageHeader( LEAD_INSTANCE );
 				
-				switch ( target ) {
-					case OPENED:
-						leadService.validateOpenedState(lead);
-						break;
-					case CANCELED:
-						leadService.validateCanceledState(lead);
-						break;
-					case CONTACTED:
-						leadService.validateContactedState(lead);
-						break;
-					case CONVERTED:
-						leadService.validateConvertedState(lead);
-						break;
-					case UNCONVERTED:
-						leadService.validateUnConvertedState(lead);
-						break;
-					default:
-						throw new BusException( "O status " + target + " é inválido ou não existe." );
-				}
+				this.validateState( target, lead );
 				
 				return true;
 				
@@ -202,6 +190,87 @@ public class LeadStateBuilder {
 		};
 	}
 
+	/**
+	 * Valida as regras de negócio do status de destino.
+	 */
+	public void validateState( LeadState target, Lead lead ) throws BusException, AppException {
+		switch ( target ) {
+			case OPENED:
+				leadService.validateOpenedState(lead);
+				break;
+			case CANCELED:
+				leadService.validateCanceledState(lead);
+				break;
+			case CONTACTED:
+				leadService.validateContactedState(lead);
+				break;
+			case CONVERTED:
+				leadService.validateConvertedState(lead);
+				break;
+			case UNCONVERTED:
+				leadService.validateUnConvertedState(lead);
+				break;
+			default:
+				throw new BusException( "O status " + target + " é inválido ou não existe." );
+		}
+	}
+	
+	/**
+	 * Retorna a tabela de transições, montada na primeira chamada a partir de {@link #buildNewStateMachine()}.
+	 */
+	public StateTransitionTable<LeadState, LeadEvents> getTransitionTable() throws AppException {
+		StateTransitionTable<LeadState, LeadEvents> table = this.transitionTable;
+		
+		if( table == null ) {
+			synchronized( this ) {
+				table = this.transitionTable;
+				if( table == null ) {
+					try {
+						table = StateTransitionTable.of( this.buildNewStateMachine( "lead-transition-table" ), LeadState.class, LeadEvents.class );
+						this.transitionTable = table;
+						
+					} catch (Exception e) {
+						log.error( "Erro ao montar a tabela de transições do lead.", e );
+						throw new AppException( e );
+					}
+				}
+			}
+		}
+		
+		return table;
+	}
+	
+	/**
+	 * Executa a transição do status atual com o evento informado usando a tabela de transições,
+	 * sem construir uma nova máquina de estado. As mesmas validações dos guards da máquina são executadas.
+	 * 
+	 * @param current		status atual
+	 * @param event			evento da transição
+	 * @param lead			instância validada pelo status de destino
+	 * @return				novo status
+	 * @throws StateWorkflowException se o evento não é aceito no status atual ou a validação do destino falhar
+	 */
+	public LeadState changeState( LeadState current, LeadEvents event, Lead lead ) throws BusException, AppException, StateWorkflowException {
+		if( current == null || event == null ) {
+			throw new AppException( "Status de origem e/ou evento inválidos." );
+		}
+		
+		LeadState target = this.getTransitionTable().getTarget( current, event );
+		if( target == null ) {
+			log.warn( "LeadState-eventNotAccepted Event: {} State: {}", event, current );
+			throw new StateWorkflowException( MessageFormatter.format( "Fluxo inválido não é possível executar a ação de transição de {} do status {}.", event, current ).getMessage() );
+		}
+		
+		try {
+			this.validateState( target, lead );
+			
+		} catch (BusException | AppException e) {
+			throw new StateWorkflowException( e );
+		}
+		
+		return target;
+	}
+
 	/**
 	 * Recupera a máquina de estado com base no estado passado no argumento
 	 *  
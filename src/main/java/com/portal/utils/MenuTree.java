@@ -0,0 +1,215 @@
+package com.portal.utils;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.portal.enums.MenuType;
+import com.portal.model.Classifier;
+import com.portal.model.MenuModel;
+
+/**
+ * Fotografia imutável da tabela de menus com os caminhos ("Raiz > Menu > Submenu") já calculados e, para cada
+ * lista de acesso, um {@link BitSet} com os menus visíveis e a ordem de exibição. Substitui o fnMenu() executado
+ * por linha nas consultas e permite listar os menus de um usuário sem ir ao banco.
+ *
+ * Os menus devolvidos são sempre cópias, podendo ser alterados pelo chamador (ex.: montagem dos submenus).
+ */
+public final class MenuTree {
+
+	private static final String PATH_SEPARATOR = " > ";
+
+	private final List<MenuModel> menus;
+	private final Map<Integer, Integer> indexById;
+	private final int[] parents;
+	private final String[] paths;
+	private final Map<Integer, BitSet> visibility;
+	private final Map<Integer, int[]> order;
+
+	/**
+	 * @param menus				todos os menus, na ordem em que devem ser listados
+	 * @param menusByAccessList	IDs dos menus de cada lista de acesso, na ordem de exibição
+	 */
+	public MenuTree(List<MenuModel> menus, Map<Integer, List<Integer>> menusByAccessList) {
+		int size = menus == null ? 0 : menus.size();
+
+		this.menus = new ArrayList<>(size);
+		this.indexById = new HashMap<>(size * 2);
+		for(int i = 0; i < size; i++) {
+			this.menus.add(menus.get(i));
+			this.indexById.put(menus.get(i).getId(), i);
+		}
+
+		this.parents = new int[size];
+		for(int i = 0; i < size; i++) {
+			MenuModel root = this.menus.get(i).getRoot();
+			Integer parent = root != null ? this.indexById.get(root.getId()) : null;
+			this.parents[i] = parent != null ? parent : -1;
+		}
+
+		this.paths = new String[size];
+		for(int i = 0; i < size; i++) {
+			this.paths[i] = this.buildPath(i);
+		}
+
+		this.visibility = new HashMap<>();
+		this.order = new HashMap<>();
+		if(menusByAccessList != null) {
+			menusByAccessList.forEach((aclId, menuIds) -> {
+				BitSet visible = new BitSet(size);
+				int[] indexes = menuIds.stream()
+						.map(this.indexById::get)
+						.filter(index -> index != null && !visible.get(index))
+						.peek(visible::set)
+						.mapToInt(Integer::intValue)
+						.toArray();
+
+				this.visibility.put(aclId, visible);
+				this.order.put(aclId, indexes);
+			});
+		}
+	}
+
+	public int size() {
+		return this.menus.size();
+	}
+
+	public Optional<MenuModel> getById(Integer id) {
+		Integer index = this.indexById.get(id);
+		return index != null ? Optional.of(this.copy(index)) : Optional.empty();
+	}
+
+	/**
+	 * Caminho do menu a partir da raiz, ou nulo se o menu não existir.
+	 */
+	public String getPath(Integer id) {
+		Integer index = this.indexById.get(id);
+		return index != null ? this.paths[index] : null;
+	}
+
+	/**
+	 * Preenche o caminho dos menus carregados do banco.
+	 */
+	public List<MenuModel> fillPaths(List<MenuModel> menus) {
+		if(menus != null) {
+			menus.forEach(menu -> menu.setMenuPath(this.getPath(menu.getId())));
+		}
+		return menus;
+	}
+
+	public List<MenuModel> list() {
+		List<MenuModel> list = new ArrayList<>(this.menus.size());
+		for(int i = 0; i < this.menus.size(); i++) {
+			list.add(this.copy(i));
+		}
+		return list;
+	}
+
+	public List<MenuModel> listRoots() {
+		List<MenuModel> list = new ArrayList<>();
+		for(int i = 0; i < this.menus.size(); i++) {
+			if(this.menus.get(i).getRoot() == null) {
+				list.add(this.copy(i));
+			}
+		}
+		return list;
+	}
+
+	public boolean isVisible(Integer aclId, Integer mnuId) {
+		BitSet visible = this.visibility.get(aclId);
+		Integer index = this.indexById.get(mnuId);
+		return visible != null && index != null && visible.get(index);
+	}
+
+	/**
+	 * Menus da lista de acesso, na ordem de exibição.
+	 */
+	public List<MenuModel> listByAccessList(Integer aclId) {
+		int[] indexes = this.order.get(aclId);
+		if(indexes == null) {
+			return Collections.emptyList();
+		}
+
+		List<MenuModel> list = new ArrayList<>(indexes.length);
+		for(int index : indexes) {
+			list.add(this.copy(index));
+		}
+		return list;
+	}
+
+	/**
+	 * Menus raiz do tipo informado visíveis para a lista de acesso, com os submenus do mesmo tipo também visíveis,
+	 * ambos na ordem de exibição. Submenus cuja raiz não é visível ficam de fora.
+	 */
+	public List<MenuModel> listTree(Integer aclId, MenuType type) {
+		int[] indexes = this.order.get(aclId);
+		if(indexes == null) {
+			return new ArrayList<>();
+		}
+
+		Map<Integer, MenuModel> roots = new LinkedHashMap<>();
+		for(int index : indexes) {
+			if(this.parents[index] == -1 && this.menus.get(index).getRoot() == null && this.isType(index, type)) {
+				roots.put(index, this.copy(index));
+			}
+		}
+
+		for(int index : indexes) {
+			MenuModel root = this.parents[index] != -1 ? roots.get(this.parents[index]) : null;
+			if(root != null && this.isType(index, type)) {
+				root.addSubMenu(this.copy(index));
+			}
+		}
+
+		return new ArrayList<>(roots.values());
+	}
+
+	private boolean isType(int index, MenuType type) {
+		Classifier menuType = this.menus.get(index).getType();
+		return type == null || (menuType != null && type.getType().getId().equals(menuType.getId()));
+	}
+
+	/**
+	 * Sobe pelo root_id até a raiz. O limite de níveis protege de ciclos gravados na tabela.
+	 */
+	private String buildPath(int index) {
+		StringBuilder path = new StringBuilder(this.menus.get(index).getName());
+		int parent = this.parents[index];
+		for(int depth = 0; parent != -1 && depth < this.menus.size(); depth++) {
+			path.insert(0, PATH_SEPARATOR).insert(0, this.menus.get(parent).getName());
+			parent = this.parents[parent];
+		}
+		return path.toString();
+	}
+
+	private MenuModel copy(int index) {
+		MenuModel menu = this.menus.get(index);
+
+		MenuModel copy = new MenuModel();
+		copy.setId(menu.getId());
+		copy.setName(menu.getName());
+		copy.setMenuPath(this.paths[index]);
+		copy.setDescription(menu.getDescription());
+		copy.setIcon(menu.getIcon());
+		copy.setRoute(menu.getRoute());
+		copy.setShow(menu.isShow());
+
+		if(menu.getRoot() != null) {
+			MenuModel root = new MenuModel();
+			root.setId(menu.getRoot().getId());
+			copy.setRoot(root);
+		}
+
+		if(menu.getType() != null) {
+			copy.setType(new Classifier(menu.getType().getId(), menu.getType().getValue(), menu.getType().getType()));
+		}
+
+		return copy;
+	}
+
+}
@@ -0,0 +1,137 @@
+package com.portal.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.FontFactory;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfWriter;
+
+/**
+ * Gera um relatório PDF em tabela gravando direto na saída. A tabela é incompleta
+ * ({@link PdfPTable#setComplete(boolean)}) e a cada {@link #FLUSH_ROWS} linhas é adicionada ao documento,
+ * liberando as linhas já gravadas; assim a memória não cresce com a quantidade de registros.
+ *
+ * Cada instância tem suas próprias fontes e tabela, podendo ser usada em exportações simultâneas.
+ */
+public class PdfTableWriter implements Closeable {
+
+	public static final int FLUSH_ROWS = 500;
+
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss").withZone(ZoneId.systemDefault());
+
+	private static final BaseColor HEADER_COLOR = new BaseColor(40, 127, 186);
+	private static final BaseColor ODD_COLOR = new BaseColor(237, 237, 237);
+
+	private final Document document;
+	private final PdfPTable table;
+	private final Font font;
+	private int rows = 0;
+	private boolean closed = false;
+
+	/**
+	 * @param output	saída do PDF; não é fechada pelo writer
+	 * @param title		título acima da tabela; nulo não gera título
+	 * @param columns	títulos das colunas
+	 * @param widths	largura relativa de cada coluna
+	 */
+	public PdfTableWriter(OutputStream output, String title, String[] columns, int[] widths) throws DocumentException {
+		this.document = new Document(PageSize.A4);
+		PdfWriter writer = PdfWriter.getInstance(this.document, output);
+		writer.setCloseStream(false);
+		this.document.open();
+
+		if(title != null) {
+			Paragraph paragraph = new Paragraph(title, FontFactory.getFont(FontFactory.HELVETICA, 14));
+			paragraph.setSpacingAfter(20);
+			this.document.add(paragraph);
+		}
+
+		this.font = FontFactory.getFont(FontFactory.HELVETICA, 6);
+		Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 6, BaseColor.WHITE);
+
+		this.table = new PdfPTable(columns.length);
+		this.table.setWidthPercentage(100);
+		this.table.setWidths(widths);
+		this.table.setComplete(false);
+
+		for(String column : columns) {
+			PdfPCell header = new PdfPCell(new Phrase(column, headerFont));
+			header.setBackgroundColor(HEADER_COLOR);
+			header.setBorder(0);
+			header.setPadding(5);
+			this.table.addCell(header);
+		}
+		this.table.setHeaderRows(1);
+	}
+
+	/**
+	 * Adiciona uma linha com as linhas alternando a cor de fundo. Datas usam dd/MM/yyyy HH:mm:ss,
+	 * BigDecimal é escrito sem notação científica e nulos geram células vazias.
+	 */
+	public void addRow(Object... values) throws DocumentException {
+		BaseColor background = this.rows % 2 == 0 ? ODD_COLOR : BaseColor.WHITE;
+
+		for(Object value : values) {
+			PdfPCell cell = new PdfPCell(new Phrase(this.format(value), this.font));
+			cell.setBorderWidth(0);
+			cell.setBackgroundColor(background);
+			cell.setVerticalAlignment(Element.ALIGN_MIDDLE);
+			this.table.addCell(cell);
+		}
+
+		if(++this.rows % FLUSH_ROWS == 0) {
+			this.document.add(this.table);
+		}
+	}
+
+	/**
+	 * Grava as linhas restantes e finaliza o documento.
+	 */
+	public void finish() throws DocumentException {
+		this.table.setComplete(true);
+		this.document.add(this.table);
+		this.document.close();
+		this.closed = true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if(!this.closed) {
+			this.closed = true;
+			try {
+				this.document.close();
+			} catch (RuntimeException e) {
+				// Documento interrompido antes de ter páginas; a exportação já está falhando
+			}
+		}
+	}
+
+	private String format(Object value) {
+		if(value == null) {
+			return "";
+		}
+		if(value instanceof Date) {
+			return DATE_FORMAT.format(((Date) value).toInstant());
+		}
+		if(value instanceof BigDecimal) {
+			return ((BigDecimal) value).toPlainString();
+		}
+		return value.toString();
+	}
+
+}
@@ -1,8 +1,14 @@
 package com.portal.utils;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,12 +26,29 @@ public class PortalJwtTokenUtil {
 	static final String CLAIM_KEY_AUDIENCE = "audience";
 	static final String CLAIM_KEY_CREATED = "created";
 
+	/**
+	 * Atributo da requisição onde o filtro de autenticação guarda as claims já verificadas.
+	 */
+	public static final String CLAIMS_ATTRIBUTE = PortalJwtTokenUtil.class.getName() + ".CLAIMS";
+
 	@Value("${jwt.secret}")
 	private String secret;
 
 	@Value("${jwt.expiration}")
 	private Long expiration;
 
+	@Value("${jwt.cache.max-size:10000}")
+	private Integer cacheMaxSize;
+
+	@Value("${jwt.cache.ttl:300}")
+	private Long cacheTtl;
+
+	/**
+	 * Tokens verificados recentemente, indexados pelo hash do token. Cada entrada vale até a
+	 * menor data entre a expiração do token e o tempo máximo de cache.
+	 */
+	private final Map<String, VerifiedClaims> verifiedCache = new ConcurrentHashMap<>();
+
 	/**
 	 * Obtém o username contido no token JWT.
 	 * 
@@ -60,6 +83,37 @@ public class PortalJwtTokenUtil {
 		return expiration;
 	}
 
+	/**
+	 * Retorna a data de criação (emissão) de um token JWT.
+	 *
+	 * @param token
+	 * @return Date
+	 */
+	public Date getCreatedDateFromToken(String token) {
+		Date created;
+		try {
+			Claims claims = getClaimsFromToken(token);
+			created = getCreatedDate(claims);
+		} catch (Exception e) {
+			created = null;
+		}
+		return created;
+	}
+
+	/**
+	 * Retorna a data de criação (emissão) a partir de claims já verificadas.
+	 *
+	 * @param claims
+	 * @return Date
+	 */
+	public Date getCreatedDate(Claims claims) {
+		Object created = claims != null ? claims.get(CLAIM_KEY_CREATED) : null;
+		if (created instanceof Number) {
+			return new Date(((Number) created).longValue());
+		}
+		return null;
+	}
+
 	/**
 	 * Retorna o perfil de acesso contido no token.
 	 *
@@ -70,13 +124,23 @@ public class PortalJwtTokenUtil {
 		String role;
 		try {
 			Claims claims = getClaimsFromToken(token);
-			role = (String) claims.get(CLAIM_KEY_ROLE);
+			role = getRole(claims);
 		} catch (Exception e) {
 			role = null;
 		}
 		return role;
 	}
 
+	/**
+	 * Retorna o perfil de acesso a partir de claims já verificadas.
+	 *
+	 * @param claims
+	 * @return Perfil de acesso
+	 */
+	public String getRole(Claims claims) {
+		return claims != null ? (String) claims.get(CLAIM_KEY_ROLE) : null;
+	}
+
 	/**
 	 * Cria um novo token (refresh).
 	 * 
@@ -86,7 +150,7 @@ public class PortalJwtTokenUtil {
 	public String refreshToken(String token) {
 		String refreshedToken;
 		try {
-			Claims claims = getClaimsFromToken(token);
+			Map<String, Object> claims = new HashMap<>(getClaimsFromToken(token));
 			claims.put(CLAIM_KEY_CREATED, new Date());
 			refreshedToken = gerarToken(claims);
 		} catch (Exception e) {
@@ -105,6 +169,28 @@ public class PortalJwtTokenUtil {
 		return !tokenExpirado(token);
 	}
 
+	/**
+	 * Verifica se claims já verificadas ainda estão dentro da validade.
+	 *
+	 * @param claims
+	 * @return boolean
+	 */
+	public boolean tokenValido(Claims claims) {
+		Date dataExpiracao = claims.getExpiration();
+		return dataExpiracao == null || !dataExpiracao.before(new Date());
+	}
+
+	/**
+	 * Retorna as claims de um token JWT verificando a assinatura apenas uma vez enquanto
+	 * o token estiver no cache. Retorna null quando o token é inválido.
+	 *
+	 * @param token
+	 * @return Claims
+	 */
+	public Claims getClaims(String token) {
+		return getClaimsFromToken(token);
+	}
+
 	/**
 	 * Retorna um novo token JWT com base nos dados do usuários.
 	 * 
@@ -128,6 +214,45 @@ public class PortalJwtTokenUtil {
 	 * @return Claims
 	 */
 	private Claims getClaimsFromToken(String token) {
+		if (token == null) {
+			return null;
+		}
+
+		long now = System.currentTimeMillis();
+		String key = hashToken(token);
+
+		VerifiedClaims verified = verifiedCache.get(key);
+		if (verified != null) {
+			if (verified.validUntil > now) {
+				return verified.claims;
+			}
+			verifiedCache.remove(key, verified);
+		}
+
+		Claims claims = parseClaims(token);
+		if (claims != null) {
+			long validUntil = now + cacheTtl * 1000;
+			if (claims.getExpiration() != null) {
+				validUntil = Math.min(validUntil, claims.getExpiration().getTime());
+			}
+
+			if (validUntil > now) {
+				if (verifiedCache.size() >= cacheMaxSize) {
+					purgeVerifiedCache(now);
+				}
+				verifiedCache.put(key, new VerifiedClaims(claims, validUntil));
+			}
+		}
+		return claims;
+	}
+
+	/**
+	 * Verifica a assinatura e realiza o parse do token sem passar pelo cache.
+	 *
+	 * @param token
+	 * @return Claims
+	 */
+	private Claims parseClaims(String token) {
 		Claims claims;
 		try {
 			claims = Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
@@ -137,6 +262,38 @@ public class PortalJwtTokenUtil {
 		return claims;
 	}
 
+	/**
+	 * Remove as entradas vencidas do cache; se ainda estiver cheio, descarta tudo.
+	 *
+	 * @param now
+	 */
+	private void purgeVerifiedCache(long now) {
+		for (Iterator<VerifiedClaims> it = verifiedCache.values().iterator(); it.hasNext();) {
+			if (it.next().validUntil <= now) {
+				it.remove();
+			}
+		}
+
+		if (verifiedCache.size() >= cacheMaxSize) {
+			verifiedCache.clear();
+		}
+	}
+
+	/**
+	 * Hash SHA-256 do token, usado como chave do cache para não manter o token em memória.
+	 *
+	 * @param token
+	 * @return String
+	 */
+	private String hashToken(String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 	/**
 	 * Retorna a data de expiração com base na data atual.
 	 * 
@@ -171,4 +328,15 @@ public class PortalJwtTokenUtil {
 				.signWith(SignatureAlgorithm.HS512, secret).compact();
 	}
 
+	private static class VerifiedClaims {
+
+		private final Claims claims;
+		private final long validUntil;
+
+		VerifiedClaims(Claims claims, long validUntil) {
+			this.claims = claims;
+			this.validUntil = validUntil;
+		}
+	}
+
 }
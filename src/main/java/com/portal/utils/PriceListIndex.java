@@ -0,0 +1,136 @@
+package com.portal.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.portal.dto.form.ModelItemRangeDTO;
+import com.portal.dto.form.PriceRuleDTO;
+import com.portal.dto.form.ResolvedItemPriceDTO;
+
+/**
+ * Índice imutável de uma lista de preço para resolver o preço dos itens de um modelo sem SQL.
+ *
+ * As regras de price_item_model são indexadas por (item_model), (marca, item) e (item). A precedência é a mesma
+ * da consulta original:
+ * <ol>
+ * 	<li>regra do item_model específico;</li>
+ * 	<li>regra de todos os modelos da marca, se o item não tiver regra para o item_model;</li>
+ * 	<li>regra de todas as marcas, se o item não tiver regra para o item_model nem para todos os modelos da marca.</li>
+ * </ol>
+ * O modelo só tem itens na lista se algum produto do modelo tiver preço na lista (price_product).
+ */
+public final class PriceListIndex {
+
+	private final Integer prlId;
+	private final Map<Integer, List<PriceRuleDTO>> byItemModel = new HashMap<>();
+	private final Map<Long, List<PriceRuleDTO>> byBrandItem = new HashMap<>();
+	private final Map<Integer, List<PriceRuleDTO>> allBrandsByItem = new HashMap<>();
+	private final Set<Long> itemModelCoverage = new HashSet<>();
+	private final Set<Long> brandCoverage = new HashSet<>();
+	private final Set<Integer> pricedModels;
+	private final List<ResolvedItemPriceDTO> itemPrices;
+
+	/**
+	 * @param prlId			ID da lista de preço
+	 * @param rules			linhas de price_item_model da lista
+	 * @param itemPrices	linhas de price_item da lista
+	 * @param pricedModels	modelos com produto na lista (product_model x price_product)
+	 */
+	public PriceListIndex(Integer prlId, List<PriceRuleDTO> rules, List<ResolvedItemPriceDTO> itemPrices, Collection<Integer> pricedModels) {
+		this.prlId = prlId;
+		this.pricedModels = pricedModels == null ? Collections.emptySet() : new HashSet<>(pricedModels);
+		this.itemPrices = itemPrices == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(itemPrices));
+
+		if(rules != null) {
+			for(PriceRuleDTO rule : rules) {
+				if(rule.getImdId() != null) {
+					this.byItemModel.computeIfAbsent(rule.getImdId(), key -> new ArrayList<>()).add(rule);
+					this.itemModelCoverage.add(key(rule.getImdId(), rule.getItmId()));
+				}
+
+				if(rule.getBrdId() != null && rule.isAllModels()) {
+					this.byBrandItem.computeIfAbsent(key(rule.getBrdId(), rule.getItmId()), key -> new ArrayList<>()).add(rule);
+					this.brandCoverage.add(key(rule.getBrdId(), rule.getItmId()));
+				}
+
+				if(rule.isAllBrands()) {
+					this.allBrandsByItem.computeIfAbsent(rule.getItmId(), key -> new ArrayList<>()).add(rule);
+				}
+			}
+		}
+	}
+
+	public Integer getPrlId() {
+		return this.prlId;
+	}
+
+	/**
+	 * Preços dos itens avulsos (price_item) da lista.
+	 */
+	public List<ResolvedItemPriceDTO> getItemPrices() {
+		List<ResolvedItemPriceDTO> list = new ArrayList<>(this.itemPrices.size());
+		this.itemPrices.forEach(price -> list.add(copy(price)));
+		return list;
+	}
+
+	/**
+	 * Resolve os preços dos itens do modelo no ano informado. Cada item_model do ano gera uma linha por regra aplicável.
+	 *
+	 * @param mdlId			ID do modelo
+	 * @param modelItems	item_model do modelo
+	 * @param year			ano modelo
+	 */
+	public List<ResolvedItemPriceDTO> resolve(Integer mdlId, List<ModelItemRangeDTO> modelItems, Integer year) {
+		List<ResolvedItemPriceDTO> prices = new ArrayList<>();
+		if(year == null || modelItems == null || !this.pricedModels.contains(mdlId)) {
+			return prices;
+		}
+
+		for(ModelItemRangeDTO modelItem : modelItems) {
+			if(!mdlId.equals(modelItem.getMdlId()) || modelItem.getYearStart() > year || modelItem.getYearEnd() < year) {
+				continue;
+			}
+
+			Integer itmId = modelItem.getItmId();
+			Map<Integer, PriceRuleDTO> rules = new LinkedHashMap<>();
+
+			for(PriceRuleDTO rule : this.byItemModel.getOrDefault(modelItem.getImdId(), Collections.emptyList())) {
+				if(itmId.equals(rule.getItmId())) {
+					rules.put(rule.getPimId(), rule);
+				}
+			}
+
+			boolean itemModelCovered = this.itemModelCoverage.contains(key(modelItem.getImdId(), itmId));
+			if(!itemModelCovered && modelItem.getBrdId() != null) {
+				this.byBrandItem.getOrDefault(key(modelItem.getBrdId(), itmId), Collections.emptyList())
+									.forEach(rule -> rules.putIfAbsent(rule.getPimId(), rule));
+			}
+
+			boolean brandCovered = modelItem.getBrdId() != null && this.brandCoverage.contains(key(modelItem.getBrdId(), itmId));
+			if(!itemModelCovered && !brandCovered) {
+				this.allBrandsByItem.getOrDefault(itmId, Collections.emptyList())
+									.forEach(rule -> rules.putIfAbsent(rule.getPimId(), rule));
+			}
+
+			rules.values().forEach(rule -> prices.add(new ResolvedItemPriceDTO(rule.getPimId(), this.prlId, rule.getItmId(), rule.getPrice())));
+		}
+
+		return prices;
+	}
+
+	private static long key(int first, int second) {
+		return ((long) first << 32) | (second & 0xFFFFFFFFL);
+	}
+
+	private static ResolvedItemPriceDTO copy(ResolvedItemPriceDTO price) {
+		return new ResolvedItemPriceDTO(price.getId(), price.getPrlId(), price.getItmId(), price.getPrice());
+	}
+
+}
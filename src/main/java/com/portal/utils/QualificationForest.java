@@ -0,0 +1,264 @@
+package com.portal.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.portal.dto.QualificationTreePathDTO;
+
+/**
+ * Floresta imutável das qualificações montada a partir da tabela de fechamento (qualification_tree). A estrutura
+ * fica em arrays de int (pai, primeiro filho e próximo irmão) com o nível e os breadcrumbs de cada nó já calculados,
+ * atendendo as consultas de árvore e subárvore sem SQL.
+ *
+ * A ordem das listas é a mesma das consultas originais: pelo breadcrumb de seq (seq dos ancestrais e do próprio nó em
+ * ordem decrescente, comparados como texto). As alterações (add, delete, move) geram uma nova floresta a partir da atual.
+ */
+public final class QualificationForest {
+
+	private static final String SEPARATOR = ",";
+
+	private final List<QualificationTreePathDTO> nodes;
+	private final Map<Integer, Integer> indexById;
+	private final int[] parent;
+	private final int[] firstChild;
+	private final int[] nextSibling;
+	private final int[] depth;
+	private final int[] rank;
+	private final int[] order;
+	private final String[] idPaths;
+	private final String[] namePaths;
+
+	/**
+	 * @param nodes	nós da árvore com o ID do pai direto em parentId (nulo para raízes)
+	 */
+	public QualificationForest(List<QualificationTreePathDTO> nodes) {
+		this.nodes = nodes == null ? Collections.emptyList() : Collections.unmodifiableList(nodes.stream().map(QualificationForest::copy).collect(Collectors.toList()));
+
+		int size = this.nodes.size();
+		this.indexById = new HashMap<>(size * 2);
+		for(int i = 0; i < size; i++) {
+			this.indexById.put(this.nodes.get(i).getId(), i);
+		}
+
+		this.parent = new int[size];
+		this.firstChild = new int[size];
+		this.nextSibling = new int[size];
+		Arrays.fill(this.firstChild, -1);
+		Arrays.fill(this.nextSibling, -1);
+
+		for(int i = 0; i < size; i++) {
+			Integer parentIndex = this.indexById.get(this.nodes.get(i).getParentId());
+			this.parent[i] = parentIndex != null && parentIndex != i ? parentIndex : -1;
+		}
+
+		// Percorre de trás para frente para que os filhos fiquem na ordem de carga
+		for(int i = size - 1; i >= 0; i--) {
+			if(this.parent[i] != -1) {
+				this.nextSibling[i] = this.firstChild[this.parent[i]];
+				this.firstChild[this.parent[i]] = i;
+			}
+		}
+
+		this.depth = new int[size];
+		this.idPaths = new String[size];
+		this.namePaths = new String[size];
+		String[] seqPaths = new String[size];
+
+		for(int i = 0; i < size; i++) {
+			List<Integer> ancestors = this.ancestors(i);
+			this.depth[i] = ancestors.size() - 1;
+
+			StringBuilder ids = new StringBuilder();
+			StringBuilder names = new StringBuilder();
+			for(int a = ancestors.size() - 1; a >= 0; a--) {
+				QualificationTreePathDTO ancestor = this.nodes.get(ancestors.get(a));
+				ids.append(ancestor.getId()).append(a > 0 ? SEPARATOR : "");
+				names.append(ancestor.getName()).append(a > 0 ? SEPARATOR : "");
+			}
+			this.idPaths[i] = ids.toString();
+			this.namePaths[i] = names.toString();
+
+			seqPaths[i] = ancestors.stream()
+									.map(index -> this.nodes.get(index).getSeq())
+									.sorted(Comparator.nullsLast(Comparator.reverseOrder()))
+									.map(String::valueOf)
+									.collect(Collectors.joining(SEPARATOR));
+		}
+
+		this.order = IntStream.range(0, size)
+								.boxed()
+								.sorted(Comparator.comparing((Integer index) -> seqPaths[index]).thenComparing(index -> this.nodes.get(index).getId()))
+								.mapToInt(Integer::intValue)
+								.toArray();
+
+		this.rank = new int[size];
+		for(int k = 0; k < size; k++) {
+			this.rank[this.order[k]] = k;
+		}
+	}
+
+	public int size() {
+		return this.nodes.size();
+	}
+
+	public boolean contains(Integer id) {
+		return this.indexById.containsKey(id);
+	}
+
+	/**
+	 * Todos os nós da floresta.
+	 */
+	public List<QualificationTreePathDTO> tree() {
+		List<QualificationTreePathDTO> list = new ArrayList<>(this.order.length);
+		for(int index : this.order) {
+			list.add(this.toPath(index));
+		}
+		return list;
+	}
+
+	/**
+	 * O nó informado e todos os seus descendentes. Vazio se o nó não estiver na árvore.
+	 */
+	public List<QualificationTreePathDTO> subtree(Integer parentId) {
+		Integer index = this.indexById.get(parentId);
+		if(index == null) {
+			return new ArrayList<>();
+		}
+		return this.toPaths(this.collectSubtree(index, new ArrayList<>()));
+	}
+
+	/**
+	 * Os nós com o nome informado (sem diferenciar maiúsculas) e seus descendentes.
+	 */
+	public List<QualificationTreePathDTO> subtreeByName(String name) {
+		List<Integer> indexes = new ArrayList<>();
+		if(name != null) {
+			for(int i = 0; i < this.nodes.size(); i++) {
+				if(name.equalsIgnoreCase(this.nodes.get(i).getName())) {
+					this.collectSubtree(i, indexes);
+				}
+			}
+		}
+		return this.toPaths(new ArrayList<>(new HashSet<>(indexes)));
+	}
+
+	/**
+	 * Nova floresta com o nó incluído (ou com os dados e o pai atualizados, se já existir). Pai nulo ou igual ao
+	 * próprio nó o deixa como raiz.
+	 */
+	public QualificationForest withNode(QualificationTreePathDTO node, Integer parentId) {
+		List<QualificationTreePathDTO> list = new ArrayList<>(this.nodes);
+		QualificationTreePathDTO added = copy(node);
+		added.setParentId(parentId == null || parentId.equals(node.getId()) ? null : parentId);
+
+		Integer index = this.indexById.get(node.getId());
+		if(index != null) {
+			list.set(index, added);
+		} else {
+			list.add(added);
+		}
+		return new QualificationForest(list);
+	}
+
+	/**
+	 * Nova floresta com os dados do nó (nome, seq, ativo e obrigatório) atualizados, mantendo o pai.
+	 */
+	public QualificationForest withData(QualificationTreePathDTO node) {
+		Integer index = this.indexById.get(node.getId());
+		return index != null ? this.withNode(node, this.nodes.get(index).getParentId()) : this;
+	}
+
+	/**
+	 * Nova floresta com o nó pendurado em outro pai, levando junto toda a sua subárvore.
+	 */
+	public QualificationForest withParent(Integer nodeId, Integer newParentId) {
+		Integer index = this.indexById.get(nodeId);
+		return index != null ? this.withNode(this.nodes.get(index), newParentId) : this;
+	}
+
+	/**
+	 * Nova floresta sem o nó e seus descendentes.
+	 */
+	public QualificationForest withoutSubtree(Integer id) {
+		Integer index = this.indexById.get(id);
+		if(index == null) {
+			return this;
+		}
+
+		Set<Integer> removed = new HashSet<>(this.collectSubtree(index, new ArrayList<>()));
+		List<QualificationTreePathDTO> list = new ArrayList<>(this.nodes.size() - removed.size());
+		for(int i = 0; i < this.nodes.size(); i++) {
+			if(!removed.contains(i)) {
+				list.add(this.nodes.get(i));
+			}
+		}
+		return new QualificationForest(list);
+	}
+
+	/**
+	 * Índices do nó até a raiz. O limite de níveis protege de ciclos gravados na tabela.
+	 */
+	private List<Integer> ancestors(int index) {
+		List<Integer> ancestors = new ArrayList<>();
+		for(int current = index; current != -1 && ancestors.size() <= this.nodes.size(); current = this.parent[current]) {
+			if(!ancestors.isEmpty() && current == index) {
+				break;
+			}
+			ancestors.add(current);
+		}
+		return ancestors;
+	}
+
+	private List<Integer> collectSubtree(int root, List<Integer> indexes) {
+		int start = indexes.size();
+		indexes.add(root);
+		for(int i = start; i < indexes.size() && indexes.size() <= this.nodes.size(); i++) {
+			for(int child = this.firstChild[indexes.get(i)]; child != -1; child = this.nextSibling[child]) {
+				if(child != root) {
+					indexes.add(child);
+				}
+			}
+		}
+		return indexes;
+	}
+
+	private List<QualificationTreePathDTO> toPaths(List<Integer> indexes) {
+		indexes.sort(Comparator.comparingInt(index -> this.rank[index]));
+		return indexes.stream().map(this::toPath).collect(Collectors.toList());
+	}
+
+	private QualificationTreePathDTO toPath(int index) {
+		QualificationTreePathDTO node = this.nodes.get(index);
+		return QualificationTreePathDTO.builder()
+										.id(node.getId())
+										.level(this.depth[index])
+										.seq(node.getSeq())
+										.name(node.getName())
+										.required(node.getRequired())
+										.active(node.getActive())
+										.breadcrumbNamePath(this.namePaths[index])
+										.breadcrumbIdPath(this.idPaths[index])
+										.build();
+	}
+
+	private static QualificationTreePathDTO copy(QualificationTreePathDTO node) {
+		return QualificationTreePathDTO.builder()
+										.id(node.getId())
+										.seq(node.getSeq())
+										.name(node.getName())
+										.required(node.getRequired())
+										.active(node.getActive())
+										.parentId(node.getParentId())
+										.build();
+	}
+
+}
@@ -0,0 +1,132 @@
+package com.portal.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Gera uma planilha XLSX em streaming (SXSSF): só as últimas linhas ficam em memória e o restante vai
+ * para um arquivo temporário compactado, descartado no {@link #close()}.
+ *
+ * A largura das colunas é calculada pelo tamanho do texto das primeiras linhas, sem o autoSizeColumn,
+ * que mede cada célula com as fontes do AWT.
+ */
+public class SpreadsheetWriter implements Closeable {
+
+	/**
+	 * Quantidade de linhas mantidas em memória antes de irem para o arquivo temporário.
+	 */
+	public static final int ROW_WINDOW = 100;
+
+	/**
+	 * Quantidade de linhas usadas no cálculo da largura das colunas.
+	 */
+	public static final int WIDTH_SAMPLE_ROWS = 500;
+
+	private static final int MAX_COLUMN_CHARS = 60;
+
+	private final SXSSFWorkbook workbook;
+	private final SXSSFSheet sheet;
+	private final CellStyle dateStyle;
+	private final int[] columnChars;
+	private int rowNum = 0;
+
+	/**
+	 * @param sheetName			nome da aba
+	 * @param columns			títulos da primeira linha
+	 * @param dateFormat		formato das células de data, ex.: dd/MM/yyyy HH:mm:ss
+	 * @param headerFontHeight	tamanho da fonte do cabeçalho
+	 * @param headerColor		cor da fonte do cabeçalho (IndexedColors); nulo mantém a cor padrão
+	 */
+	public SpreadsheetWriter(String sheetName, String[] columns, String dateFormat, short headerFontHeight, Short headerColor) {
+		this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+		this.workbook.setCompressTempFiles(true);
+		this.sheet = this.workbook.createSheet(sheetName);
+		this.columnChars = new int[columns.length];
+
+		this.dateStyle = this.workbook.createCellStyle();
+		this.dateStyle.setDataFormat(this.workbook.getCreationHelper().createDataFormat().getFormat(dateFormat));
+
+		Font headerFont = this.workbook.createFont();
+		headerFont.setBold(true);
+		headerFont.setFontHeightInPoints(headerFontHeight);
+		if(headerColor != null) {
+			headerFont.setColor(headerColor);
+		}
+
+		CellStyle headerStyle = this.workbook.createCellStyle();
+		headerStyle.setFont(headerFont);
+
+		Row header = this.sheet.createRow(this.rowNum++);
+		for(int i = 0; i < columns.length; i++) {
+			Cell cell = header.createCell(i);
+			cell.setCellValue(columns[i]);
+			cell.setCellStyle(headerStyle);
+			this.columnChars[i] = columns[i].length();
+		}
+	}
+
+	/**
+	 * Adiciona uma linha. Aceita Date, Number, Boolean e texto; valores nulos geram células vazias.
+	 */
+	public void addRow(Object... values) {
+		boolean sample = this.rowNum <= WIDTH_SAMPLE_ROWS;
+		Row row = this.sheet.createRow(this.rowNum++);
+
+		for(int i = 0; i < values.length; i++) {
+			Object value = values[i];
+			if(value == null) {
+				continue;
+			}
+
+			Cell cell = row.createCell(i);
+			String text;
+
+			if(value instanceof Date) {
+				cell.setCellValue((Date) value);
+				cell.setCellStyle(this.dateStyle);
+				text = "00/00/0000 00:00:00";
+			} else if(value instanceof Number) {
+				cell.setCellValue(((Number) value).doubleValue());
+				text = value.toString();
+			} else if(value instanceof Boolean) {
+				cell.setCellValue((Boolean) value);
+				text = value.toString();
+			} else {
+				text = value.toString();
+				cell.setCellValue(text);
+			}
+
+			if(sample && i < this.columnChars.length) {
+				this.columnChars[i] = Math.max(this.columnChars[i], text.length());
+			}
+		}
+	}
+
+	/**
+	 * Aplica a largura das colunas e grava a planilha na saída, sem fechar a saída.
+	 */
+	public void write(OutputStream output) throws IOException {
+		for(int i = 0; i < this.columnChars.length; i++) {
+			this.sheet.setColumnWidth(i, (Math.min(this.columnChars[i], MAX_COLUMN_CHARS) + 2) * 256);
+		}
+
+		this.workbook.write(output);
+		output.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.workbook.dispose();
+		this.workbook.close();
+	}
+
+}
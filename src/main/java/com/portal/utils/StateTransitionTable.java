@@ -0,0 +1,51 @@
+package com.portal.utils;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.transition.Transition;
+import org.springframework.statemachine.transition.TransitionKind;
+
+/**
+ * Tabela imutável com as transições de uma máquina de estado: ORIGEM + EVENTO -> DESTINO.
+ *
+ * É montada uma única vez a partir da configuração da máquina, para que a troca de status
+ * seja feita com uma consulta na tabela, sem construir e iniciar uma nova máquina a cada chamada.
+ * Nas transições internas o destino é o próprio status de origem.
+ */
+public final class StateTransitionTable<S extends Enum<S>, E extends Enum<E>> {
+
+	private final Map<S, Map<E, S>> transitions;
+
+	private StateTransitionTable( Map<S, Map<E, S>> transitions ) {
+		this.transitions = transitions;
+	}
+
+	public static <S extends Enum<S>, E extends Enum<E>> StateTransitionTable<S, E> of( StateMachine<S, E> sm, Class<S> stateType, Class<E> eventType ) {
+		Map<S, Map<E, S>> transitions = new EnumMap<>( stateType );
+
+		if( sm.getTransitions() != null ) {
+			for( Transition<S, E> t : sm.getTransitions() ) {
+				S from = t.getSource().getId();
+				S to = ( t.getKind() == TransitionKind.INTERNAL ? from : t.getTarget().getId() );
+
+				// A primeira transição configurada tem prioridade, como na máquina do Spring
+				transitions.computeIfAbsent( from, k -> new EnumMap<>( eventType ) ).putIfAbsent( t.getTrigger().getEvent(), to );
+			}
+		}
+
+		transitions.replaceAll( ( k, v ) -> Collections.unmodifiableMap( v ) );
+
+		return new StateTransitionTable<>( Collections.unmodifiableMap( transitions ) );
+	}
+
+	/**
+	 * Retorna o status de destino da transição ou null se o evento não é aceito no status de origem.
+	 */
+	public S getTarget( S from, E event ) {
+		Map<E, S> events = this.transitions.get( from );
+		return ( events == null ? null : events.get( event ) );
+	}
+}
@@ -0,0 +1,193 @@
+package com.portal.utils;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.tika.Tika;
+
+import com.portal.dto.StoredFileDTO;
+import com.portal.exceptions.AppException;
+import com.portal.exceptions.BusException;
+
+/**
+ * Grava um upload em uma única leitura do stream: o tipo é detectado pelos primeiros bytes (magic bytes), o SHA-256
+ * é calculado durante a cópia para um arquivo temporário no diretório de destino e, ao final, o temporário é movido
+ * atomicamente para o nome definitivo. Os limites de tamanho e tipo são aplicados durante a leitura, sem carregar o
+ * arquivo em memória.
+ */
+public final class StreamingUpload {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/** O {@link Tika} é thread-safe e caro de criar (carrega o registro de tipos), por isso é compartilhado. */
+	private static final Tika TIKA = new Tika();
+
+	/** Tipo devolvido quando os bytes não têm assinatura conhecida. */
+	public static final String UNKNOWN_TYPE = "application/octet-stream";
+
+	/**
+	 * Tipos de contêiner que o nome do arquivo pode refinar (ex.: docx e xlsx são zip, doc e xls são OLE2). Nos demais
+	 * o nome é ignorado, pois o Tika usaria a extensão para qualquer conteúdo sem assinatura.
+	 */
+	private static final Set<String> CONTAINER_TYPES = new HashSet<>(Arrays.asList("application/zip", "application/x-tika-ooxml", "application/x-tika-msoffice"));
+
+	private StreamingUpload() {
+	}
+
+	/**
+	 * Detecta o tipo do conteúdo pelos magic bytes, usando o nome apenas para refinar tipos de contêiner. O stream
+	 * precisa suportar mark/reset e volta para o início após a detecção.
+	 */
+	public static String detect(InputStream inputStream, String fileName) throws IOException {
+		String mediaType = TIKA.detect(inputStream);
+		if(fileName != null && CONTAINER_TYPES.contains(mediaType)) {
+			// O Tika só troca o tipo pelo da extensão quando ele é uma especialização do tipo detectado no conteúdo
+			return TIKA.detect(inputStream, fileName);
+		}
+		return mediaType;
+	}
+
+	/**
+	 * Grava o stream no diretório com o nome informado.
+	 *
+	 * @param inputStream		conteúdo do upload, fechado pelo chamador
+	 * @param fileName			nome original do arquivo, usado só na detecção do tipo
+	 * @param directory			diretório de destino
+	 * @param targetName		nome final do arquivo no diretório
+	 * @param maxBytes			tamanho máximo aceito, zero ou negativo para não limitar
+	 * @param allowedMimeTypes	tipos aceitos (em minúsculas), nulo ou vazio para não limitar
+	 */
+	public static StoredFileDTO store(InputStream inputStream, String fileName, Path directory, String targetName, long maxBytes, Collection<String> allowedMimeTypes) throws AppException, BusException {
+		Path target = directory.resolve(targetName).normalize();
+		if(!directory.toAbsolutePath().normalize().equals(target.toAbsolutePath().getParent())) {
+			throw new BusException("Não é possível armazenar o arquivo fora do diretório de destino.");
+		}
+
+		StoredFileDTO stored = write(inputStream, fileName, directory, maxBytes, allowedMimeTypes);
+		try {
+			move(stored.getPath(), target);
+			stored.setPath(target);
+			return stored;
+
+		} catch(IOException e) {
+			throw new AppException("Erro ao gravar o arquivo enviado.", e);
+		} finally {
+			deleteQuietly(stored.getPath().equals(target) ? null : stored.getPath());
+		}
+	}
+
+	/**
+	 * Grava o stream em um arquivo temporário do diretório informado, devolvido em {@link StoredFileDTO#getPath()}
+	 * junto com o hash e o tipo. Cabe ao chamador mover ou excluir o temporário. Em caso de erro nada fica no disco.
+	 */
+	public static StoredFileDTO write(InputStream inputStream, String fileName, Path tempDirectory, long maxBytes, Collection<String> allowedMimeTypes) throws AppException, BusException {
+		Path temp = null;
+		try {
+			InputStream stream = new BufferedInputStream(inputStream, BUFFER_SIZE);
+
+			String mediaType = detect(stream, fileName);
+			if(allowedMimeTypes != null && !allowedMimeTypes.isEmpty()) {
+				if(UNKNOWN_TYPE.equals(mediaType)) {
+					throw new BusException("O tipo de conteúdo do arquivo não foi reconhecido.");
+				}
+				if(!allowedMimeTypes.contains(mediaType.toLowerCase())) {
+					throw new BusException("O tipo de conteúdo do arquivo não é permitido.");
+				}
+			}
+
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			Files.createDirectories(tempDirectory);
+			temp = Files.createTempFile(tempDirectory, ".upload_", ".tmp");
+
+			long size = 0;
+			try(OutputStream output = Files.newOutputStream(temp)) {
+				byte[] buffer = new byte[BUFFER_SIZE];
+				int read;
+				while((read = stream.read(buffer)) != -1) {
+					size += read;
+					if(maxBytes > 0 && size > maxBytes) {
+						throw new BusException("O arquivo excede o tamanho máximo permitido de " + (maxBytes / (1024 * 1024)) + "MB.");
+					}
+					digest.update(buffer, 0, read);
+					output.write(buffer, 0, read);
+				}
+			}
+
+			StoredFileDTO stored = StoredFileDTO.builder()
+												.path(temp)
+												.size(size)
+												.sha256(toHex(digest.digest()))
+												.mediaType(mediaType)
+												.build();
+			temp = null;
+			return stored;
+
+		} catch(BusException e) {
+			throw e;
+		} catch(IOException | NoSuchAlgorithmException e) {
+			throw new AppException("Erro ao gravar o arquivo enviado.", e);
+		} finally {
+			deleteQuietly(temp);
+		}
+	}
+
+	/**
+	 * SHA-256 (hexadecimal) do arquivo, lido em blocos.
+	 */
+	public static String sha256(Path file) throws IOException {
+		try(InputStream input = Files.newInputStream(file)) {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while((read = input.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+			return toHex(digest.digest());
+
+		} catch(NoSuchAlgorithmException e) {
+			throw new IOException("SHA-256 não disponível.", e);
+		}
+	}
+
+	/**
+	 * Move o arquivo atomicamente, recorrendo à substituição simples quando o sistema de arquivos não suporta.
+	 */
+	public static void move(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+		} catch(AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	public static String toHex(byte[] bytes) {
+		StringBuilder hex = new StringBuilder(bytes.length * 2);
+		for(byte value : bytes) {
+			hex.append(Character.forDigit((value >> 4) & 0xF, 16)).append(Character.forDigit(value & 0xF, 16));
+		}
+		return hex.toString();
+	}
+
+	public static void deleteQuietly(Path path) {
+		if(path != null) {
+			try {
+				Files.deleteIfExists(path);
+			} catch(IOException e) {
+				// O temporário órfão não compromete o upload, apenas ocupa espaço até a próxima limpeza
+			}
+		}
+	}
+
+}
@@ -199,6 +199,15 @@ class BrandDAOTest {
 		assertEquals( brand, brandDB.get() );
 	}
 	
+	@Order(4)
+	@ParameterizedTest
+	@MethodSource("com.portal.dao.BrandDAOTest#listBrandToCheckDuplicate")
+	@DisplayName( "hasDuplicate - Quando já existe marca com o mesmo nome retorna true" )
+	void givenBrand_whenCheckHasDuplicate_thenReturnExpected( Brand brand, boolean expected ) throws Exception {
+		boolean db = dao.hasDuplicate( brand );
+		assertEquals( expected, db );
+	}
+	
 	@Test
 	@Order(5)
 	@DisplayName( "hasModelRelationship - Quando não existe relacionamento retorna false" )
@@ -244,6 +253,20 @@ class BrandDAOTest {
 	    );
 	}
 	
+	/**
+	 * Depois do update: 1 - BRAND 1.1, 2 - BRAND 2, 3 - BRAND 3.2.
+	 */
+	@SuppressWarnings("unused")
+	private static Stream<Arguments> listBrandToCheckDuplicate() {
+	    return Stream.of(
+    		Arguments.of( new Brand( null, "BRAND 2", true ), true ),
+    		Arguments.of( new Brand( 1, "BRAND 2", true ), true ),
+    		Arguments.of( new Brand( 2, "BRAND 2", true ), false ),
+    		Arguments.of( new Brand( null, "BRAND 4", true ), false ),
+    		Arguments.of( new Brand( null, null, true ), false )
+	    );
+	}
+	
 	@SuppressWarnings("unused")
 	private static Stream<Arguments> listBrandToUpdate() {
 	    return Stream.of(
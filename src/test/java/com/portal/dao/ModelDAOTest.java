@@ -311,6 +311,15 @@ class ModelDAOTest {
 		assertFalse( db );
 	}
 	
+	@Order(5)
+	@ParameterizedTest
+	@MethodSource("com.portal.dao.ModelDAOTest#listModelToCheckDuplicate")
+	@DisplayName( "hasDuplicate - Quando já existe modelo com o mesmo nome e marca retorna true" )
+	void givenModel_whenCheckHasDuplicate_thenReturnExpected( Model model, boolean expected ) throws Exception {
+		boolean db = dao.hasDuplicate( model );
+		assertEquals( expected, db );
+	}
+	
 	@Test
 	@Order(6)
 	@DisplayName( "delete - Quando deletado não pode mais existir" )
@@ -334,6 +343,20 @@ class ModelDAOTest {
 	    );
 	}
 	
+	/**
+	 * Depois do update: 1 - Model 1.1 / marca 1, 2 - Model 2 / marca 2, 3 - Model 3.3 / marca 2.
+	 */
+	@SuppressWarnings("unused")
+	private static Stream<Arguments> listModelToCheckDuplicate() {
+	    return Stream.of(
+    		Arguments.of( new Model( null, "Model 2", true, Brand.builder().id(2).build(), null, null, null, null ), true ),
+    		Arguments.of( new Model( 3, "Model 2", true, Brand.builder().id(2).build(), null, null, null, null ), true ),
+    		Arguments.of( new Model( 2, "Model 2", true, Brand.builder().id(2).build(), null, null, null, null ), false ),
+    		Arguments.of( new Model( null, "Model 2", true, Brand.builder().id(1).build(), null, null, null, null ), false ),
+    		Arguments.of( new Model( null, "Model 2", true, null, null, null, null, null ), false )
+	    );
+	}
+	
 	@SuppressWarnings("unused")
 	private static Stream<Arguments> listModelToUpdate() {
 	    return Stream.of(
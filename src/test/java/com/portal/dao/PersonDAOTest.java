@@ -289,6 +289,15 @@ class PersonDAOTest {
 		assertEquals( mock.getRne(), entityDB.get(0).getRne() );
 	}
 	
+	@Test
+	@Order(3)
+	@DisplayName( "hasDuplicatePartnerDocument - Documento repetido de pessoa que não é parceiro não é duplicidade" )
+	void givenPersonNotPartner_whenCheckHasDuplicatePartnerDocument_thenReturnFalse() throws Exception {
+		Person entity = new Person( null, "Person Partner", null, "00000000001", null, null, null, null, PersonClassification.PF.getType() );
+
+		assertFalse( dao.hasDuplicatePartnerDocument( entity ) );
+	}
+	
 	@Test
 	@Order(3)
 	@DisplayName( "search - Dado um NOME retornar o pessoa" )
@@ -0,0 +1,176 @@
+package com.portal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.portal.dao.IAuditDAO;
+import com.portal.dto.UserProfileDTO;
+import com.portal.enums.AuditOperationType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.model.AccessListModel;
+import com.portal.model.AuditModel;
+import com.portal.model.CheckpointModel;
+import com.portal.model.UserModel;
+import com.portal.service.imp.AuditService;
+import com.portal.service.imp.AuditWriterService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(SpringExtension.class)
+class AuditServiceTest {
+
+	@Mock
+	IAuditWriterService writer;
+
+	@Mock
+	HttpServletRequest request;
+
+	@Mock
+	IAuditDAO dao;
+
+	@InjectMocks
+	AuditService service;
+
+	@AfterEach
+	void tearDown() {
+		if( TransactionSynchronizationManager.isSynchronizationActive() ) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void givenCommittedTransaction_whenSave_thenSubmitOnceAfterCommit() throws Exception {
+		TransactionSynchronizationManager.initSynchronization();
+
+		service.save( "proposta 1", AuditOperationType.PROPOSAL_UPDATED, this.profile() );
+		service.saveAll( Arrays.asList( "item 1", "item 2" ), AuditOperationType.PROPOSAL_UPDATED, this.profile() );
+
+		verify( writer, never() ).submit( anyList() );
+
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		assertEquals( 1, synchronizations.size() );
+		synchronizations.forEach( TransactionSynchronization::afterCommit );
+
+		verify( writer, times( 1 ) ).submit( argThat( models -> models.size() == 3 ) );
+	}
+
+	@Test
+	void givenRolledBackTransaction_whenSave_thenDropEntries() throws Exception {
+		TransactionSynchronizationManager.initSynchronization();
+
+		service.save( "proposta 1", AuditOperationType.PROPOSAL_UPDATED, this.profile() );
+
+		TransactionSynchronizationManager.getSynchronizations().forEach( sync -> sync.afterCompletion( TransactionSynchronization.STATUS_ROLLED_BACK ) );
+
+		verify( writer, never() ).submit( anyList() );
+	}
+
+	@Test
+	void givenNoTransaction_whenSave_thenSubmitImmediately() throws Exception {
+		service.save( "proposta 1", AuditOperationType.PROPOSAL_UPDATED, this.profile() );
+
+		verify( writer, times( 1 ) ).submit( anyList() );
+	}
+
+	@Test
+	void givenQueuedEntries_whenShutdown_thenWriteAllInBatches() throws Exception {
+		IAuditDAO dao = mock( IAuditDAO.class );
+		List<Integer> batches = new CopyOnWriteArrayList<>();
+		doAnswer( invocation -> batches.add( invocation.<List<AuditModel>>getArgument( 0 ).size() ) ).when( dao ).saveAll( anyList() );
+
+		PlatformTransactionManager transactionManager = mock( PlatformTransactionManager.class );
+		when( transactionManager.getTransaction( any() ) ).thenReturn( mock( TransactionStatus.class ) );
+
+		AuditWriterService auditWriter = new AuditWriterService();
+		ReflectionTestUtils.setField( auditWriter, "dao", dao );
+		ReflectionTestUtils.setField( auditWriter, "transactionManager", transactionManager );
+		ReflectionTestUtils.setField( auditWriter, "meterRegistry", new SimpleMeterRegistry() );
+		ReflectionTestUtils.setField( auditWriter, "queueCapacity", 100 );
+		ReflectionTestUtils.setField( auditWriter, "batchSize", 2 );
+		ReflectionTestUtils.setField( auditWriter, "flushInterval", 50L );
+		ReflectionTestUtils.setField( auditWriter, "shutdownTimeout", 5000L );
+		ReflectionTestUtils.setField( auditWriter, "overflowPolicy", AuditWriterService.OverflowPolicy.BLOCK );
+		auditWriter.start();
+
+		List<AuditModel> models = new ArrayList<>();
+		for( int i = 0; i < 5; i++ ) {
+			models.add( new AuditModel( new Date(), "127.0.0.1", "localhost", "admin", "detalhe " + i, AuditOperationType.PROPOSAL_UPDATED ) );
+		}
+		auditWriter.submit( models );
+		auditWriter.shutdown();
+
+		assertEquals( 5, batches.stream().mapToInt( Integer::intValue ).sum() );
+		assertTrue( batches.stream().allMatch( size -> size <= 2 ) );
+		assertEquals( 0, auditWriter.getQueueSize() );
+	}
+
+	@Test
+	void givenProfileWithoutAuditCheckpoint_whenCanView_thenDeny() {
+		assertFalse( service.canView( this.profile() ) );
+		assertFalse( service.canView( null ) );
+
+		UserProfileDTO profile = this.profile();
+		profile.getUser().setAccessList( new AccessListModel( 1, "VENDAS", null, null, Collections.singletonList( new CheckpointModel( "PROPOSAL.VIEW.ALL" ) ) ) );
+		assertFalse( service.canView( profile ) );
+	}
+
+	@Test
+	void givenProfileWithAuditCheckpoint_whenCanView_thenAllow() {
+		UserProfileDTO profile = this.profile();
+		profile.getUser().setAccessList( new AccessListModel( 1, "ADMIN", null, null, Collections.singletonList( new CheckpointModel( AuditService.VIEW ) ) ) );
+
+		assertTrue( service.canView( profile ) );
+	}
+
+	@Test
+	void givenUserWithSecrets_whenSerializeForAudit_thenOmitSecrets() throws Exception {
+		UserModel user = new UserModel( 1 );
+		user.setUsername( "admin" );
+		user.setPassword( "$2a$10$hash" );
+		user.setForgotKey( "chave-recuperacao" );
+
+		String details = new ObjectMapper().writeValueAsString( user );
+
+		assertFalse( details.contains( "password" ) );
+		assertFalse( details.contains( "forgotKey" ) );
+		assertTrue( details.contains( "admin" ) );
+	}
+
+	private UserProfileDTO profile() {
+		UserModel user = new UserModel( 1 );
+		user.setUsername( "admin" );
+		return new UserProfileDTO( user );
+	}
+
+}
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
@@ -39,6 +40,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.impl.BankAccountDAO;
 import com.portal.enums.AccountType;
+import com.portal.enums.FetchPlan;
 import com.portal.enums.PersonClassification;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
@@ -101,7 +103,7 @@ public class BankAccountServiceTest {
 		void givenValidBankAccount_whenSave_thenReturnId() throws Exception {
 			BankAccount mock = new BankAccount(1, "00001", "000000001", "222222222", AccountType.CORRENTE, bankMock, personMock);
 			
-			when( personService.getById( any() ) ).thenReturn( Optional.of( personMock ) );
+			when( personService.getById( any(), eq( FetchPlan.ID_ONLY ) ) ).thenReturn( Optional.of( personMock ) );
 			when( bankService.getById( any() ) ).thenReturn( Optional.of( bankMock ) );
 			when( dao.find( any(), any() ) ).thenReturn( null );
 			when( dao.save( any() ) ).thenReturn( Optional.of( mock ) );
@@ -142,7 +144,7 @@ public class BankAccountServiceTest {
 		void givenBankAccount_whenUpdate_thenReturnNewBank() throws Exception {
 			BankAccount mock = new BankAccount(1, "00001-1", "000000001-1", "222222222-2", AccountType.CORRENTE, bankMock, personMock);
 			
-			when( personService.getById( any() ) ).thenReturn( Optional.of( personMock ) );
+			when( personService.getById( any(), eq( FetchPlan.ID_ONLY ) ) ).thenReturn( Optional.of( personMock ) );
 			when( bankService.getById( any() ) ).thenReturn( Optional.of( bankMock ) );
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new BankAccount() ) );
 			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList() );
@@ -220,7 +222,7 @@ public class BankAccountServiceTest {
 		void givenBankAccountId_whenGetById_thenReturnEntity() throws AppException, BusException {
 			BankAccount mock = new BankAccount(1, "00001-1", "000000001-1", "222222222-2", AccountType.CORRENTE, bankMock, personMock);
 			
-			when( personService.getById( any() ) ).thenReturn( Optional.of( personMock ) );
+			when( personService.getById( any(), eq( FetchPlan.ID_ONLY ) ) ).thenReturn( Optional.of( personMock ) );
 			when( bankService.getById( any() ) ).thenReturn( Optional.of( bankMock ) );
 			when( dao.getById( any() ) ).thenReturn( Optional.of( mock ) );
 			
@@ -125,7 +125,7 @@ public class BankServiceTest {
 									.code( "Code 2" )
 									.build();
 
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateModel ) );
+			when( dao.hasDuplicateName( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.save( model, null ) );
 			assertEquals( "Já existe um banco com o mesmo nome.", e.getMessage());
@@ -147,7 +147,7 @@ public class BankServiceTest {
 									.code( "Code 1" )
 									.build();
 			
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList(), Arrays.asList( duplicateModel ) );
+			when( dao.hasDuplicateCode( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.save( model, null ) );
 			assertEquals( "Já existe um banco com o mesmo código.", e.getMessage());
@@ -207,7 +207,7 @@ public class BankServiceTest {
 			
 			
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new Bank() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateModel ) );
+			when( dao.hasDuplicateName( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.update( model, null ) );
 			assertEquals( "Já existe um banco com o mesmo nome.", e.getMessage());
@@ -246,7 +246,7 @@ public class BankServiceTest {
 									.build();
 			
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new Bank() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateModel ) );
+			when( dao.hasDuplicateCode( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.update( model, null ) );
 			assertEquals( "Já existe um banco com o mesmo código.", e.getMessage());
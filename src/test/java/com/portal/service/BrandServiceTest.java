@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
@@ -112,7 +115,7 @@ public class BrandServiceTest {
 		@DisplayName("Salva uma nova marca duplicada com o mesmo nome. BRD-I2")
 		void givenDuplicateBrand_whenSave_thenReturnError_BRDI2() throws Exception {
 			
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( Brand.builder().id( 1 ).build() ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			Brand brand = Brand.builder()
 								.name( "BRAND 1" )
@@ -121,6 +124,8 @@ public class BrandServiceTest {
 			
 			BusException e = assertThrows( BusException.class, ()->service.save( brand, null ) );
 			assertEquals( "Já existe uma marca com o mesmo nome.", e.getMessage());
+			verify( dao, times( 1 ) ).hasDuplicate( brand );
+			verify( dao, never() ).find( any(), any() );
 		}
 	}
 	
@@ -182,7 +187,7 @@ public class BrandServiceTest {
 									.build();
 
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new Brand() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateModel ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.update( brand, null ) );
 			assertEquals( "Já existe uma marca com o mesmo nome.", e.getMessage());
@@ -112,7 +112,7 @@ public class ChannelServiceTest {
 		@DisplayName("Salva um novo canal duplicado com o mesmo nome. CHN-I2")
 		void givenDuplicateChannel_whenSave_thenReturnError_CHNI2() throws Exception {
 			
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( Channel.builder().id( 1 ).build() ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			Channel model = Channel.builder()
 								.name( "Channel 1" )
@@ -174,7 +174,7 @@ public class ChannelServiceTest {
 										.build();
 			
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new Channel() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateModel ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.update( model, null ) );
 			assertEquals( "Já existe um canal com o mesmo nome.", e.getMessage());
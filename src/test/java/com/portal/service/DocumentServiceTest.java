@@ -2,6 +2,7 @@ package com.portal.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
@@ -20,6 +21,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.impl.DocumentDAO;
+import com.portal.enums.FetchPlan;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Classifier;
@@ -27,6 +29,7 @@ import com.portal.model.Document;
 import com.portal.model.UserModel;
 import com.portal.service.imp.AuditService;
 import com.portal.service.imp.DocumentService;
+import com.portal.service.imp.DocumentStoreService;
 import com.portal.service.imp.ParameterService;
 import com.portal.service.imp.UserService;
 
@@ -48,6 +51,9 @@ public class DocumentServiceTest {
 	@Mock
 	ParameterService parameterService;
 	
+	@Mock
+	DocumentStoreService documentStoreService;
+	
 	@Mock
 	Validator validator;
 	
@@ -66,7 +72,7 @@ public class DocumentServiceTest {
 									.user( new UserModel( 1 ) )
 									.build();
 		
-		when( userService.getById( any() ) ).thenReturn( Optional.of( new UserModel() ) );
+		when( userService.getById( any(), eq( FetchPlan.ID_ONLY ) ) ).thenReturn( Optional.of( new UserModel() ) );
 		when( parameterService.getValueOf( any() ) ).thenReturn( "pdf,txt", "application/pdf,text/plain" );
 		
 		assertDoesNotThrow( ()->service.save( document , null) );
@@ -87,7 +93,7 @@ public class DocumentServiceTest {
 									.build();
 		
 		when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new Document() ) );
-		when( userService.getById( any() ) ).thenReturn( Optional.of( new UserModel() ) );
+		when( userService.getById( any(), eq( FetchPlan.ID_ONLY ) ) ).thenReturn( Optional.of( new UserModel() ) );
 		when( parameterService.getValueOf( any() ) ).thenReturn( "pdf,txt", "application/pdf,text/plain" );
 		
 		assertDoesNotThrow( ()->service.update( document , null) );
@@ -115,7 +121,7 @@ public class DocumentServiceTest {
 									.build();
 		
 		when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( documentToDelete ) );
-		when( userService.getById( any() ) ).thenReturn( Optional.of( new UserModel() ) );
+		when( userService.getById( any(), eq( FetchPlan.ID_ONLY ) ) ).thenReturn( Optional.of( new UserModel() ) );
 		when( parameterService.getValueOf( any() ) ).thenReturn( "pdf,txt", "application/pdf,text/plain" );
 		
 		assertDoesNotThrow( ()->service.save( documentToSave , null) );
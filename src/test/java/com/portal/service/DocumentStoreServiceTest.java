@@ -0,0 +1,289 @@
+package com.portal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.portal.dao.IDocumentBlobDAO;
+import com.portal.dao.IDocumentDAO;
+import com.portal.exceptions.AppException;
+import com.portal.model.Document;
+import com.portal.service.imp.DocumentStoreService;
+import com.portal.utils.ContentAddressedStore;
+import com.portal.utils.StreamingUpload;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Referências e rotinas do armazenamento de documentos com os DAOs simulados e os arquivos em um diretório temporário.
+ */
+@ExtendWith(SpringExtension.class)
+class DocumentStoreServiceTest {
+
+	private static final long GRACE = 60 * 60 * 1000;
+
+	@Mock
+	IDocumentBlobDAO blobDAO;
+
+	@Mock
+	IDocumentDAO documentDAO;
+
+	@Mock
+	PlatformTransactionManager transactionManager;
+
+	@TempDir
+	Path root;
+
+	DocumentStoreService service;
+
+	@BeforeEach
+	void setup() {
+		this.service = new DocumentStoreService();
+		ReflectionTestUtils.setField( this.service, "blobDAO", this.blobDAO );
+		ReflectionTestUtils.setField( this.service, "documentDAO", this.documentDAO );
+		ReflectionTestUtils.setField( this.service, "transactionManager", this.transactionManager );
+		ReflectionTestUtils.setField( this.service, "meterRegistry", new SimpleMeterRegistry() );
+		ReflectionTestUtils.setField( this.service, "locationDocument", this.root.toString() );
+		ReflectionTestUtils.setField( this.service, "orphanGrace", GRACE );
+		this.service.init();
+	}
+
+	@AfterEach
+	void clear() {
+		TransactionSynchronizationManager.clear();
+	}
+
+	@Nested
+	class RemoveReference {
+		@Test
+		@DisplayName("Removendo a última referência o arquivo é excluído somente após o commit")
+		void givenLastReference_whenRemove_thenDeleteAfterCommit() throws Exception {
+			Path blob = blob( "documento", GRACE * 2 );
+			String sha256 = blob.getFileName().toString();
+			when( blobDAO.removeReference( sha256 ) ).thenReturn( true );
+			when( blobDAO.exists( sha256 ) ).thenReturn( false );
+
+			TransactionSynchronizationManager.initSynchronization();
+			service.removeReference( sha256 );
+
+			assertTrue( Files.isRegularFile( blob ) );
+
+			for( TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations() ) {
+				synchronization.afterCommit();
+			}
+
+			assertFalse( Files.exists( blob ) );
+		}
+
+		@Test
+		@DisplayName("Se ainda há referências o arquivo é mantido e nada é agendado para o commit")
+		void givenOtherReferences_whenRemove_thenKeepFile() throws Exception {
+			Path blob = blob( "documento", GRACE * 2 );
+			String sha256 = blob.getFileName().toString();
+			when( blobDAO.removeReference( sha256 ) ).thenReturn( false );
+
+			TransactionSynchronizationManager.initSynchronization();
+			service.removeReference( sha256 );
+
+			assertTrue( TransactionSynchronizationManager.getSynchronizations().isEmpty() );
+			assertTrue( Files.isRegularFile( blob ) );
+		}
+
+		@Test
+		@DisplayName("Arquivo gravado dentro da carência é mantido mesmo sem referência")
+		void givenBlobInsideGrace_whenRemoveLastReference_thenKeepFile() throws Exception {
+			Path blob = blob( "documento", 0 );
+			String sha256 = blob.getFileName().toString();
+			when( blobDAO.removeReference( sha256 ) ).thenReturn( true );
+			when( blobDAO.exists( sha256 ) ).thenReturn( false );
+
+			service.removeReference( sha256 );
+
+			assertTrue( Files.isRegularFile( blob ) );
+		}
+
+		@Test
+		@DisplayName("Arquivo usado por um documento é mantido mesmo sem registro em document_blob")
+		void givenDocumentWithoutBlobRow_whenRemoveLastReference_thenKeepFile() throws Exception {
+			Path blob = blob( "documento", GRACE * 2 );
+			String sha256 = blob.getFileName().toString();
+			when( blobDAO.removeReference( sha256 ) ).thenReturn( true );
+			when( blobDAO.exists( sha256 ) ).thenReturn( false );
+			when( documentDAO.hasSha256( sha256 ) ).thenReturn( true );
+
+			service.removeReference( sha256 );
+
+			assertTrue( Files.isRegularFile( blob ) );
+		}
+
+		@Test
+		@DisplayName("Arquivo referenciado novamente antes do commit é mantido")
+		void givenBlobReferencedAgain_whenRemoveLastReference_thenKeepFile() throws Exception {
+			Path blob = blob( "documento", GRACE * 2 );
+			String sha256 = blob.getFileName().toString();
+			when( blobDAO.removeReference( sha256 ) ).thenReturn( true );
+			when( blobDAO.exists( sha256 ) ).thenReturn( true );
+
+			service.removeReference( sha256 );
+
+			assertTrue( Files.isRegularFile( blob ) );
+		}
+	}
+
+	@Nested
+	class MigrateLegacyDocuments {
+		@Test
+		@DisplayName("Executar a migração novamente conclui os documentos que falharam sem duplicar o arquivo")
+		void givenFailedMigration_whenRunAgain_thenMigrateOnce() throws Exception {
+			Path legacy = root.resolve( "document_1.pdf" );
+			Files.write( legacy, "documento antigo".getBytes( StandardCharsets.UTF_8 ) );
+			String sha256 = StreamingUpload.sha256( legacy );
+			Document document = Document.builder().id( 1 ).filePath( "document_1.pdf" ).build();
+
+			when( documentDAO.listWithoutHash( anyInt(), anyInt() ) ).thenReturn( Arrays.asList( document ) );
+			when( documentDAO.hasFilePath( "document_1.pdf" ) ).thenReturn( false );
+			doThrow( new AppException( "Falha" ) ).doNothing().when( documentDAO ).updateStorage( 1, ContentAddressedStore.relativePath( sha256 ), sha256 );
+
+			assertEquals( 0, service.migrateLegacyDocuments() );
+			assertTrue( Files.isRegularFile( legacy ) );
+			verify( blobDAO, never() ).addReference( anyString(), anyLong() );
+
+			assertEquals( 1, service.migrateLegacyDocuments() );
+			assertFalse( Files.exists( legacy ) );
+			assertTrue( Files.isRegularFile( service.resolve( sha256 ) ) );
+			verify( blobDAO, times( 1 ) ).addReference( eq( sha256 ), anyLong() );
+
+			// Os documentos migrados não são mais listados
+			when( documentDAO.listWithoutHash( anyInt(), anyInt() ) ).thenReturn( Collections.emptyList() );
+
+			assertEquals( 0, service.migrateLegacyDocuments() );
+			verify( documentDAO, times( 2 ) ).updateStorage( any(), any(), any() );
+			verify( blobDAO, times( 1 ) ).addReference( anyString(), anyLong() );
+		}
+
+		@Test
+		@DisplayName("O arquivo antigo é mantido enquanto outro documento aponta para ele")
+		void givenSharedLegacyFile_whenMigrate_thenKeepLegacyFile() throws Exception {
+			Path legacy = root.resolve( "document_2.pdf" );
+			Files.write( legacy, "documento compartilhado".getBytes( StandardCharsets.UTF_8 ) );
+			Document document = Document.builder().id( 2 ).filePath( "document_2.pdf" ).build();
+
+			when( documentDAO.listWithoutHash( anyInt(), anyInt() ) ).thenReturn( Arrays.asList( document ) );
+			when( documentDAO.hasFilePath( "document_2.pdf" ) ).thenReturn( true );
+			doNothing().when( documentDAO ).updateStorage( any(), any(), any() );
+
+			assertEquals( 1, service.migrateLegacyDocuments() );
+			assertTrue( Files.isRegularFile( legacy ) );
+		}
+	}
+
+	@Nested
+	class Scrub {
+		@Test
+		@DisplayName("Arquivos sem cadastro são removidos somente depois da carência")
+		void givenOrphans_whenScrub_thenRemoveOnlyPastGrace() throws Exception {
+			Path oldOrphan = blob( "órfão antigo", GRACE * 2 );
+			Path newOrphan = blob( "órfão recente", 0 );
+			Path registered = blob( "cadastrado", GRACE * 2 );
+
+			when( blobDAO.countMismatchedReferences() ).thenReturn( 0 );
+			when( blobDAO.listUnreferenced() ).thenReturn( Collections.emptyList() );
+			when( blobDAO.listHashes( any(), anyInt() ) ).thenReturn( Collections.emptyList() );
+			when( blobDAO.listExisting( any() ) ).thenReturn( new HashSet<>( Arrays.asList( registered.getFileName().toString() ) ) );
+			when( blobDAO.exists( anyString() ) ).thenReturn( false );
+
+			service.scrub();
+
+			assertFalse( Files.exists( oldOrphan ) );
+			assertTrue( Files.isRegularFile( newOrphan ) );
+			assertTrue( Files.isRegularFile( registered ) );
+		}
+
+		@Test
+		@DisplayName("Arquivo usado por um documento sobrevive à verificação mesmo sem registro em document_blob")
+		void givenDocumentWithoutBlobRow_whenScrub_thenKeepFileAndRestoreRow() throws Exception {
+			Path blob = blob( "documento confirmado", GRACE * 2 );
+			String sha256 = blob.getFileName().toString();
+
+			when( blobDAO.countMismatchedReferences() ).thenReturn( 1 );
+			when( blobDAO.listMissing( any(), anyInt() ) ).thenReturn( Arrays.asList( sha256 ) );
+			when( blobDAO.listUnreferenced() ).thenReturn( Collections.emptyList() );
+			when( blobDAO.listHashes( any(), anyInt() ) ).thenReturn( Collections.emptyList() );
+			when( blobDAO.listExisting( any() ) ).thenReturn( Collections.emptySet() );
+			when( blobDAO.exists( sha256 ) ).thenReturn( false );
+			when( documentDAO.hasSha256( sha256 ) ).thenReturn( true );
+
+			service.scrub();
+
+			assertTrue( Files.isRegularFile( blob ) );
+			verify( blobDAO ).restoreReference( sha256, Files.size( blob ) );
+		}
+
+		@Test
+		@DisplayName("Blob sem referência é excluído do cadastro e o arquivo removido fora da carência")
+		void givenUnreferencedBlob_whenScrub_thenDeleteRecordAndFile() throws Exception {
+			Path blob = blob( "sem referência", GRACE * 2 );
+			String sha256 = blob.getFileName().toString();
+
+			when( blobDAO.listUnreferenced() ).thenReturn( Arrays.asList( sha256 ) );
+			when( blobDAO.listHashes( any(), anyInt() ) ).thenReturn( Collections.emptyList() );
+			when( blobDAO.listExisting( any() ) ).thenReturn( Collections.emptySet() );
+			when( blobDAO.exists( sha256 ) ).thenReturn( false );
+
+			service.scrub();
+
+			verify( blobDAO ).delete( sha256 );
+			assertFalse( Files.exists( blob ) );
+		}
+	}
+
+	/**
+	 * Grava um blob com o conteúdo informado e data de modificação recuada em age milissegundos.
+	 */
+	private Path blob( String content, long age ) throws Exception {
+		Path temp = Files.createTempFile( this.root, "blob", ".tmp" );
+		Files.write( temp, content.getBytes( StandardCharsets.UTF_8 ) );
+		String sha256 = StreamingUpload.sha256( temp );
+
+		Path blob = this.service.resolve( sha256 );
+		Files.createDirectories( blob.getParent() );
+		Files.move( temp, blob );
+		Files.setLastModifiedTime( blob, FileTime.from( Instant.now().minusMillis( age ) ) );
+		return blob;
+	}
+
+}
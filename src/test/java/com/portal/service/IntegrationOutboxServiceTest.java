@@ -0,0 +1,231 @@
+package com.portal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portal.dao.IIntegrationOutboxDAO;
+import com.portal.dao.ISalesOrderDAO;
+import com.portal.dto.IntegrationOutboxStatsDTO;
+import com.portal.dto.JiraIssueRequestDTO;
+import com.portal.exceptions.AppException;
+import com.portal.model.IntegrationOutbox;
+import com.portal.service.imp.IntegrationOutboxService;
+import com.portal.service.imp.JiraIntegrationService;
+import com.portal.service.imp.JiraSalesOrderOutboxHandler;
+import com.portal.utils.HttpClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Envio da integration_outbox para um servidor HTTP local que simula a API do JIRA.
+ */
+@ExtendWith(SpringExtension.class)
+class IntegrationOutboxServiceTest {
+
+	@Mock
+	IIntegrationOutboxDAO dao;
+
+	@Mock
+	ISalesOrderDAO salesOrderDAO;
+
+	@Mock
+	IParameterService parameterService;
+
+	@Mock
+	PlatformTransactionManager transactionManager;
+
+	HttpServer jira;
+
+	List<String> issueRequests = Collections.synchronizedList( new ArrayList<>() );
+
+	int issueStatus = 201;
+	String issueResponse = "{\"key\":\"CAR-7\"}";
+	String searchResponse = "{\"issues\":[]}";
+
+	SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	ObjectMapper objectMapper = new ObjectMapper();
+
+	IntegrationOutboxService service;
+
+	@BeforeEach
+	void setup() throws IOException, AppException {
+		this.jira = HttpServer.create( new InetSocketAddress( "127.0.0.1", 0 ), 0 );
+		this.jira.createContext( "/rest/issue", exchange -> {
+			this.issueRequests.add( this.read( exchange.getRequestBody() ) );
+			this.respond( exchange, this.issueStatus, this.issueResponse );
+		} );
+		this.jira.createContext( "/rest/search", exchange -> this.respond( exchange, 200, this.searchResponse ) );
+		this.jira.start();
+
+		when( this.parameterService.getValueOf( "JIRA_INTEGRATION_BASE_URI" ) ).thenReturn( "http://127.0.0.1:" + this.jira.getAddress().getPort() + "/rest" );
+		when( this.parameterService.getValueOf( "JIRA_INTEGRATION_PROJECT" ) ).thenReturn( "10000" );
+		when( this.dao.claim( anyInt(), anyLong() ) ).thenReturn( true );
+		when( this.dao.getStats() ).thenReturn( new IntegrationOutboxStatsDTO( 1, 0, 42 ) );
+		when( this.salesOrderDAO.updateJiraKey( anyInt(), anyString() ) ).thenReturn( true );
+
+		HttpClient httpClient = new HttpClient();
+		ReflectionTestUtils.setField( httpClient, "builder", new RestTemplateBuilder() );
+
+		JiraIntegrationService jiraIntegrationService = new JiraIntegrationService();
+		ReflectionTestUtils.setField( jiraIntegrationService, "parameterService", this.parameterService );
+		ReflectionTestUtils.setField( jiraIntegrationService, "httpClient", httpClient );
+		ReflectionTestUtils.setField( jiraIntegrationService, "mapper", this.objectMapper );
+
+		JiraSalesOrderOutboxHandler handler = new JiraSalesOrderOutboxHandler();
+		ReflectionTestUtils.setField( handler, "jiraIntegrationService", jiraIntegrationService );
+		ReflectionTestUtils.setField( handler, "salesOrderDAO", this.salesOrderDAO );
+		ReflectionTestUtils.setField( handler, "objectMapper", this.objectMapper );
+
+		this.service = new IntegrationOutboxService();
+		ReflectionTestUtils.setField( this.service, "dao", this.dao );
+		ReflectionTestUtils.setField( this.service, "handlerList", Arrays.asList( handler ) );
+		ReflectionTestUtils.setField( this.service, "executor", new SyncTaskExecutor() );
+		ReflectionTestUtils.setField( this.service, "transactionManager", this.transactionManager );
+		ReflectionTestUtils.setField( this.service, "objectMapper", this.objectMapper );
+		ReflectionTestUtils.setField( this.service, "meterRegistry", this.meterRegistry );
+		ReflectionTestUtils.setField( this.service, "poolSize", 2 );
+		ReflectionTestUtils.setField( this.service, "lockTimeout", 120000L );
+		ReflectionTestUtils.setField( this.service, "retryBase", 30000L );
+		ReflectionTestUtils.setField( this.service, "retryMax", 3600000L );
+		ReflectionTestUtils.setField( this.service, "maxAttempts", 3 );
+		this.service.init();
+	}
+
+	@AfterEach
+	void stop() {
+		this.jira.stop( 0 );
+	}
+
+	@Test
+	void givenPendingEntry_whenDispatch_thenCreateIssueAndWriteBackKey() throws Exception {
+		when( this.dao.listReady( 2 ) ).thenReturn( Arrays.asList( this.entry( 0 ) ) );
+
+		assertEquals( 1, this.service.dispatchPending() );
+
+		assertEquals( 1, this.issueRequests.size() );
+		assertTrue( this.issueRequests.get( 0 ).contains( "\"summary\" : \"123-BMW/X1\"" ) );
+		verify( this.salesOrderDAO ).updateJiraKey( 10, "CAR-7" );
+		verify( this.dao ).markDone( 1, "CAR-7" );
+		assertEquals( 42, this.meterRegistry.get( "portal.integration.outbox.lag" ).gauge().value() );
+		assertEquals( 1, this.meterRegistry.get( "portal.integration.outbox.dispatch" ).tag( "result", "sent" ).counter().count() );
+	}
+
+	@Test
+	void givenJiraError_whenDispatch_thenScheduleRetryWithBackoff() throws Exception {
+		this.issueStatus = 500;
+		when( this.dao.listReady( 2 ) ).thenReturn( Arrays.asList( this.entry( 1 ) ) );
+
+		this.service.dispatchPending();
+
+		// Segunda tentativa: espera o dobro da base
+		verify( this.dao ).markRetry( eq( 1 ), any(), eq( 60L ) );
+		verify( this.dao, never() ).markDone( anyInt(), any() );
+		verify( this.salesOrderDAO, never() ).updateJiraKey( anyInt(), any() );
+	}
+
+	@Test
+	void givenLastAttempt_whenJiraFails_thenMarkFailed() throws Exception {
+		this.issueStatus = 500;
+		when( this.dao.listReady( 2 ) ).thenReturn( Arrays.asList( this.entry( 2 ) ) );
+
+		this.service.dispatchPending();
+
+		verify( this.dao ).markFailed( eq( 1 ), any() );
+		verify( this.dao, never() ).markRetry( anyInt(), any(), anyLong() );
+	}
+
+	@Test
+	void givenPreviousAttempt_whenIssueAlreadyExists_thenReuseKeyWithoutCreating() throws Exception {
+		this.searchResponse = "{\"issues\":[{\"key\":\"CAR-4\",\"fields\":{\"summary\":\"123-BMW/X1 M\"}},{\"key\":\"CAR-5\",\"fields\":{\"summary\":\"123-BMW/X1\"}}]}";
+		when( this.dao.listReady( 2 ) ).thenReturn( Arrays.asList( this.entry( 1 ) ) );
+
+		this.service.dispatchPending();
+
+		assertTrue( this.issueRequests.isEmpty() );
+		verify( this.salesOrderDAO ).updateJiraKey( 10, "CAR-5" );
+		verify( this.dao ).markDone( 1, "CAR-5" );
+	}
+
+	@Test
+	void givenEntryClaimedByOtherDispatcher_whenDispatch_thenSkip() throws Exception {
+		when( this.dao.listReady( 2 ) ).thenReturn( Arrays.asList( this.entry( 0 ) ) );
+		when( this.dao.claim( anyInt(), anyLong() ) ).thenReturn( false );
+
+		assertEquals( 0, this.service.dispatchPending() );
+
+		assertTrue( this.issueRequests.isEmpty() );
+		verify( this.dao, never() ).markDone( anyInt(), any() );
+	}
+
+	@Test
+	void givenAttempts_whenBackoff_thenDoubleUntilMax() {
+		assertEquals( 30000, this.service.backoff( 1 ) );
+		assertEquals( 60000, this.service.backoff( 2 ) );
+		assertEquals( 240000, this.service.backoff( 4 ) );
+		assertEquals( 3600000, this.service.backoff( 50 ) );
+	}
+
+	private IntegrationOutbox entry( int attempts ) throws Exception {
+		Map<String, Object> fields = new HashMap<>();
+		fields.put( "numero_os", 123 );
+
+		return IntegrationOutbox.builder()
+								.id( 1 )
+								.type( JiraSalesOrderOutboxHandler.TYPE )
+								.idempotencyKey( JiraSalesOrderOutboxHandler.idempotencyKey( 10 ) )
+								.aggregateId( 10 )
+								.attempts( attempts )
+								.payload( this.objectMapper.writeValueAsString( new JiraIssueRequestDTO( "123-BMW/X1", fields ) ) )
+								.build();
+	}
+
+	private String read( InputStream inputStream ) throws IOException {
+		return IOUtils.toString( inputStream, StandardCharsets.UTF_8 );
+	}
+
+	private void respond( HttpExchange exchange, int status, String body ) throws IOException {
+		byte[] content = body.getBytes( StandardCharsets.UTF_8 );
+		exchange.getResponseHeaders().add( "Content-Type", "application/json" );
+		exchange.sendResponseHeaders( status, content.length );
+		try( OutputStream output = exchange.getResponseBody() ) {
+			output.write( content );
+		}
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.portal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.portal.enums.ImageSize;
+import com.portal.exceptions.BusException;
+import com.portal.service.imp.ItemImageService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ItemImageServiceTest {
+
+	@TempDir
+	Path root;
+
+	ItemImageService service;
+
+	@BeforeEach
+	void setup() {
+		service = new ItemImageService();
+		ReflectionTestUtils.setField( service, "meterRegistry", new SimpleMeterRegistry() );
+		ReflectionTestUtils.setField( service, "locationItem", root.toString() );
+		ReflectionTestUtils.setField( service, "maxSizeMb", 5L );
+		ReflectionTestUtils.setField( service, "cacheMaxSizeMb", 1L );
+		service.init();
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@AfterEach
+	void clear() {
+		TransactionSynchronizationManager.clear();
+	}
+
+	@Nested
+	class Store {
+		@Test
+		@DisplayName("Quando a transação é desfeita a imagem e os derivados gravados são excluídos")
+		void givenNewImage_whenRollback_thenDeleteFiles() throws Exception {
+			String name = service.store( png(), 1, "icon" );
+
+			assertTrue( Files.isRegularFile( root.resolve( name ) ) );
+			assertTrue( Files.isRegularFile( root.resolve( "derivatives" ).resolve( "thumb" ).resolve( name ) ) );
+
+			complete( TransactionSynchronization.STATUS_ROLLED_BACK );
+
+			assertFalse( Files.exists( root.resolve( name ) ) );
+			assertFalse( Files.exists( root.resolve( "derivatives" ).resolve( "card" ).resolve( name ) ) );
+			assertFalse( Files.exists( root.resolve( "derivatives" ).resolve( "thumb" ).resolve( name ) ) );
+		}
+
+		@Test
+		@DisplayName("Quando a transação é confirmada a imagem é mantida")
+		void givenNewImage_whenCommit_thenKeepFiles() throws Exception {
+			String name = service.store( png(), 1, "icon" );
+
+			complete( TransactionSynchronization.STATUS_COMMITTED );
+
+			assertTrue( Files.isRegularFile( root.resolve( name ) ) );
+		}
+
+		@Test
+		@DisplayName("Reenviar a mesma imagem não exclui no rollback o arquivo que já estava em uso")
+		void givenExistingImage_whenRollback_thenKeepFiles() throws Exception {
+			String name = service.store( png(), 1, "icon" );
+			complete( TransactionSynchronization.STATUS_COMMITTED );
+
+			TransactionSynchronizationManager.initSynchronization();
+			assertEquals( name, service.store( png(), 1, "icon" ) );
+			complete( TransactionSynchronization.STATUS_ROLLED_BACK );
+
+			assertTrue( Files.isRegularFile( root.resolve( name ) ) );
+		}
+	}
+
+	@Test
+	@DisplayName("Tamanho de imagem inválido é erro de negócio")
+	void givenInvalidSize_whenGetByName_thenThrowBusException() throws Exception {
+		assertEquals( ImageSize.THUMBNAIL, ImageSize.getByName( "thumbnail" ) );
+		assertThrows( BusException.class, () -> ImageSize.getByName( "HUGE" ) );
+		assertThrows( BusException.class, () -> ImageSize.getByName( null ) );
+	}
+
+	private void complete( int status ) {
+		for( TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations() ) {
+			synchronization.afterCompletion( status );
+		}
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	private static MockMultipartFile png() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write( new BufferedImage( 600, 300, BufferedImage.TYPE_INT_RGB ), "png", out );
+		return new MockMultipartFile( "file", "image.png", "image/png", out.toByteArray() );
+	}
+}
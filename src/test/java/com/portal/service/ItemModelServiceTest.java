@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
@@ -44,6 +45,7 @@ import com.portal.model.Item;
 import com.portal.model.ItemModel;
 import com.portal.model.ItemType;
 import com.portal.model.Model;
+import com.portal.service.IPriceResolutionService;
 import com.portal.service.imp.AuditService;
 import com.portal.service.imp.ItemModelService;
 import com.portal.service.imp.ItemService;
@@ -75,6 +77,9 @@ public class ItemModelServiceTest {
 	@Mock
 	MessageSource messageSource;
 	
+	@Mock
+	IPriceResolutionService priceResolutionService;
+	
 	@InjectMocks
 	ItemModelService service;
 
@@ -113,6 +118,7 @@ public class ItemModelServiceTest {
 			
 			assertTrue( obj.isPresent() );
 			assertEquals( obj.get().getId(), mockDB.getId() );
+			verify( priceResolutionService ).evictModelItemsAfterCommit( modelMock1.getId() );
 		}
 		
 		@Test
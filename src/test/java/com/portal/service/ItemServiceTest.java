@@ -41,6 +41,7 @@ import com.portal.model.Classifier;
 import com.portal.model.Item;
 import com.portal.model.ItemType;
 import com.portal.service.imp.AuditService;
+import com.portal.service.imp.ItemImageService;
 import com.portal.service.imp.ItemModelService;
 import com.portal.service.imp.ItemService;
 import com.portal.validators.ValidationHelper.OnSave;
@@ -67,6 +68,9 @@ public class ItemServiceTest {
 	@Mock
 	MessageSource messageSource;
 	
+	@Mock
+	ItemImageService itemImageService;
+	
 	@InjectMocks
 	ItemService service;
 	
@@ -125,7 +129,7 @@ public class ItemServiceTest {
 			Item mockCheck = new Item(1, "Item 1", "200", 1, false, false, new Classifier(23), ItemType.builder().id(1).build(), "ICON", "DESC", "HTTP", null, null, null, null, null, null);
 			Item duplicateMock = new Item(2, "Item 2", "220", 1, false, false, new Classifier(23), ItemType.builder().id(1).build(), "ICON", "DESC", "HTTP", null, null, null, null, null, null);
 
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateMock ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.save( mockCheck, null ) );
 			assertEquals( "Já existe um item com o mesmo nome.", e.getMessage());
@@ -178,7 +182,7 @@ public class ItemServiceTest {
 			Item duplicateModel = new Item(1, "Item 1", "200", 1, false, false, new Classifier(23), ItemType.builder().id(1).build(), "ICON", "DESC", "HTTP", null, null, null, null, null, null);
 			
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new Item() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateModel ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.update( model, null ) );
 			assertEquals( "Já existe um item com o mesmo nome.", e.getMessage());
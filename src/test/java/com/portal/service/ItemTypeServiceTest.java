@@ -114,7 +114,7 @@ public class ItemTypeServiceTest {
 		@DisplayName("Salva um novo item type duplicado com o mesmo nome. ITT-I2")
 		void givenDuplicateItemType_whenSave_thenReturnError_ITTI2() throws Exception {
 			
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( ItemType.builder().id( 1 ).build() ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			ItemType model = ItemType.builder()
 								.name( "ItemType 1" )
@@ -189,7 +189,7 @@ public class ItemTypeServiceTest {
 									.build();
 
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new ItemType() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateModel ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.update( model, null ) );
 			assertEquals( "Já existe um tipo de item com o mesmo nome.", e.getMessage());
@@ -42,6 +42,7 @@ import com.portal.enums.ModelSize;
 import com.portal.exceptions.BusException;
 import com.portal.model.Brand;
 import com.portal.model.Model;
+import com.portal.service.IPriceResolutionService;
 import com.portal.service.imp.AuditService;
 import com.portal.service.imp.ModelService;
 import com.portal.validators.ValidationHelper.OnSave;
@@ -68,6 +69,9 @@ public class ModelServiceTest {
 	@Mock
 	MessageSource messageSource;
 	
+	@Mock
+	IPriceResolutionService priceResolutionService;
+	
 	@InjectMocks
 	ModelService service;
 	
@@ -124,7 +128,7 @@ public class ModelServiceTest {
 		void givenDuplicateModel_whenSave_thenReturnError_MDLI2() throws Exception {
 			
 			when( brandDAO.getById( any() ) ).thenReturn( Optional.of( Brand.builder().id(1).build() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( Model.builder().id( 1 ).build() ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			Model model = Model.builder()
 								.name( "Model 1" )
@@ -225,7 +229,7 @@ public class ModelServiceTest {
 
 			when( brandDAO.getById( any() ) ).thenReturn( Optional.of( Brand.builder().id(1).build() ) );
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new Model() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateModel ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.update( model, null ) );
 			assertEquals( "Já existe um modelo com o mesmo nome e fabricante.", e.getMessage());
@@ -0,0 +1,98 @@
+package com.portal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.context.MessageSource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.portal.dao.impl.ParameterDAO;
+import com.portal.dto.UserProfileDTO;
+import com.portal.exceptions.AppException;
+import com.portal.model.ParameterModel;
+import com.portal.model.UserModel;
+import com.portal.service.imp.AuditService;
+import com.portal.service.imp.ParameterService;
+
+@ExtendWith(SpringExtension.class)
+class ParameterServiceTest {
+
+	@Mock
+	ParameterDAO dao;
+
+	@Mock
+	MessageSource messageSource;
+
+	@Mock
+	AuditService auditService;
+
+	@InjectMocks
+	ParameterService service;
+
+	@Test
+	void givenSnapshot_whenReadParameters_thenLoadTableOnce() throws Exception {
+		when( dao.list() ).thenReturn( Arrays.asList(
+				new ParameterModel( 1, "PROPOSAL_DAYS_LIMIT", "30", "Validade" ),
+				new ParameterModel( 2, "DOCUMENT_ALLOWED_EXTENSIONS", "pdf,txt", "Extensões" ) ) );
+
+		assertEquals( 30, service.getIntValueOf( "PROPOSAL_DAYS_LIMIT" ) );
+		assertEquals( "30", service.getValueOf( "PROPOSAL_DAYS_LIMIT" ) );
+		assertEquals( "30", service.find( new ParameterModel( "PROPOSAL_DAYS_LIMIT" ) ).get().getValue() );
+		assertFalse( service.find( new ParameterModel( "NAO_EXISTE" ) ).isPresent() );
+		assertEquals( 30, service.getIntValueOf( "proposal_days_limit" ) );
+		assertEquals( "pdf,txt", service.getValueOf( "Document_Allowed_Extensions" ) );
+
+		List<String> extensions = service.getListFromConcatenatedParameter( "DOCUMENT_ALLOWED_EXTENSIONS" );
+		assertEquals( Arrays.asList( "pdf", "txt" ), extensions );
+		assertSame( extensions, service.getListFromConcatenatedParameter( "DOCUMENT_ALLOWED_EXTENSIONS" ) );
+
+		verify( dao, times( 1 ) ).list();
+		verify( dao, never() ).find( any() );
+	}
+
+	@Test
+	void givenMissingOrInvalidParameter_whenGetIntValueOf_thenThrowWithName() throws Exception {
+		when( dao.list() ).thenReturn( Arrays.asList( new ParameterModel( 2, "DOCUMENT_ALLOWED_EXTENSIONS", "pdf,txt", "Extensões" ) ) );
+
+		AppException invalid = assertThrows( AppException.class, () -> service.getIntValueOf( "DOCUMENT_ALLOWED_EXTENSIONS" ) );
+		assertTrue( invalid.getMessage().contains( "DOCUMENT_ALLOWED_EXTENSIONS" ) );
+
+		AppException missing = assertThrows( AppException.class, () -> service.getIntValueOf( "PROPOSAL_DAYS_LIMIT" ) );
+		assertTrue( missing.getMessage().contains( "PROPOSAL_DAYS_LIMIT" ) );
+	}
+
+	@Test
+	void givenChangedTable_whenUpdateOrRefresh_thenSwapSnapshot() throws Exception {
+		ParameterModel parameter = new ParameterModel( 1, "PROPOSAL_DAYS_LIMIT", "30", "Validade" );
+		when( dao.list() ).thenReturn( Arrays.asList( parameter ) );
+		assertEquals( 30, service.getIntValueOf( "PROPOSAL_DAYS_LIMIT" ) );
+
+		ParameterModel updated = new ParameterModel( 1, "PROPOSAL_DAYS_LIMIT", "45", "Validade" );
+		when( dao.update( any() ) ).thenReturn( Optional.of( updated ) );
+		when( dao.list() ).thenReturn( Arrays.asList( updated ) );
+		service.update( updated, new UserProfileDTO( new UserModel( 1 ) ) );
+		assertEquals( 45, service.getIntValueOf( "PROPOSAL_DAYS_LIMIT" ) );
+
+		// Alteração feita por outro nó
+		when( dao.list() ).thenReturn( Arrays.asList( new ParameterModel( 1, "PROPOSAL_DAYS_LIMIT", "60", "Validade" ) ) );
+		service.refresh();
+		assertEquals( 60, service.getIntValueOf( "PROPOSAL_DAYS_LIMIT" ) );
+	}
+
+}
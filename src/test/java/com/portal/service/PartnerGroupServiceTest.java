@@ -112,7 +112,7 @@ public class PartnerGroupServiceTest {
 		@DisplayName("Salva um novo grupo duplicada com o mesmo nome. PTG-I2")
 		void givenDuplicatePartnerGroup_whenSave_thenReturnError_PTGI2() throws Exception {
 			
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( PartnerGroup.builder().id( 1 ).build() ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			PartnerGroup model = PartnerGroup.builder()
 								.name( "PartnerGroup 1" )
@@ -171,7 +171,7 @@ public class PartnerGroupServiceTest {
 			
 			
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new PartnerGroup() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateModel ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.update( model, null ) );
 			assertEquals( "Já existe um grupo com o mesmo nome.", e.getMessage());
@@ -248,7 +248,7 @@ public class PartnerServiceTest {
 									.build();
 			
 			when( channelService.getById( any() ) ).thenReturn( Optional.of( channelMock ) );
-			when( personService.find( any(), any() ) ).thenReturn( Arrays.asList( duplicatePersonMock ) );
+			when( personService.hasDuplicatePartnerDocument( any() ) ).thenReturn( true );
 			
 			Partner partner = new Partner(null, new Classifier(210), Channel.builder().id(1).build(), personMock );
 			
@@ -425,7 +425,7 @@ public class PartnerServiceTest {
 
 			when( dao.getById( any() ) ).thenReturn( Optional.of(partner) );
 			when( channelService.getById( any() ) ).thenReturn( Optional.of( channelMock ) );
-			when( personService.find( any(), any() ) ).thenReturn( Arrays.asList( duplicatePersonMock ) );
+			when( personService.hasDuplicatePartnerDocument( any() ) ).thenReturn( true );
 			
 			BusException ex = assertThrows( BusException.class, ()->service.update(partner, null));
 			assertEquals( ex.getMessage(), "Já existe um parceiro com esse número de documento.");
@@ -156,7 +156,7 @@ public class PaymentMethodServiceTest {
 		@DisplayName("Salva um novo método de pagamento duplicado com o mesmo nome. PYM-I2")
 		void givenDuplicatePaymentMethod_whenSave_thenReturnError_CHNI2() throws Exception {
 			
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( PaymentMethod.builder().id( 1 ).build() ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			PaymentMethod model = PaymentMethod.builder()
 								.name( "PaymentMethod 1" )
@@ -220,7 +220,7 @@ public class PaymentMethodServiceTest {
 												.build();
 			
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new PaymentMethod() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateModel ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.update( model, null ) );
 			assertEquals( "Já existe um método de pagamento com o mesmo nome.", e.getMessage());
@@ -6,10 +6,17 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -38,7 +45,9 @@ import com.portal.dao.impl.PersonDAO;
 import com.portal.enums.PersonClassification;
 import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
+import com.portal.model.AddressModel;
 import com.portal.model.Classifier;
+import com.portal.model.Contact;
 import com.portal.model.Person;
 import com.portal.service.imp.AuditService;
 import com.portal.service.imp.ClassifierService;
@@ -71,6 +80,21 @@ public class PersonServiceTest {
 	@Mock
 	MessageSource messageSource;
 	
+	@Mock
+	IPersonQualificationService personQualificationService;
+	
+	@Mock
+	IBankAccountService bankAccountService;
+	
+	@Mock
+	IAddressService addressService;
+	
+	@Mock
+	IPersonRelatedService personRelatedService;
+	
+	@Mock
+	IProposalService proposalService;
+	
 	@InjectMocks
 	PersonService service;
 
@@ -87,6 +111,45 @@ public class PersonServiceTest {
 		}
 	}
 	
+	@Nested
+	class FillList {
+		@Test
+		@DisplayName("Carrega os relacionamentos de 200 pessoas com uma consulta por relacionamento")
+		void givenManyPersons_whenFill_thenLoadEachRelationshipOnce() throws Exception {
+			List<Person> persons = new ArrayList<>();
+			for( int i = 1; i <= 200; i++ ) {
+				persons.add( Person.builder().id( i ).address( new AddressModel( i ) ).build() );
+			}
+			
+			Map<Integer, List<Contact>> contacts = new HashMap<>();
+			contacts.put( 1, Arrays.asList( new Contact() ) );
+			Map<Integer, AddressModel> addresses = new HashMap<>();
+			addresses.put( 2, AddressModel.builder().id( 2 ).street( "Rua 2" ).build() );
+			
+			when( contactService.findByPersons( argThat( ids -> ids.size() == 200 ) ) ).thenReturn( contacts );
+			when( addressService.getByIds( argThat( ids -> ids.size() == 200 ) ) ).thenReturn( addresses );
+			
+			service.fillContact( persons );
+			service.fillQualification( persons );
+			service.fillBankAccount( persons );
+			service.fillAddress( persons );
+			service.fillPersonRelated( persons );
+			
+			verify( contactService, times( 1 ) ).findByPersons( any() );
+			verify( personQualificationService, times( 1 ) ).findByPersons( any() );
+			verify( bankAccountService, times( 1 ) ).findByPersons( any() );
+			verify( addressService, times( 1 ) ).getByIds( any() );
+			verify( personRelatedService, times( 1 ) ).findByPersons( any() );
+			verify( contactService, never() ).findByPerson( any() );
+			
+			assertEquals( 1, persons.get( 0 ).getContacts().size() );
+			assertTrue( persons.get( 1 ).getContacts().isEmpty() );
+			assertTrue( persons.get( 1 ).getQualifications().isEmpty() );
+			assertEquals( "Rua 2", persons.get( 1 ).getAddress().getStreet() );
+			assertEquals( 3, persons.get( 2 ).getAddress().getId() );
+		}
+	}
+	
 	@Nested
 	class Save {
 		@ParameterizedTest
@@ -142,6 +205,7 @@ public class PersonServiceTest {
 			assertEquals( model.getCnpj(), obj.get().getCnpj() );
 			assertEquals( model.getRg(), obj.get().getRg() );
 			assertEquals( model.getRne(), obj.get().getRne() );
+			verify( proposalService ).evictReportCacheByPerson( model.getId() );
 		}
 		
 		@DisplayName("Atualiza uma pessoa inválido e retorna erro. PRD-U1, PRD-U3")
@@ -125,7 +125,7 @@ public class PriceItemServiceTest {
 			
 			when( priceListService.getById( any() ) ).thenReturn( Optional.of( priceListMock1 ) );
 			when( itemService.getById( any() ) ).thenReturn( Optional.of( itemMock1 ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateMock ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.save( mock, null ) );
 			assertEquals( "Já existe um preço definido para esse item na mesma lista.", e.getMessage());
@@ -180,7 +180,7 @@ public class PriceItemServiceTest {
 			when( priceListService.getById( any() ) ).thenReturn( Optional.of( priceListMock1 ) );
 			when( itemService.getById( any() ) ).thenReturn( Optional.of( itemMock1 ) );
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new PriceItem() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateMock ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.update( mock, null ) );
 			assertEquals( "Já existe um preço definido para esse item na mesma lista.", e.getMessage());
@@ -0,0 +1,233 @@
+package com.portal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.portal.dao.impl.form.PriceListFormDAO;
+import com.portal.dto.BrandDTO;
+import com.portal.dto.ChannelDTO;
+import com.portal.dto.ItemDTO;
+import com.portal.dto.ItemModelDTO;
+import com.portal.dto.PartnerDTO;
+import com.portal.dto.PriceItemDTO;
+import com.portal.dto.PriceItemModelDTO;
+import com.portal.dto.PriceListDTO;
+import com.portal.dto.PriceProductDTO;
+import com.portal.dto.ProductModelDTO;
+import com.portal.dto.UserProfileDTO;
+import com.portal.dto.form.PriceListDuplicateItemDTO;
+import com.portal.dto.form.PriceListFormDTO;
+import com.portal.dto.form.PriceListFormRowErrorDTO;
+import com.portal.exceptions.BusException;
+import com.portal.model.PriceList;
+import com.portal.model.PriceProduct;
+import com.portal.model.UserModel;
+import com.portal.service.imp.PriceItemModelService;
+import com.portal.service.imp.PriceItemService;
+import com.portal.service.imp.PriceListPartnerService;
+import com.portal.service.imp.PriceListService;
+import com.portal.service.imp.PriceProductService;
+import com.portal.service.imp.PriceResolutionService;
+import com.portal.service.imp.form.PriceListFormService;
+
+import javax.validation.Validator;
+
+@ExtendWith(SpringExtension.class)
+class PriceListFormServiceTest {
+
+	@Mock
+	PriceListFormDAO dao;
+
+	@Mock
+	Validator validator;
+
+	@Mock
+	PriceListService priceListService;
+
+	@Mock
+	PriceProductService priceProductService;
+
+	@Mock
+	PriceItemService priceItemService;
+
+	@Mock
+	PriceItemModelService priceItemModelService;
+
+	@Mock
+	PriceListPartnerService priceListPartnerService;
+
+	@Mock
+	PriceResolutionService priceResolutionService;
+
+	@InjectMocks
+	PriceListFormService service;
+
+	private UserProfileDTO profile = new UserProfileDTO( new UserModel( 1 ) );
+
+	@BeforeEach
+	void setup() throws Exception {
+		when( dao.findExistingProductModelIds( any() ) ).thenReturn( new HashSet<>( Arrays.asList( 1, 2, 3 ) ) );
+		when( dao.findExistingPartnerIds( any() ) ).thenReturn( new HashSet<>( Arrays.asList( 10 ) ) );
+		when( priceListService.save( any(), any() ) ).thenReturn( Optional.of( PriceList.builder().id( 99 ).allPartners( false ).build() ) );
+	}
+
+	@Test
+	void givenValidForm_whenSave_thenInsertRowsInBatch() throws Exception {
+		service.save( form( 1, 2, 3 ), profile );
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<PriceProduct>> saved = ArgumentCaptor.forClass( List.class );
+		verify( priceProductService, times( 1 ) ).saveAll( saved.capture(), eq( profile ) );
+		verify( priceProductService, never() ).save( any(), any() );
+		verify( priceListPartnerService, times( 1 ) ).saveAll( 99, Arrays.asList( 10 ) );
+
+		assertEquals( 3, saved.getValue().size() );
+		saved.getValue().forEach( product -> assertEquals( 99, product.getPriceList().getId() ) );
+	}
+
+	@Test
+	void givenInvalidRows_whenSave_thenReportEveryRowAndSaveNothing() throws Exception {
+		BusException exception = assertThrows( BusException.class, () -> service.save( form( 1, 4, 1 ), profile ) );
+
+		@SuppressWarnings("unchecked")
+		List<PriceListFormRowErrorDTO> errors = (List<PriceListFormRowErrorDTO>) exception.getProperty( "error" );
+
+		assertEquals( 2, errors.size() );
+		assertEquals( "products", errors.get( 0 ).getSection() );
+		assertEquals( 1, errors.get( 0 ).getRow() );
+		assertEquals( 2, errors.get( 1 ).getRow() );
+		verify( priceListService, never() ).save( any(), any() );
+		verify( priceProductService, never() ).saveAll( anyList(), any() );
+	}
+
+	@Test
+	void givenRandomOverlay_whenCheckDuplicateItem_thenSameResultAsLinearScan() throws Exception {
+		Random random = new Random( 42 );
+
+		List<PriceListDuplicateItemDTO> products = new ArrayList<>();
+		List<PriceListDuplicateItemDTO> itensModel = new ArrayList<>();
+		for( int i = 0; i < 3000; i++ ) {
+			products.add( PriceListDuplicateItemDTO.builder()
+													.priceList( PriceListDTO.builder().id( 1 + random.nextInt( 6 ) ).build() )
+													.channelId( 1 + random.nextInt( 2 ) )
+													.partnerId( 10 + random.nextInt( 5 ) )
+													.productModelId( 1 + random.nextInt( 20 ) )
+													.build() );
+
+			itensModel.add( PriceListDuplicateItemDTO.builder()
+													.priceList( PriceListDTO.builder().id( 1 + random.nextInt( 6 ) ).build() )
+													.channelId( 1 + random.nextInt( 2 ) )
+													.partnerId( 10 + random.nextInt( 5 ) )
+													.itemId( 1 + random.nextInt( 5 ) )
+													.itemModelId( random.nextInt( 3 ) )
+													.brandId( random.nextInt( 3 ) )
+													.allBrands( random.nextBoolean() )
+													.allModels( random.nextBoolean() )
+													.build() );
+		}
+
+		when( dao.findProductsOverlay( any(), any() ) ).thenReturn( Optional.of( products ) );
+		when( dao.findItemOverlay( any(), any() ) ).thenReturn( Optional.empty() );
+		when( dao.findItemModelOverlay( any(), any() ) ).thenReturn( Optional.of( itensModel ) );
+
+		PriceListFormDTO model = form( random.ints( 40, 1, 21 ).boxed().toArray( Integer[]::new ) );
+		model.getPriceList().setId( 5 );
+		model.setPartners( Arrays.asList( PartnerDTO.builder().id( 10 ).build(), PartnerDTO.builder().id( 12 ).build(), PartnerDTO.builder().id( 10 ).build() ) );
+		model.setItens( new ArrayList<PriceItemDTO>() );
+		model.setItensModel( new ArrayList<>() );
+		for( int i = 0; i < 40; i++ ) {
+			model.getItensModel().add( PriceItemModelDTO.builder()
+														.item( ItemDTO.builder().id( 1 + random.nextInt( 5 ) ).build() )
+														.itemModel( random.nextBoolean() ? ItemModelDTO.builder().id( random.nextInt( 3 ) ).build() : null )
+														.brand( BrandDTO.builder().id( random.nextInt( 3 ) ).build() )
+														.allBrands( random.nextBoolean() )
+														.allModels( random.nextBoolean() ? random.nextBoolean() : null )
+														.build() );
+		}
+
+		List<PriceListDuplicateItemDTO> expected = new ArrayList<>();
+		for( PartnerDTO partner : model.getPartners() ) {
+			for( PriceProductDTO product : model.getProducts() ) {
+				PriceListDuplicateItemDTO dto = PriceListDuplicateItemDTO.builder().channelId( 1 ).partnerId( partner.getId() ).productModelId( product.getProductModel().getId() ).build();
+				expected.addAll( linearScan( products, dto, model.getPriceList() ) );
+			}
+		}
+		for( PartnerDTO partner : model.getPartners() ) {
+			for( PriceItemModelDTO item : model.getItensModel() ) {
+				PriceListDuplicateItemDTO dto = PriceListDuplicateItemDTO.builder()
+																		.channelId( 1 )
+																		.partnerId( partner.getId() )
+																		.itemId( item.getItem().getId() )
+																		.itemModelId( item.getItemModel() != null ? item.getItemModel().getId() : 0 )
+																		.brandId( item.getBrand().getId() )
+																		.allBrands( item.getAllBrands() )
+																		.allModels( item.getAllModels() != null ? item.getAllModels() : false )
+																		.build();
+				expected.addAll( linearScan( itensModel, dto, model.getPriceList() ) );
+			}
+		}
+
+		List<PriceListDuplicateItemDTO> duplicates = service.checkDuplicateItem( model );
+
+		assertFalse( expected.isEmpty() );
+
+		assertEquals( expected, duplicates );
+		assertEquals( expected.stream().map( item -> item.getPriceList().getId() ).collect( Collectors.toList() ),
+						duplicates.stream().map( item -> item.getPriceList().getId() ).collect( Collectors.toList() ) );
+	}
+
+	/**
+	 * Busca linear usada antes do índice, mantida aqui como referência do resultado esperado.
+	 */
+	private List<PriceListDuplicateItemDTO> linearScan( List<PriceListDuplicateItemDTO> overlay, PriceListDuplicateItemDTO dto, PriceListDTO priceList ) {
+		return overlay.stream()
+						.filter( item -> !item.getPriceList().equals( priceList ) && item.equals( dto ) )
+						.collect( Collectors.toList() );
+	}
+
+	private PriceListFormDTO form( Integer... productModelIds ) {
+		PriceListDTO priceList = PriceListDTO.builder()
+												.name( "Lista" )
+												.start( LocalDateTime.of( 2022, 1, 1, 0, 0 ) )
+												.end( LocalDateTime.of( 2022, 12, 31, 0, 0 ) )
+												.channel( ChannelDTO.builder().id( 1 ).build() )
+												.allPartners( false )
+												.build();
+
+		PriceProductDTO[] products = Arrays.stream( productModelIds )
+											.map( id -> PriceProductDTO.builder().price( 100d ).productModel( ProductModelDTO.builder().id( id ).build() ).build() )
+											.toArray( PriceProductDTO[]::new );
+
+		return PriceListFormDTO.builder()
+								.priceList( priceList )
+								.products( Arrays.asList( products ) )
+								.partners( Arrays.asList( PartnerDTO.builder().id( 10 ).build() ) )
+								.build();
+	}
+
+}
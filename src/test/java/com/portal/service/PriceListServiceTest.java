@@ -138,7 +138,7 @@ public class PriceListServiceTest {
 		@DisplayName("Salva um novo lista de preço duplicado com o mesmo nome. PRL-I5")
 		void givenDuplicatePriceList_whenSave_thenReturnError() throws Exception {
 			
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( PriceList.builder().id( 1 ).build() ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 
 			PriceList mock = new PriceList(null, "PriceList 1", LocalDateTime.of(2021, 12, 10, 00, 00, 00, 00), LocalDateTime.of(2021, 12, 31, 00, 00, 00, 00), channel, false);
 			
@@ -192,7 +192,7 @@ public class PriceListServiceTest {
 			PriceList duplicateModel = new PriceList(2, "PriceList 1", LocalDateTime.of(2021, 12, 10, 00, 00, 00, 00), LocalDateTime.of(2021, 12, 31, 00, 00, 00, 00), channel, false);
 			
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new PriceList() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateModel ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.update( mock, null ) );
 			assertEquals( "Já existe uma lista de preço com o mesmo nome.", e.getMessage());
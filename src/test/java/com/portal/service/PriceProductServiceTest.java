@@ -133,7 +133,7 @@ public class PriceProductServiceTest {
 			
 			when( priceListService.getById( any() ) ).thenReturn( Optional.of( priceListMock1 ) );
 			when( productModelService.getById( any() ) ).thenReturn( Optional.of( productModelMock1 ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateMock ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.save( mock, null ) );
 			assertEquals( "Já existe um preço definido para esse modelo na mesma lista.", e.getMessage());
@@ -188,7 +188,7 @@ public class PriceProductServiceTest {
 			when( priceListService.getById( any() ) ).thenReturn( Optional.of( priceListMock1 ) );
 			when( productModelService.getById( any() ) ).thenReturn( Optional.of( productModelMock1 ) );
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new PriceProduct() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateMock ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.update( mock, null ) );
 			assertEquals( "Já existe um preço definido para esse modelo na mesma lista.", e.getMessage());
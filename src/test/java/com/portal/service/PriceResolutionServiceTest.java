@@ -0,0 +1,99 @@
+package com.portal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.portal.dao.IPriceResolutionDAO;
+import com.portal.dto.form.ProductItemFormDTO;
+import com.portal.service.imp.PriceResolutionService;
+
+@ExtendWith(SpringExtension.class)
+class PriceResolutionServiceTest {
+
+	@Mock
+	IPriceResolutionDAO dao;
+
+	@InjectMocks
+	PriceResolutionService service;
+
+	@AfterEach
+	void tearDown() {
+		if( TransactionSynchronizationManager.isSynchronizationActive() ) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void givenItemModelChanged_whenTransactionCommits_thenReloadModelItems() throws Exception {
+		ProductItemFormDTO form = ProductItemFormDTO.builder().prlId( 1 ).mdlId( 10 ).year( 2022 ).build();
+
+		service.resolveItemModelPrices( form );
+		service.resolveItemModelPrices( form );
+		verify( dao, times( 1 ) ).listModelItems( 10 );
+
+		TransactionSynchronizationManager.initSynchronization();
+		service.evictModelItemsAfterCommit( 10 );
+		service.resolveItemModelPrices( form );
+		TransactionSynchronizationManager.getSynchronizations().forEach( sync -> sync.afterCompletion( TransactionSynchronization.STATUS_COMMITTED ) );
+		TransactionSynchronizationManager.clearSynchronization();
+
+		service.resolveItemModelPrices( form );
+		verify( dao, times( 3 ) ).listModelItems( 10 );
+		verify( dao, times( 1 ) ).listRules( 1 );
+	}
+
+	@Test
+	void givenEvictDuringLoad_whenLoadFinishes_thenDoNotKeepStaleList() throws Exception {
+		CountDownLatch loading = new CountDownLatch( 1 );
+		CountDownLatch release = new CountDownLatch( 1 );
+		when( dao.listRules( 1 ) ).thenAnswer( invocation -> {
+			loading.countDown();
+			release.await( 5, TimeUnit.SECONDS );
+			return new ArrayList<>();
+		} ).thenReturn( new ArrayList<>() );
+
+		ProductItemFormDTO form = ProductItemFormDTO.builder().prlId( 1 ).build();
+		CompletableFuture<Void> reader = CompletableFuture.runAsync( () -> {
+			try {
+				service.resolveItemPrices( form );
+			} catch( Exception e ) {
+				throw new IllegalStateException( e );
+			}
+		} );
+		assertTrue( loading.await( 5, TimeUnit.SECONDS ) );
+
+		Thread evict = new Thread( () -> service.evictAfterCommit( 1 ) );
+		evict.start();
+		// O descarte deve esperar a carga em andamento da mesma lista
+		long deadline = System.currentTimeMillis() + 5000;
+		while( evict.getState() != Thread.State.BLOCKED && evict.isAlive() && System.currentTimeMillis() < deadline ) {
+			Thread.sleep( 10 );
+		}
+		assertEquals( Thread.State.BLOCKED, evict.getState() );
+
+		release.countDown();
+		reader.get( 5, TimeUnit.SECONDS );
+		evict.join( 5000 );
+
+		service.resolveItemPrices( form );
+		verify( dao, times( 2 ) ).listRules( 1 );
+	}
+
+}
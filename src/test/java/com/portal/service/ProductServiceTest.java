@@ -120,7 +120,7 @@ public class ProductServiceTest {
 		@DisplayName("Salva um novo produto duplicado com o mesmo nome. PRD-I2")
 		void givenDuplicateProduct_whenSave_thenReturnError_PRDI2() throws Exception {
 			
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( Product.builder().id( 1 ).build() ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			Product model = Product.builder()
 								.name( "Product 1" )
@@ -184,7 +184,7 @@ public class ProductServiceTest {
 					.build();
 			
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new Product() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateModel ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.update( model, null ) );
 			assertEquals( "Já existe um produto com o mesmo nome.", e.getMessage());
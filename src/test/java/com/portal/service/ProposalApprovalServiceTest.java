@@ -0,0 +1,61 @@
+package com.portal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.portal.dto.ProposalApprovalListDTO;
+import com.portal.model.ProposalDetailVehicle;
+import com.portal.service.imp.ProposalApprovalService;
+
+@ExtendWith(SpringExtension.class)
+class ProposalApprovalServiceTest {
+
+	@Mock
+	IProposalDetailVehicleItemService proposalDetailVehicleItemService;
+
+	@InjectMocks
+	ProposalApprovalService service;
+
+	@Test
+	void givenThousandPendingApprovals_whenFillDiscount_thenSumItemsInOneQuery() throws Exception {
+		List<ProposalApprovalListDTO> list = new ArrayList<>();
+		Map<Integer, Double> itemDiscounts = new HashMap<>();
+
+		for( int i = 1; i <= 1000; i++ ) {
+			ProposalDetailVehicle detailVehicle = ProposalDetailVehicle.builder().id( i ).priceDiscountAmount( 10d ).productAmountDiscount( 5d ).build();
+			list.add( ProposalApprovalListDTO.builder().id( i ).num( (long) i ).proposalDetailVehicle( detailVehicle ).build() );
+
+			// Metade dos veículos sem itens
+			if( i % 2 == 0 ) {
+				itemDiscounts.put( i, 2.5d );
+			}
+		}
+
+		when( proposalDetailVehicleItemService.sumDiscountByDetailVehicle( argThat( ids -> ids.size() == 1000 ) ) ).thenReturn( itemDiscounts );
+
+		service.fillDiscount( list );
+
+		verify( proposalDetailVehicleItemService, times( 1 ) ).sumDiscountByDetailVehicle( any() );
+		verify( proposalDetailVehicleItemService, never() ).search( any() );
+
+		assertEquals( 15d, list.get( 0 ).getDiscount() );
+		assertEquals( 17.5d, list.get( 1 ).getDiscount() );
+	}
+
+}
@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
@@ -40,6 +41,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.impl.ProposalDetailDAO;
+import com.portal.enums.FetchPlan;
 import com.portal.enums.PersonClassification;
 import com.portal.enums.ProposalRisk;
 import com.portal.enums.ProposalState;
@@ -125,7 +127,7 @@ public class ProposalDetailServiceTest {
             ProposalDetail mock = new ProposalDetail(1, proposalMock1, sellerMock, null, null, null, null, null, null, null);
 
             when(dao.find(any(), any())).thenReturn(null);
-            when(sellerService.getById(anyInt())).thenReturn(Optional.of(sellerMock));
+            when(sellerService.getById(anyInt(), eq(FetchPlan.ID_ONLY))).thenReturn(Optional.of(sellerMock));
             when(proposalService.getById(anyInt())).thenReturn(Optional.of(proposalMock1));
             when(dao.save(any())).thenReturn(Optional.of(mock));
 
@@ -158,7 +160,7 @@ public class ProposalDetailServiceTest {
 
             when(dao.find(any(), any())).thenReturn(null);
             when(proposalService.getById(anyInt())).thenReturn(Optional.of(proposalMock1));
-            when(sellerService.getById(anyInt())).thenReturn(Optional.of(sellerMock), Optional.of(internSellerMock));
+            when(sellerService.getById(anyInt(), eq(FetchPlan.ID_ONLY))).thenReturn(Optional.of(sellerMock), Optional.of(internSellerMock));
             when(dao.save(any())).thenReturn(Optional.of(mock));
 
             Optional<ProposalDetail> entityDB = service.save(model, null);
@@ -191,7 +193,7 @@ public class ProposalDetailServiceTest {
             ProposalDetail mock = new ProposalDetail(null, proposalMock1, sellerMock, null, null, null, null, null, null, null);
             ProposalDetail mockDuplicate = new ProposalDetail(2, proposalMock1, sellerMock, null, null, null, null, null, null, null);
 
-            when(dao.find(any(), any())).thenReturn(Arrays.asList(mockDuplicate));
+            when(dao.hasDuplicate(any())).thenReturn(true);
 
             BusException e = assertThrows(BusException.class, () -> service.save(mock, null));
             assertEquals("Já existe um detalhe para essa proposta.", e.getMessage());
@@ -204,7 +206,7 @@ public class ProposalDetailServiceTest {
 
             when(dao.find(any(), any())).thenReturn(null);
             when(proposalService.getById(anyInt())).thenReturn(Optional.of(proposalMock1));
-            when(sellerService.getById(anyInt())).thenReturn(Optional.empty(), Optional.of(internSellerMock));
+            when(sellerService.getById(anyInt(), eq(FetchPlan.ID_ONLY))).thenReturn(Optional.empty(), Optional.of(internSellerMock));
             when(dao.save(any())).thenReturn(Optional.of(mock));
 
             BusException e = assertThrows(BusException.class, () -> service.save(mock, null));
@@ -218,7 +220,7 @@ public class ProposalDetailServiceTest {
 
             when(dao.find(any(), any())).thenReturn(null);
             when(proposalService.getById(anyInt())).thenReturn(Optional.empty());
-            when(sellerService.getById(anyInt())).thenReturn(Optional.of(sellerMock));
+            when(sellerService.getById(anyInt(), eq(FetchPlan.ID_ONLY))).thenReturn(Optional.of(sellerMock));
             when(dao.save(any())).thenReturn(Optional.of(mock));
 
             BusException e = assertThrows(BusException.class, () -> service.save(mock, null));
@@ -232,7 +234,7 @@ public class ProposalDetailServiceTest {
 
             when(dao.find(any(), any())).thenReturn(null);
             when(proposalService.getById(anyInt())).thenReturn(Optional.of(proposalMock1));
-            when(sellerService.getById(anyInt())).thenReturn(Optional.of(sellerMock), Optional.empty());
+            when(sellerService.getById(anyInt(), eq(FetchPlan.ID_ONLY))).thenReturn(Optional.of(sellerMock), Optional.empty());
 
             BusException e = assertThrows(BusException.class, () -> service.save(mock, null));
             assertEquals("Não é possível salvar o detalhe da proposta com um vendedor interno não existente.", e.getMessage());
@@ -262,7 +264,7 @@ public class ProposalDetailServiceTest {
             when(dao.getById(any())).thenReturn(Optional.of(model));
             when(dao.find(any(), any())).thenReturn(null);
             when(proposalService.getById(anyInt())).thenReturn(Optional.of(proposalMock1));
-            when(sellerService.getById(anyInt())).thenReturn(Optional.of(sellerMock));
+            when(sellerService.getById(anyInt(), eq(FetchPlan.ID_ONLY))).thenReturn(Optional.of(sellerMock));
             when(dao.update(any())).thenReturn(Optional.of(mock));
 
             Optional<ProposalDetail> entityDB = service.update(model, null);
@@ -291,7 +293,7 @@ public class ProposalDetailServiceTest {
             when(dao.getById(any())).thenReturn(Optional.of(model));
             when(dao.find(any(), any())).thenReturn(null);
             when(proposalService.getById(anyInt())).thenReturn(Optional.of(proposalMock1));
-            when(sellerService.getById(anyInt())).thenReturn(Optional.of(sellerMock), Optional.of(internSellerMock));
+            when(sellerService.getById(anyInt(), eq(FetchPlan.ID_ONLY))).thenReturn(Optional.of(sellerMock), Optional.of(internSellerMock));
             when(dao.update(any())).thenReturn(Optional.of(mock));
 
             Optional<ProposalDetail> entityDB = service.update(model, null);
@@ -325,7 +327,7 @@ public class ProposalDetailServiceTest {
             ProposalDetail mockDuplicate = new ProposalDetail(2, proposalMock1, sellerMock, null, null, null, null, null, null, null);
 
             when(dao.getById(any())).thenReturn(Optional.of(mock));
-            when(dao.find(any(), any())).thenReturn(Arrays.asList(mockDuplicate));
+            when(dao.hasDuplicate(any())).thenReturn(true);
 
             BusException e = assertThrows(BusException.class, () -> service.update(mock, null));
             assertEquals("Já existe um detalhe para essa proposta.", e.getMessage());
@@ -353,7 +355,7 @@ public class ProposalDetailServiceTest {
             when(dao.getById(any())).thenReturn(Optional.of(mock));
             when(dao.find(any(), any())).thenReturn(null);
             when(proposalService.getById(anyInt())).thenReturn(Optional.empty());
-            when(sellerService.getById(anyInt())).thenReturn(Optional.of(sellerMock));
+            when(sellerService.getById(anyInt(), eq(FetchPlan.ID_ONLY))).thenReturn(Optional.of(sellerMock));
 
             BusException e = assertThrows(BusException.class, () -> service.update(mock, null));
             assertEquals("Não é possível salvar o detalhe da proposta com uma proposta não existente.", e.getMessage());
@@ -367,7 +369,7 @@ public class ProposalDetailServiceTest {
             when(dao.getById(any())).thenReturn(Optional.of(mock));
             when(dao.find(any(), any())).thenReturn(null);
             when(proposalService.getById(anyInt())).thenReturn(Optional.of(proposalMock1));
-            when(sellerService.getById(anyInt())).thenReturn(Optional.of(sellerMock), Optional.empty());
+            when(sellerService.getById(anyInt(), eq(FetchPlan.ID_ONLY))).thenReturn(Optional.of(sellerMock), Optional.empty());
 
             BusException e = assertThrows(BusException.class, () -> service.save(mock, null));
             assertEquals("Não é possível salvar o detalhe da proposta com um vendedor interno não existente.", e.getMessage());
@@ -381,7 +383,7 @@ public class ProposalDetailServiceTest {
             when(dao.getById(any())).thenReturn(Optional.of(mock));
             when(dao.find(any(), any())).thenReturn(null);
             when(proposalService.getById(anyInt())).thenReturn(Optional.of(proposalMock1));
-            when(sellerService.getById(anyInt())).thenReturn(Optional.of(sellerMock));
+            when(sellerService.getById(anyInt(), eq(FetchPlan.ID_ONLY))).thenReturn(Optional.of(sellerMock));
             when(dao.getById(any())).thenReturn(Optional.empty());
 
             BusException e = assertThrows(BusException.class, () -> service.update(mock, null));
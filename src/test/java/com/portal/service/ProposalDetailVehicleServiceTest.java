@@ -174,7 +174,7 @@ public class ProposalDetailVehicleServiceTest {
         void givenDuplicateProposalDetailVehicle_whenSave_thenReturnError() throws Exception {
             ProposalDetailVehicle mockDuplicate = new ProposalDetailVehicle(2, proposalDetailMock1, productPriceMock1, null, null, null, null, 1d, 2d, 3d, 4d, 5d, 6d, 7d, 8d, 9d, 10d, 11d, 30, 40, null);
 
-            when(dao.find(any(), any())).thenReturn(Arrays.asList(mockDuplicate));
+            when(dao.hasDuplicate(any())).thenReturn(true);
 
             BusException e = assertThrows(BusException.class, () -> service.save(new ProposalDetailVehicle(), null));
             assertEquals("Já existe um veículo para essa proposta.", e.getMessage());
@@ -265,7 +265,7 @@ public class ProposalDetailVehicleServiceTest {
             ProposalDetailVehicle mockDuplicate = new ProposalDetailVehicle(2, proposalDetailMock1, productPriceMock1, null, null, null, null, 1d, 2d, 3d, 4d, 5d, 6d, 7d, 8d, 9d, 10d, 11d, 30, 40, null);
 
             when(dao.getById(any())).thenReturn(Optional.of(new ProposalDetailVehicle()));
-            when(dao.find(any(), any())).thenReturn(Arrays.asList(mockDuplicate));
+            when(dao.hasDuplicate(any())).thenReturn(true);
 
             BusException e = assertThrows(BusException.class, () -> service.update(new ProposalDetailVehicle(), null));
             assertEquals("Já existe um veículo para essa proposta.", e.getMessage());
@@ -3,18 +3,25 @@ package com.portal.service;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import javax.validation.ConstraintViolation;
@@ -33,18 +40,34 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.context.MessageSource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portal.dao.impl.ProposalDAO;
+import com.portal.dto.ProposalDTO;
 import com.portal.enums.ProposalRisk;
 import com.portal.enums.ProposalState;
+import com.portal.exceptions.AppException;
 import com.portal.exceptions.BusException;
 import com.portal.model.Lead;
 import com.portal.model.Proposal;
+import com.portal.model.ProposalDetail;
+import com.portal.model.ProposalDetailVehicle;
+import com.portal.model.ProposalDetailVehicleItem;
+import com.portal.model.ProposalPayment;
+import com.portal.model.ProposalPerson;
 import com.portal.service.imp.AuditService;
 import com.portal.service.imp.LeadService;
 import com.portal.service.imp.ProposalService;
@@ -78,6 +101,30 @@ public class ProposalServiceTest {
     @Mock
     private IProposalDetailService proposalDetailService;
 
+    @Mock
+    private IProposalDetailVehicleService proposalDetailVehicleService;
+
+    @Mock
+    private IProposalDetailVehicleItemService proposalDetailVehicleItemService;
+
+    @Mock
+    private IProposalPaymentService proposalPaymentService;
+
+    @Mock
+    private IProposalCommissionService proposalCommissionService;
+
+    @Mock
+    private IProposalDocumentService proposalDocumentService;
+
+    @Mock
+    private IProposalFollowUp proposalFollowUpService;
+
+    @Mock
+    private ISalesOrderService salesOrderService;
+
+    @Mock
+    private IParameterService parameterService;
+
 //	@Spy
 //	ProposalStateBuilder buyilder;
 
@@ -162,7 +209,7 @@ public class ProposalServiceTest {
         void givenDuplicateProposal_whenSave_thenReturnError() throws Exception {
             Proposal mock = new Proposal(null, 1l, "B12208A", "A", null, LocalDateTime.of(2021, 12, 15, 00, 00, 00, 00), LocalDateTime.of(2022, 03, 25, 00, 00, 00, 00), ProposalState.IN_PROGRESS, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, ProposalRisk.NORMAL, null, false, null, null);
 
-            when(dao.find(any(), any())).thenReturn(Arrays.asList(Proposal.builder().id(2).build()));
+            when(dao.hasDuplicate(any())).thenReturn(true);
 
             BusException e = assertThrows(BusException.class, () -> service.save(mock, null));
             assertEquals("Já existe uma proposta com a mesma versão. Versão: " + mock.getVerion(), e.getMessage());
@@ -248,7 +295,7 @@ public class ProposalServiceTest {
             Proposal mock = new Proposal(1, 1l, "B12208A", "A", null, LocalDateTime.of(2021, 12, 15, 00, 00, 00, 00), LocalDateTime.of(2022, 03, 25, 00, 00, 00, 00), ProposalState.IN_PROGRESS, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, ProposalRisk.NORMAL, null, false, null, null);
 
             when(dao.getById(any())).thenReturn(Optional.of(new Proposal()));
-            when(dao.find(any(), any())).thenReturn(Arrays.asList(Proposal.builder().id(2).num(1l).cod("A").build()));
+            when(dao.hasDuplicate(any())).thenReturn(true);
 
             BusException e = assertThrows(BusException.class, () -> service.update(mock, null));
             assertEquals("Já existe uma proposta com a mesma versão. Versão: " + mock.getVerion(), e.getMessage());
@@ -340,6 +387,163 @@ public class ProposalServiceTest {
         }
     }
 
+    @Nested
+    class GetAllProposalId {
+        @Test
+        @DisplayName("Dada uma proposta quando carregar as coleções em paralelo retornar a proposta completa")
+        void givenProposal_whenGetAllProposalId_thenStitchChildCollections() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            ReflectionTestUtils.setField(service, "proposalLoaderExecutor", executor);
+
+            try {
+                ProposalDetail detail = ProposalDetail.builder().id(10).build();
+                ProposalDetailVehicle detailVehicle = ProposalDetailVehicle.builder().id(20).build();
+
+                AtomicReference<Thread> proposalThread = new AtomicReference<>();
+                when(dao.getById(any())).thenAnswer(invocation -> {
+                    proposalThread.set(Thread.currentThread());
+                    return Optional.of(Proposal.builder().id(1).createDate(LocalDateTime.of(2022, 1, 10, 10, 0)).build());
+                });
+                when(parameterService.getIntValueOf(any())).thenReturn(30);
+                when(proposalDetailService.getDetailByProposal(any())).thenReturn(detail);
+                when(proposalDetailVehicleService.getDetailVehicleByDetail(argThat(model -> model != null && model.getProposalDetail() == detail))).thenReturn(detailVehicle);
+                when(proposalDetailVehicleItemService.find(argThat(model -> model != null && model.getProposalDetailVehicle() == detailVehicle), any())).thenReturn(Arrays.asList(new ProposalDetailVehicleItem()));
+                when(proposalPaymentService.find(argThat(model -> model != null && model.getProposalDetail() == detail), any())).thenReturn(Arrays.asList(new ProposalPayment(), new ProposalPayment()));
+                when(proposalCommissionService.find(any(), any())).thenReturn(Collections.emptyList());
+                when(proposalPersonClientService.findByProposal(1)).thenReturn(Arrays.asList(new ProposalPerson()));
+                when(proposalDocumentService.findByProposal(1)).thenReturn(Collections.emptyList());
+                when(proposalFollowUpService.search(any())).thenReturn(Collections.emptyList());
+                when(salesOrderService.findByProposal(1)).thenReturn(Optional.empty());
+
+                Proposal proposal = service.getAllProposalId(1).get();
+
+                assertEquals(detail, proposal.getProposalDetail());
+                assertEquals(detailVehicle, proposal.getProposalDetailVehicle());
+                assertEquals(1, proposal.getProposalDetailVehicleItem().size());
+                assertEquals(2, proposal.getProposalPayment().size());
+                assertEquals(1, proposal.getPersonList().size());
+                assertEquals(LocalDateTime.of(2022, 2, 9, 0, 0), proposal.getValidityDate());
+                assertNull(proposal.getSalesOrder());
+                // Sem transação a thread da requisição não faz consulta e não segura conexão enquanto espera
+                assertNotEquals(Thread.currentThread(), proposalThread.get());
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Dado um erro em uma das consultas quando carregar a proposta retornar erro")
+        void givenChildLoadError_whenGetAllProposalId_thenThrowAppException() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            ReflectionTestUtils.setField(service, "proposalLoaderExecutor", executor);
+
+            try {
+                when(dao.getById(any())).thenReturn(Optional.of(Proposal.builder().id(1).createDate(LocalDateTime.of(2022, 1, 10, 10, 0)).build()));
+                when(parameterService.getIntValueOf(any())).thenReturn(30);
+                when(proposalDetailService.getDetailByProposal(any())).thenThrow(new AppException("erro"));
+
+                assertThrows(AppException.class, () -> service.getAllProposalId(1));
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Nested
+    class GetProposal {
+        @Test
+        @DisplayName("Dada a leitura pela tela quando carregar a proposta pelo proxy então consultar no executor")
+        void givenNoCallerTransaction_whenGetProposalThroughProxy_thenLoadOnExecutor() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            ReflectionTestUtils.setField(service, "proposalLoaderExecutor", executor);
+
+            try {
+                AtomicReference<Thread> proposalThread = this.stubProposal();
+
+                ProposalDTO dto = this.transactionalProxy(new NoOpTransactionManager()).getProposal(1);
+
+                assertEquals(1, dto.getProposal().getId());
+                assertNotEquals(Thread.currentThread(), proposalThread.get());
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Dada uma transação aberta pelo chamador quando carregar a proposta então consultar na thread atual")
+        void givenCallerTransaction_whenGetProposalThroughProxy_thenLoadOnCurrentThread() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            ReflectionTestUtils.setField(service, "proposalLoaderExecutor", executor);
+
+            try {
+                AtomicReference<Thread> proposalThread = this.stubProposal();
+                NoOpTransactionManager transactionManager = new NoOpTransactionManager();
+                IProposalService proxy = this.transactionalProxy(transactionManager);
+
+                new TransactionTemplate(transactionManager).execute(status -> {
+                    try {
+                        return proxy.getProposal(1);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+
+                assertEquals(Thread.currentThread(), proposalThread.get());
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        private AtomicReference<Thread> stubProposal() throws Exception {
+            AtomicReference<Thread> proposalThread = new AtomicReference<>();
+            when(dao.getById(any())).thenAnswer(invocation -> {
+                proposalThread.set(Thread.currentThread());
+                return Optional.of(Proposal.builder().id(1).createDate(LocalDateTime.of(2022, 1, 10, 10, 0)).build());
+            });
+            when(parameterService.getIntValueOf(any())).thenReturn(30);
+            when(salesOrderService.findByProposal(1)).thenReturn(Optional.empty());
+            return proposalThread;
+        }
+
+        /**
+         * Aplica as anotações @Transactional do ProposalService como o Spring faz em produção.
+         */
+        private IProposalService transactionalProxy(NoOpTransactionManager transactionManager) {
+            ProxyFactory factory = new ProxyFactory(service);
+            factory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+            return (IProposalService) factory.getProxy();
+        }
+    }
+
+    /**
+     * Gerenciador de transação sem banco: marca a transação como ativa como o DataSourceTransactionManager.
+     */
+    @SuppressWarnings("serial")
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return TransactionSynchronizationManager.isActualTransactionActive();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
     @SuppressWarnings("unused")
     private static Stream<Arguments> whenListAllthenReturnEntityList() {
         return Stream.of(
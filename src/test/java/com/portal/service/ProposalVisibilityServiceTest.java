@@ -0,0 +1,116 @@
+package com.portal.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.portal.dao.impl.SellerAgentDAO;
+import com.portal.dao.impl.SellerDAO;
+import com.portal.dao.impl.SellerSalesTeamDAO;
+import com.portal.dto.ProposalSearchRulesDTO;
+import com.portal.dto.UserProfileDTO;
+import com.portal.exceptions.AppException;
+import com.portal.model.AccessListModel;
+import com.portal.model.CheckpointModel;
+import com.portal.model.Seller;
+import com.portal.model.UserModel;
+import com.portal.service.imp.ProposalVisibilityService;
+
+@ExtendWith(SpringExtension.class)
+class ProposalVisibilityServiceTest {
+
+	@Mock
+	SellerDAO sellerDao;
+
+	@Mock
+	SellerAgentDAO sellerAgentDao;
+
+	@Mock
+	SellerSalesTeamDAO sellerSalesTeamDao;
+
+	@Spy
+	ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager( ProposalVisibilityService.CACHE_NAME );
+
+	@InjectMocks
+	ProposalVisibilityService service;
+
+	@BeforeEach
+	void setup() throws AppException {
+		Seller seller = new Seller();
+		seller.setId( 10 );
+
+		when( sellerDao.getByUser( any() ) ).thenReturn( Optional.of( seller ) );
+		when( sellerAgentDao.listSellerIdByAgent( 10 ) ).thenReturn( Arrays.asList( 20, 21 ) );
+		when( sellerAgentDao.listAgentIdBySeller( 10 ) ).thenReturn( Arrays.asList( 30 ) );
+		when( sellerSalesTeamDao.listTeamSellerIdBySeller( 10 ) ).thenReturn( Arrays.asList( 10, 40 ) );
+	}
+
+	@Test
+	void givenViewAll_whenGetSearchRules_thenSkipSellerLookup() throws AppException {
+		ProposalSearchRulesDTO rules = service.getSearchRules( profile( "PROPOSAL.VIEW.ALL" ) );
+
+		assertTrue( rules.isProposalViewAll() );
+		assertTrue( rules.getVisibleSellerIds().isEmpty() );
+		verify( sellerDao, never() ).getByUser( any() );
+	}
+
+	@Test
+	void givenPrepostoAndTeam_whenGetSearchRules_thenMergeVisibleSellers() throws AppException {
+		ProposalSearchRulesDTO rules = service.getSearchRules( profile( "PROPOSAL.VIEW.PREPOSTO", "PROPOSAL.VIEW.TEAM" ) );
+
+		assertFalse( rules.isProposalViewAll() );
+		assertFalse( rules.isProposalViewOwner() );
+		assertThat( rules.getVisibleSellerIds(), containsInAnyOrder( 20, 21, 10, 40 ) );
+	}
+
+	@Test
+	void givenCachedRelations_whenEvictAll_thenReload() throws AppException {
+		UserProfileDTO profile = profile( "PROPOSAL.VIEW.OWNER" );
+
+		assertThat( service.getSearchRules( profile ).getVisibleSellerIds(), containsInAnyOrder( 30 ) );
+		service.getSearchRules( profile );
+		verify( sellerDao, times( 1 ) ).getByUser( any() );
+
+		service.evictAll();
+		service.getSearchRules( profile );
+		verify( sellerDao, times( 2 ) ).getByUser( any() );
+	}
+
+	private UserProfileDTO profile( String... checkpoints ) {
+		List<CheckpointModel> list = new ArrayList<>();
+		for( String name : checkpoints ) {
+			CheckpointModel checkpoint = new CheckpointModel();
+			checkpoint.setName( name );
+			list.add( checkpoint );
+		}
+
+		AccessListModel accessList = new AccessListModel();
+		accessList.setCheckpoints( list );
+
+		UserModel user = new UserModel( 1 );
+		user.setAccessList( accessList );
+
+		return new UserProfileDTO( user );
+	}
+
+}
@@ -0,0 +1,159 @@
+package com.portal.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.portal.exceptions.AppException;
+import com.portal.service.imp.ReportCacheService;
+import com.portal.service.imp.ReportService;
+import com.sun.net.httpserver.HttpServer;
+
+class ReportServiceTest {
+
+	private static final byte[] PDF = "%PDF-1.4 relatorio".getBytes( StandardCharsets.UTF_8 );
+
+	@TempDir
+	Path dir;
+
+	private HttpServer jasper;
+
+	private final AtomicReference<String> lastQuery = new AtomicReference<>();
+
+	@BeforeEach
+	void setup() throws Exception {
+		jasper = HttpServer.create( new InetSocketAddress( "127.0.0.1", 0 ), 0 );
+		jasper.createContext( "/jasperserver/rest_v2/reports", exchange -> {
+			lastQuery.set( exchange.getRequestURI().getQuery() );
+			int status = exchange.getRequestURI().getPath().endsWith( "erro.pdf" ) ? 500 : 200;
+			exchange.getResponseHeaders().add( "Content-Type", "application/pdf" );
+			exchange.sendResponseHeaders( status, PDF.length );
+			try( OutputStream body = exchange.getResponseBody() ) {
+				body.write( PDF );
+			}
+		} );
+		jasper.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		jasper.stop( 0 );
+	}
+
+	@Test
+	void givenJasperReport_whenWriteReport_thenStreamBodyToOutput() throws Exception {
+		ReportService service = this.reportService();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		service.writeReport( this.jasperUrl(), "/proposta/proposta.pdf", "user", "pass", "nr_proposta=10", output );
+
+		assertArrayEquals( PDF, output.toByteArray() );
+		assertEquals( "j_username=user&j_password=pass&nr_proposta=10", lastQuery.get() );
+	}
+
+	@Test
+	void givenJasperError_whenWriteReport_thenThrowAppException() throws Exception {
+		ReportService service = this.reportService();
+
+		assertThrows( AppException.class, () -> service.writeReport( this.jasperUrl(), "/proposta/erro.pdf", "user", "pass", "", new ByteArrayOutputStream() ) );
+	}
+
+	@Test
+	void givenCachedReport_whenGetOrCreate_thenNotCallWriterAgain() throws Exception {
+		ReportCacheService cache = this.cacheService( 512 );
+		ReportService service = this.reportService();
+		AtomicInteger calls = new AtomicInteger();
+
+		IReportCacheService.ReportWriter writer = output -> {
+			calls.incrementAndGet();
+			service.writeReport( this.jasperUrl(), "/proposta/proposta.pdf", "user", "pass", "nr_proposta=10", output );
+		};
+
+		Path first = cache.getOrCreate( "P-10", "chave|2022-01-01T10:00", writer );
+		Path second = cache.getOrCreate( "P-10", "chave|2022-01-01T10:00", writer );
+
+		assertEquals( first, second );
+		assertEquals( 1, calls.get() );
+		assertArrayEquals( PDF, Files.readAllBytes( first ) );
+
+		// Proposta alterada: nova data de alteração gera outra chave
+		cache.getOrCreate( "P-10", "chave|2022-01-02T10:00", writer );
+		assertEquals( 2, calls.get() );
+	}
+
+	@Test
+	void givenGroup_whenEvict_thenRemoveOnlyGroupFiles() throws Exception {
+		ReportCacheService cache = this.cacheService( 512 );
+
+		Path proposal = cache.getOrCreate( "P-10", "a", output -> output.write( PDF ) );
+		Path other = cache.getOrCreate( "P-100", "a", output -> output.write( PDF ) );
+
+		cache.evict( "P-10" );
+
+		assertFalse( Files.exists( proposal ) );
+		assertTrue( Files.exists( other ) );
+	}
+
+	@Test
+	void givenMaxSize_whenCacheFull_thenEvictLeastRecentlyUsed() throws Exception {
+		ReportCacheService cache = this.cacheService( 1 );
+		byte[] half = new byte[ 600 * 1024 ];
+
+		Path first = cache.getOrCreate( "P-1", "a", output -> output.write( half ) );
+		Path second = cache.getOrCreate( "P-2", "a", output -> output.write( half ) );
+
+		assertFalse( Files.exists( first ) );
+		assertTrue( Files.exists( second ) );
+	}
+
+	@Test
+	void givenWriterError_whenGetOrCreate_thenNotKeepPartialFile() throws Exception {
+		ReportCacheService cache = this.cacheService( 512 );
+
+		assertThrows( AppException.class, () -> cache.getOrCreate( "P-10", "a", output -> {
+			output.write( PDF );
+			throw new IllegalStateException( "falha" );
+		} ) );
+
+		try( java.util.stream.Stream<Path> files = Files.list( dir ) ) {
+			assertEquals( 0, files.count() );
+		}
+	}
+
+	private String jasperUrl() {
+		return "http://127.0.0.1:" + jasper.getAddress().getPort() + "/jasperserver";
+	}
+
+	private ReportService reportService() {
+		ReportService service = new ReportService();
+		ReflectionTestUtils.setField( service, "jasperRestTemplate", new RestTemplate() );
+		return service;
+	}
+
+	private ReportCacheService cacheService( long maxSizeMb ) throws Exception {
+		ReportCacheService cache = new ReportCacheService();
+		ReflectionTestUtils.setField( cache, "location", dir.toString() );
+		ReflectionTestUtils.setField( cache, "maxSizeMb", maxSizeMb );
+		cache.initialize();
+		return cache;
+	}
+
+}
@@ -0,0 +1,98 @@
+package com.portal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.portal.dao.ISellerDAO;
+import com.portal.enums.FetchPlan;
+import com.portal.model.Job;
+import com.portal.model.Person;
+import com.portal.model.Seller;
+import com.portal.service.imp.SellerService;
+
+@ExtendWith(SpringExtension.class)
+class SellerServiceTest {
+
+	@Mock
+	ISellerDAO dao;
+
+	@Mock
+	IPersonService personService;
+
+	@Mock
+	ISellerSalesTeamService salesTeamSellerService;
+
+	@Mock
+	ISellerPartnerService sellerPartnerService;
+
+	@Mock
+	ISellerAgentService sellerAgentService;
+
+	@InjectMocks
+	SellerService service;
+
+	@Test
+	void givenIdOnlyPlan_whenGetByUser_thenIssueOneQueryWithoutJoins() throws Exception {
+		when( dao.getReferenceByUser( 1 ) ).thenReturn( Optional.of( this.seller() ) );
+
+		Optional<Seller> seller = service.getByUser( 1, FetchPlan.ID_ONLY );
+
+		assertEquals( 7, seller.get().getJob().getId() );
+		verify( dao ).getReferenceByUser( 1 );
+		assertEquals( 1, this.queryCount() );
+	}
+
+	@Test
+	void givenIdOnlyPlan_whenGetById_thenIssueOneQueryWithoutJoins() throws Exception {
+		when( dao.getReferenceById( 1 ) ).thenReturn( Optional.of( this.seller() ) );
+
+		assertTrue( service.getById( 1, FetchPlan.ID_ONLY ).isPresent() );
+		verify( dao ).getReferenceById( 1 );
+		assertEquals( 1, this.queryCount() );
+	}
+
+	@Test
+	void givenSummaryPlan_whenGetById_thenSkipChildCollections() throws Exception {
+		when( dao.getById( 1 ) ).thenReturn( Optional.of( this.seller() ) );
+
+		assertTrue( service.getById( 1, FetchPlan.SUMMARY ).isPresent() );
+		verify( dao ).getById( 1 );
+		assertEquals( 1, this.queryCount() );
+	}
+
+	@Test
+	void givenDefaultPlan_whenGetById_thenLoadFullGraph() throws Exception {
+		when( dao.getById( 1 ) ).thenReturn( Optional.of( this.seller() ) );
+		when( personService.getById( anyInt() ) ).thenReturn( Optional.of( new Person( 2 ) ) );
+
+		assertTrue( service.getById( 1 ).isPresent() );
+		assertEquals( 5, this.queryCount() );
+	}
+
+	private Seller seller() {
+		return Seller.builder().id( 1 ).person( new Person( 2 ) ).job( Job.builder().id( 7 ).build() ).build();
+	}
+
+	/**
+	 * Cada chamada aos DAOs e serviços de relacionamento corresponde a uma ida ao banco.
+	 */
+	private int queryCount() {
+		return Arrays.asList( dao, personService, salesTeamSellerService, sellerPartnerService, sellerAgentService ).stream()
+				.mapToInt( mock -> mockingDetails( mock ).getInvocations().size() )
+				.sum();
+	}
+
+}
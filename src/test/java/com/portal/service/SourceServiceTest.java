@@ -130,7 +130,7 @@ public class SourceServiceTest {
 									.build();
 			
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new Source() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateModel ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.save( mock, null ) );
 			assertEquals( "Já existe uma fonte com o mesmo nome.", e.getMessage());
@@ -191,7 +191,7 @@ public class SourceServiceTest {
 										.build();
 			
 			when( dao.getById( any() ) ).thenReturn( Optional.ofNullable( new Source() ) );
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( duplicateModel ) );
+			when( dao.hasDuplicate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.update( mock, null ) );
 			assertEquals( "Já existe uma fonte com o mesmo nome.", e.getMessage());
@@ -0,0 +1,93 @@
+package com.portal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.portal.dto.UserProfileDTO;
+import com.portal.exceptions.AppException;
+import com.portal.exceptions.BusException;
+import com.portal.model.UserModel;
+import com.portal.service.imp.UserProfileCacheService;
+import com.portal.service.imp.UserService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(SpringExtension.class)
+class UserProfileCacheServiceTest {
+
+	@Mock
+	UserService userService;
+
+	@Spy
+	ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager( UserProfileCacheService.CACHE_NAME );
+
+	@Spy
+	SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@InjectMocks
+	UserProfileCacheService service;
+
+	@BeforeEach
+	void setup() throws AppException, BusException {
+		ReflectionTestUtils.invokeMethod( service, "initialize" );
+
+		UserModel user = new UserModel( 1 );
+		user.setUsername( "admin" );
+
+		when( userService.findByUsername( any() ) ).thenReturn( Optional.of( user ) );
+		when( userService.getById( any() ) ).thenReturn( Optional.of( user ) );
+	}
+
+	@Test
+	void givenSameToken_whenGetProfileTwice_thenLoadOnce() throws AppException, BusException {
+		Date created = new Date();
+
+		Optional<UserProfileDTO> first = service.getProfile( "admin", created );
+		Optional<UserProfileDTO> second = service.getProfile( "admin", created );
+
+		assertTrue( first.isPresent() );
+		assertEquals( first.get(), second.get() );
+		verify( userService, times( 1 ) ).getById( any() );
+		assertEquals( 0.5, meterRegistry.get( "portal.userprofile.cache.hit.ratio" ).gauge().value() );
+	}
+
+	@Test
+	void givenNewToken_whenGetProfile_thenReload() throws AppException, BusException {
+		service.getProfile( "admin", new Date( 1000 ) );
+		service.getProfile( "admin", new Date( 2000 ) );
+
+		verify( userService, times( 2 ) ).getById( any() );
+	}
+
+	@Test
+	void givenEvictedUser_whenGetProfile_thenReload() throws AppException, BusException {
+		Date created = new Date();
+
+		service.getProfile( "admin", created );
+		service.evict( "admin" );
+		service.getProfile( "admin", created );
+
+		service.evictAll();
+		service.getProfile( "admin", created );
+
+		verify( userService, times( 3 ) ).getById( any() );
+	}
+
+}
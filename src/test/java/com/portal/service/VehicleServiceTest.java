@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
@@ -73,6 +74,9 @@ public class VehicleServiceTest {
 	@Mock
 	MessageSource messageSource;
 	
+	@Mock
+	IProposalService proposalService;
+	
 	@Spy
 	VehicleService serviceInternal;
 
@@ -140,7 +144,7 @@ public class VehicleServiceTest {
 			VehicleModel mockDuplicate = new VehicleModel(2, "111111111111112", "aaa12345", modelMock, null,2021,  LocalDate.of(2019, 10, 10), 10000d, null, null);
 
 			
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( mockDuplicate ) );
+			when( dao.hasDuplicatePlate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.save( new VehicleModel(), null ) );
 			assertEquals( "Já existe um veículo com a mesma placa.", e.getMessage() );
@@ -190,6 +194,7 @@ public class VehicleServiceTest {
 			
 			Optional<VehicleModel> entityDB = service.update( model, null );
 			
+			verify( proposalService ).evictReportCacheByVehicle( 1 );
 			assertNotNull( entityDB );
 			assertTrue( entityDB.isPresent() );
 			assertEquals( mock, entityDB.get() );
@@ -210,7 +215,7 @@ public class VehicleServiceTest {
 			VehicleModel mockDuplicate = new VehicleModel(2, "111111111111112", "aaa12345", modelMock, null,2021,  LocalDate.of(2019, 10, 10), 10000d, null, null);
 
 			
-			when( dao.find( any(), any() ) ).thenReturn( Arrays.asList( mockDuplicate ) );
+			when( dao.hasDuplicatePlate( any() ) ).thenReturn( true );
 			
 			BusException e = assertThrows( BusException.class, ()->service.update( new VehicleModel(), null ) );
 			assertEquals( "Já existe um veículo com a mesma placa.", e.getMessage() );
@@ -0,0 +1,74 @@
+package com.portal.states;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.transition.TransitionKind;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.portal.enums.LeadEvents;
+import com.portal.enums.LeadState;
+import com.portal.exceptions.BusException;
+import com.portal.exceptions.StateWorkflowException;
+import com.portal.model.Lead;
+import com.portal.service.imp.LeadService;
+import com.portal.utils.LeadStateBuilder;
+import com.portal.utils.StateTransitionTable;
+
+@ExtendWith(SpringExtension.class)
+class StateTransitionTableTest {
+
+	@Mock
+	LeadService leadService;
+
+	@InjectMocks
+	LeadStateBuilder leadBuilder;
+
+	@Test
+	@DisplayName("Dada a máquina do lead, a tabela contém as mesmas transições")
+	void givenLeadMachine_whenBuildTable_thenSameTransitions() throws Exception {
+		StateMachine<LeadState, LeadEvents> machine = this.leadBuilder.buildNewStateMachine( "teste-tabela" );
+		StateTransitionTable<LeadState, LeadEvents> table = this.leadBuilder.getTransitionTable();
+
+		machine.getTransitions().forEach( t -> {
+			LeadState target = ( t.getKind() == TransitionKind.INTERNAL ? t.getSource().getId() : t.getTarget().getId() );
+			assertEquals( target, table.getTarget( t.getSource().getId(), t.getTrigger().getEvent() ) );
+		} );
+
+		assertSame( table, this.leadBuilder.getTransitionTable() );
+		assertNull( table.getTarget( LeadState.CANCELED, LeadEvents.CONVERT ) );
+	}
+
+	@Test
+	@DisplayName("Dado o fluxo OPENED -> CONTACTED -> CONVERTED pela tabela")
+	void givenLeadTable_whenChangeState_thenReturnTarget() throws Exception {
+		Lead lead = Lead.builder().id( 0 ).build();
+
+		assertEquals( LeadState.CONTACTED, this.leadBuilder.changeState( LeadState.OPENED, LeadEvents.CONTACT, lead ) );
+		assertEquals( LeadState.CONVERTED, this.leadBuilder.changeState( LeadState.CONTACTED, LeadEvents.CONVERT, lead ) );
+		assertEquals( LeadState.OPENED, this.leadBuilder.changeState( LeadState.OPENED, LeadEvents.OPEN, lead ) );
+	}
+
+	@Test
+	@DisplayName("Dado um evento inválido ou a validação do destino com erro")
+	void givenInvalidEventOrGuard_whenChangeState_thenThrowStateWorkflowException() throws Exception {
+		Lead lead = Lead.builder().id( 0 ).build();
+
+		assertThrows( StateWorkflowException.class, () -> this.leadBuilder.changeState( LeadState.OPENED, LeadEvents.CONVERT, lead ) );
+
+		doThrow( new BusException( "Lead sem contato." ) ).when( this.leadService ).validateContactedState( any() );
+		StateWorkflowException ex = assertThrows( StateWorkflowException.class, () -> this.leadBuilder.changeState( LeadState.OPENED, LeadEvents.CONTACT, lead ) );
+		assertEquals( "Lead sem contato.", ex.getCause().getMessage() );
+	}
+
+}
@@ -0,0 +1,138 @@
+package com.portal.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.portal.config.BaseDAO;
+import com.portal.dao.impl.AuditDAO;
+import com.portal.dto.KeysetPageDTO;
+import com.portal.dto.KeysetRequestDTO;
+import com.portal.exceptions.AppException;
+import com.portal.model.AuditModel;
+
+@ExtendWith(SpringExtension.class)
+class BaseDAOKeysetTest {
+
+	@Mock
+	NamedParameterJdbcTemplate jdbcTemplate;
+
+	private BaseDAO dao;
+
+	@BeforeEach
+	void setup() {
+		dao = new BaseDAO();
+		ReflectionTestUtils.setField( dao, "jdbcTemplatePortal", jdbcTemplate );
+		ReflectionTestUtils.setField( dao, "maxPageSize", 100 );
+	}
+
+	@Test
+	void givenOversizedRequest_whenQueryKeyset_thenCapPageSize() throws Exception {
+		mockRows( 0 );
+
+		dao.queryKeyset( "x.*", "FROM x", null, new MapSqlParameterSource(),
+				KeysetRequestDTO.builder().size( Integer.MAX_VALUE ).build(),
+				Collections.singletonMap( "name", "x.name" ), "x.id", ( rs, rowNum ) -> rs.getInt( "keyset_id" ) );
+
+		ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass( MapSqlParameterSource.class );
+		Mockito.verify( jdbcTemplate ).query( anyString(), params.capture(), any( RowMapper.class ) );
+		assertEquals( 101, params.getValue().getValue( "keyset_limit" ) );
+	}
+
+	@Test
+	void givenMoreRowsThanSize_whenQueryKeyset_thenReturnCursorOfLastRow() throws Exception {
+		mockRows( 3 );
+
+		KeysetPageDTO<Integer> page = dao.queryKeyset( "x.*", "FROM x", null, new MapSqlParameterSource(),
+				KeysetRequestDTO.builder().size( 2 ).sortBy( "name" ).build(),
+				Collections.singletonMap( "name", "x.name" ), "x.id", ( rs, rowNum ) -> rs.getInt( "keyset_id" ) );
+
+		assertEquals( 2, page.getContent().size() );
+		assertNotNull( page.getNextCursor() );
+
+		ArgumentCaptor<String> query = ArgumentCaptor.forClass( String.class );
+		ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass( MapSqlParameterSource.class );
+		mockRows( 1 );
+
+		KeysetPageDTO<Integer> next = dao.queryKeyset( "x.*", "FROM x", null, new MapSqlParameterSource(),
+				KeysetRequestDTO.builder().cursor( page.getNextCursor() ).size( 2 ).sortBy( "name" ).build(),
+				Collections.singletonMap( "name", "x.name" ), "x.id", ( rs, rowNum ) -> rs.getInt( "keyset_id" ) );
+
+		Mockito.verify( jdbcTemplate, Mockito.times( 2 ) ).query( query.capture(), params.capture(), any( RowMapper.class ) );
+		assertThat( query.getValue(), containsString( "(x.name, x.id) < (:keyset_sort, :keyset_id)" ) );
+		assertThat( query.getValue(), containsString( "ORDER BY x.name DESC, x.id DESC" ) );
+		assertEquals( 2, params.getValue().getValue( "keyset_id" ) );
+		assertEquals( "name-2", params.getValue().getValue( "keyset_sort" ) );
+		assertNull( next.getNextCursor() );
+	}
+
+	@Test
+	void givenInvalidSortOrCursor_whenQueryKeyset_thenThrowAppException() {
+		assertThrows( AppException.class, () -> dao.queryKeyset( "x.*", "FROM x", null, new MapSqlParameterSource(),
+				KeysetRequestDTO.builder().size( 2 ).sortBy( "password" ).build(),
+				Collections.singletonMap( "name", "x.name" ), "x.id", ( rs, rowNum ) -> 0 ) );
+
+		assertThrows( AppException.class, () -> dao.queryKeyset( "x.*", "FROM x", null, new MapSqlParameterSource(),
+				KeysetRequestDTO.builder().cursor( "invalido" ).size( 2 ).build(),
+				Collections.singletonMap( "name", "x.name" ), "x.id", ( rs, rowNum ) -> 0 ) );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void givenAuditSortedByDate_whenListAllByKeyset_thenSeekOnLogDate() throws Exception {
+		AuditDAO auditDAO = new AuditDAO();
+		ReflectionTestUtils.setField( auditDAO, "jdbcTemplatePortal", jdbcTemplate );
+		ReflectionTestUtils.setField( auditDAO, "maxPageSize", 100 );
+		ReflectionTestUtils.setField( auditDAO, "schemaName", "" );
+		when( jdbcTemplate.query( anyString(), any( MapSqlParameterSource.class ), any( RowMapper.class ) ) ).thenReturn( new ArrayList<>() );
+
+		KeysetPageDTO<AuditModel> page = auditDAO.listAllByKeyset( KeysetRequestDTO.builder().size( 10 ).sortBy( "date" ).build() );
+
+		ArgumentCaptor<String> query = ArgumentCaptor.forClass( String.class );
+		Mockito.verify( jdbcTemplate ).query( query.capture(), any( MapSqlParameterSource.class ), any( RowMapper.class ) );
+		assertThat( query.getValue(), containsString( "FROM audit" ) );
+		assertThat( query.getValue(), containsString( "ORDER BY log_date DESC, log_id DESC" ) );
+		assertNull( page.getNextCursor() );
+	}
+
+	@SuppressWarnings("unchecked")
+	private void mockRows( int total ) {
+		when( jdbcTemplate.query( anyString(), any( MapSqlParameterSource.class ), any( RowMapper.class ) ) ).thenAnswer( invocation -> {
+			RowMapper<Object> mapper = invocation.getArgument( 2 );
+			List<Object> rows = new ArrayList<>();
+			for( int i = 1; i <= total; i++ ) {
+				ResultSet rs = mock( ResultSet.class );
+				when( rs.getString( "keyset_id" ) ).thenReturn( String.valueOf( i ) );
+				when( rs.getString( "keyset_sort" ) ).thenReturn( "name-" + i );
+				when( rs.getInt( "keyset_id" ) ).thenReturn( i );
+				rows.add( mapper.mapRow( rs, i - 1 ) );
+			}
+			return rows;
+		} );
+	}
+
+}
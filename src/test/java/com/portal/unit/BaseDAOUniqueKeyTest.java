@@ -0,0 +1,103 @@
+package com.portal.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.portal.dao.impl.BankDAO;
+import com.portal.dao.impl.ModelDAO;
+import com.portal.model.Bank;
+import com.portal.model.Brand;
+import com.portal.model.Model;
+
+@ExtendWith(SpringExtension.class)
+class BaseDAOUniqueKeyTest {
+
+	@Mock
+	NamedParameterJdbcTemplate jdbcTemplate;
+
+	private ModelDAO modelDAO;
+
+	private BankDAO bankDAO;
+
+	@BeforeEach
+	void setup() {
+		modelDAO = new ModelDAO();
+		bankDAO = new BankDAO();
+		ReflectionTestUtils.setField( modelDAO, "jdbcTemplatePortal", jdbcTemplate );
+		ReflectionTestUtils.setField( bankDAO, "jdbcTemplatePortal", jdbcTemplate );
+	}
+
+	@Test
+	void givenNewModel_whenHasDuplicate_thenRunSingleExistsQuery() throws Exception {
+		when( jdbcTemplate.queryForObject( anyString(), any( MapSqlParameterSource.class ), eq( Boolean.class ) ) ).thenReturn( Boolean.TRUE );
+
+		Model model = Model.builder().name( "ONIX" ).brand( Brand.builder().id( 3 ).build() ).build();
+		assertTrue( modelDAO.hasDuplicate( model ) );
+
+		ArgumentCaptor<String> query = ArgumentCaptor.forClass( String.class );
+		ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass( MapSqlParameterSource.class );
+		verify( jdbcTemplate, times( 1 ) ).queryForObject( query.capture(), params.capture(), eq( Boolean.class ) );
+		verifyNoMoreInteractions( jdbcTemplate );
+
+		assertThat( query.getValue(), containsString( "SELECT EXISTS ( SELECT 1 FROM model WHERE" ) );
+		assertThat( query.getValue(), containsString( "AND name = :name AND brd_id = :brd_id" ) );
+		assertThat( query.getValue(), not( containsString( "mdl_id <>" ) ) );
+		assertEquals( "ONIX", params.getValue().getValue( "name" ) );
+		assertEquals( 3, params.getValue().getValue( "brd_id" ) );
+	}
+
+	@Test
+	void givenExistingModelWithoutBrand_whenHasDuplicate_thenIgnoreSelfAndCompareNull() throws Exception {
+		when( jdbcTemplate.queryForObject( anyString(), any( MapSqlParameterSource.class ), eq( Boolean.class ) ) ).thenReturn( Boolean.FALSE );
+
+		assertFalse( modelDAO.hasDuplicate( Model.builder().id( 7 ).name( "ONIX" ).build() ) );
+
+		ArgumentCaptor<String> query = ArgumentCaptor.forClass( String.class );
+		ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass( MapSqlParameterSource.class );
+		verify( jdbcTemplate, times( 1 ) ).queryForObject( query.capture(), params.capture(), eq( Boolean.class ) );
+
+		assertThat( query.getValue(), containsString( "AND brd_id IS NULL" ) );
+		assertThat( query.getValue(), containsString( "AND mdl_id <> :unique_key_id" ) );
+		assertEquals( 7, params.getValue().getValue( "unique_key_id" ) );
+		assertFalse( params.getValue().hasValue( "brd_id" ) );
+	}
+
+	@Test
+	void givenBankNameAndCode_whenHasDuplicate_thenOneQueryPerKey() throws Exception {
+		when( jdbcTemplate.queryForObject( anyString(), any( MapSqlParameterSource.class ), eq( Boolean.class ) ) ).thenReturn( Boolean.FALSE );
+
+		Bank bank = Bank.builder().id( 0 ).name( "BANCO" ).code( "001" ).build();
+		assertFalse( bankDAO.hasDuplicateName( bank ) );
+		assertFalse( bankDAO.hasDuplicateCode( bank ) );
+
+		ArgumentCaptor<String> query = ArgumentCaptor.forClass( String.class );
+		verify( jdbcTemplate, times( 2 ) ).queryForObject( query.capture(), any( MapSqlParameterSource.class ), eq( Boolean.class ) );
+		verifyNoMoreInteractions( jdbcTemplate );
+
+		assertThat( query.getAllValues().get( 0 ), containsString( "AND name = :name" ) );
+		assertThat( query.getAllValues().get( 1 ), containsString( "AND code = :code" ) );
+		assertThat( query.getAllValues().get( 1 ), not( containsString( "bnk_id <>" ) ) );
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.portal.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import com.portal.utils.ByteLruCache;
+
+class ByteLruCacheTest {
+
+	@Test
+	void givenCacheOverLimit_whenPut_thenEvictLeastRecentlyUsed() {
+		ByteLruCache cache = new ByteLruCache( 30 );
+		cache.put( "a", new byte[10] );
+		cache.put( "b", new byte[10] );
+		cache.put( "c", new byte[10] );
+
+		// "a" passa a ser o mais recente, "b" é o primeiro a sair
+		assertNotNull( cache.get( "a" ) );
+		cache.put( "d", new byte[10] );
+
+		assertNull( cache.get( "b" ) );
+		assertNotNull( cache.get( "a" ) );
+		assertNotNull( cache.get( "c" ) );
+		assertNotNull( cache.get( "d" ) );
+		assertEquals( 30, cache.getTotalBytes() );
+	}
+
+	@Test
+	void givenExistingKey_whenPutOrRemove_thenAdjustTotalBytes() {
+		ByteLruCache cache = new ByteLruCache( 100 );
+		cache.put( "a", new byte[10] );
+		cache.put( "a", new byte[25] );
+		assertEquals( 25, cache.getTotalBytes() );
+
+		cache.remove( "a" );
+		assertEquals( 0, cache.getTotalBytes() );
+		assertEquals( 0, cache.size() );
+	}
+
+	@Test
+	void givenValueLargerThanLimit_whenPut_thenKeepCurrentEntries() {
+		ByteLruCache cache = new ByteLruCache( 20 );
+		cache.put( "a", new byte[10] );
+		cache.put( "big", new byte[21] );
+
+		assertNull( cache.get( "big" ) );
+		assertNotNull( cache.get( "a" ) );
+		assertEquals( 1, cache.getHits() );
+		assertEquals( 1, cache.getMisses() );
+	}
+
+}
@@ -0,0 +1,94 @@
+package com.portal.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.portal.dto.StoredFileDTO;
+import com.portal.exceptions.BusException;
+import com.portal.utils.ContentAddressedStore;
+import com.portal.utils.StreamingUpload;
+
+class ContentAddressedStoreTest {
+
+	@TempDir
+	Path root;
+
+	@Test
+	void givenContent_whenPut_thenStoreInShardedDirectoryNamedByHash() throws Exception {
+		ContentAddressedStore store = new ContentAddressedStore( this.root );
+
+		StoredFileDTO stored = store.put( new ByteArrayInputStream( "contrato".getBytes() ), "contrato.txt", 0, null );
+
+		String sha256 = stored.getSha256();
+		assertEquals( sha256.substring( 0, 2 ) + "/" + sha256.substring( 2, 4 ) + "/" + sha256, ContentAddressedStore.relativePath( sha256 ) );
+		assertEquals( this.root.resolve( ContentAddressedStore.relativePath( sha256 ) ), stored.getPath() );
+		assertEquals( "contrato", new String( Files.readAllBytes( stored.getPath() ) ) );
+	}
+
+	@Test
+	void givenSameContentTwice_whenPut_thenKeepSingleBlob() throws Exception {
+		ContentAddressedStore store = new ContentAddressedStore( this.root );
+
+		StoredFileDTO first = store.put( new ByteArrayInputStream( "contrato".getBytes() ), "a.txt", 0, null );
+		StoredFileDTO second = store.put( new ByteArrayInputStream( "contrato".getBytes() ), "b.txt", 0, null );
+
+		assertEquals( first.getPath(), second.getPath() );
+		assertEquals( 1, this.blobs( store ).size() );
+		assertEquals( 0, Files.list( this.root.resolve( ContentAddressedStore.TEMP_DIRECTORY ) ).count() );
+	}
+
+	@Test
+	void givenChangedBlob_whenVerify_thenReportMismatch() throws Exception {
+		ContentAddressedStore store = new ContentAddressedStore( this.root );
+		String sha256 = store.put( new ByteArrayInputStream( "contrato".getBytes() ), "a.txt", 0, null ).getSha256();
+
+		assertTrue( store.verify( sha256 ) );
+
+		Files.write( store.resolve( sha256 ), "alterado".getBytes() );
+		assertFalse( store.verify( sha256 ) );
+
+		store.delete( sha256 );
+		assertFalse( store.exists( sha256 ) );
+		assertFalse( store.verify( sha256 ) );
+	}
+
+	@Test
+	void givenLegacyFile_whenCopyIn_thenKeepSourceAndStoreBlob() throws Exception {
+		ContentAddressedStore store = new ContentAddressedStore( this.root );
+		Path legacy = Files.write( this.root.resolve( "document_1.txt" ), "contrato".getBytes() );
+		String sha256 = store.put( new ByteArrayInputStream( "outro".getBytes() ), "a.txt", 0, null ).getSha256();
+
+		Path blob = store.copyIn( legacy, StreamingUpload.sha256( legacy ) );
+
+		assertTrue( Files.exists( legacy ) );
+		assertEquals( "contrato", new String( Files.readAllBytes( blob ) ) );
+		assertEquals( 2, this.blobs( store ).size() );
+		assertTrue( this.blobs( store ).contains( store.resolve( sha256 ) ) );
+	}
+
+	@Test
+	void givenInvalidHash_whenResolve_thenReject() {
+		ContentAddressedStore store = new ContentAddressedStore( this.root );
+
+		assertThrows( BusException.class, () -> store.resolve( "../../etc/passwd" ) );
+		assertThrows( BusException.class, () -> store.resolve( null ) );
+	}
+
+	private List<Path> blobs( ContentAddressedStore store ) throws Exception {
+		List<Path> blobs = new ArrayList<>();
+		store.forEachBlob( blobs::add );
+		return blobs;
+	}
+
+}
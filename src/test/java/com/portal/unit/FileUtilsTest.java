@@ -0,0 +1,79 @@
+package com.portal.unit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.portal.utils.FileUtils;
+
+class FileUtilsTest {
+
+	@TempDir
+	Path dir;
+
+	private MockMvc mvc;
+
+	private Path file;
+
+	@BeforeEach
+	void setup() throws IOException {
+		file = Files.write( dir.resolve( "documento.pdf" ), "0123456789".getBytes( StandardCharsets.UTF_8 ) );
+		mvc = MockMvcBuilders.standaloneSetup( new FileController() ).build();
+	}
+
+	@Test
+	void givenFile_whenDownload_thenStreamWithETag() throws Exception {
+		mvc.perform( get( "/file" ) )
+			.andExpect( status().isOk() )
+			.andExpect( header().string( HttpHeaders.CONTENT_LENGTH, "10" ) )
+			.andExpect( header().string( HttpHeaders.ACCEPT_RANGES, "bytes" ) )
+			.andExpect( header().exists( HttpHeaders.ETAG ) )
+			.andExpect( content().contentType( "application/pdf" ) )
+			.andExpect( content().string( "0123456789" ) );
+	}
+
+	@Test
+	void givenRange_whenDownload_thenReturnPartialContent() throws Exception {
+		mvc.perform( get( "/file" ).header( HttpHeaders.RANGE, "bytes=2-5" ) )
+			.andExpect( status().isPartialContent() )
+			.andExpect( header().string( HttpHeaders.CONTENT_RANGE, "bytes 2-5/10" ) )
+			.andExpect( content().string( "2345" ) );
+	}
+
+	@Test
+	void givenSameETag_whenDownload_thenReturnNotModified() throws Exception {
+		String eTag = mvc.perform( get( "/file" ) ).andReturn().getResponse().getHeader( HttpHeaders.ETAG );
+
+		mvc.perform( get( "/file" ).header( HttpHeaders.IF_NONE_MATCH, eTag ) )
+			.andExpect( status().isNotModified() )
+			.andExpect( content().string( "" ) );
+	}
+
+	@RestController
+	class FileController {
+
+		@GetMapping("/file")
+		public ResponseEntity<Resource> file() throws IOException {
+			return FileUtils.getFileResponse( file, "application/pdf", "documento.pdf", CacheControl.noCache() );
+		}
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.portal.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+
+import com.portal.utils.ImageResizer;
+
+class ImageResizerTest {
+
+	@Test
+	void givenLargeImage_whenResize_thenFitLongestSideAndKeepRatio() throws IOException {
+		BufferedImage resized = this.read( ImageResizer.resize( this.image( 2000, 1000, ImageResizer.PNG ), 128, ImageResizer.PNG ) );
+
+		assertEquals( 128, resized.getWidth() );
+		assertEquals( 64, resized.getHeight() );
+	}
+
+	@Test
+	void givenSmallImage_whenResize_thenDoNotUpscale() throws IOException {
+		BufferedImage resized = this.read( ImageResizer.resize( this.image( 100, 300, ImageResizer.JPEG ), 480, ImageResizer.JPEG ) );
+
+		assertEquals( 100, resized.getWidth() );
+		assertEquals( 300, resized.getHeight() );
+	}
+
+	@Test
+	void givenTransparentPng_whenResizeToJpeg_thenWriteOpaqueImage() throws IOException {
+		BufferedImage resized = this.read( ImageResizer.resize( this.image( 400, 400, ImageResizer.PNG ), 128, ImageResizer.JPEG ) );
+
+		assertEquals( 128, resized.getWidth() );
+		assertFalse( resized.getColorModel().hasAlpha() );
+	}
+
+	@Test
+	void givenInvalidContent_whenResize_thenThrowIOException() {
+		assertThrows( IOException.class, () -> ImageResizer.resize( "not an image".getBytes(), 128, ImageResizer.PNG ) );
+	}
+
+	private byte[] image( int width, int height, String format ) throws IOException {
+		BufferedImage image = new BufferedImage( width, height, ImageResizer.PNG.equals( format ) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB );
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ImageIO.write( image, format, output );
+		return output.toByteArray();
+	}
+
+	private BufferedImage read( byte[] content ) throws IOException {
+		return ImageIO.read( new ByteArrayInputStream( content ) );
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.portal.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.portal.enums.MenuType;
+import com.portal.model.Classifier;
+import com.portal.model.MenuModel;
+import com.portal.utils.MenuTree;
+
+class MenuTreeTest {
+
+	@Test
+	void givenNestedMenus_whenGetPath_thenJoinAncestorNames() {
+		MenuTree tree = this.tree();
+
+		assertEquals( "Cadastros", tree.getPath( 1 ) );
+		assertEquals( "Cadastros > Pessoas", tree.getPath( 2 ) );
+		assertEquals( "Cadastros > Pessoas > Clientes", tree.getPath( 3 ) );
+		assertNull( tree.getPath( 99 ) );
+	}
+
+	@Test
+	void givenAccessList_whenListTree_thenKeepOrderAndDropHiddenOrOtherTypes() {
+		List<MenuModel> menus = this.tree().listTree( 10, MenuType.PORTAL_PRODUCT );
+
+		// Menu de configuração (5) fica de fora e a ordem da lista de acesso é mantida
+		assertEquals( Arrays.asList( 4, 1 ), this.ids( menus ) );
+		assertNull( menus.get( 0 ).getSubmenus() );
+		assertEquals( Arrays.asList( 2 ), this.ids( menus.get( 1 ).getSubmenus() ) );
+		assertEquals( "Cadastros > Pessoas", menus.get( 1 ).getSubmenus().get( 0 ).getMenuPath() );
+	}
+
+	@Test
+	void givenAccessList_whenListByAccessList_thenReturnFlatListInOrder() {
+		MenuTree tree = this.tree();
+
+		assertEquals( Arrays.asList( 4, 5, 1, 2 ), this.ids( tree.listByAccessList( 10 ) ) );
+		assertTrue( tree.isVisible( 10, 2 ) );
+		assertFalse( tree.isVisible( 10, 3 ) );
+		assertFalse( tree.isVisible( 20, 1 ) );
+		assertTrue( tree.listByAccessList( 20 ).isEmpty() );
+	}
+
+	@Test
+	void givenReturnedMenus_whenChanged_thenTreeIsNotAffected() {
+		MenuTree tree = this.tree();
+
+		tree.listTree( 10, MenuType.PORTAL_PRODUCT ).get( 1 ).addSubMenu( new MenuModel() );
+		tree.getById( 1 ).get().setName( "Alterado" );
+
+		assertEquals( 1, tree.listTree( 10, MenuType.PORTAL_PRODUCT ).get( 1 ).getSubmenus().size() );
+		assertEquals( "Cadastros", tree.getById( 1 ).get().getName() );
+	}
+
+	@Test
+	void givenCycleInTable_whenBuild_thenStopWalkingUp() {
+		MenuModel first = this.menu( 1, "A", 2, MenuType.PORTAL_PRODUCT );
+		MenuModel second = this.menu( 2, "B", 1, MenuType.PORTAL_PRODUCT );
+
+		MenuTree tree = new MenuTree( Arrays.asList( first, second ), new HashMap<>() );
+
+		assertTrue( tree.getPath( 1 ).endsWith( "B > A" ) );
+	}
+
+	private MenuTree tree() {
+		List<MenuModel> menus = Arrays.asList(
+				this.menu( 1, "Cadastros", null, MenuType.PORTAL_PRODUCT ),
+				this.menu( 2, "Pessoas", 1, MenuType.PORTAL_PRODUCT ),
+				this.menu( 3, "Clientes", 2, MenuType.PORTAL_PRODUCT ),
+				this.menu( 4, "Propostas", null, MenuType.PORTAL_PRODUCT ),
+				this.menu( 5, "Configurações", null, MenuType.PORTAL_CONFIG ) );
+
+		Map<Integer, List<Integer>> menusByAccessList = new HashMap<>();
+		menusByAccessList.put( 10, Arrays.asList( 4, 5, 1, 2, 99 ) );
+		return new MenuTree( menus, menusByAccessList );
+	}
+
+	private MenuModel menu( Integer id, String name, Integer rootId, MenuType type ) {
+		MenuModel menu = new MenuModel();
+		menu.setId( id );
+		menu.setName( name );
+		menu.setType( new Classifier( type.getType().getId(), type.getType().getValue(), type.getType().getType() ) );
+		if( rootId != null ) {
+			MenuModel root = new MenuModel();
+			root.setId( rootId );
+			menu.setRoot( root );
+		}
+		return menu;
+	}
+
+	private List<Integer> ids( List<MenuModel> menus ) {
+		return menus.stream().map( MenuModel::getId ).collect( Collectors.toList() );
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.portal.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+
+import com.portal.utils.PdfTableWriter;
+
+class PdfTableWriterTest {
+
+	private static final String[] COLUMNS = { "Data", "Cliente", "Valor" };
+
+	@Test
+	void givenManyRows_whenFinish_thenWriteEveryRowAcrossPages() throws Exception {
+		byte[] pdf = this.export( 20000 );
+
+		try( PDDocument document = PDDocument.load( pdf ) ) {
+			assertTrue( document.getNumberOfPages() > 100 );
+
+			PDFTextStripper stripper = new PDFTextStripper();
+			stripper.setStartPage( document.getNumberOfPages() );
+			String lastPage = stripper.getText( document );
+
+			// Cabeçalho repetido em todas as páginas e última linha presente
+			assertTrue( lastPage.contains( "Cliente" ) );
+			assertTrue( lastPage.contains( "Cliente 19999" ) );
+		}
+	}
+
+	@Test
+	void givenConcurrentExports_whenFinish_thenProduceSameDocument() throws Exception {
+		CompletableFuture<byte[]> first = CompletableFuture.supplyAsync( () -> this.exportUnchecked( 5000 ) );
+		CompletableFuture<byte[]> second = CompletableFuture.supplyAsync( () -> this.exportUnchecked( 5000 ) );
+
+		try( PDDocument one = PDDocument.load( first.get() ); PDDocument other = PDDocument.load( second.get() ) ) {
+			assertTrue( one.getNumberOfPages() > 1 );
+			assertEquals( one.getNumberOfPages(), other.getNumberOfPages() );
+		}
+	}
+
+	private byte[] exportUnchecked( int rows ) {
+		try {
+			return this.export( rows );
+		} catch( Exception e ) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private byte[] export( int rows ) throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		Date date = new Date();
+
+		try( PdfTableWriter writer = new PdfTableWriter( output, "Vendas", COLUMNS, new int[] { 10, 20, 10 } ) ) {
+			for( int i = 0; i < rows; i++ ) {
+				writer.addRow( date, "Cliente " + i, i % 10 == 0 ? null : new BigDecimal( "10.50" ) );
+			}
+			writer.finish();
+		}
+
+		return output.toByteArray();
+	}
+
+}
@@ -0,0 +1,67 @@
+package com.portal.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.portal.utils.PortalJwtTokenUtil;
+
+import io.jsonwebtoken.Claims;
+
+@ExtendWith(SpringExtension.class)
+class PortalJwtTokenUtilTest {
+
+	private PortalJwtTokenUtil tokenUtil;
+
+	private String token;
+
+	@BeforeEach
+	void setup() {
+		tokenUtil = new PortalJwtTokenUtil();
+		ReflectionTestUtils.setField( tokenUtil, "secret", "dGVzdGUtc2VjcmV0" );
+		ReflectionTestUtils.setField( tokenUtil, "expiration", 3600L );
+		ReflectionTestUtils.setField( tokenUtil, "cacheMaxSize", 2 );
+		ReflectionTestUtils.setField( tokenUtil, "cacheTtl", 300L );
+
+		token = tokenUtil.obterToken( new User( "admin", "", AuthorityUtils.createAuthorityList( "ROLE_ADMIN" ) ) );
+	}
+
+	@Test
+	void givenValidToken_whenGetClaims_thenReuseVerifiedClaims() {
+		Claims first = tokenUtil.getClaims( token );
+		Claims second = tokenUtil.getClaims( token );
+
+		assertNotNull( first );
+		assertSame( first, second );
+		assertEquals( "admin", first.getSubject() );
+		assertEquals( "ROLE_ADMIN", tokenUtil.getRole( first ) );
+		assertNotNull( tokenUtil.getCreatedDate( first ) );
+		assertTrue( tokenUtil.tokenValido( first ) );
+	}
+
+	@Test
+	void givenTamperedToken_whenGetClaims_thenReturnNull() {
+		assertNull( tokenUtil.getClaims( token + "x" ) );
+		assertNull( tokenUtil.getUsernameFromToken( null ) );
+	}
+
+	@Test
+	void givenCachedToken_whenRefresh_thenCachedClaimsAreNotChanged() {
+		Claims claims = tokenUtil.getClaims( token );
+		Object created = claims.get( "created" );
+
+		assertNotNull( tokenUtil.refreshToken( token ) );
+		assertEquals( created, tokenUtil.getClaims( token ).get( "created" ) );
+	}
+
+}
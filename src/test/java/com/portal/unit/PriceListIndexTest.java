@@ -0,0 +1,137 @@
+package com.portal.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.portal.dto.form.ModelItemRangeDTO;
+import com.portal.dto.form.PriceRuleDTO;
+import com.portal.dto.form.ResolvedItemPriceDTO;
+import com.portal.utils.PriceListIndex;
+
+class PriceListIndexTest {
+
+	private static final Integer PRL_ID = 1;
+
+	@Test
+	void givenRulesForSameItem_whenResolve_thenItemModelWinsOverBrandAndBrandOverAllBrands() {
+		List<PriceRuleDTO> rules = Arrays.asList(
+				this.rule( 1, 100, 10, null, false, false, 50d ),
+				this.rule( 2, 100, null, 5, true, false, 40d ),
+				this.rule( 3, 100, null, null, false, true, 30d ),
+				this.rule( 4, 200, null, 5, true, false, 20d ),
+				this.rule( 5, 200, null, null, false, true, 10d ),
+				this.rule( 6, 300, null, null, false, true, 5d ) );
+
+		List<ModelItemRangeDTO> items = Arrays.asList(
+				this.item( 10, 100, 7, 5, 2020, 2022 ),
+				this.item( 11, 200, 7, 5, 2020, 2022 ),
+				this.item( 12, 300, 7, 5, 2020, 2022 ) );
+
+		PriceListIndex index = new PriceListIndex( PRL_ID, rules, null, Arrays.asList( 7 ) );
+
+		assertEquals( Arrays.asList( "1:100:50.0", "4:200:20.0", "6:300:5.0" ), this.keys( index.resolve( 7, items, 2021 ) ) );
+	}
+
+	@Test
+	void givenYearOutOfRangeOrModelWithoutProduct_whenResolve_thenReturnEmpty() {
+		List<PriceRuleDTO> rules = Arrays.asList( this.rule( 1, 100, 10, null, false, false, 50d ) );
+		List<ModelItemRangeDTO> items = Arrays.asList( this.item( 10, 100, 7, 5, 2020, 2022 ) );
+
+		assertTrue( new PriceListIndex( PRL_ID, rules, null, Arrays.asList( 7 ) ).resolve( 7, items, 2023 ).isEmpty() );
+		assertTrue( new PriceListIndex( PRL_ID, rules, null, Arrays.asList( 8 ) ).resolve( 7, items, 2021 ).isEmpty() );
+	}
+
+	/**
+	 * Compara o índice com a transcrição direta da consulta SQL original (OR entre as três regras e os NOT IN) em
+	 * listas geradas aleatoriamente.
+	 */
+	@Test
+	void givenRandomPriceLists_whenResolve_thenMatchOriginalQuerySemantics() {
+		Random random = new Random( 42 );
+
+		for( int round = 0; round < 500; round++ ) {
+			List<ModelItemRangeDTO> items = new ArrayList<>();
+			for( int imdId = 1; imdId <= 1 + random.nextInt( 12 ); imdId++ ) {
+				int start = 2018 + random.nextInt( 4 );
+				items.add( this.item( imdId, 1 + random.nextInt( 6 ), 1 + random.nextInt( 2 ), random.nextInt( 5 ) == 0 ? null : 1 + random.nextInt( 2 ), start, start + random.nextInt( 3 ) ) );
+			}
+
+			List<PriceRuleDTO> rules = new ArrayList<>();
+			for( int pimId = 1; pimId <= random.nextInt( 25 ); pimId++ ) {
+				int kind = random.nextInt( 3 );
+				rules.add( this.rule( pimId,
+										1 + random.nextInt( 6 ),
+										kind == 0 ? 1 + random.nextInt( 14 ) : null,
+										kind == 1 || random.nextInt( 4 ) == 0 ? 1 + random.nextInt( 2 ) : null,
+										kind == 1 || random.nextInt( 6 ) == 0,
+										kind == 2 || random.nextInt( 6 ) == 0,
+										(double) random.nextInt( 1000 ) ) );
+			}
+
+			List<Integer> pricedModels = random.nextInt( 6 ) == 0 ? Collections.singletonList( 2 ) : Arrays.asList( 1, 2 );
+			PriceListIndex index = new PriceListIndex( PRL_ID, rules, null, pricedModels );
+
+			for( int year = 2018; year <= 2024; year++ ) {
+				assertEquals( this.reference( rules, items, pricedModels, 1, year ), this.keys( index.resolve( 1, items, year ) ), "rodada " + round + ", ano " + year );
+			}
+		}
+	}
+
+	private List<String> reference( List<PriceRuleDTO> rules, List<ModelItemRangeDTO> items, List<Integer> pricedModels, Integer mdlId, Integer year ) {
+		List<String> result = new ArrayList<>();
+		if( !pricedModels.contains( mdlId ) ) {
+			return result;
+		}
+
+		for( ModelItemRangeDTO imd : items ) {
+			if( !imd.getMdlId().equals( mdlId ) || imd.getYearStart() > year || imd.getYearEnd() < year ) {
+				continue;
+			}
+
+			for( PriceRuleDTO pim : rules ) {
+				boolean byItemModel = Objects.equals( pim.getImdId(), imd.getImdId() );
+
+				boolean byBrand = this.sqlEquals( pim.getBrdId(), imd.getBrdId() ) && pim.isAllModels()
+									&& rules.stream().noneMatch( pim2 -> Objects.equals( pim2.getImdId(), imd.getImdId() ) && pim2.getItmId().equals( pim.getItmId() ) );
+
+				boolean byAllBrands = pim.isAllBrands()
+									&& rules.stream().noneMatch( pim3 -> pim3.getItmId().equals( pim.getItmId() )
+											&& ( Objects.equals( pim3.getImdId(), imd.getImdId() ) || ( this.sqlEquals( pim3.getBrdId(), imd.getBrdId() ) && pim3.isAllModels() ) ) );
+
+				if( pim.getItmId().equals( imd.getItmId() ) && ( byItemModel || byBrand || byAllBrands ) ) {
+					result.add( pim.getPimId() + ":" + pim.getItmId() + ":" + pim.getPrice() );
+				}
+			}
+		}
+
+		Collections.sort( result );
+		return result;
+	}
+
+	private boolean sqlEquals( Integer first, Integer second ) {
+		return first != null && first.equals( second );
+	}
+
+	private List<String> keys( List<ResolvedItemPriceDTO> prices ) {
+		return prices.stream().map( price -> price.getId() + ":" + price.getItmId() + ":" + price.getPrice() ).sorted().collect( Collectors.toList() );
+	}
+
+	private PriceRuleDTO rule( Integer pimId, Integer itmId, Integer imdId, Integer brdId, boolean allModels, boolean allBrands, Double price ) {
+		return PriceRuleDTO.builder().pimId( pimId ).prlId( PRL_ID ).itmId( itmId ).imdId( imdId ).brdId( brdId ).allModels( allModels ).allBrands( allBrands ).price( price ).build();
+	}
+
+	private ModelItemRangeDTO item( Integer imdId, Integer itmId, Integer mdlId, Integer brdId, Integer yearStart, Integer yearEnd ) {
+		return ModelItemRangeDTO.builder().imdId( imdId ).itmId( itmId ).mdlId( mdlId ).brdId( brdId ).yearStart( yearStart ).yearEnd( yearEnd ).build();
+	}
+
+}
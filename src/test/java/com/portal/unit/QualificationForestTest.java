@@ -0,0 +1,101 @@
+package com.portal.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.portal.dto.QualificationTreePathDTO;
+import com.portal.utils.QualificationForest;
+
+class QualificationForestTest {
+
+	@Test
+	void givenForest_whenTree_thenComputeLevelAndBreadcrumbs() {
+		List<QualificationTreePathDTO> tree = this.forest().tree();
+
+		QualificationTreePathDTO grandChild = tree.stream().filter( node -> node.getId() == 4 ).findFirst().get();
+		assertEquals( 2, grandChild.getLevel() );
+		assertEquals( "1,2,4", grandChild.getBreadcrumbIdPath() );
+		assertEquals( "PERFIL,RENDA,ALTA", grandChild.getBreadcrumbNamePath() );
+		assertNull( grandChild.getParentId() );
+	}
+
+	@Test
+	void givenForest_whenTree_thenOrderBySeqBreadcrumb() {
+		// Chaves de ordenação: 1 -> "1", 2 -> "2,1", 3 -> "1,1", 4 -> "3,2,1", 5 -> "2"
+		assertEquals( Arrays.asList( 1, 3, 5, 2, 4 ), this.ids( this.forest().tree() ) );
+	}
+
+	@Test
+	void givenNode_whenSubtree_thenReturnNodeAndDescendants() {
+		QualificationForest forest = this.forest();
+
+		assertEquals( Arrays.asList( 2, 4 ), this.ids( forest.subtree( 2 ) ) );
+		assertEquals( Arrays.asList( 1, 3, 2, 4 ), this.ids( forest.subtree( 1 ) ) );
+		assertTrue( forest.subtree( 99 ).isEmpty() );
+		assertEquals( Arrays.asList( 2, 4 ), this.ids( forest.subtreeByName( "renda" ) ) );
+	}
+
+	@Test
+	void givenMutations_whenApplied_thenReturnNewForestAndKeepOriginal() {
+		QualificationForest forest = this.forest();
+
+		QualificationForest moved = forest.withParent( 2, 5 );
+		assertEquals( "5,2,4", this.node( moved, 4 ).getBreadcrumbIdPath() );
+		assertEquals( Arrays.asList( 1, 3 ), this.ids( moved.subtree( 1 ) ) );
+		assertEquals( "1,2,4", this.node( forest, 4 ).getBreadcrumbIdPath() );
+
+		QualificationForest added = forest.withNode( this.dto( 6, "NOVA", 1, null ), 4 );
+		assertEquals( 3, this.node( added, 6 ).getLevel() );
+
+		QualificationForest deleted = added.withoutSubtree( 2 );
+		assertEquals( Arrays.asList( 1, 3, 5 ), this.ids( deleted.tree() ) );
+		assertFalse( deleted.contains( 6 ) );
+
+		QualificationForest renamed = forest.withData( this.dto( 2, "SALARIO", 2, null ) );
+		assertEquals( "PERFIL,SALARIO,ALTA", this.node( renamed, 4 ).getBreadcrumbNamePath() );
+	}
+
+	@Test
+	void givenReturnedNodes_whenChanged_thenForestIsNotAffected() {
+		QualificationForest forest = this.forest();
+
+		forest.tree().forEach( node -> {
+			node.setChildrens( new ArrayList<>() );
+			node.setParentId( 99 );
+		} );
+
+		assertNull( this.node( forest, 4 ).getChildrens() );
+		assertEquals( 2, this.node( forest, 4 ).getLevel() );
+	}
+
+	private QualificationForest forest() {
+		return new QualificationForest( Arrays.asList(
+				this.dto( 1, "PERFIL", 1, null ),
+				this.dto( 2, "RENDA", 2, 1 ),
+				this.dto( 3, "IDADE", 1, 1 ),
+				this.dto( 4, "ALTA", 3, 2 ),
+				this.dto( 5, "OUTROS", 2, null ) ) );
+	}
+
+	private QualificationTreePathDTO dto( Integer id, String name, Integer seq, Integer parentId ) {
+		return QualificationTreePathDTO.builder().id( id ).name( name ).seq( seq ).active( true ).required( false ).parentId( parentId ).build();
+	}
+
+	private QualificationTreePathDTO node( QualificationForest forest, Integer id ) {
+		return forest.tree().stream().filter( node -> node.getId().equals( id ) ).findFirst().get();
+	}
+
+	private List<Integer> ids( List<QualificationTreePathDTO> nodes ) {
+		return nodes.stream().map( QualificationTreePathDTO::getId ).collect( Collectors.toList() );
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.portal.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import com.portal.utils.SpreadsheetWriter;
+
+class SpreadsheetWriterTest {
+
+	@Test
+	void givenManyRows_whenWrite_thenKeepAllRowsAndSampledWidths() throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		Date date = new Date();
+
+		try( SpreadsheetWriter writer = new SpreadsheetWriter( "Vendas", new String[] { "Data", "Cliente", "Valor" }, "dd/MM/yyyy HH:mm:ss", (short) 12, null ) ) {
+			for( int i = 0; i < 5000; i++ ) {
+				writer.addRow( date, i == 0 ? "Cliente com um nome bem comprido" : "Cliente " + i, new BigDecimal( "10.50" ) );
+			}
+			writer.addRow( date, null, null );
+			writer.write( output );
+		}
+
+		try( Workbook workbook = new XSSFWorkbook( new ByteArrayInputStream( output.toByteArray() ) ) ) {
+			Sheet sheet = workbook.getSheet( "Vendas" );
+
+			assertEquals( 5001, sheet.getLastRowNum() );
+			assertEquals( "Cliente", sheet.getRow( 0 ).getCell( 1 ).getStringCellValue() );
+			assertEquals( date.getTime() / 1000, sheet.getRow( 1 ).getCell( 0 ).getDateCellValue().getTime() / 1000 );
+			assertEquals( 10.5d, sheet.getRow( 4999 ).getCell( 2 ).getNumericCellValue() );
+			assertNull( sheet.getRow( 5001 ).getCell( 1 ) );
+
+			// Largura pelo maior texto da amostra: "Cliente com um nome bem comprido" + margem
+			assertEquals( ( 32 + 2 ) * 256, sheet.getColumnWidth( 1 ) );
+			assertTrue( sheet.getColumnWidth( 2 ) >= ( "Valor".length() + 2 ) * 256 );
+		}
+	}
+
+}
@@ -0,0 +1,167 @@
+package com.portal.unit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.portal.dto.StoredFileDTO;
+import com.portal.exceptions.BusException;
+import com.portal.utils.StreamingUpload;
+
+class StreamingUploadTest {
+
+	private static final byte[] PNG_HEADER = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void givenImage_whenStore_thenWriteFileWithHashAndDetectedType() throws Exception {
+		byte[] content = this.png( 4096 );
+
+		StoredFileDTO stored = StreamingUpload.store( new ByteArrayInputStream( content ), "foto.png", this.directory, "document_1.png", 0, Arrays.asList( "image/png" ) );
+
+		assertEquals( this.directory.resolve( "document_1.png" ), stored.getPath() );
+		assertEquals( "image/png", stored.getMediaType() );
+		assertEquals( content.length, stored.getSize() );
+		assertEquals( StreamingUpload.toHex( MessageDigest.getInstance( "SHA-256" ).digest( content ) ), stored.getSha256() );
+		assertArrayEquals( content, Files.readAllBytes( stored.getPath() ) );
+		assertEquals( 1, this.countFiles() );
+	}
+
+	@Test
+	void givenContentTypeNotAllowed_whenStore_thenRejectWithoutWritingFiles() throws Exception {
+		byte[] content = "texto simples".getBytes();
+
+		assertThrows( BusException.class, () -> StreamingUpload.store( new ByteArrayInputStream( content ), "foto.png", this.directory, "document_1.png", 0, Arrays.asList( "image/png" ) ) );
+		assertEquals( 0, this.countFiles() );
+	}
+
+	@Test
+	void givenUnknownContentRenamedToAllowedExtension_whenStore_thenReject() throws Exception {
+		byte[] content = this.random( 4096 );
+
+		assertEquals( StreamingUpload.UNKNOWN_TYPE, StreamingUpload.detect( new ByteArrayInputStream( content ), "contrato.pdf" ) );
+		assertThrows( BusException.class, () -> StreamingUpload.store( new ByteArrayInputStream( content ), "foto.png", this.directory, "document_1.png", 0, Arrays.asList( "image/png", StreamingUpload.UNKNOWN_TYPE ) ) );
+		assertEquals( 0, this.countFiles() );
+	}
+
+	@Test
+	void givenImageRenamedToPdf_whenDetect_thenKeepContentType() throws Exception {
+		assertEquals( "image/png", StreamingUpload.detect( new ByteArrayInputStream( this.png( 1024 ) ), "contrato.pdf" ) );
+	}
+
+	@Test
+	void givenZipContainer_whenDetect_thenRefineOnlyByContainerExtension() throws Exception {
+		byte[] content = this.zip();
+
+		assertEquals( "application/vnd.openxmlformats-officedocument.wordprocessingml.document", StreamingUpload.detect( new ByteArrayInputStream( content ), "contrato.docx" ) );
+		assertEquals( "application/zip", StreamingUpload.detect( new ByteArrayInputStream( content ), "foto.png" ) );
+	}
+
+	@Test
+	void givenFileLargerThanLimit_whenStore_thenAbortAndRemoveTempFile() throws Exception {
+		assertThrows( BusException.class, () -> StreamingUpload.store( new ByteArrayInputStream( this.png( 10_000 ) ), "foto.png", this.directory, "document_1.png", 5_000, null ) );
+		assertEquals( 0, this.countFiles() );
+	}
+
+	@Test
+	void givenTargetOutsideDirectory_whenStore_thenReject() {
+		assertThrows( BusException.class, () -> StreamingUpload.store( new ByteArrayInputStream( this.png( 10 ) ), "foto.png", this.directory, "../document_1.png", 0, null ) );
+	}
+
+	@Test
+	void givenLargeStream_whenStore_thenHashWithoutBufferingWholeFile() throws Exception {
+		long size = 64L * 1024 * 1024;
+		MessageDigest expected = MessageDigest.getInstance( "SHA-256" );
+
+		StoredFileDTO stored = StreamingUpload.store( new GeneratedStream( size, expected ), "dados.bin", this.directory, "document_1.bin", 0, Collections.emptyList() );
+
+		assertEquals( size, stored.getSize() );
+		assertEquals( size, Files.size( stored.getPath() ) );
+		assertEquals( StreamingUpload.toHex( expected.digest() ), stored.getSha256() );
+	}
+
+	private byte[] png( int size ) {
+		byte[] content = new byte[size];
+		System.arraycopy( PNG_HEADER, 0, content, 0, Math.min( size, PNG_HEADER.length ) );
+		return content;
+	}
+
+	private byte[] random( int size ) {
+		byte[] content = new byte[size];
+		new Random( 42 ).nextBytes( content );
+		return content;
+	}
+
+	private byte[] zip() throws IOException {
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		try( ZipOutputStream zip = new ZipOutputStream( content ) ) {
+			zip.putNextEntry( new ZipEntry( "dados.txt" ) );
+			zip.write( "texto".getBytes() );
+			zip.closeEntry();
+		}
+		return content.toByteArray();
+	}
+
+	private long countFiles() throws IOException {
+		try( Stream<Path> files = Files.list( this.directory ) ) {
+			return files.count();
+		}
+	}
+
+	/**
+	 * Gera o conteúdo sob demanda, calculando o hash esperado conforme é lido.
+	 */
+	private static class GeneratedStream extends InputStream {
+
+		private final long size;
+		private final MessageDigest digest;
+		private long position;
+
+		GeneratedStream( long size, MessageDigest digest ) {
+			this.size = size;
+			this.digest = digest;
+		}
+
+		@Override
+		public int read() {
+			byte[] single = new byte[1];
+			return this.read( single, 0, 1 ) == -1 ? -1 : single[0] & 0xFF;
+		}
+
+		@Override
+		public int read( byte[] buffer, int offset, int length ) {
+			if( this.position >= this.size ) {
+				return -1;
+			}
+
+			int count = (int) Math.min( length, this.size - this.position );
+			for( int i = 0; i < count; i++ ) {
+				buffer[offset + i] = (byte) ( ( this.position + i ) * 31 );
+			}
+			this.digest.update( buffer, offset, count );
+			this.position += count;
+			return count;
+		}
+	}
+
+}
@@ -241,6 +241,9 @@ CREATE TABLE IF NOT EXISTS `person` (
   `add_id` INT(11) NULL,
   `classification_cla_id` INT(11) NOT NULL COMMENT 'classification_cla_id = Classificação da pessoa ( PJ / PF / Estrangeiro ) ( PERSON_CLASSIFICATION )',
   PRIMARY KEY (`per_id`),
+  INDEX `idx_person_cpf` (`cpf` ASC),
+  INDEX `idx_person_cnpj` (`cnpj` ASC),
+  INDEX `idx_person_rne` (`rne` ASC),
   INDEX `fk_person_address1_idx` (`add_id` ASC),
   INDEX `fk_person_classifier1_idx` (`classification_cla_id` ASC),
   CONSTRAINT `fk_person_address1`
@@ -310,7 +313,8 @@ CREATE TABLE IF NOT EXISTS `channel` (
   `active` TINYINT(1) NOT NULL DEFAULT 1,
   `has_partner` TINYINT(1) NOT NULL DEFAULT 1,
   `has_internal_sale` TINYINT(1) NOT NULL DEFAULT 1,
-  PRIMARY KEY (`chn_id`))
+  PRIMARY KEY (`chn_id`),
+  UNIQUE INDEX `ukName` (`name` ASC))
 ENGINE = InnoDB
 DEFAULT CHARACTER SET = latin1
 COMMENT = 'Lista de canais de atendimento \\\\n\\\\nEx. Concessionária, Intermediário, etc';
@@ -443,6 +447,19 @@ DEFAULT CHARACTER SET = latin1;
 
 SHOW WARNINGS;
 
+-- -----------------------------------------------------
+-- Table `document_blob`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `document_blob` (
+  `sha256` CHAR(64) NOT NULL,
+  `size` BIGINT NOT NULL,
+  `ref_count` INT NOT NULL DEFAULT 0,
+  `create_date` DATETIME NOT NULL,
+  PRIMARY KEY (`sha256`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = latin1;
+
+
 -- -----------------------------------------------------
 -- Table `document`
 -- -----------------------------------------------------
@@ -452,10 +469,12 @@ CREATE TABLE IF NOT EXISTS `document` (
   `content_type` VARCHAR(50) NOT NULL,
   `description` VARCHAR(255) NULL,
   `file_path` VARCHAR(255) NOT NULL,
+  `sha256` CHAR(64) NULL DEFAULT NULL,
   `create_date` DATETIME NOT NULL,
   `usr_id` INT(11) NOT NULL,
   `type_cla_id` INT(11) NOT NULL,
   PRIMARY KEY (`doc_id`),
+  INDEX `idx_document_sha256` (`sha256` ASC),
   INDEX `fk_document_user_idx` (`usr_id` ASC),
   INDEX `fk_document_classifier1_idx` (`type_cla_id` ASC),
   CONSTRAINT `fk_document_classifier1`
@@ -480,7 +499,8 @@ CREATE TABLE IF NOT EXISTS `item_type` (
   `mandatory` TINYINT(1) NOT NULL DEFAULT 0,
   `multi` TINYINT(1) NOT NULL DEFAULT 0 COMMENT 'multi - determina se pode ser adicionar mais do que 1 item deste tipo. Ex. teto solar',
   `seq` INT(11) NOT NULL DEFAULT 0,
-  PRIMARY KEY (`itt_id`))
+  PRIMARY KEY (`itt_id`),
+  UNIQUE INDEX `ukName` (`name` ASC))
 ENGINE = InnoDB
 DEFAULT CHARACTER SET = latin1;
 
@@ -504,6 +524,7 @@ CREATE TABLE IF NOT EXISTS `item` (
   `hyperlink` TEXT NULL,
   `photo_url` VARCHAR(45) NULL COMMENT 'Imagem do item',
   PRIMARY KEY (`itm_id`),
+  UNIQUE INDEX `ukName` (`name` ASC),
   INDEX `fk_item_item_type_idx` (`itt_id` ASC),
   INDEX `fk_item_classifier1_idx` (`mandatory_cla_id` ASC),
   CONSTRAINT `fk_item_classifier1`
@@ -598,7 +619,8 @@ CREATE TABLE IF NOT EXISTS `source` (
   `src_id` INT(11) NOT NULL AUTO_INCREMENT,
   `name` VARCHAR(45) NOT NULL,
   `active` TINYINT(1) NOT NULL DEFAULT 1,
-  PRIMARY KEY (`src_id`))
+  PRIMARY KEY (`src_id`),
+  UNIQUE INDEX `ukName` (`name` ASC))
 ENGINE = InnoDB
 DEFAULT CHARACTER SET = latin1;
 
@@ -690,7 +712,8 @@ CREATE TABLE IF NOT EXISTS `partner_group` (
   `ptg_id` INT(11) NOT NULL AUTO_INCREMENT,
   `name` VARCHAR(45) NOT NULL,
   `active` TINYINT(1) NOT NULL COMMENT 'Ao desativar um grupo, desativar todos os parceiros relacionados',
-  PRIMARY KEY (`ptg_id`))
+  PRIMARY KEY (`ptg_id`),
+  UNIQUE INDEX `ukName` (`name` ASC))
 ENGINE = InnoDB
 DEFAULT CHARACTER SET = latin1;
 
@@ -831,7 +854,8 @@ CREATE TABLE IF NOT EXISTS `payment_method` (
   `pym_id` INT(11) NOT NULL AUTO_INCREMENT,
   `name` VARCHAR(45) NOT NULL COMMENT 'Nome do métodos de pagamentos\\\\n\\\\nEx. Boleto, TED, Cartão de Crédito',
   `active` TINYINT(1) NOT NULL DEFAULT 1 COMMENT 'Ativa ou desativa a forma de pagamento para aparecer na tela',
-  PRIMARY KEY (`pym_id`))
+  PRIMARY KEY (`pym_id`),
+  UNIQUE INDEX `ukName` (`name` ASC))
 ENGINE = InnoDB
 DEFAULT CHARACTER SET = latin1
 COMMENT = 'Determina os tipos de pagamentos\\\\n\\\\nEx. Boleto, Cartão de Crédito, Transferência\\\\n';
@@ -957,6 +981,7 @@ CREATE TABLE IF NOT EXISTS `price_list` (
   `end_date` DATETIME NOT NULL COMMENT 'Data de fim da vigência da lista de preço',
   `chn_id` INT(11) NOT NULL,
   PRIMARY KEY (`prl_id`),
+  UNIQUE INDEX `ukName` (`name` ASC),
   INDEX `fk_price_list_channel1_idx` (`chn_id` ASC),
   CONSTRAINT `fk_price_list_channel1`
     FOREIGN KEY (`chn_id`)
@@ -976,7 +1001,8 @@ CREATE TABLE IF NOT EXISTS `product` (
   `name` VARCHAR(45) NOT NULL COMMENT 'Nome do produto Carbon\\\\n\\\\nEx. Carbon Black',
   `active` TINYINT(1) NOT NULL DEFAULT 1 COMMENT '1 - Ativa o produto para visualização\\\\n0 - Desativa o produto para visualização\\\\n\\\\n',
   `proposal_expiration_days` INT NOT NULL DEFAULT 10 COMMENT 'Prazo padrão de validade na proposta',
-  PRIMARY KEY (`prd_id`))
+  PRIMARY KEY (`prd_id`),
+  UNIQUE INDEX `ukName` (`name` ASC))
 ENGINE = InnoDB
 DEFAULT CHARACTER SET = latin1;
 
@@ -1020,6 +1046,7 @@ CREATE TABLE IF NOT EXISTS `price_product` (
   `prl_id` INT(11) NOT NULL,
   `prm_id` INT(11) NOT NULL,
   PRIMARY KEY (`ppr_id`),
+  UNIQUE INDEX `ukPriceProduct` (`prl_id` ASC, `prm_id` ASC),
   INDEX `fk_product_price_price_list1_idx` (`prl_id` ASC),
   INDEX `fk_product_price_product_model1_idx` (`prm_id` ASC),
   CONSTRAINT `fk_product_price_price_list1`
@@ -1200,6 +1227,7 @@ CREATE TABLE IF NOT EXISTS `vehicle` (
   `mdl_id` INT(11) NOT NULL,
   PRIMARY KEY (`vhe_id`),
   UNIQUE INDEX `plate_UNIQUE` (`plate` ASC),
+  UNIQUE INDEX `ukChassi` (`chassi` ASC),
   INDEX `fk_vehicle_model1_idx` (`mdl_id` ASC),
   CONSTRAINT `fk_vehicle_model1`
     FOREIGN KEY (`mdl_id`)
@@ -1231,6 +1259,7 @@ CREATE TABLE IF NOT EXISTS `proposal_detail_vehicle` (
   `total_tax_amount` DECIMAL(13,2) NOT NULL,
   `total_tax_percent` DECIMAL(5,2) NOT NULL,
   PRIMARY KEY (`pdv_id`),
+  UNIQUE INDEX `ukDetailVehicle` (`ppd_id` ASC, `vhe_id` ASC),
   INDEX `fk_proposal_detail_vehicle_proposal_detail1_idx` (`ppd_id` ASC),
   INDEX `fk_proposal_detail_vehicle_vehicle1_idx` (`vhe_id` ASC),
   INDEX `fk_proposal_detail_vehicle_product_price_list1_idx` (`ppr_id` ASC),
@@ -1334,6 +1363,7 @@ CREATE TABLE IF NOT EXISTS `proposal_commission` (
   `ppd_id` INT(11) NOT NULL,
   `pcm_id` INT NOT NULL AUTO_INCREMENT,
   PRIMARY KEY (`pcm_id`),
+  UNIQUE INDEX `ukCommission` (`ppd_id` ASC, `per_id` ASC, `type_cla_id` ASC),
   INDEX `fk_comission_payment_method1_idx` (`pym_id` ASC),
   INDEX `fk_comission_person1_idx` (`per_id` ASC),
   INDEX `fk_comission_person_proposal_detail1_idx` (`ppd_id` ASC),